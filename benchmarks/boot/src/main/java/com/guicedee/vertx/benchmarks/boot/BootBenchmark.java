@@ -0,0 +1,49 @@
+package com.guicedee.vertx.benchmarks.boot;
+
+import com.guicedee.client.IGuiceContext;
+import com.guicedee.vertx.metrics.StartupProfile;
+import com.guicedee.vertx.spi.VertxEventRegistry;
+import io.vertx.core.json.JsonObject;
+import lombok.extern.log4j.Log4j2;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold boot of a synthetic application with 500 addresses, each with a consumer and a publisher.
+ * <p>
+ * Every fork is a fresh JVM that boots once, so the score is the cold start time: Guice injector creation,
+ * {@code VertXPreStartup}, post-startup verticle deployment and all consumer deployments. The phase breakdown
+ * from {@link StartupProfile} is logged at the end of each fork.
+ */
+@Log4j2
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class BootBenchmark {
+
+    static final int ADDRESSES = SyntheticAppGenerator.MODULES * SyntheticAppGenerator.ADDRESSES_PER_MODULE;
+
+    private JsonObject report;
+
+    @Benchmark
+    public JsonObject boot() {
+        IGuiceContext.instance().getConfig().setFieldScanning(true).setClasspathScanning(true).setAnnotationScanning(true).setIgnoreClassVisibility(true);
+        IGuiceContext.instance().inject();
+        report = StartupProfile.whenSettled().toCompletionStage().toCompletableFuture().join();
+        return report;
+    }
+
+    @TearDown
+    public void tearDown() {
+        long registered = VertxEventRegistry.getRegisteredAddresses().stream().filter(a -> a.startsWith("boot.")).count();
+        if (registered != ADDRESSES) {
+            throw new IllegalStateException("Expected " + ADDRESSES + " synthetic consumers, found " + registered);
+        }
+        log.info("Startup report: {}", report.encodePrettily());
+        IGuiceContext.instance().destroy();
+    }
+}
@@ -0,0 +1,83 @@
+package com.guicedee.vertx.benchmarks.boot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the synthetic application booted by {@link BootBenchmark}.
+ * <p>
+ * Each generated module class holds {@value #ADDRESSES_PER_MODULE} addresses, and each address gets a
+ * method-based consumer and a publisher field typed with that module's DTO, so boot goes through consumer and
+ * publisher scanning, codec registration, Guice bindings and consumer deployment for every address.
+ * The build runs it as a single-file source program during {@code generate-sources} and compiles the output from
+ * {@code target/generated-sources/boot-app}, so the 4000 generated lines stay out of the repository and off the
+ * classpath of the hot path benchmarks.
+ */
+public final class SyntheticAppGenerator {
+
+    static final String PACKAGE = "com.guicedee.vertx.benchmarks.boot.app";
+    static final int MODULES = 5;
+    static final int ADDRESSES_PER_MODULE = 100;
+
+    private SyntheticAppGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path root = Path.of(args.length > 0 ? args[0] : "target/generated-sources/boot-app");
+        Path dir = root.resolve(PACKAGE.replace('.', '/'));
+        Files.createDirectories(dir);
+        for (int m = 0; m < MODULES; m++) {
+            char letter = (char) ('A' + m);
+            Files.writeString(dir.resolve("BootDto" + letter + ".java"), dto(letter));
+            Files.writeString(dir.resolve("BootModule" + letter + ".java"), module(letter));
+        }
+    }
+
+    private static String dto(char letter) {
+        return """
+                package %1$s;
+
+                import lombok.Data;
+
+                /**
+                 * Generated by SyntheticAppGenerator, do not edit
+                 */
+                @Data
+                public class BootDto%2$s {
+                    private long id;
+                    private String name;
+                }
+                """.formatted(PACKAGE, letter);
+    }
+
+    private static String module(char letter) {
+        StringBuilder source = new StringBuilder("""
+                package %1$s;
+
+                import com.guicedee.vertx.VertxEventDefinition;
+                import com.guicedee.vertx.VertxEventOptions;
+                import com.guicedee.vertx.VertxEventPublisher;
+
+                /**
+                 * Generated by SyntheticAppGenerator, do not edit
+                 */
+                @SuppressWarnings("unused")
+                public class BootModule%2$s {
+                """.formatted(PACKAGE, letter));
+        String prefix = "boot." + Character.toLowerCase(letter) + ".";
+        for (int i = 0; i < ADDRESSES_PER_MODULE; i++) {
+            source.append("""
+
+                        @VertxEventDefinition("%1$s%2$d")
+                        private VertxEventPublisher<BootDto%3$s> publisher%2$d;
+
+                        @VertxEventDefinition(value = "%1$s%2$d", options = @VertxEventOptions(localOnly = true%4$s))
+                        public String consume%2$d(BootDto%3$s dto) {
+                            return "%1$s%2$d:" + dto.getId();
+                        }
+                    """.formatted(prefix, i, letter, i % 2 == 0 ? "" : ", worker = true"));
+        }
+        return source.append("}\n").toString();
+    }
+}
@@ -0,0 +1,86 @@
+package com.guicedee.vertx.benchmarks;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result file with a baseline recorded on the same host and fails on regressions.
+ * <p>
+ * Usage: {@code java -cp target/benchmarks.jar com.guicedee.vertx.benchmarks.BaselineCheck <baseline.json> <result.json> [tolerance]}
+ * <p>
+ * Benchmarks are matched on name, mode and parameters. A throughput score that drops, or an average time that
+ * rises, by more than the tolerance (default 0.10, i.e. 10%) counts as a regression and the process exits with 1.
+ * Benchmarks missing from either file are listed but do not fail the check.
+ */
+public final class BaselineCheck {
+
+    private BaselineCheck() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineCheck <baseline.json> <result.json> [tolerance]");
+            System.exit(2);
+        }
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+        Map<String, JsonObject> baseline = load(Path.of(args[0]));
+        Map<String, JsonObject> result = load(Path.of(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonObject> entry : result.entrySet()) {
+            JsonObject before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("NEW        %s%n", entry.getKey());
+                continue;
+            }
+            double was = score(before);
+            double now = score(entry.getValue());
+            boolean higherIsBetter = "thrpt".equals(entry.getValue().getString("mode"));
+            double change = was == 0 ? 0 : (now - was) / was;
+            double worse = higherIsBetter ? -change : change;
+            boolean regressed = worse > tolerance;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-10s %s %.3f -> %.3f %s (%+.1f%%)%n", regressed ? "REGRESSED" : "OK",
+                    entry.getKey(), was, now, entry.getValue().getJsonObject("primaryMetric").getString("scoreUnit"), change * 100);
+        }
+        baseline.keySet().stream()
+                .filter(key -> !result.containsKey(key))
+                .forEach(key -> System.out.printf("MISSING    %s%n", key));
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.0f%%%n", regressions, tolerance * 100);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonObject> load(Path file) throws IOException {
+        Map<String, JsonObject> runs = new LinkedHashMap<>();
+        JsonArray array = new JsonArray(Files.readString(file));
+        for (int i = 0; i < array.size(); i++) {
+            JsonObject run = array.getJsonObject(i);
+            runs.put(key(run), run);
+        }
+        return runs;
+    }
+
+    private static String key(JsonObject run) {
+        StringBuilder key = new StringBuilder(run.getString("benchmark")).append(" [").append(run.getString("mode")).append(']');
+        JsonObject params = run.getJsonObject("params");
+        if (params != null) {
+            params.fieldNames().stream().sorted().forEach(name -> key.append(' ').append(name).append('=').append(params.getValue(name)));
+        }
+        return key.toString();
+    }
+
+    private static double score(JsonObject run) {
+        return run.getJsonObject("primaryMetric").getDouble("score");
+    }
+}
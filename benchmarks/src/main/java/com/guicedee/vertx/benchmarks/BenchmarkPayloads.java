@@ -0,0 +1,143 @@
+package com.guicedee.vertx.benchmarks;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Payloads shared by the benchmarks, in the sizes the codec and conversion benchmarks are parameterised by.
+ * <p>
+ * {@code small} is a flat three-field DTO, {@code medium} a DTO with a nested list and map of about 2 KB
+ * as JSON, {@code large} a DTO of about 100 KB, and {@code list} a generic {@code List<SmallDto>} of 100 entries.
+ */
+public final class BenchmarkPayloads {
+
+    public static final String SMALL = "small";
+    public static final String MEDIUM = "medium";
+    public static final String LARGE = "large";
+    public static final String LIST = "list";
+
+    /**
+     * {@code List<SmallDto>}, taken from a method signature so it carries the element type
+     */
+    public static final Type SMALL_DTO_LIST_TYPE = listType();
+
+    private BenchmarkPayloads() {
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class SmallDto {
+        private long id;
+        private String name;
+        private boolean active;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class MediumDto {
+        private long id;
+        private String name;
+        private String description;
+        private double amount;
+        private List<SmallDto> lines = new ArrayList<>();
+        private Map<String, String> attributes = new LinkedHashMap<>();
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class LargeDto {
+        private long id;
+        private String notes;
+        private List<MediumDto> items = new ArrayList<>();
+    }
+
+    public static SmallDto small(long id) {
+        SmallDto dto = new SmallDto();
+        dto.setId(id);
+        dto.setName("item-" + id);
+        dto.setActive(id % 2 == 0);
+        return dto;
+    }
+
+    public static MediumDto medium(long id) {
+        MediumDto dto = new MediumDto();
+        dto.setId(id);
+        dto.setName("order-" + id);
+        dto.setDescription("Medium benchmark payload with a nested list and attribute map");
+        dto.setAmount(id * 1.25d);
+        for (int i = 0; i < 20; i++) {
+            dto.getLines().add(small(id * 100 + i));
+        }
+        for (int i = 0; i < 10; i++) {
+            dto.getAttributes().put("key" + i, "value-" + i);
+        }
+        return dto;
+    }
+
+    public static LargeDto large(long id) {
+        LargeDto dto = new LargeDto();
+        dto.setId(id);
+        dto.setNotes("x".repeat(4096));
+        for (int i = 0; i < 50; i++) {
+            dto.getItems().add(medium(id * 1000 + i));
+        }
+        return dto;
+    }
+
+    public static List<SmallDto> list(int size) {
+        List<SmallDto> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(small(i));
+        }
+        return list;
+    }
+
+    /**
+     * @param payload one of {@link #SMALL}, {@link #MEDIUM}, {@link #LARGE} or {@link #LIST}
+     * @return a fresh payload of that size
+     */
+    public static Object payload(String payload) {
+        return switch (payload) {
+            case SMALL -> small(1);
+            case MEDIUM -> medium(1);
+            case LARGE -> large(1);
+            case LIST -> list(100);
+            default -> throw new IllegalArgumentException("Unknown payload " + payload);
+        };
+    }
+
+    /**
+     * @param payload one of {@link #SMALL}, {@link #MEDIUM}, {@link #LARGE} or {@link #LIST}
+     * @return the declared type of that payload
+     */
+    public static Type type(String payload) {
+        return switch (payload) {
+            case SMALL -> SmallDto.class;
+            case MEDIUM -> MediumDto.class;
+            case LARGE -> LargeDto.class;
+            case LIST -> SMALL_DTO_LIST_TYPE;
+            default -> throw new IllegalArgumentException("Unknown payload " + payload);
+        };
+    }
+
+    @SuppressWarnings("unused")
+    private static List<SmallDto> listSignature() {
+        return null;
+    }
+
+    private static Type listType() {
+        try {
+            Type type = BenchmarkPayloads.class.getDeclaredMethod("listSignature").getGenericReturnType();
+            return (ParameterizedType) type;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.guicedee.vertx.benchmarks;
+
+import com.guicedee.vertx.spi.CodecRegistry;
+import com.guicedee.vertx.spi.DynamicCodec;
+import io.vertx.core.buffer.Buffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode, decode and local transform cost of {@link DynamicCodec} per payload size.
+ * <p>
+ * {@code encode} and {@code decode} are the clustered path, {@code transform} is the deep copy taken for
+ * every local delivery of a non-standard type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DynamicCodecBenchmark {
+
+    @Param({BenchmarkPayloads.SMALL, BenchmarkPayloads.MEDIUM, BenchmarkPayloads.LARGE, BenchmarkPayloads.LIST})
+    public String payload;
+
+    private DynamicCodec<Object> codec;
+    private Object value;
+    private Buffer encoded;
+
+    @Setup
+    public void setup() {
+        Type type = BenchmarkPayloads.type(payload);
+        codec = new DynamicCodec<>(type, CodecRegistry.getCodecName(type));
+        value = BenchmarkPayloads.payload(payload);
+        encoded = Buffer.buffer();
+        codec.encodeToWire(encoded, value);
+    }
+
+    @Benchmark
+    public Buffer encode() {
+        Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, value);
+        return buffer;
+    }
+
+    @Benchmark
+    public Object decode() {
+        return codec.decodeFromWire(0, encoded);
+    }
+
+    @Benchmark
+    public Object transform() {
+        return codec.transform(value);
+    }
+}
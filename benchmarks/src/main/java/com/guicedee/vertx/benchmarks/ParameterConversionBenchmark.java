@@ -0,0 +1,155 @@
+package com.guicedee.vertx.benchmarks;
+
+import com.guicedee.vertx.spi.CodecRegistry;
+import com.guicedee.vertx.spi.VertxEventRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a received message into consumer method arguments, and of deriving codec names.
+ * <p>
+ * {@code prepareMethodParameters} is private to {@link VertxEventRegistry}, so it is called reflectively;
+ * the reflective call is the same for every variant and cancels out when comparing them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParameterConversionBenchmark {
+
+    private Method prepareMethodParameters;
+
+    private Method onString;
+    private Method onDto;
+    private Method onMessageDto;
+    private Method onList;
+
+    private Message<?> stringMessage;
+    private Message<?> dtoMessage;
+    private Message<?> listMessage;
+
+    private Type listType;
+
+    @Setup
+    public void setup() throws Exception {
+        prepareMethodParameters = VertxEventRegistry.class.getDeclaredMethod("prepareMethodParameters", Method.class, Message.class);
+        prepareMethodParameters.setAccessible(true);
+
+        onString = Consumers.class.getMethod("onString", String.class);
+        onDto = Consumers.class.getMethod("onDto", BenchmarkPayloads.MediumDto.class);
+        onMessageDto = Consumers.class.getMethod("onMessageDto", Message.class);
+        onList = Consumers.class.getMethod("onList", List.class);
+
+        stringMessage = new BenchmarkMessage<>("bench.params.string", "hello");
+        dtoMessage = new BenchmarkMessage<>("bench.params.dto", JsonObject.mapFrom(BenchmarkPayloads.medium(1)));
+        listMessage = new BenchmarkMessage<>("bench.params.list", new JsonArray(BenchmarkPayloads.list(100).stream().map(JsonObject::mapFrom).toList()));
+        listType = onList.getGenericParameterTypes()[0];
+    }
+
+    @Benchmark
+    public Object passThroughString() throws Exception {
+        return prepareMethodParameters.invoke(null, onString, stringMessage);
+    }
+
+    @Benchmark
+    public Object jsonObjectToDto() throws Exception {
+        return prepareMethodParameters.invoke(null, onDto, dtoMessage);
+    }
+
+    @Benchmark
+    public Object jsonObjectToMessageOfDto() throws Exception {
+        return prepareMethodParameters.invoke(null, onMessageDto, dtoMessage);
+    }
+
+    @Benchmark
+    public Object jsonArrayToGenericList() throws Exception {
+        return prepareMethodParameters.invoke(null, onList, listMessage);
+    }
+
+    @Benchmark
+    public String codecNameForClass() {
+        return CodecRegistry.getCodecName(BenchmarkPayloads.MediumDto.class);
+    }
+
+    @Benchmark
+    public String codecNameForGenericType() {
+        return CodecRegistry.getCodecName(listType);
+    }
+
+    /**
+     * Consumer signatures the conversions are resolved against
+     */
+    public static class Consumers {
+        public void onString(String body) {
+        }
+
+        public void onDto(BenchmarkPayloads.MediumDto body) {
+        }
+
+        public void onMessageDto(Message<BenchmarkPayloads.MediumDto> message) {
+        }
+
+        public void onList(List<BenchmarkPayloads.SmallDto> body) {
+        }
+    }
+
+    /**
+     * A received message without an event bus behind it
+     */
+    static final class BenchmarkMessage<T> implements Message<T> {
+        private final String address;
+        private final T body;
+        private final MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+
+        BenchmarkMessage(String address, T body) {
+            this.address = address;
+            this.body = body;
+        }
+
+        @Override
+        public String address() {
+            return address;
+        }
+
+        @Override
+        public MultiMap headers() {
+            return headers;
+        }
+
+        @Override
+        public T body() {
+            return body;
+        }
+
+        @Override
+        public String replyAddress() {
+            return null;
+        }
+
+        @Override
+        public boolean isSend() {
+            return true;
+        }
+
+        @Override
+        public void reply(Object message, DeliveryOptions options) {
+        }
+
+        @Override
+        public <R> Future<Message<R>> replyAndRequest(Object message, DeliveryOptions options) {
+            return Future.failedFuture("No reply address");
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.guicedee.vertx.benchmarks;
+
+import com.guicedee.vertx.VertxEventPublisher;
+import com.guicedee.vertx.spi.CodecRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.test.fakecluster.FakeClusterManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput of {@link VertxEventPublisher#publish}, {@link VertxEventPublisher#send} and
+ * {@link VertxEventPublisher#request} with a plain consumer behind them.
+ * <p>
+ * With {@code transport=local} publisher and consumer share one Vert.x instance and payloads go through
+ * the codec's {@code transform}. With {@code transport=cluster} they sit on two clustered instances joined by
+ * the in-JVM fake cluster manager, so every message is encoded, written to the event bus TCP transport and
+ * decoded on the other node.
+ * <p>
+ * {@code publish} and {@code send} do not wait for delivery; they stop and wait once more than
+ * {@value #WINDOW} messages are outstanding, so the score is the sustained delivery rate rather than the
+ * rate at which the outbound queue can be filled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PublisherBenchmark {
+
+    static final String ADDRESS = "bench.publisher";
+    static final int WINDOW = 1024;
+
+    @Param({"local", "cluster"})
+    public String transport;
+
+    @Param({BenchmarkPayloads.SMALL, BenchmarkPayloads.MEDIUM})
+    public String payload;
+
+    private Vertx producer;
+    private Vertx consumer;
+    private VertxEventPublisher<Object> publisher;
+    private Object value;
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+
+    @Setup
+    public void setup() {
+        Type type = BenchmarkPayloads.type(payload);
+        if ("cluster".equals(transport)) {
+            producer = await(Vertx.builder().withClusterManager(new FakeClusterManager()).buildClustered());
+            consumer = await(Vertx.builder().withClusterManager(new FakeClusterManager()).buildClustered());
+        } else {
+            producer = Vertx.vertx();
+            consumer = producer;
+        }
+        // Codec registrations are tracked per runtime, so each node registers its own
+        CodecRegistry.createAndRegisterCodec(producer, type);
+        if (consumer != producer) {
+            CodecRegistry.createAndRegisterCodec(consumer, type);
+        }
+
+        MessageConsumer<Object> registration = consumer.eventBus().consumer(ADDRESS, message -> {
+            received.incrementAndGet();
+            if (message.replyAddress() != null) {
+                message.reply("ok");
+            }
+        });
+        await(registration.completion());
+
+        publisher = new VertxEventPublisher<>(producer, ADDRESS, null, type);
+        value = BenchmarkPayloads.payload(payload);
+    }
+
+    @TearDown
+    public void tearDown() {
+        FakeClusterManager.reset();
+        if (consumer != producer) {
+            await(consumer.close());
+        }
+        await(producer.close());
+    }
+
+    @Benchmark
+    public void publish() {
+        publisher.publish(value);
+        throttle();
+    }
+
+    @Benchmark
+    public void send() {
+        publisher.send(value);
+        throttle();
+    }
+
+    @Benchmark
+    public Object request() {
+        Object reply = await(publisher.request(value));
+        sent.incrementAndGet();
+        return reply;
+    }
+
+    private void throttle() {
+        long outstanding = sent.incrementAndGet() - received.get();
+        while (outstanding > WINDOW) {
+            Thread.onSpinWait();
+            outstanding = sent.get() - received.get();
+        }
+    }
+
+    static <T> T await(Future<T> future) {
+        return future.toCompletionStage().toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,116 @@
+package com.guicedee.vertx.benchmarks;
+
+import com.guicedee.client.IGuiceContext;
+import com.guicedee.vertx.VertxEventDefinition;
+import com.guicedee.vertx.VertxEventOptions;
+import com.guicedee.vertx.VertxEventPublisher;
+import com.guicedee.vertx.spi.EventConsumerVerticle;
+import com.guicedee.vertx.spi.VertXPreStartup;
+import com.guicedee.vertx.spi.VertxEventRegistry;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full publish-to-consumer round trip through GuicedEE: a {@link VertxEventPublisher} request, dispatch by
+ * {@link VertxEventRegistry#dispatch}, consumer invocation and reply.
+ * <p>
+ * {@code eventloop} and {@code worker} use consumers found by the normal scan. Event options have no
+ * virtual-thread dispatch mode, so {@code virtual} deploys an {@link EventConsumerVerticle} with the
+ * {@link ThreadingModel#VIRTUAL_THREAD} threading model, which is what a consumer inside a virtual-thread
+ * {@code @Verticle} runs on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoundTripBenchmark {
+
+    static final String EVENT_LOOP_ADDRESS = "bench.roundtrip.eventloop";
+    static final String WORKER_ADDRESS = "bench.roundtrip.worker";
+    static final String VIRTUAL_ADDRESS = "bench.roundtrip.virtual";
+
+    @Param({"eventloop", "worker", "virtual"})
+    public String dispatch;
+
+    private VertxEventPublisher<String> publisher;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        IGuiceContext.instance().getConfig().setFieldScanning(true).setClasspathScanning(true).setAnnotationScanning(true).setIgnoreClassVisibility(true);
+        IGuiceContext.instance().inject();
+        Vertx vertx = VertXPreStartup.getVertx();
+
+        VertxEventDefinition definition;
+        String address;
+        switch (dispatch) {
+            case "worker" -> {
+                definition = WorkerConsumer.class.getAnnotation(VertxEventDefinition.class);
+                address = WORKER_ADDRESS;
+            }
+            case "virtual" -> {
+                // Same options as the event loop consumer; the verticle's threading model decides where it runs
+                definition = EventLoopConsumer.class.getAnnotation(VertxEventDefinition.class);
+                address = VIRTUAL_ADDRESS;
+                PublisherBenchmark.await(vertx.deployVerticle(
+                        new EventConsumerVerticle(address, definition, VirtualThreadConsumer.class.getMethod("consume", Message.class), VirtualThreadConsumer.class),
+                        new DeploymentOptions().setThreadingModel(ThreadingModel.VIRTUAL_THREAD)));
+            }
+            default -> {
+                definition = EventLoopConsumer.class.getAnnotation(VertxEventDefinition.class);
+                address = EVENT_LOOP_ADDRESS;
+            }
+        }
+        awaitRegistered(address);
+        publisher = new VertxEventPublisher<>(vertx, address, definition);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        IGuiceContext.instance().destroy();
+    }
+
+    @Benchmark
+    public String request() {
+        return PublisherBenchmark.await(publisher.request("ping"));
+    }
+
+    private static void awaitRegistered(String address) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!VertxEventRegistry.getRegisteredAddresses().contains(address)) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("No consumer registered on " + address);
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    @VertxEventDefinition(value = EVENT_LOOP_ADDRESS, options = @VertxEventOptions(localOnly = true))
+    public static class EventLoopConsumer {
+        public void consume(Message<String> message) {
+            message.reply("pong");
+        }
+    }
+
+    @VertxEventDefinition(value = WORKER_ADDRESS, options = @VertxEventOptions(localOnly = true, worker = true))
+    public static class WorkerConsumer {
+        public void consume(Message<String> message) {
+            message.reply("pong");
+        }
+    }
+
+    /**
+     * Deployed by hand on a virtual-thread verticle, so not annotated
+     */
+    public static class VirtualThreadConsumer {
+        public void consume(Message<String> message) {
+            message.reply("pong");
+        }
+    }
+}
@@ -3,9 +3,12 @@ package com.guicedee.vertx;
 import com.google.inject.*;
 import com.google.inject.name.Names;
 import com.guicedee.client.services.lifecycle.IGuiceModule;
+import com.guicedee.vertx.metrics.StartupProfile;
 import com.guicedee.vertx.spi.VertXPreStartup;
 import com.guicedee.vertx.spi.VertxEventRegistry;
+import com.guicedee.vertx.spi.VertxRuntime;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import lombok.extern.log4j.Log4j2;
 
 import java.lang.reflect.ParameterizedType;
@@ -28,6 +31,19 @@ public class VertXModule extends AbstractModule implements IGuiceModule<VertXMod
  
     @Override
     protected void configure()
+    {
+        var configureTimer = StartupProfile.start("VertXModule.configure");
+        try
+        {
+            configureBindings();
+        }
+        finally
+        {
+            configureTimer.stop(new JsonObject().put("bindings", boundAddresses.size()));
+        }
+    }
+
+    private void configureBindings()
     {
         // Ensure event definitions are scanned before we attempt to bind anything.
         // This makes bindings available regardless of when verticles are deployed.
@@ -40,6 +56,8 @@ public class VertXModule extends AbstractModule implements IGuiceModule<VertXMod
 
         // Bind the Vertx instance
         bind(Vertx.class).toInstance(VertXPreStartup.getVertx());
+        // and the primary runtime holding its codecs, worker executors and registered consumers
+        bind(VertxRuntime.class).toInstance(VertXPreStartup.getRuntime());
        // expose(Vertx.class);
 
         // VertxEventRegistry is initialized in VertXPreStartup
@@ -81,4 +81,87 @@ public @interface VertxEventOptions {
      * Optional send timeout override (ms) applied by helpers during request-reply send.
      */
     long timeoutMs() default 0L;
+
+    /**
+     * Consecutive request failures (including timeouts) after which the publisher-side
+     * circuit for this address opens and further requests fail fast. 0 disables the breaker.
+     */
+    int circuitBreakerThreshold() default 0;
+
+    /**
+     * Time (ms) an open circuit waits before letting half-open probe requests through.
+     */
+    long circuitBreakerResetMs() default 5000L;
+
+    /**
+     * Number of probe requests allowed through while the circuit is half-open.
+     * A successful probe closes the circuit, a failed probe re-opens it.
+     */
+    int circuitBreakerHalfOpenProbes() default 1;
+
+    /**
+     * Marks the address as idempotent for request/reply. Concurrent identical requests made
+     * through the same publisher are collapsed onto a single event bus request and share its reply.
+     * Identity is the payload's equals/hashCode unless a key extractor is set on the publisher.
+     */
+    boolean idempotent() default false;
+
+    /**
+     * Time (ms) a consumer reply is cached for an identical request body. Cached replies are sent
+     * without invoking the consumer. 0 disables the reply cache.
+     */
+    long replyCacheTtlMs() default 0L;
+
+    /**
+     * Maximum number of cached replies kept for the address when the reply cache is enabled.
+     */
+    int replyCacheMaxEntries() default 1024;
+
+    /**
+     * Maximum size (bytes) of all cached replies for the address, measured on their encoded form. 0 applies no byte bound.
+     */
+    long replyCacheMaxBytes() default 0L;
+
+    /**
+     * Priority of messages on this address when {@link #worker()} is true; higher values run first.
+     * Once the worker pool is saturated, queued messages are drained highest priority first, so a
+     * prioritised address overtakes bulk traffic sharing the same pool. 0 is the normal priority.
+     */
+    int priority() default 0;
+
+    /**
+     * Header carrying a per-message integer priority that overrides {@link #priority()}.
+     */
+    String priorityHeader() default "";
+
+    /**
+     * Maximum messages queued across all priority lanes of the worker pool before the lowest
+     * priority messages are rejected.
+     */
+    int priorityQueueCapacity() default 10000;
+
+    /**
+     * Adapts the number of in-flight worker messages for this address from observed latency instead of
+     * relying on a static pool size. The worker pool size becomes the upper bound; messages beyond the
+     * current limit are failed with {@code AdaptiveConcurrencyLimiter.LIMIT_EXCEEDED_FAILURE_CODE} ({@code -429}).
+     */
+    boolean adaptiveConcurrency() default false;
+
+    /**
+     * Lowest in-flight limit the adaptive limiter may shrink to.
+     */
+    int adaptiveMinConcurrency() default 1;
+
+    /**
+     * Consumer invocations running longer than this many milliseconds are reported by the slow consumer
+     * watchdog with stack samples of the running thread. 0 disables the watchdog for the address.
+     */
+    long slowCallThresholdMs() default 0L;
+
+    /**
+     * Defers deploying the consumer until its first message or an explicit
+     * {@code LazyConsumerDispatcher.activate}. Until then only a placeholder handler is registered,
+     * so rarely used addresses cost no verticle or consumer instance at boot.
+     */
+    boolean lazy() default false;
 }
@@ -2,10 +2,16 @@ package com.guicedee.vertx;
 
 import tools.jackson.databind.annotation.JsonSerialize;
 import com.guicedee.modules.services.jsonrepresentation.IJsonRepresentation;
+import com.guicedee.vertx.metrics.AddressMetrics;
+import com.guicedee.vertx.resilience.AddressCircuitBreaker;
+import com.guicedee.vertx.tracing.EventSpan;
+import com.guicedee.vertx.tracing.EventTracing;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import lombok.EqualsAndHashCode;
@@ -13,6 +19,10 @@ import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 
 import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 /**
  * Publisher for Vertx event bus messages
@@ -35,6 +45,35 @@ public class VertxEventPublisher<T> {
     @Getter
     private final Type referenceType;
 
+    /**
+     * The circuit breaker shared by all publishers of this address, or null when disabled
+     */
+    @Getter
+    private final AddressCircuitBreaker circuitBreaker;
+
+    /**
+     * In-flight requests keyed by coalescing key, used when the address is marked idempotent
+     */
+    private final Map<CoalescingKey, Future<?>> inFlightRequests = new ConcurrentHashMap<>();
+
+    /**
+     * Number of requests that were served by joining an already in-flight request
+     */
+    private final LongAdder coalescedRequests = new LongAdder();
+
+    /**
+     * Optional key extractor for request coalescing; defaults to the payload itself
+     */
+    private final Function<? super T, ?> coalescingKeyExtractor;
+
+    /**
+     * Identifies requests that may share one round trip: the payload key and every delivery option that can change
+     * the outcome of the request
+     */
+    private record CoalescingKey(Object payloadKey, long sendTimeout, String codecName, boolean localOnly)
+    {
+    }
+
     public VertxEventPublisher(Vertx vertx, String address, VertxEventDefinition eventDefinition) {
         this(vertx, address, eventDefinition, Object.class);
     }
@@ -52,6 +91,56 @@ public class VertxEventPublisher<T> {
         this.address = address;
         this.eventDefinition = eventDefinition;
         this.referenceType = referenceType;
+        this.circuitBreaker = resolveCircuitBreaker(address, eventDefinition);
+        this.coalescingKeyExtractor = null;
+    }
+
+    /**
+     * Copy with another coalescing key extractor; shares the circuit breaker but not the in-flight requests
+     */
+    private VertxEventPublisher(VertxEventPublisher<T> source, Function<? super T, ?> coalescingKeyExtractor) {
+        this.vertx = source.vertx;
+        this.address = source.address;
+        this.eventDefinition = source.eventDefinition;
+        this.referenceType = source.referenceType;
+        this.circuitBreaker = source.circuitBreaker;
+        this.coalescingKeyExtractor = coalescingKeyExtractor;
+    }
+
+    /**
+     * Resolves the per-address circuit breaker when {@code circuitBreakerThreshold} is configured.
+     */
+    private static AddressCircuitBreaker resolveCircuitBreaker(String address, VertxEventDefinition eventDefinition) {
+        if (eventDefinition == null || eventDefinition.options() == null) {
+            return null;
+        }
+        VertxEventOptions options = eventDefinition.options();
+        if (options.circuitBreakerThreshold() <= 0) {
+            return null;
+        }
+        return AddressCircuitBreaker.forAddress(address, options.circuitBreakerThreshold(),
+                options.circuitBreakerResetMs(), options.circuitBreakerHalfOpenProbes());
+    }
+
+    /**
+     * Returns a publisher for the same address that detects identical in-flight requests by the given key.
+     * Without an extractor the payload's own equals/hashCode is used.
+     * <p>
+     * The injected publisher is a shared singleton and is left unchanged; keep the returned publisher at the call
+     * site. It coalesces only with requests made through itself.
+     *
+     * @param keyExtractor derives the coalescing key from a payload
+     * @return a new publisher using the key extractor
+     */
+    public VertxEventPublisher<T> coalesceBy(Function<? super T, ?> keyExtractor) {
+        return new VertxEventPublisher<>(this, keyExtractor);
+    }
+
+    /**
+     * @return the number of requests that joined an already in-flight identical request
+     */
+    public long getCoalescedRequests() {
+        return coalescedRequests.sum();
     }
 
     /**
@@ -176,8 +265,7 @@ public class VertxEventPublisher<T> {
             }
             String codecName = getCodecName(message);
             if (codecName != null) options.setCodecName(codecName);
-            return vertx.eventBus().request(address, message, options)
-                    .map(reply -> (R) reply.body());
+            return coalescedRequest(message, options);
         } catch (Exception e) {
             log.error("Error performing request", e);
             return Future.failedFuture(e);
@@ -185,24 +273,20 @@ public class VertxEventPublisher<T> {
     }
 
     /**
-     * Request/reply with explicit delivery options.
+     * Request/reply with explicit delivery options. The options are copied before the codec, timeout and trace
+     * context are added, so the caller's instance is left unchanged.
      */
     public <R> Future<R> request(T message, DeliveryOptions options) {
         log.trace("Requesting on address {} with options - {}", address, message);
         try {
-            if (options == null) options = new DeliveryOptions();
-            // Apply codec if needed
-            String codecName = getCodecName(message);
-            if (codecName != null && options.getCodecName() == null) {
-                options.setCodecName(codecName);
-            }
+            // Work on a copy with the codec applied; the caller may reuse its options for other messages
+            options = cloneOptionsWithCodec(options, message);
             // If no timeout provided, prefer annotation default
             if (options.getSendTimeout() == 0 && eventDefinition != null && eventDefinition.options() != null) {
                 long configured = eventDefinition.options().timeoutMs();
                 if (configured > 0) options.setSendTimeout(configured);
             }
-            return vertx.eventBus().request(address, message, options)
-                    .map(reply -> (R) reply.body());
+            return coalescedRequest(message, options);
         } catch (Exception e) {
             log.error("Error performing request with options", e);
             return Future.failedFuture(e);
@@ -220,9 +304,95 @@ public class VertxEventPublisher<T> {
 
     // ============ Internal helpers ============
 
+    /**
+     * Collapses concurrent identical requests onto one event bus request when the address is idempotent.
+     * Requests carrying headers are never coalesced since headers may change the reply; trace headers are ignored.
+     * Requests only join one made with the same timeout, codec and locality, so a joined caller never waits longer
+     * or gets a different delivery than it asked for.
+     */
+    @SuppressWarnings("unchecked")
+    private <R> Future<R> coalescedRequest(T message, DeliveryOptions options) {
+        CoalescingKey key = coalescingKey(message, options);
+        if (key == null) {
+            return doRequest(message, options);
+        }
+        Promise<R> promise = Promise.promise();
+        Future<?> existing = inFlightRequests.putIfAbsent(key, promise.future());
+        if (existing != null) {
+            coalescedRequests.increment();
+            log.trace("Coalesced request on address {} onto in-flight request", address);
+            return (Future<R>) existing;
+        }
+        Future<R> request;
+        try {
+            request = doRequest(message, options);
+        } catch (RuntimeException e) {
+            // Never leave a promise in the map that nothing will complete
+            request = Future.failedFuture(e);
+        }
+        request.onComplete(ar -> {
+            inFlightRequests.remove(key, promise.future());
+            promise.handle(ar);
+        });
+        return promise.future();
+    }
+
+    private CoalescingKey coalescingKey(T message, DeliveryOptions options) {
+        if (message == null || eventDefinition == null || eventDefinition.options() == null
+                || !eventDefinition.options().idempotent()) {
+            return null;
+        }
+        if (EventTracing.hasApplicationHeaders(options.getHeaders())) {
+            return null;
+        }
+        Object payloadKey = coalescingKeyExtractor == null ? message : coalescingKeyExtractor.apply(message);
+        return payloadKey == null ? null
+                : new CoalescingKey(payloadKey, options.getSendTimeout(), options.getCodecName(), options.isLocalOnly());
+    }
+
+    /**
+     * Performs the event bus request, failing fast while the address circuit is open.
+     * The request is traced as a producer span ending when the reply or failure arrives.
+     */
+    @SuppressWarnings("unchecked")
+    private <R> Future<R> doRequest(T message, DeliveryOptions options) {
+        if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+            log.debug("Circuit open for address {}, rejecting request", address);
+            return Future.failedFuture(circuitBreaker.openFailure());
+        }
+        EventSpan span = EventTracing.startProducer(address);
+        EventTracing.inject(span, options);
+        long startedAt = System.nanoTime();
+        Future<Message<Object>> request;
+        try {
+            request = vertx.eventBus().request(address, message, options);
+        } catch (RuntimeException e) {
+            // e.g. an unknown codec name; the span and the breaker permit must still be released
+            log.debug("Request on address {} failed before it was sent: {}", address, e.getMessage());
+            request = Future.failedFuture(e);
+        }
+        return request
+                .onComplete(ar -> {
+                    AddressMetrics.forAddress(address).recordReply(System.nanoTime() - startedAt);
+                    if (span != null) {
+                        span.end(ar.failed());
+                    }
+                    if (circuitBreaker != null) {
+                        if (ar.succeeded()) {
+                            circuitBreaker.onSuccess();
+                        } else {
+                            circuitBreaker.onFailure(ar.cause());
+                        }
+                    }
+                })
+                .map(reply -> (R) reply.body());
+    }
+
     private void doImmediatePublish(T message, DeliveryOptions options) {
+        EventSpan span = EventTracing.startProducer(address);
+        boolean failed = true;
         try {
-            if (options == null) {
+            if (options == null && span == null) {
                 String codecName = getCodecName(message);
                 if (codecName != null) {
                     options = new DeliveryOptions().setCodecName(codecName);
@@ -231,18 +401,25 @@ public class VertxEventPublisher<T> {
                     vertx.eventBus().publish(address, message);
                 }
             } else {
-                DeliveryOptions opts = cloneOptionsWithCodec(options, message);
+                DeliveryOptions opts = EventTracing.inject(span, cloneOptionsWithCodec(options, message));
                 vertx.eventBus().publish(address, message, opts);
             }
+            failed = false;
         } catch (Exception e) {
             log.error("Error serializing message to JSON", e);
             throw new RuntimeException("Error publishing message", e);
+        } finally {
+            if (span != null) {
+                span.end(failed);
+            }
         }
     }
 
     private void doImmediateSend(T message, DeliveryOptions options) {
+        EventSpan span = EventTracing.startProducer(address);
+        boolean failed = true;
         try {
-            if (options == null) {
+            if (options == null && span == null) {
                 String codecName = getCodecName(message);
                 if (codecName != null) {
                     options = new DeliveryOptions().setCodecName(codecName);
@@ -251,12 +428,17 @@ public class VertxEventPublisher<T> {
                     vertx.eventBus().send(address, message);
                 }
             } else {
-                DeliveryOptions opts = cloneOptionsWithCodec(options, message);
+                DeliveryOptions opts = EventTracing.inject(span, cloneOptionsWithCodec(options, message));
                 vertx.eventBus().send(address, message, opts);
             }
+            failed = false;
         } catch (Exception e) {
             log.error("Error sending message", e);
             throw new RuntimeException("Error sending message", e);
+        } finally {
+            if (span != null) {
+                span.end(failed);
+            }
         }
     }
 
@@ -4,6 +4,7 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Singleton;
 import com.google.inject.name.Names;
 import com.guicedee.client.services.lifecycle.IGuiceModule;
+import com.guicedee.vertx.spi.StartupTasks;
 import com.guicedee.vertx.spi.VertXPreStartup;
 import io.vertx.ext.auth.ChainAuth;
 import io.vertx.ext.auth.KeyStoreOptions;
@@ -34,6 +35,9 @@ public class VertxAuthModule extends AbstractModule implements IGuiceModule<Vert
     @Override
     protected void configure()
     {
+        // Providers build concurrently during pre-startup, wait for the chain
+        StartupTasks.await(VertxAuthPreStartup.TASK);
+
         // Skip all auth bindings if no authentication or authorization providers are registered
         if (VertxAuthPreStartup.getAuthenticationProviders().isEmpty()
             && VertxAuthPreStartup.getAuthorizationProviders().isEmpty()
@@ -3,8 +3,9 @@ package com.guicedee.vertx.auth;
 import com.guicedee.client.Environment;
 import com.guicedee.client.IGuiceContext;
 import com.guicedee.client.services.lifecycle.IGuicePreStartup;
-import io.github.classgraph.ClassInfoList;
-import io.github.classgraph.ScanResult;
+import com.guicedee.vertx.spi.AnnotationIndex;
+import com.guicedee.vertx.spi.RegistrySnapshot;
+import com.guicedee.vertx.spi.StartupTasks;
 import io.vertx.core.Future;
 import io.vertx.ext.auth.ChainAuth;
 import io.vertx.ext.auth.KeyStoreOptions;
@@ -14,8 +15,6 @@ import io.vertx.ext.auth.authorization.AuthorizationProvider;
 import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 
-import io.github.classgraph.ClassInfo;
-
 import java.util.*;
 
 /**
@@ -28,6 +27,11 @@ import java.util.*;
 @Log4j2
 public class VertxAuthPreStartup implements IGuicePreStartup<VertxAuthPreStartup>
 {
+    /**
+     * The startup task that completes once the providers and the chain are built
+     */
+    public static final String TASK = "vertx-auth";
+
     @Getter
     private static AuthOptions authOptions;
 
@@ -65,8 +69,7 @@ public class VertxAuthPreStartup implements IGuicePreStartup<VertxAuthPreStartup
     @Override
     public List<Future<Boolean>> onStartup()
     {
-        ScanResult scanResult = IGuiceContext.instance().getScanResult();
-        discoverAuthOptions(scanResult);
+        discoverAuthOptions();
 
         // Load any explicitly-registered (ServiceLoader / module-info provides) custom providers up
         // front — these are an opt-in signal that auth is wanted, independent of the annotations.
@@ -79,10 +82,10 @@ public class VertxAuthPreStartup implements IGuicePreStartup<VertxAuthPreStartup
         if (authOptions == null
             && authProviderSet.isEmpty()
             && authzProviderSet.isEmpty()
-            && !hasAnyAuthAnnotation(scanResult))
+            && !hasAnyAuthAnnotation())
         {
             log.debug("🔐 No @AuthOptions/auth annotations and no auth providers registered — skipping Vert.x auth discovery");
-            return List.of(Future.succeededFuture(true));
+            return List.of(StartupTasks.track(TASK, Future.succeededFuture(true)));
         }
 
         if (authOptions != null)
@@ -94,11 +97,11 @@ public class VertxAuthPreStartup implements IGuicePreStartup<VertxAuthPreStartup
         // Get the service set via standard GuicedEE loading (handles ServiceLoader + ClassGraph)
         // Then dynamically add ClassGraph-discovered providers for optional auth modules
         // that aren't declared in module-info provides (to avoid ClassNotFoundException with requires static)
-        for (ClassInfo classInfo : scanResult.getClassesImplementing(IGuicedAuthenticationProvider.class))
+        for (String className : RegistrySnapshot.classNamesImplementing(IGuicedAuthenticationProvider.class.getName()))
         {
             try
             {
-                Class<? extends IGuicedAuthenticationProvider> implClass = (Class<? extends IGuicedAuthenticationProvider>) classInfo.loadClass();
+                Class<? extends IGuicedAuthenticationProvider> implClass = (Class<? extends IGuicedAuthenticationProvider>) Class.forName(className, false, VertxAuthPreStartup.class.getClassLoader());
                 if (implClass.isInterface() || java.lang.reflect.Modifier.isAbstract(implClass.getModifiers()))
                 {
                     continue;
@@ -113,30 +116,21 @@ public class VertxAuthPreStartup implements IGuicePreStartup<VertxAuthPreStartup
             }
             catch (NoClassDefFoundError e)
             {
-                log.debug("Skipping authentication provider {} - optional dependency not available: {}", classInfo.getName(), e.getMessage());
+                log.debug("Skipping authentication provider {} - optional dependency not available: {}", className, e.getMessage());
             }
             catch (Exception e)
             {
-                log.warn("Failed to instantiate authentication provider {}: {}", classInfo.getName(), e.getMessage());
+                log.warn("Failed to instantiate authentication provider {}: {}", className, e.getMessage());
             }
         }
         IGuiceContext.getAllLoadedServices().put(IGuicedAuthenticationProvider.class, authProviderSet);
-        for (IGuicedAuthenticationProvider spiProvider : authProviderSet)
-        {
-            AuthenticationProvider provider = spiProvider.getAuthenticationProvider();
-            if (provider != null)
-            {
-                authenticationProviders.add(provider);
-                log.info("Registered authentication provider: {}", spiProvider.getClass().getName());
-            }
-        }
 
         // Same pattern for authorization providers
-        for (ClassInfo classInfo : scanResult.getClassesImplementing(IGuicedAuthorizationProvider.class))
+        for (String className : RegistrySnapshot.classNamesImplementing(IGuicedAuthorizationProvider.class.getName()))
         {
             try
             {
-                Class<? extends IGuicedAuthorizationProvider> implClass = (Class<? extends IGuicedAuthorizationProvider>) classInfo.loadClass();
+                Class<? extends IGuicedAuthorizationProvider> implClass = (Class<? extends IGuicedAuthorizationProvider>) Class.forName(className, false, VertxAuthPreStartup.class.getClassLoader());
                 if (implClass.isInterface() || java.lang.reflect.Modifier.isAbstract(implClass.getModifiers()))
                 {
                     continue;
@@ -150,24 +144,68 @@ public class VertxAuthPreStartup implements IGuicePreStartup<VertxAuthPreStartup
             }
             catch (NoClassDefFoundError e)
             {
-                log.debug("Skipping authorization provider {} - optional dependency not available: {}", classInfo.getName(), e.getMessage());
+                log.debug("Skipping authorization provider {} - optional dependency not available: {}", className, e.getMessage());
             }
             catch (Exception e)
             {
-                log.warn("Failed to instantiate authorization provider {}: {}", classInfo.getName(), e.getMessage());
+                log.warn("Failed to instantiate authorization provider {}: {}", className, e.getMessage());
             }
         }
         IGuiceContext.getAllLoadedServices().put(IGuicedAuthorizationProvider.class, authzProviderSet);
+
+        // Providers do blocking work (OIDC discovery, key and policy files), so each one builds as its own
+        // startup task on the worker pool and they overlap; the chain is assembled once all have finished.
+        // Authorization providers read what their authentication provider resolved (the JWT options), so they
+        // start once every authentication provider has been built
+        List<String> providerTasks = new ArrayList<>();
+        List<Future<AuthenticationProvider>> authentication = new ArrayList<>();
+        for (IGuicedAuthenticationProvider spiProvider : authProviderSet)
+        {
+            String name = "auth:" + spiProvider.getClass().getName();
+            authentication.add(StartupTasks.submitBlocking(name, spiProvider::getAuthenticationProvider));
+            providerTasks.add(name);
+        }
+        String[] authenticationTasks = providerTasks.toArray(String[]::new);
+        List<Future<AuthorizationProvider>> authorization = new ArrayList<>();
         for (IGuicedAuthorizationProvider spiProvider : authzProviderSet)
         {
-            AuthorizationProvider provider = spiProvider.getAuthorizationProvider();
-            if (provider != null)
+            String name = "authz:" + spiProvider.getClass().getName();
+            authorization.add(StartupTasks.submitBlocking(name, spiProvider::getAuthorizationProvider, authenticationTasks));
+            providerTasks.add(name);
+        }
+        var spiAuthentication = List.copyOf(authProviderSet);
+        var spiAuthorization = List.copyOf(authzProviderSet);
+        Future<Boolean> ready = StartupTasks.submit(TASK, () -> {
+            // Registered in provider set order, whichever finished first
+            for (int i = 0; i < authentication.size(); i++)
             {
-                authorizationProviders.add(provider);
-                log.info("Registered authorization provider: {}", spiProvider.getClass().getName());
+                AuthenticationProvider provider = authentication.get(i).result();
+                if (provider != null)
+                {
+                    authenticationProviders.add(provider);
+                    log.info("Registered authentication provider: {}", spiAuthentication.get(i).getClass().getName());
+                }
             }
-        }
+            for (int i = 0; i < authorization.size(); i++)
+            {
+                AuthorizationProvider provider = authorization.get(i).result();
+                if (provider != null)
+                {
+                    authorizationProviders.add(provider);
+                    log.info("Registered authorization provider: {}", spiAuthorization.get(i).getClass().getName());
+                }
+            }
+            buildChain();
+            return Future.succeededFuture(true);
+        }, providerTasks.toArray(String[]::new));
+        return List.of(ready);
+    }
 
+    /**
+     * Builds the {@link ChainAuth} from the registered authentication providers and configures the PRNG.
+     */
+    private void buildChain()
+    {
         // Build ChainAuth if there are authentication providers
         if (!authenticationProviders.isEmpty())
         {
@@ -188,8 +226,6 @@ public class VertxAuthPreStartup implements IGuicePreStartup<VertxAuthPreStartup
 
         log.debug("🔐 Vert.x auth startup complete: {} authentication provider(s), {} authorization provider(s)",
                 authenticationProviders.size(), authorizationProviders.size());
-
-        return List.of(Future.succeededFuture(true));
     }
 
     /**
@@ -198,11 +234,11 @@ public class VertxAuthPreStartup implements IGuicePreStartup<VertxAuthPreStartup
      * not configured. Annotations are looked up by FQN so optional modules absent from the
      * module path are simply not found (rather than failing the scan).
      */
-    private boolean hasAnyAuthAnnotation(ScanResult scanResult)
+    private boolean hasAnyAuthAnnotation()
     {
         for (String annotationName : AUTH_OPTION_ANNOTATIONS)
         {
-            if (!scanResult.getClassesWithAnnotation(annotationName).isEmpty())
+            if (!RegistrySnapshot.classNamesWithAnnotation(annotationName).isEmpty())
             {
                 return true;
             }
@@ -210,40 +246,12 @@ public class VertxAuthPreStartup implements IGuicePreStartup<VertxAuthPreStartup
         return false;
     }
 
-    private void discoverAuthOptions(ScanResult scanResult)
+    private void discoverAuthOptions()
     {
-        // Check classes
-        ClassInfoList annotatedClasses = scanResult.getClassesWithAnnotation(AuthOptions.class);
-        for (var ci : annotatedClasses)
-        {
-            var ann = ci.loadClass().getAnnotation(AuthOptions.class);
-            if (ann != null)
-            {
-                authOptions = wrapAuthOptions(ann);
-                log.debug("Found @AuthOptions on class: {}", ci.getName());
-                return;
-            }
-        }
-
-        // Check package-info
-        var packageInfoList = scanResult.getPackageInfo();
-        if (packageInfoList != null)
+        var ann = AnnotationIndex.find(AuthOptions.class);
+        if (ann != null)
         {
-            for (var pkgInfo : packageInfoList)
-            {
-                try
-                {
-                    Class<?> pkgClass = Class.forName(pkgInfo.getName() + ".package-info");
-                    var ann = pkgClass.getAnnotation(AuthOptions.class);
-                    if (ann != null)
-                    {
-                        authOptions = wrapAuthOptions(ann);
-                        log.debug("Found @AuthOptions on package: {}", pkgInfo.getName());
-                        return;
-                    }
-                }
-                catch (ClassNotFoundException ignored) {}
-            }
+            authOptions = wrapAuthOptions(ann);
         }
     }
 
@@ -3,8 +3,8 @@ package com.guicedee.vertx.auth.abac;
 import com.guicedee.client.Environment;
 import com.guicedee.client.IGuiceContext;
 import com.guicedee.vertx.auth.IGuicedAuthorizationProvider;
+import com.guicedee.vertx.spi.AnnotationIndex;
 import com.guicedee.vertx.spi.VertXPreStartup;
-import io.github.classgraph.ScanResult;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -46,8 +46,7 @@ public class AbacAuthorizationProvider implements IGuicedAuthorizationProvider
     @Override
     public AuthorizationProvider getAuthorizationProvider()
     {
-        ScanResult scanResult = IGuiceContext.instance().getScanResult();
-        abacOptions = discoverAbacOptions(scanResult);
+        abacOptions = discoverAbacOptions();
 
         if (abacOptions == null)
         {
@@ -162,36 +161,9 @@ public class AbacAuthorizationProvider implements IGuicedAuthorizationProvider
 
     // ── Annotation discovery ────────────────────────────
 
-    private AbacOptions discoverAbacOptions(ScanResult scanResult)
+    private AbacOptions discoverAbacOptions()
     {
-        var annotatedClasses = scanResult.getClassesWithAnnotation(AbacOptions.class);
-        for (var ci : annotatedClasses)
-        {
-            var ann = ci.loadClass().getAnnotation(AbacOptions.class);
-            if (ann != null)
-            {
-                log.debug("Found @AbacOptions on class: {}", ci.getName());
-                return ann;
-            }
-        }
-
-        var packageInfoList = scanResult.getPackageInfo();
-        for (var pkgInfo : packageInfoList)
-        {
-            try
-            {
-                Class<?> pkgClass = Class.forName(pkgInfo.getName() + ".package-info");
-                var ann = pkgClass.getAnnotation(AbacOptions.class);
-                if (ann != null)
-                {
-                    log.debug("Found @AbacOptions on package: {}", pkgInfo.getName());
-                    return ann;
-                }
-            }
-            catch (ClassNotFoundException _) { }
-        }
-
-        return null;
+        return AnnotationIndex.find(AbacOptions.class);
     }
 
     // ── Env / placeholder helpers ───────────────────────
@@ -1,10 +1,9 @@
 package com.guicedee.vertx.auth.htdigest;
 
 import com.guicedee.client.Environment;
-import com.guicedee.client.IGuiceContext;
 import com.guicedee.vertx.auth.IGuicedAuthenticationProvider;
+import com.guicedee.vertx.spi.AnnotationIndex;
 import com.guicedee.vertx.spi.VertXPreStartup;
-import io.github.classgraph.ScanResult;
 import io.vertx.core.Vertx;
 import io.vertx.ext.auth.authentication.AuthenticationProvider;
 import lombok.Getter;
@@ -33,8 +32,7 @@ public class HtdigestAuthenticationProvider implements IGuicedAuthenticationProv
     @Override
     public AuthenticationProvider getAuthenticationProvider()
     {
-        ScanResult scanResult = IGuiceContext.instance().getScanResult();
-        htdigestAuthOptions = discoverOptions(scanResult);
+        htdigestAuthOptions = discoverOptions();
 
         if (htdigestAuthOptions == null)
         {
@@ -87,28 +85,9 @@ public class HtdigestAuthenticationProvider implements IGuicedAuthenticationProv
         return annotationPath;
     }
 
-    private HtdigestAuthOptions discoverOptions(ScanResult scanResult)
+    private HtdigestAuthOptions discoverOptions()
     {
-        var annotatedClasses = scanResult.getClassesWithAnnotation(HtdigestAuthOptions.class);
-        for (var ci : annotatedClasses)
-        {
-            var ann = ci.loadClass().getAnnotation(HtdigestAuthOptions.class);
-            if (ann != null) return ann;
-        }
-
-        var packageInfoList = scanResult.getPackageInfo();
-        for (var pkgInfo : packageInfoList)
-        {
-            try
-            {
-                Class<?> pkgClass = Class.forName(pkgInfo.getName() + ".package-info");
-                var ann = pkgClass.getAnnotation(HtdigestAuthOptions.class);
-                if (ann != null) return ann;
-            }
-            catch (ClassNotFoundException _) { }
-        }
-
-        return null;
+        return AnnotationIndex.find(HtdigestAuthOptions.class);
     }
 
     public static void reset()
@@ -1,10 +1,9 @@
 package com.guicedee.vertx.auth.htpasswd;
 
 import com.guicedee.client.Environment;
-import com.guicedee.client.IGuiceContext;
 import com.guicedee.vertx.auth.IGuicedAuthenticationProvider;
+import com.guicedee.vertx.spi.AnnotationIndex;
 import com.guicedee.vertx.spi.VertXPreStartup;
-import io.github.classgraph.ScanResult;
 import io.vertx.core.Vertx;
 import io.vertx.ext.auth.authentication.AuthenticationProvider;
 import lombok.Getter;
@@ -34,8 +33,7 @@ public class HtpasswdAuthenticationProvider implements IGuicedAuthenticationProv
     @Override
     public AuthenticationProvider getAuthenticationProvider()
     {
-        ScanResult scanResult = IGuiceContext.instance().getScanResult();
-        htpasswdAuthOptions = discoverOptions(scanResult);
+        htpasswdAuthOptions = discoverOptions();
 
         if (htpasswdAuthOptions == null)
         {
@@ -68,28 +66,9 @@ public class HtpasswdAuthenticationProvider implements IGuicedAuthenticationProv
 
     // ── Annotation discovery ────────────────────────────
 
-    private HtpasswdAuthOptions discoverOptions(ScanResult scanResult)
+    private HtpasswdAuthOptions discoverOptions()
     {
-        var annotatedClasses = scanResult.getClassesWithAnnotation(HtpasswdAuthOptions.class);
-        for (var ci : annotatedClasses)
-        {
-            var ann = ci.loadClass().getAnnotation(HtpasswdAuthOptions.class);
-            if (ann != null) return ann;
-        }
-
-        var packageInfoList = scanResult.getPackageInfo();
-        for (var pkgInfo : packageInfoList)
-        {
-            try
-            {
-                Class<?> pkgClass = Class.forName(pkgInfo.getName() + ".package-info");
-                var ann = pkgClass.getAnnotation(HtpasswdAuthOptions.class);
-                if (ann != null) return ann;
-            }
-            catch (ClassNotFoundException _) { }
-        }
-
-        return null;
+        return AnnotationIndex.find(HtpasswdAuthOptions.class);
     }
 
     // ── Env / placeholder helpers ───────────────────────
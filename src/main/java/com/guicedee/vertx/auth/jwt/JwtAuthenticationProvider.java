@@ -1,10 +1,9 @@
 package com.guicedee.vertx.auth.jwt;
 
 import com.guicedee.client.Environment;
-import com.guicedee.client.IGuiceContext;
 import com.guicedee.vertx.auth.IGuicedAuthenticationProvider;
+import com.guicedee.vertx.spi.AnnotationIndex;
 import com.guicedee.vertx.spi.VertXPreStartup;
-import io.github.classgraph.ScanResult;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.auth.JWTOptions;
@@ -48,16 +47,15 @@ import lombok.extern.log4j.Log4j2;
 public class JwtAuthenticationProvider implements IGuicedAuthenticationProvider
 {
     @Getter
-    private static io.vertx.ext.auth.jwt.JWTAuth jwtAuth;
+    private static volatile io.vertx.ext.auth.jwt.JWTAuth jwtAuth;
 
     @Getter
-    private static JwtAuthOptions jwtAuthOptions;
+    private static volatile JwtAuthOptions jwtAuthOptions;
 
     @Override
     public AuthenticationProvider getAuthenticationProvider()
     {
-        ScanResult scanResult = IGuiceContext.instance().getScanResult();
-        jwtAuthOptions = discoverJwtAuthOptions(scanResult);
+        jwtAuthOptions = discoverJwtAuthOptions();
 
         if (jwtAuthOptions == null)
         {
@@ -222,38 +220,9 @@ public class JwtAuthenticationProvider implements IGuicedAuthenticationProvider
 
     // ── Annotation discovery ────────────────────────────
 
-    private JwtAuthOptions discoverJwtAuthOptions(ScanResult scanResult)
+    private JwtAuthOptions discoverJwtAuthOptions()
     {
-        // Check annotated classes
-        var annotatedClasses = scanResult.getClassesWithAnnotation(JwtAuthOptions.class);
-        for (var ci : annotatedClasses)
-        {
-            var ann = ci.loadClass().getAnnotation(JwtAuthOptions.class);
-            if (ann != null)
-            {
-                log.debug("Found @JwtAuthOptions on class: {}", ci.getName());
-                return ann;
-            }
-        }
-
-        // Check package-info
-        var packageInfoList = scanResult.getPackageInfo();
-        for (var pkgInfo : packageInfoList)
-        {
-            try
-            {
-                Class<?> pkgClass = Class.forName(pkgInfo.getName() + ".package-info");
-                var ann = pkgClass.getAnnotation(JwtAuthOptions.class);
-                if (ann != null)
-                {
-                    log.debug("Found @JwtAuthOptions on package: {}", pkgInfo.getName());
-                    return ann;
-                }
-            }
-            catch (ClassNotFoundException _) { }
-        }
-
-        return null;
+        return AnnotationIndex.find(JwtAuthOptions.class);
     }
 
     // ── Env / placeholder helpers ───────────────────────
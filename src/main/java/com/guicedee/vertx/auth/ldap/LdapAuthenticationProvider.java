@@ -1,10 +1,9 @@
 package com.guicedee.vertx.auth.ldap;
 
 import com.guicedee.client.Environment;
-import com.guicedee.client.IGuiceContext;
 import com.guicedee.vertx.auth.IGuicedAuthenticationProvider;
+import com.guicedee.vertx.spi.AnnotationIndex;
 import com.guicedee.vertx.spi.VertXPreStartup;
-import io.github.classgraph.ScanResult;
 import io.vertx.core.Vertx;
 import io.vertx.ext.auth.authentication.AuthenticationProvider;
 import lombok.Getter;
@@ -36,8 +35,7 @@ public class LdapAuthenticationProvider implements IGuicedAuthenticationProvider
     @Override
     public AuthenticationProvider getAuthenticationProvider()
     {
-        ScanResult scanResult = IGuiceContext.instance().getScanResult();
-        ldapAuthOptions = discoverOptions(scanResult);
+        ldapAuthOptions = discoverOptions();
 
         if (ldapAuthOptions == null)
         {
@@ -80,36 +78,9 @@ public class LdapAuthenticationProvider implements IGuicedAuthenticationProvider
 
     // ── Annotation discovery ────────────────────────────
 
-    private LdapAuthOptions discoverOptions(ScanResult scanResult)
+    private LdapAuthOptions discoverOptions()
     {
-        var annotatedClasses = scanResult.getClassesWithAnnotation(LdapAuthOptions.class);
-        for (var ci : annotatedClasses)
-        {
-            var ann = ci.loadClass().getAnnotation(LdapAuthOptions.class);
-            if (ann != null)
-            {
-                log.debug("Found @LdapAuthOptions on class: {}", ci.getName());
-                return ann;
-            }
-        }
-
-        var packageInfoList = scanResult.getPackageInfo();
-        for (var pkgInfo : packageInfoList)
-        {
-            try
-            {
-                Class<?> pkgClass = Class.forName(pkgInfo.getName() + ".package-info");
-                var ann = pkgClass.getAnnotation(LdapAuthOptions.class);
-                if (ann != null)
-                {
-                    log.debug("Found @LdapAuthOptions on package: {}", pkgInfo.getName());
-                    return ann;
-                }
-            }
-            catch (ClassNotFoundException _) { }
-        }
-
-        return null;
+        return AnnotationIndex.find(LdapAuthOptions.class);
     }
 
     // ── Env / placeholder helpers ───────────────────────
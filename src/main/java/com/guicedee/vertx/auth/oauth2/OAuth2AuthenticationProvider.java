@@ -1,10 +1,9 @@
 package com.guicedee.vertx.auth.oauth2;
 
 import com.guicedee.client.Environment;
-import com.guicedee.client.IGuiceContext;
 import com.guicedee.vertx.auth.IGuicedAuthenticationProvider;
+import com.guicedee.vertx.spi.AnnotationIndex;
 import com.guicedee.vertx.spi.VertXPreStartup;
-import io.github.classgraph.ScanResult;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpClientOptions;
@@ -54,8 +53,7 @@ public class OAuth2AuthenticationProvider implements IGuicedAuthenticationProvid
     @Override
     public AuthenticationProvider getAuthenticationProvider()
     {
-        ScanResult scanResult = IGuiceContext.instance().getScanResult();
-        oauth2Options = discoverOAuth2Options(scanResult);
+        oauth2Options = discoverOAuth2Options();
 
         if (oauth2Options == null)
         {
@@ -256,38 +254,9 @@ public class OAuth2AuthenticationProvider implements IGuicedAuthenticationProvid
 
     // ── Annotation discovery ────────────────────────────
 
-    private OAuth2Options discoverOAuth2Options(ScanResult scanResult)
+    private OAuth2Options discoverOAuth2Options()
     {
-        // Check annotated classes
-        var annotatedClasses = scanResult.getClassesWithAnnotation(OAuth2Options.class);
-        for (var ci : annotatedClasses)
-        {
-            var ann = ci.loadClass().getAnnotation(OAuth2Options.class);
-            if (ann != null)
-            {
-                log.debug("Found @OAuth2Options on class: {}", ci.getName());
-                return ann;
-            }
-        }
-
-        // Check package-info
-        var packageInfoList = scanResult.getPackageInfo();
-        for (var pkgInfo : packageInfoList)
-        {
-            try
-            {
-                Class<?> pkgClass = Class.forName(pkgInfo.getName() + ".package-info");
-                var ann = pkgClass.getAnnotation(OAuth2Options.class);
-                if (ann != null)
-                {
-                    log.debug("Found @OAuth2Options on package: {}", pkgInfo.getName());
-                    return ann;
-                }
-            }
-            catch (ClassNotFoundException _) { }
-        }
-
-        return null;
+        return AnnotationIndex.find(OAuth2Options.class);
     }
 
     // ── Env / placeholder helpers ───────────────────────
@@ -3,7 +3,7 @@ package com.guicedee.vertx.auth.otp;
 import com.guicedee.client.Environment;
 import com.guicedee.client.IGuiceContext;
 import com.guicedee.vertx.auth.IGuicedAuthenticationProvider;
-import io.github.classgraph.ScanResult;
+import com.guicedee.vertx.spi.AnnotationIndex;
 import io.vertx.ext.auth.authentication.AuthenticationProvider;
 import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
@@ -51,8 +51,7 @@ public class OtpAuthenticationProvider implements IGuicedAuthenticationProvider
     @Override
     public AuthenticationProvider getAuthenticationProvider()
     {
-        ScanResult scanResult = IGuiceContext.instance().getScanResult();
-        otpAuthOptions = discoverOtpAuthOptions(scanResult);
+        otpAuthOptions = discoverOtpAuthOptions();
 
         if (otpAuthOptions == null)
         {
@@ -135,36 +134,9 @@ public class OtpAuthenticationProvider implements IGuicedAuthenticationProvider
 
     // ── Annotation discovery ────────────────────────────
 
-    private OtpAuthOptions discoverOtpAuthOptions(ScanResult scanResult)
+    private OtpAuthOptions discoverOtpAuthOptions()
     {
-        var annotatedClasses = scanResult.getClassesWithAnnotation(OtpAuthOptions.class);
-        for (var ci : annotatedClasses)
-        {
-            var ann = ci.loadClass().getAnnotation(OtpAuthOptions.class);
-            if (ann != null)
-            {
-                log.debug("Found @OtpAuthOptions on class: {}", ci.getName());
-                return ann;
-            }
-        }
-
-        var packageInfoList = scanResult.getPackageInfo();
-        for (var pkgInfo : packageInfoList)
-        {
-            try
-            {
-                Class<?> pkgClass = Class.forName(pkgInfo.getName() + ".package-info");
-                var ann = pkgClass.getAnnotation(OtpAuthOptions.class);
-                if (ann != null)
-                {
-                    log.debug("Found @OtpAuthOptions on package: {}", pkgInfo.getName());
-                    return ann;
-                }
-            }
-            catch (ClassNotFoundException _) { }
-        }
-
-        return null;
+        return AnnotationIndex.find(OtpAuthOptions.class);
     }
 
     // ── Env helpers ─────────────────────────────────────
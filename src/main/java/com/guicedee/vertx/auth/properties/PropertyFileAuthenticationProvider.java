@@ -1,10 +1,9 @@
 package com.guicedee.vertx.auth.properties;
 
 import com.guicedee.client.Environment;
-import com.guicedee.client.IGuiceContext;
 import com.guicedee.vertx.auth.IGuicedAuthenticationProvider;
+import com.guicedee.vertx.spi.AnnotationIndex;
 import com.guicedee.vertx.spi.VertXPreStartup;
-import io.github.classgraph.ScanResult;
 import io.vertx.core.Vertx;
 import io.vertx.ext.auth.authentication.AuthenticationProvider;
 import lombok.Getter;
@@ -41,8 +40,7 @@ public class PropertyFileAuthenticationProvider implements IGuicedAuthentication
     @Override
     public AuthenticationProvider getAuthenticationProvider()
     {
-        ScanResult scanResult = IGuiceContext.instance().getScanResult();
-        propertyFileAuthOptions = discoverOptions(scanResult);
+        propertyFileAuthOptions = discoverOptions();
 
         if (propertyFileAuthOptions == null)
         {
@@ -84,36 +82,9 @@ public class PropertyFileAuthenticationProvider implements IGuicedAuthentication
 
     // ── Annotation discovery ────────────────────────────
 
-    private PropertyFileAuthOptions discoverOptions(ScanResult scanResult)
+    private PropertyFileAuthOptions discoverOptions()
     {
-        var annotatedClasses = scanResult.getClassesWithAnnotation(PropertyFileAuthOptions.class);
-        for (var ci : annotatedClasses)
-        {
-            var ann = ci.loadClass().getAnnotation(PropertyFileAuthOptions.class);
-            if (ann != null)
-            {
-                log.debug("Found @PropertyFileAuthOptions on class: {}", ci.getName());
-                return ann;
-            }
-        }
-
-        var packageInfoList = scanResult.getPackageInfo();
-        for (var pkgInfo : packageInfoList)
-        {
-            try
-            {
-                Class<?> pkgClass = Class.forName(pkgInfo.getName() + ".package-info");
-                var ann = pkgClass.getAnnotation(PropertyFileAuthOptions.class);
-                if (ann != null)
-                {
-                    log.debug("Found @PropertyFileAuthOptions on package: {}", pkgInfo.getName());
-                    return ann;
-                }
-            }
-            catch (ClassNotFoundException _) { }
-        }
-
-        return null;
+        return AnnotationIndex.find(PropertyFileAuthOptions.class);
     }
 
     // ── Placeholder helper ──────────────────────────────
@@ -1,9 +1,8 @@
 package com.guicedee.vertx.auth.properties;
 
-import com.guicedee.client.IGuiceContext;
 import com.guicedee.vertx.auth.IGuicedAuthorizationProvider;
+import com.guicedee.vertx.spi.AnnotationIndex;
 import com.guicedee.vertx.spi.VertXPreStartup;
-import io.github.classgraph.ScanResult;
 import io.vertx.core.Vertx;
 import io.vertx.ext.auth.authorization.AuthorizationProvider;
 import lombok.Getter;
@@ -33,8 +32,7 @@ public class PropertyFileAuthorizationProvider implements IGuicedAuthorizationPr
     @Override
     public AuthorizationProvider getAuthorizationProvider()
     {
-        ScanResult scanResult = IGuiceContext.instance().getScanResult();
-        PropertyFileAuthOptions ann = discoverOptions(scanResult);
+        PropertyFileAuthOptions ann = discoverOptions();
 
         if (ann == null)
         {
@@ -63,28 +61,9 @@ public class PropertyFileAuthorizationProvider implements IGuicedAuthorizationPr
         }
     }
 
-    private PropertyFileAuthOptions discoverOptions(ScanResult scanResult)
+    private PropertyFileAuthOptions discoverOptions()
     {
-        var annotatedClasses = scanResult.getClassesWithAnnotation(PropertyFileAuthOptions.class);
-        for (var ci : annotatedClasses)
-        {
-            var ann = ci.loadClass().getAnnotation(PropertyFileAuthOptions.class);
-            if (ann != null) return ann;
-        }
-
-        var packageInfoList = scanResult.getPackageInfo();
-        for (var pkgInfo : packageInfoList)
-        {
-            try
-            {
-                Class<?> pkgClass = Class.forName(pkgInfo.getName() + ".package-info");
-                var ann = pkgClass.getAnnotation(PropertyFileAuthOptions.class);
-                if (ann != null) return ann;
-            }
-            catch (ClassNotFoundException _) { }
-        }
-
-        return null;
+        return AnnotationIndex.find(PropertyFileAuthOptions.class);
     }
 
     public static void reset()
@@ -0,0 +1,96 @@
+package com.guicedee.vertx.cache;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+
+/**
+ * A delegating {@link Message} that records the plain reply sent by a consumer into a {@link ReplyCache}.
+ * <p>
+ * Only {@link #reply(Object)} is cached; replies with delivery options or follow-up requests carry
+ * per-call state and are passed straight through, as are failures.
+ *
+ * @param <T> the body type
+ */
+public class CachingReplyMessage<T> implements Message<T>
+{
+    private final Message<T> delegate;
+    private final ReplyCache cache;
+    private final Object key;
+
+    /**
+     * Wraps a request so its reply is cached under the given key.
+     *
+     * @param delegate the received message
+     * @param cache    the cache for the message address
+     * @param key      the cache key of the request body
+     */
+    public CachingReplyMessage(Message<T> delegate, ReplyCache cache, Object key)
+    {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.key = key;
+    }
+
+    @Override
+    public T body()
+    {
+        return delegate.body();
+    }
+
+    @Override
+    public String address()
+    {
+        return delegate.address();
+    }
+
+    @Override
+    public MultiMap headers()
+    {
+        return delegate.headers();
+    }
+
+    @Override
+    public String replyAddress()
+    {
+        return delegate.replyAddress();
+    }
+
+    @Override
+    public boolean isSend()
+    {
+        return delegate.isSend();
+    }
+
+    @Override
+    public void reply(Object msg)
+    {
+        cache.put(key, msg);
+        delegate.reply(msg);
+    }
+
+    @Override
+    public void reply(Object msg, DeliveryOptions options)
+    {
+        delegate.reply(msg, options);
+    }
+
+    @Override
+    public <R> Future<Message<R>> replyAndRequest(Object msg)
+    {
+        return delegate.replyAndRequest(msg);
+    }
+
+    @Override
+    public <R> Future<Message<R>> replyAndRequest(Object msg, DeliveryOptions options)
+    {
+        return delegate.replyAndRequest(msg, options);
+    }
+
+    @Override
+    public void fail(int failureCode, String msg)
+    {
+        delegate.fail(failureCode, msg);
+    }
+}
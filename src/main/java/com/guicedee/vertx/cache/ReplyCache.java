@@ -0,0 +1,637 @@
+package com.guicedee.vertx.cache;
+
+import com.guicedee.modules.services.jsonrepresentation.IJsonRepresentation;
+import com.guicedee.vertx.spi.KeyedRegistry;
+import com.guicedee.vertx.spi.VertxRuntime;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Consumer-side reply cache for request/reply addresses whose consumers are pure functions of their input.
+ * <p>
+ * Entries are keyed on an immutable form of the request body (see {@link #keyFor(Object)}), or on the result of a
+ * key function registered with {@link #keyBy(String, Function)}, and bounded by a TTL, an entry count and an
+ * optional byte budget. Replies are stored the same way: anything other than an immutable scalar is kept in encoded
+ * form, sized by its encoded length, and every hit is handed a fresh copy, so a requester mutating its reply
+ * cannot change what later requesters receive. Eviction is a segmented LRU: new entries land in a probation segment and are only
+ * promoted to the protected segment (80% of capacity) on a second hit, so a burst of one-off requests
+ * cannot flush the replies that are actually reused. Entries evicted from the protected segment are
+ * demoted back to probation rather than dropped.
+ * <p>
+ * Large caches are split into independently locked stripes chosen by key hash, each holding its share of the
+ * entry and byte bounds, so event loops looking up different keys do not contend on one lock.
+ * <p>
+ * Caches are invalidated by publishing to {@link #INVALIDATION_ADDRESS} with either the address to clear
+ * as a String body, a JsonObject {@code {"address": "..."}}, or an empty body to clear every cache.
+ */
+@Log4j2
+public class ReplyCache
+{
+    /**
+     * Control address used to invalidate cached replies
+     */
+    public static final String INVALIDATION_ADDRESS = "guicedee.vertx.replycache.invalidate";
+
+    /**
+     * Estimated size of a number, boolean, character or enum reply
+     */
+    static final int SCALAR_REPLY_SIZE = 16;
+
+    /**
+     * Smallest entry share a stripe is given before the cache is split further
+     */
+    static final int MIN_ENTRIES_PER_STRIPE = 64;
+
+    /**
+     * @return the caches of the runtime owning the calling thread, see {@link VertxRuntime#registryOf(Class)}
+     */
+    private static KeyedRegistry<ReplyCache> caches()
+    {
+        return VertxRuntime.registryOf(ReplyCache.class);
+    }
+
+    /**
+     * Caller-supplied key functions, keyed by address
+     */
+    private static final Map<String, Function<Object, ?>> keyFunctions = new ConcurrentHashMap<>();
+
+    private static volatile MessageConsumer<Object> invalidationConsumer;
+
+    @Getter
+    private final String address;
+    private final long ttlNanos;
+    private final Stripe[] stripes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    private static final class Entry
+    {
+        private final Object stored;
+        private final long expiresAtNanos;
+        private final int size;
+
+        private Entry(Object stored, long expiresAtNanos, int size)
+        {
+            this.stored = stored;
+            this.expiresAtNanos = expiresAtNanos;
+            this.size = size;
+        }
+    }
+
+    /**
+     * An encoded request body, compared by content
+     */
+    private static final class EncodedKey
+    {
+        private final byte[] bytes;
+        private final int hash;
+
+        private EncodedKey(byte[] bytes)
+        {
+            this.bytes = bytes;
+            this.hash = Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof EncodedKey other && hash == other.hash && Arrays.equals(bytes, other.bytes);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+
+    /**
+     * An encoded reply and the type it is decoded back to on every hit
+     */
+    private record EncodedReply(byte[] bytes, Class<?> type)
+    {
+    }
+
+    /**
+     * Creates a reply cache for an address.
+     *
+     * @param address    the event bus address
+     * @param ttlMs      time a reply stays valid
+     * @param maxEntries maximum number of cached replies
+     * @param maxBytes   maximum estimated size of all cached replies, 0 for no byte bound
+     */
+    public ReplyCache(String address, long ttlMs, int maxEntries, long maxBytes)
+    {
+        this.address = address;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, ttlMs));
+        int entries = Math.max(1, maxEntries);
+        long bytes = Math.max(0, maxBytes);
+        int count = stripeCount(entries);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++)
+        {
+            this.stripes[i] = new Stripe(entries / count, bytes / count);
+        }
+    }
+
+    /**
+     * @return a power of two no larger than the processor count that leaves every stripe {@link #MIN_ENTRIES_PER_STRIPE} entries
+     */
+    static int stripeCount(int maxEntries)
+    {
+        int limit = Math.min(Runtime.getRuntime().availableProcessors(), maxEntries / MIN_ENTRIES_PER_STRIPE);
+        return limit <= 1 ? 1 : Integer.highestOneBit(limit);
+    }
+
+    /**
+     * @return caches created so far on the current runtime, keyed by address
+     */
+    public static Map<String, ReplyCache> getCaches()
+    {
+        return caches().asMap();
+    }
+
+    /**
+     * Returns the shared cache for an address, creating it on first use.
+     *
+     * @param address    the event bus address
+     * @param ttlMs      time a reply stays valid
+     * @param maxEntries maximum number of cached replies
+     * @param maxBytes   maximum estimated size of all cached replies, 0 for no byte bound
+     * @return the cache for the address
+     */
+    public static ReplyCache forAddress(String address, long ttlMs, int maxEntries, long maxBytes)
+    {
+        return caches().get(address, a -> new ReplyCache(a, ttlMs, maxEntries, maxBytes));
+    }
+
+    /**
+     * Keys the cached replies of an address on a value derived from the request body, e.g. an id field of a POJO
+     * request, instead of the encoded body.
+     *
+     * @param address     the event bus address
+     * @param keyFunction derives the cache key from the request body; its result is made immutable like a body
+     */
+    public static void keyBy(String address, Function<Object, ?> keyFunction)
+    {
+        if (keyFunction == null)
+        {
+            keyFunctions.remove(address);
+        }
+        else
+        {
+            keyFunctions.put(address, keyFunction);
+        }
+        invalidate(address);
+    }
+
+    /**
+     * Derives the cache key of a request body.
+     * <p>
+     * Strings, numbers, booleans, characters and enums are immutable and compared by value, so they are used as they
+     * are. Anything else is encoded, byte arrays and Buffers by content, JSON and POJO bodies to JSON with the shared
+     * mapper, so a body without equals/hashCode still matches an equal request and a mutable body is never retained.
+     *
+     * @param body the request body
+     * @return the cache key
+     */
+    public Object keyFor(Object body)
+    {
+        Function<Object, ?> keyFunction = keyFunctions.get(address);
+        return immutableKey(keyFunction == null ? body : keyFunction.apply(body));
+    }
+
+    static Object immutableKey(Object value)
+    {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum<?> || value instanceof EncodedKey)
+        {
+            return value;
+        }
+        if (value instanceof byte[] bytes)
+        {
+            return new EncodedKey(bytes.clone());
+        }
+        if (value instanceof Buffer buffer)
+        {
+            return new EncodedKey(buffer.getBytes());
+        }
+        if (value instanceof JsonObject json)
+        {
+            return new EncodedKey(json.toBuffer().getBytes());
+        }
+        if (value instanceof JsonArray json)
+        {
+            return new EncodedKey(json.toBuffer().getBytes());
+        }
+        return new EncodedKey(IJsonRepresentation.getObjectMapper().writeValueAsBytes(value));
+    }
+
+    /**
+     * Converts a reply to the form it is cached in.
+     * <p>
+     * Strings and scalars are immutable and kept as they are. Byte arrays, Buffers and JSON are copied into an
+     * {@link EncodedReply}, and POJOs are encoded to JSON with the shared mapper, the same way request bodies are
+     * keyed. A POJO is decoded once here so a type the mapper cannot rebuild is never cached. Generic containers
+     * such as lists and maps are not cached, as their element types cannot be recovered from the runtime class.
+     *
+     * @param reply the reply sent to the requester
+     * @return the stored form, or null if the reply cannot be cached
+     */
+    static Object storedForm(Object reply)
+    {
+        if (reply instanceof String || reply instanceof Number || reply instanceof Boolean
+                || reply instanceof Character || reply instanceof Enum<?>)
+        {
+            return reply;
+        }
+        if (reply instanceof byte[] bytes)
+        {
+            return new EncodedReply(bytes.clone(), byte[].class);
+        }
+        if (reply instanceof Buffer buffer)
+        {
+            return new EncodedReply(buffer.getBytes(), Buffer.class);
+        }
+        if (reply instanceof JsonObject json)
+        {
+            return new EncodedReply(json.toBuffer().getBytes(), JsonObject.class);
+        }
+        if (reply instanceof JsonArray json)
+        {
+            return new EncodedReply(json.toBuffer().getBytes(), JsonArray.class);
+        }
+        if (reply.getClass().getTypeParameters().length > 0)
+        {
+            return null;
+        }
+        try
+        {
+            EncodedReply encoded = new EncodedReply(IJsonRepresentation.getObjectMapper().writeValueAsBytes(reply), reply.getClass());
+            restore(encoded);
+            return encoded;
+        }
+        catch (RuntimeException e)
+        {
+            log.debug("Not caching {} reply, it does not round-trip through the object mapper: {}", reply.getClass().getName(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @return a fresh copy of a cached reply
+     */
+    static Object restore(Object stored)
+    {
+        if (!(stored instanceof EncodedReply encoded))
+        {
+            return stored;
+        }
+        Class<?> type = encoded.type();
+        if (type == byte[].class)
+        {
+            return encoded.bytes().clone();
+        }
+        if (type == Buffer.class)
+        {
+            return Buffer.buffer().appendBytes(encoded.bytes());
+        }
+        if (type == JsonObject.class)
+        {
+            return new JsonObject(Buffer.buffer().appendBytes(encoded.bytes()));
+        }
+        if (type == JsonArray.class)
+        {
+            return new JsonArray(Buffer.buffer().appendBytes(encoded.bytes()));
+        }
+        return IJsonRepresentation.getObjectMapper().readValue(encoded.bytes(), type);
+    }
+
+    /**
+     * Registers the invalidation control consumer on the given Vert.x instance. Safe to call more than once.
+     *
+     * @param vertx the Vert.x instance
+     */
+    public static synchronized void registerInvalidationConsumer(Vertx vertx)
+    {
+        if (invalidationConsumer != null)
+        {
+            return;
+        }
+        invalidationConsumer = vertx.eventBus().consumer(INVALIDATION_ADDRESS, message -> {
+            Object body = message.body();
+            String target = null;
+            if (body instanceof String s)
+            {
+                target = s;
+            }
+            else if (body instanceof JsonObject json)
+            {
+                target = json.getString("address");
+            }
+            if (target == null || target.isBlank())
+            {
+                invalidateAll();
+            }
+            else
+            {
+                invalidate(target);
+            }
+        });
+        log.debug("Registered reply cache invalidation consumer on {}", INVALIDATION_ADDRESS);
+    }
+
+    /**
+     * Clears the cached replies for an address.
+     *
+     * @param address the event bus address
+     */
+    public static void invalidate(String address)
+    {
+        ReplyCache cache = caches().find(address);
+        if (cache != null)
+        {
+            cache.clear();
+            log.debug("Invalidated reply cache for address {}", address);
+        }
+    }
+
+    /**
+     * Clears the cached replies for every address.
+     */
+    public static void invalidateAll()
+    {
+        caches().values().forEach(ReplyCache::clear);
+        log.debug("Invalidated all reply caches");
+    }
+
+    /**
+     * Drops all caches and the control consumer. Called during context destroy.
+     */
+    public static synchronized void reset()
+    {
+        caches().clear();
+        keyFunctions.clear();
+        if (invalidationConsumer != null)
+        {
+            try
+            {
+                invalidationConsumer.unregister();
+            }
+            catch (Throwable ignored)
+            {
+            }
+            invalidationConsumer = null;
+        }
+    }
+
+    /**
+     * Looks up a cached reply.
+     *
+     * @param key the cache key from {@link #keyFor(Object)}
+     * @return a copy of the cached reply, or null on a miss
+     */
+    public Object get(Object key)
+    {
+        Object stored = stripeFor(key).get(key);
+        if (stored == null)
+        {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return restore(stored);
+    }
+
+    /**
+     * Stores a reply for a request.
+     *
+     * @param key   the cache key from {@link #keyFor(Object)}
+     * @param reply the reply sent to the requester, stored as described in {@link #storedForm(Object)}
+     */
+    public void put(Object key, Object reply)
+    {
+        if (key == null || reply == null)
+        {
+            return;
+        }
+        Object stored = storedForm(reply);
+        if (stored != null)
+        {
+            stripeFor(key).put(key, stored);
+        }
+    }
+
+    /**
+     * Removes every cached reply, keeping the counters.
+     */
+    public void clear()
+    {
+        for (Stripe stripe : stripes)
+        {
+            stripe.clear();
+        }
+    }
+
+    /**
+     * @return the number of cached replies
+     */
+    public int size()
+    {
+        int size = 0;
+        for (Stripe stripe : stripes)
+        {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private long bytes()
+    {
+        long bytes = 0;
+        for (Stripe stripe : stripes)
+        {
+            bytes += stripe.bytes();
+        }
+        return bytes;
+    }
+
+    private Stripe stripeFor(Object key)
+    {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+
+    /**
+     * One independently locked segmented LRU holding a share of the cache bounds
+     */
+    private final class Stripe
+    {
+        private final int maxEntries;
+        private final long maxBytes;
+        private final int protectedCapacity;
+
+        private final LinkedHashMap<Object, Entry> probation = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<Object, Entry> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+        private long currentBytes;
+
+        private Stripe(int maxEntries, long maxBytes)
+        {
+            this.maxEntries = Math.max(1, maxEntries);
+            this.maxBytes = maxBytes;
+            this.protectedCapacity = Math.max(1, (int) (this.maxEntries * 0.8));
+        }
+
+        private synchronized Object get(Object key)
+        {
+            Entry entry = protectedSegment.get(key);
+            boolean inProtected = entry != null;
+            if (entry == null)
+            {
+                entry = probation.get(key);
+            }
+            if (entry == null)
+            {
+                return null;
+            }
+            if (System.nanoTime() - entry.expiresAtNanos >= 0)
+            {
+                removeEntry(key, inProtected);
+                expirations.increment();
+                return null;
+            }
+            if (!inProtected)
+            {
+                probation.remove(key);
+                protectedSegment.put(key, entry);
+                demoteOverflow();
+            }
+            return entry.stored;
+        }
+
+        private synchronized void put(Object key, Object stored)
+        {
+            int size = estimateSize(stored);
+            if (maxBytes > 0 && size > maxBytes)
+            {
+                return;
+            }
+            Entry previous = protectedSegment.remove(key);
+            if (previous == null)
+            {
+                previous = probation.remove(key);
+            }
+            if (previous != null)
+            {
+                currentBytes -= previous.size;
+            }
+            probation.put(key, new Entry(stored, System.nanoTime() + ttlNanos, size));
+            currentBytes += size;
+            evictOverflow();
+        }
+
+        private synchronized void clear()
+        {
+            probation.clear();
+            protectedSegment.clear();
+            currentBytes = 0;
+        }
+
+        private synchronized int size()
+        {
+            return probation.size() + protectedSegment.size();
+        }
+
+        private synchronized long bytes()
+        {
+            return currentBytes;
+        }
+
+        private void removeEntry(Object key, boolean inProtected)
+        {
+            Entry removed = inProtected ? protectedSegment.remove(key) : probation.remove(key);
+            if (removed != null)
+            {
+                currentBytes -= removed.size;
+            }
+        }
+
+        private void demoteOverflow()
+        {
+            while (protectedSegment.size() > protectedCapacity)
+            {
+                Iterator<Map.Entry<Object, Entry>> it = protectedSegment.entrySet().iterator();
+                Map.Entry<Object, Entry> eldest = it.next();
+                it.remove();
+                probation.put(eldest.getKey(), eldest.getValue());
+            }
+            evictOverflow();
+        }
+
+        private void evictOverflow()
+        {
+            while (probation.size() + protectedSegment.size() > maxEntries || (maxBytes > 0 && currentBytes > maxBytes))
+            {
+                LinkedHashMap<Object, Entry> victims = probation.isEmpty() ? protectedSegment : probation;
+                Iterator<Map.Entry<Object, Entry>> it = victims.entrySet().iterator();
+                if (!it.hasNext())
+                {
+                    return;
+                }
+                currentBytes -= it.next().getValue().size;
+                it.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * @param stored a reply in its {@link #storedForm(Object) stored form}
+     * @return the bytes the stored reply holds
+     */
+    static int estimateSize(Object stored)
+    {
+        if (stored instanceof EncodedReply encoded)
+        {
+            return encoded.bytes().length;
+        }
+        if (stored instanceof CharSequence chars)
+        {
+            return chars.length() * 2;
+        }
+        return SCALAR_REPLY_SIZE;
+    }
+
+    /**
+     * @return a point-in-time view of the cache counters
+     */
+    public JsonObject toJson()
+    {
+        return new JsonObject()
+                .put("address", address)
+                .put("entries", size())
+                .put("stripes", stripes.length)
+                .put("bytes", bytes())
+                .put("hits", hits.sum())
+                .put("misses", misses.sum())
+                .put("evictions", evictions.sum())
+                .put("expirations", expirations.sum());
+    }
+}
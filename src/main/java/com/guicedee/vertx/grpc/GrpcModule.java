@@ -4,6 +4,7 @@ import com.google.inject.AbstractModule;
 import com.google.inject.name.Names;
 import com.guicedee.client.services.lifecycle.IGuiceModule;
 import com.guicedee.client.services.lifecycle.IGuicePreDestroy;
+import com.guicedee.vertx.spi.StartupTasks;
 import com.guicedee.vertx.spi.VertXPreStartup;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServer;
@@ -128,7 +129,8 @@ public abstract class GrpcModule<J extends GrpcModule<J>>
             // Create and start the HTTP server with gRPC handler
             HttpServer httpServer = vertx.createHttpServer(httpOptions);
             httpServer.requestHandler(grpcServer);
-            httpServer.listen()
+            // Joined before post-startup instead of left running unobserved
+            StartupTasks.track("grpc:" + info.getName(), httpServer.listen())
                     .onSuccess(s -> log.info("✅ gRPC server '{}' listening on {}:{}",
                             info.getName(), info.getHost(), s.actualPort()))
                     .onFailure(t -> log.error("❌ gRPC server '{}' failed to start: {}",
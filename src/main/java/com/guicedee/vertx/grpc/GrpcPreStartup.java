@@ -3,8 +3,7 @@ package com.guicedee.vertx.grpc;
 import com.guicedee.client.Environment;
 import com.guicedee.client.IGuiceContext;
 import com.guicedee.client.services.lifecycle.IGuicePreStartup;
-import io.github.classgraph.ClassInfo;
-import io.github.classgraph.ClassInfoList;
+import com.guicedee.vertx.spi.RegistrySnapshot;
 import io.github.classgraph.ScanResult;
 import io.vertx.core.Future;
 import lombok.Getter;
@@ -40,15 +39,13 @@ public class GrpcPreStartup implements IGuicePreStartup<GrpcPreStartup> {
         }
 
         // Scan classes for @GrpcOptions
-        ClassInfoList annotatedClasses = scanResult.getClassesWithAnnotation(GrpcOptions.class.getName());
-        for (ClassInfo classInfo : annotatedClasses) {
-            processAnnotations(classInfo.loadClass().getAnnotationsByType(GrpcOptions.class));
+        for (Class<?> annotatedClass : RegistrySnapshot.classesWithAnnotation(GrpcOptions.class)) {
+            processAnnotations(annotatedClass.getAnnotationsByType(GrpcOptions.class));
         }
 
         // Scan package-info classes for @GrpcOptions
-        ClassInfoList packageInfoClasses = scanResult.getClassesWithAnnotation(GrpcOptionsContainer.class.getName());
-        for (ClassInfo classInfo : packageInfoClasses) {
-            processAnnotations(classInfo.loadClass().getAnnotationsByType(GrpcOptions.class));
+        for (Class<?> packageInfoClass : RegistrySnapshot.classesWithAnnotation(GrpcOptionsContainer.class)) {
+            processAnnotations(packageInfoClass.getAnnotationsByType(GrpcOptions.class));
         }
 
         if (!discoveredConnections.isEmpty()) {
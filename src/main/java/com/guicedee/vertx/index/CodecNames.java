@@ -0,0 +1,63 @@
+package com.guicedee.vertx.index;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * The codec naming rules shared by {@code CodecRegistry}, which applies them to reflected types at runtime, and
+ * {@link EventIndexProcessor}, which applies them to declared types inside the compiler.
+ * <p>
+ * Types are identified by their type name ({@link Class#getTypeName()}, or the declared type as written), so the
+ * rules need neither Vert.x nor reflection and load inside the compiler.
+ */
+public final class CodecNames
+{
+    /**
+     * Types Vert.x carries without a custom codec
+     */
+    public static final Set<String> STANDARD_TYPES = Set.of(
+            "java.lang.String", "java.lang.Boolean", "boolean", "java.lang.Integer", "int", "java.lang.Long", "long",
+            "java.lang.Double", "double", "java.lang.Float", "float", "java.lang.Short", "short", "java.lang.Byte", "byte",
+            "java.lang.Character", "char", "io.vertx.core.json.JsonObject", "io.vertx.core.json.JsonArray",
+            "io.vertx.core.buffer.Buffer", "byte[]");
+
+    /**
+     * Pattern for converting camel case to kebab case
+     */
+    private static final Pattern CAMEL_CASE_PATTERN = Pattern.compile("([a-z])([A-Z])|([A-Z])([A-Z][a-z])");
+
+    private CodecNames()
+    {
+    }
+
+    /**
+     * @param typeName a type name, e.g. {@code java.lang.String} or {@code byte[]}
+     * @return true when Vert.x carries the type without a custom codec
+     */
+    public static boolean isStandardType(String typeName)
+    {
+        return STANDARD_TYPES.contains(typeName);
+    }
+
+    /**
+     * Converts a camel case name to kebab case, splitting acronyms, e.g. {@code UWEServerMessage} to
+     * {@code uwe-server-message}.
+     *
+     * @param camelCase the camel case name
+     * @return the kebab case name, empty for null or empty input
+     */
+    public static String toKebabCase(String camelCase)
+    {
+        if (camelCase == null || camelCase.isEmpty())
+        {
+            return "";
+        }
+        return CAMEL_CASE_PATTERN.matcher(camelCase).replaceAll(match -> {
+            if (match.group(1) != null && match.group(2) != null)
+            {
+                return match.group(1) + "-" + match.group(2);
+            }
+            return match.group(3) + "-" + match.group(4);
+        }).toLowerCase();
+    }
+}
@@ -0,0 +1,264 @@
+package com.guicedee.vertx.index;
+
+import lombok.Getter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Build-time list of the event consumers and publishers of an application, written by
+ * {@link EventIndexProcessor} and read at boot in place of classpath scanning.
+ * <p>
+ * Every jar compiled with the processor carries a {@value #RESOURCE} resource. Each line is one entry with
+ * tab-separated columns: kind, class binary name, member name, address, declared payload type and codec
+ * name, with {@code -} for columns that do not apply. Lines starting with {@code #} are comments.
+ * <p>
+ * An index only describes the jar or directory it was found in. {@link #getSources()} lists those, so the
+ * registry can scan the class path entries compiled without the processor.
+ * <p>
+ * Kept free of Vert.x and logging dependencies so the processor can use it inside the compiler.
+ */
+public final class EventIndex
+{
+    /**
+     * Resource the index is written to and read from
+     */
+    public static final String RESOURCE = "META-INF/guicedee/vertx-events.index";
+
+    static final String HEADER = "# GuicedEE Vert.x event index, generated by com.guicedee.vertx.index.EventIndexProcessor";
+    static final String NONE = "-";
+
+    /**
+     * What an entry registers
+     */
+    public enum Kind
+    {
+        /**
+         * A class annotated with {@code @VertxEventDefinition} and a {@code consume(Message)} method
+         */
+        CONSUMER_CLASS("C"),
+        /**
+         * A method annotated with {@code @VertxEventDefinition}
+         */
+        CONSUMER_METHOD("M"),
+        /**
+         * A {@code VertxEventPublisher} field annotated with {@code @VertxEventDefinition} or {@code @Named}
+         */
+        PUBLISHER_FIELD("P");
+
+        private final String code;
+
+        Kind(String code)
+        {
+            this.code = code;
+        }
+
+        static Kind of(String code)
+        {
+            for (Kind kind : values())
+            {
+                if (kind.code.equals(code))
+                {
+                    return kind;
+                }
+            }
+            throw new IllegalArgumentException("Unknown event index entry kind " + code);
+        }
+    }
+
+    /**
+     * One indexed consumer or publisher
+     *
+     * @param kind        what the entry registers
+     * @param className   the binary name of the declaring class
+     * @param member      the method or field name, null for class consumers
+     * @param address     the annotated address, before runtime overrides
+     * @param payloadType the declared payload type as written in source, null when unknown
+     * @param codecName   the codec name derived from the payload type, null for standard Vert.x types
+     */
+    public record Entry(Kind kind, String className, String member, String address, String payloadType, String codecName)
+    {
+        /**
+         * @return the entry as one tab-separated index line
+         */
+        public String toLine()
+        {
+            return String.join("\t", kind.code, className, orNone(member), address, orNone(payloadType), orNone(codecName));
+        }
+
+        /**
+         * @param line one tab-separated index line
+         * @return the entry
+         * @throws IllegalArgumentException when the line is malformed
+         */
+        public static Entry parse(String line)
+        {
+            String[] columns = line.split("\t", -1);
+            if (columns.length != 6)
+            {
+                throw new IllegalArgumentException("Malformed event index line: " + line);
+            }
+            return new Entry(Kind.of(columns[0]), columns[1], orNull(columns[2]), columns[3], orNull(columns[4]), orNull(columns[5]));
+        }
+
+        private static String orNone(String value)
+        {
+            return value == null || value.isEmpty() ? NONE : value;
+        }
+
+        private static String orNull(String value)
+        {
+            return NONE.equals(value) ? null : value;
+        }
+    }
+
+    /**
+     * The entries of every index found, in class path order
+     */
+    @Getter
+    private final List<Entry> entries;
+
+    /**
+     * The jars and directories an index was read from; empty for an index not read from the class path
+     */
+    @Getter
+    private final Set<Path> sources;
+
+    EventIndex(List<Entry> entries, Set<Path> sources)
+    {
+        this.entries = List.copyOf(entries);
+        this.sources = Set.copyOf(sources);
+    }
+
+    /**
+     * @param entries the entries
+     * @return an index of the given entries
+     */
+    public static EventIndex of(Collection<Entry> entries)
+    {
+        return new EventIndex(List.copyOf(entries), Set.of());
+    }
+
+    /**
+     * Reads and merges every index visible to the class loader.
+     *
+     * @param loader the class loader to search
+     * @return the merged index, or empty when no jar carries one
+     */
+    public static Optional<EventIndex> load(ClassLoader loader)
+    {
+        try
+        {
+            Enumeration<URL> resources = loader.getResources(RESOURCE);
+            if (!resources.hasMoreElements())
+            {
+                return Optional.empty();
+            }
+            List<Entry> entries = new ArrayList<>();
+            Set<Path> sources = new LinkedHashSet<>();
+            while (resources.hasMoreElements())
+            {
+                URL url = resources.nextElement();
+                try (Reader reader = new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))
+                {
+                    entries.addAll(read(reader));
+                }
+                Path source = source(url);
+                if (source != null)
+                {
+                    sources.add(source);
+                }
+            }
+            return Optional.of(new EventIndex(entries, sources));
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Could not read " + RESOURCE, e);
+        }
+    }
+
+    /**
+     * Finds the jar or directory holding an index resource.
+     *
+     * @param resource the URL of the index resource
+     * @return the jar file or class directory, or null when it is not a local file
+     */
+    static Path source(URL resource)
+    {
+        String url = resource.toString();
+        if (!url.endsWith(RESOURCE))
+        {
+            return null;
+        }
+        String root = url.substring(0, url.length() - RESOURCE.length());
+        if (root.startsWith("jar:") && root.endsWith("!/"))
+        {
+            root = root.substring("jar:".length(), root.length() - "!/".length());
+        }
+        try
+        {
+            URI uri = URI.create(root);
+            return "file".equals(uri.getScheme()) ? Path.of(uri).toAbsolutePath().normalize() : null;
+        }
+        catch (IllegalArgumentException e)
+        {
+            // Nested jars and other non-file locations cannot be matched against scanned classes
+            return null;
+        }
+    }
+
+    /**
+     * Parses one index.
+     *
+     * @param reader the index content
+     * @return its entries
+     * @throws IOException when the content cannot be read
+     */
+    public static List<Entry> read(Reader reader) throws IOException
+    {
+        List<Entry> entries = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null)
+        {
+            if (!line.isBlank() && !line.startsWith("#"))
+            {
+                entries.add(Entry.parse(line));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Writes one index.
+     *
+     * @param writer  the destination
+     * @param entries the entries to write
+     * @throws IOException when the destination cannot be written
+     */
+    public static void write(Writer writer, Collection<Entry> entries) throws IOException
+    {
+        writer.write(HEADER);
+        writer.write('\n');
+        for (Entry entry : entries)
+        {
+            writer.write(entry.toLine());
+            writer.write('\n');
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.guicedee.vertx.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor that writes the {@link EventIndex} of the module being compiled.
+ * <p>
+ * It records every concrete consumer class and consumer method annotated with {@code @VertxEventDefinition},
+ * and every {@code VertxEventPublisher} field addressed by {@code @VertxEventDefinition} or {@code @Named},
+ * with the declared payload type and the codec name {@code CodecRegistry.getCodecName} will derive for it.
+ * At boot the registry loads only the listed classes instead of scanning the class path.
+ * <p>
+ * Add the library to the annotation processor path (and to {@code annotationProcessors} when that list is
+ * set explicitly). Jars and directories without an index are still scanned, so modules compiled without the
+ * processor keep their consumers; set {@code VERTX_EVENT_INDEX=false} to scan everything.
+ * <p>
+ * An incremental compile only sees the sources it recompiles, so the index already in the output directory is
+ * merged in: entries of classes compiled in this run are replaced, entries of classes that no longer exist are
+ * dropped and the rest are kept.
+ * <p>
+ * The processor only uses {@code java.compiler}: annotations are read as mirrors, and codec names follow the
+ * {@link CodecNames} rules {@code CodecRegistry} applies at runtime, without loading Vert.x inside the compiler.
+ */
+@SupportedAnnotationTypes({EventIndexProcessor.EVENT_DEFINITION, EventIndexProcessor.NAMED})
+public class EventIndexProcessor extends AbstractProcessor
+{
+    static final String EVENT_DEFINITION = "com.guicedee.vertx.VertxEventDefinition";
+    static final String NAMED = "com.google.inject.name.Named";
+    static final String PUBLISHER = "com.guicedee.vertx.VertxEventPublisher";
+    static final String MESSAGE = "io.vertx.core.eventbus.Message";
+
+    /**
+     * Entries found across all rounds, keyed by kind, class and member so repeats collapse
+     */
+    private final Map<String, EventIndex.Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * Binary names of the classes compiled in this run, whose entries in an earlier index are replaced
+     */
+    private final Set<String> compiledClasses = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+    {
+        for (Element root : roundEnv.getRootElements())
+        {
+            collectCompiledClasses(root);
+        }
+        TypeElement definition = processingEnv.getElementUtils().getTypeElement(EVENT_DEFINITION);
+        if (definition != null)
+        {
+            for (Element element : roundEnv.getElementsAnnotatedWith(definition))
+            {
+                String address = annotationValue(element, EVENT_DEFINITION);
+                switch (element.getKind())
+                {
+                    case CLASS -> indexConsumerClass((TypeElement) element, address);
+                    case METHOD -> indexConsumerMethod((ExecutableElement) element, address);
+                    case FIELD -> indexPublisherField((VariableElement) element, address);
+                    default ->
+                    {
+                    }
+                }
+            }
+        }
+        TypeElement named = processingEnv.getElementUtils().getTypeElement(NAMED);
+        if (named != null)
+        {
+            for (Element element : roundEnv.getElementsAnnotatedWith(named))
+            {
+                // @VertxEventDefinition takes precedence, as in VertxEventRegistry
+                if (element.getKind() == ElementKind.FIELD && annotationValue(element, EVENT_DEFINITION) == null)
+                {
+                    indexPublisherField((VariableElement) element, annotationValue(element, NAMED));
+                }
+            }
+        }
+        if (roundEnv.processingOver())
+        {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void collectCompiledClasses(Element element)
+    {
+        if (element instanceof TypeElement type)
+        {
+            compiledClasses.add(binaryName(type));
+            for (Element enclosed : type.getEnclosedElements())
+            {
+                collectCompiledClasses(enclosed);
+            }
+        }
+    }
+
+    private void indexConsumerClass(TypeElement type, String address)
+    {
+        if (address == null || !isConcrete(type))
+        {
+            return;
+        }
+        add(new EventIndex.Entry(EventIndex.Kind.CONSUMER_CLASS, binaryName(type), null, address, null, null));
+    }
+
+    private void indexConsumerMethod(ExecutableElement method, String address)
+    {
+        TypeElement owner = (TypeElement) method.getEnclosingElement();
+        if (address == null || !isConcrete(owner))
+        {
+            return;
+        }
+        TypeMirror payload = null;
+        for (VariableElement parameter : method.getParameters())
+        {
+            if (!erasureIs(parameter.asType(), MESSAGE))
+            {
+                payload = parameter.asType();
+                break;
+            }
+        }
+        add(new EventIndex.Entry(EventIndex.Kind.CONSUMER_METHOD, binaryName(owner), method.getSimpleName().toString(), address,
+                payload == null ? null : payload.toString(), payload == null ? null : codecName(payload)));
+    }
+
+    private void indexPublisherField(VariableElement field, String address)
+    {
+        if (address == null || !erasureIs(field.asType(), PUBLISHER))
+        {
+            return;
+        }
+        TypeMirror payload = null;
+        if (field.asType() instanceof DeclaredType declared && !declared.getTypeArguments().isEmpty())
+        {
+            payload = declared.getTypeArguments().getFirst();
+        }
+        TypeElement owner = (TypeElement) field.getEnclosingElement();
+        add(new EventIndex.Entry(EventIndex.Kind.PUBLISHER_FIELD, binaryName(owner), field.getSimpleName().toString(), address,
+                payload == null ? null : payload.toString(), payload == null ? null : codecName(payload)));
+    }
+
+    private void add(EventIndex.Entry entry)
+    {
+        entries.put(key(entry), entry);
+    }
+
+    private static String key(EventIndex.Entry entry)
+    {
+        return entry.kind() + ":" + entry.className() + "#" + entry.member();
+    }
+
+    private void writeIndex()
+    {
+        Map<String, EventIndex.Entry> merged = new LinkedHashMap<>();
+        for (EventIndex.Entry previous : previousEntries())
+        {
+            if (!compiledClasses.contains(previous.className()) && exists(previous.className()))
+            {
+                merged.put(key(previous), previous);
+            }
+        }
+        merged.putAll(entries);
+        if (merged.isEmpty())
+        {
+            return;
+        }
+        try
+        {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", EventIndex.RESOURCE);
+            try (Writer writer = resource.openWriter())
+            {
+                EventIndex.write(writer, merged.values());
+            }
+        }
+        catch (IOException e)
+        {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write " + EventIndex.RESOURCE + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return the entries of the index an earlier compile left in the output directory, empty when there is none
+     */
+    private List<EventIndex.Entry> previousEntries()
+    {
+        try
+        {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", EventIndex.RESOURCE);
+            try (Reader reader = existing.openReader(true))
+            {
+                return EventIndex.read(reader);
+            }
+        }
+        catch (IOException | IllegalArgumentException e)
+        {
+            // No earlier index, or one that cannot be read and is written again from this compile only
+            return List.of();
+        }
+    }
+
+    private boolean exists(String binaryName)
+    {
+        return processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.')) != null;
+    }
+
+    private boolean isConcrete(TypeElement type)
+    {
+        return type.getKind().isClass() && !type.getModifiers().contains(Modifier.ABSTRACT);
+    }
+
+    private boolean erasureIs(TypeMirror type, String qualifiedName)
+    {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        return erased instanceof DeclaredType declared
+                && ((TypeElement) declared.asElement()).getQualifiedName().contentEquals(qualifiedName);
+    }
+
+    private String binaryName(TypeElement type)
+    {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private static String annotationValue(Element element, String annotationName)
+    {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors())
+        {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName))
+            {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : mirror.getElementValues().entrySet())
+                {
+                    if (value.getKey().getSimpleName().contentEquals("value"))
+                    {
+                        return String.valueOf(value.getValue().getValue());
+                    }
+                }
+                return "";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Derives the codec name for a declared type the way {@code CodecRegistry.getCodecName(Type)} does for
+     * the matching reflected type.
+     *
+     * @param type the declared payload type
+     * @return the codec name, or null for standard Vert.x types and type variables
+     */
+    static String codecName(TypeMirror type)
+    {
+        if (type.getKind().isPrimitive() || CodecNames.isStandardType(type.toString()))
+        {
+            return null;
+        }
+        if (type instanceof ArrayType array)
+        {
+            return arrayClassName(array);
+        }
+        if (!(type instanceof DeclaredType declared))
+        {
+            return null;
+        }
+        TypeElement raw = (TypeElement) declared.asElement();
+        if (CodecNames.isStandardType(raw.getQualifiedName().toString()))
+        {
+            return null;
+        }
+        StringBuilder name = new StringBuilder(CodecNames.toKebabCase(raw.getSimpleName().toString()));
+        for (TypeMirror argument : declared.getTypeArguments())
+        {
+            String argumentName = typeArgumentName(argument);
+            if (argumentName != null && !argumentName.isEmpty())
+            {
+                name.append('-').append(argumentName);
+            }
+        }
+        return name.toString();
+    }
+
+    private static String typeArgumentName(TypeMirror argument)
+    {
+        if (argument instanceof DeclaredType declared)
+        {
+            return declared.getTypeArguments().isEmpty()
+                    ? CodecNames.toKebabCase(declared.asElement().getSimpleName().toString())
+                    : codecName(declared);
+        }
+        if (argument instanceof WildcardType wildcard)
+        {
+            // Reflection reports the upper bound, which is Object for unbounded and super wildcards
+            return wildcard.getExtendsBound() == null ? "object" : typeArgumentName(wildcard.getExtendsBound());
+        }
+        if (argument instanceof ArrayType array)
+        {
+            return arrayClassName(array) != null ? arrayClassName(array) : genericArrayName(array);
+        }
+        return null;
+    }
+
+    /**
+     * Arrays of non-generic components reflect as a {@code Class}, named after their simple name, e.g. {@code string[]}
+     */
+    private static String arrayClassName(ArrayType array)
+    {
+        TypeMirror component = array.getComponentType();
+        if (component.getKind().isPrimitive())
+        {
+            return CodecNames.toKebabCase(component.toString() + "[]");
+        }
+        if (component instanceof ArrayType nested)
+        {
+            String nestedName = arrayClassName(nested);
+            return nestedName == null ? null : nestedName + "[]";
+        }
+        if (component instanceof DeclaredType declared && declared.getTypeArguments().isEmpty())
+        {
+            return CodecNames.toKebabCase(declared.asElement().getSimpleName() + "[]");
+        }
+        return null;
+    }
+
+    /**
+     * Arrays of generic components reflect as a {@code GenericArrayType}, named {@code <component>-array}
+     */
+    private static String genericArrayName(ArrayType array)
+    {
+        String component = typeArgumentName(array.getComponentType());
+        return component == null ? null : component + "-array";
+    }
+
+    /**
+     * @return the entries collected so far
+     */
+    List<EventIndex.Entry> getEntries()
+    {
+        return List.copyOf(entries.values());
+    }
+}
@@ -0,0 +1,389 @@
+package com.guicedee.vertx.metrics;
+
+import com.guicedee.vertx.spi.KeyedRegistry;
+import com.guicedee.vertx.spi.VertxRuntime;
+import io.vertx.core.eventbus.ReplyFailure;
+import io.vertx.core.json.JsonObject;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms for a single event bus address.
+ * <p>
+ * Publish, send, delivery, byte and reply failure counters plus queue wait are fed by the Vert.x
+ * metrics SPI ({@link GuicedEventBusMetrics}). Dispatch phases (scheduling delay, execution, reply),
+ * handler failures and publisher reply latency are recorded by the GuicedEE dispatch and publisher paths.
+ * Telling scheduling delay apart from execution time shows whether latency comes from worker queueing or
+ * from the handler itself.
+ * <p>
+ * Nothing is recorded or allocated per address unless metrics are enabled: {@link #forAddress(String)} then
+ * returns one shared instance that ignores every record call.
+ */
+public class AddressMetrics
+{
+    /**
+     * @return the address metrics of the runtime owning the calling thread, see {@link VertxRuntime#registryOf(Class)}
+     */
+    private static KeyedRegistry<AddressMetrics> metrics()
+    {
+        return VertxRuntime.registryOf(AddressMetrics.class);
+    }
+
+    /**
+     * Configured time between requests used to correct {@link #totalTime} for coordinated omission, 0 to use the
+     * observed mean arrival interval of each address
+     */
+    private static volatile long expectedIntervalNanos;
+
+    private static volatile boolean enabled;
+
+    /**
+     * Returned for every address while metrics are disabled
+     */
+    private static final AddressMetrics DISABLED = new AddressMetrics("", false);
+
+    @Getter
+    private final String address;
+
+    /**
+     * Worker pool the address consumer runs on, empty for event-loop consumers
+     */
+    @Getter
+    private volatile String workerPool = "";
+
+    private final boolean recording;
+
+    final LongAdder published = new LongAdder();
+    final LongAdder sent = new LongAdder();
+    final LongAdder received = new LongAdder();
+    final LongAdder delivered = new LongAdder();
+    final LongAdder discarded = new LongAdder();
+    final LongAdder bytesWritten = new LongAdder();
+    final LongAdder bytesRead = new LongAdder();
+    final LongAdder replyFailures = new LongAdder();
+    final LongAdder timeouts = new LongAdder();
+    final LongAdder handlerFailures = new LongAdder();
+    final LongAdder slowCalls = new LongAdder();
+
+    /**
+     * Event bus queue wait, from Vert.x scheduling a message onto the handler until delivery
+     */
+    @Getter
+    private final StripedLatencyRecorder queueWait = new StripedLatencyRecorder();
+    /**
+     * Dispatch scheduling delay, from handler receipt until the consumer starts on its thread
+     */
+    @Getter
+    private final StripedLatencyRecorder schedulingDelay = new StripedLatencyRecorder();
+    /**
+     * Consumer method execution, including completion of returned Uni/Future results
+     */
+    @Getter
+    private final StripedLatencyRecorder executionTime = new StripedLatencyRecorder();
+    /**
+     * Time spent sending the consumer's reply
+     */
+    @Getter
+    private final StripedLatencyRecorder replyTime = new StripedLatencyRecorder();
+    /**
+     * Receipt to completion as recorded; snapshots correct it for coordinated omission
+     */
+    @Getter
+    private final StripedLatencyRecorder totalTime = new StripedLatencyRecorder();
+    /**
+     * Publisher request/reply round trip
+     */
+    @Getter
+    private final StripedLatencyRecorder replyLatency = new StripedLatencyRecorder();
+
+    private final AtomicLong firstArrivalNanos = new AtomicLong();
+    private final AtomicLong lastArrivalNanos = new AtomicLong();
+    private final LongAdder arrivals = new LongAdder();
+
+    AddressMetrics(String address)
+    {
+        this(address, true);
+    }
+
+    private AddressMetrics(String address, boolean recording)
+    {
+        this.address = address;
+        this.recording = recording;
+    }
+
+    /**
+     * @return metrics created so far on the current runtime, keyed by address
+     */
+    public static Map<String, AddressMetrics> getMetrics()
+    {
+        return metrics().asMap();
+    }
+
+    /**
+     * Returns the metrics for an address, creating them on first use.
+     *
+     * @param address the event bus address
+     * @return the address metrics, or a shared instance that records nothing while metrics are disabled
+     */
+    public static AddressMetrics forAddress(String address)
+    {
+        if (!enabled)
+        {
+            return DISABLED;
+        }
+        return metrics().get(address, AddressMetrics::new);
+    }
+
+    /**
+     * Returns the metrics for an address of a given runtime, for callers off its Vert.x context.
+     *
+     * @param vertx   the Vert.x instance owning the address
+     * @param address the event bus address
+     * @return the address metrics, or a shared instance that records nothing while metrics are disabled
+     */
+    public static AddressMetrics forAddress(io.vertx.core.Vertx vertx, String address)
+    {
+        if (!enabled)
+        {
+            return DISABLED;
+        }
+        return VertxRuntime.of(vertx).registry(AddressMetrics.class).get(address, AddressMetrics::new);
+    }
+
+    /**
+     * Turns per-address recording on or off, from {@code @MetricsOptions(enabled)}.
+     *
+     * @param on whether per-address metrics are recorded
+     */
+    public static void setEnabled(boolean on)
+    {
+        enabled = on;
+    }
+
+    /**
+     * @return whether per-address metrics are recorded
+     */
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Drops all address metrics. Called during context destroy.
+     */
+    public static void reset()
+    {
+        metrics().clear();
+        expectedIntervalNanos = 0;
+        enabled = false;
+    }
+
+    /**
+     * Sets the time between requests that snapshots use to correct {@code totalTime} for coordinated omission.
+     *
+     * @param interval the expected interval, 0 to use each address's observed mean arrival interval
+     * @param unit     the interval unit
+     */
+    public static void setExpectedInterval(long interval, TimeUnit unit)
+    {
+        expectedIntervalNanos = Math.max(0, unit.toNanos(interval));
+    }
+
+    /**
+     * Whether an address is internal to Vert.x (reply addresses) and should not get its own metrics.
+     *
+     * @param address the event bus address
+     * @return true for internal addresses
+     */
+    public static boolean isInternal(String address)
+    {
+        return address == null || address.startsWith("__vertx.");
+    }
+
+    /**
+     * Records a consumer invocation.
+     *
+     * @param workerPool    the worker pool the handler ran on, or null on the event loop
+     * @param durationNanos handler execution time
+     * @param failed        whether the handler failed
+     */
+    public void recordExecution(String workerPool, long durationNanos, boolean failed)
+    {
+        if (!recording)
+        {
+            return;
+        }
+        if (workerPool != null && !workerPool.equals(this.workerPool))
+        {
+            this.workerPool = workerPool;
+        }
+        executionTime.recordNanos(durationNanos);
+        if (failed)
+        {
+            handlerFailures.increment();
+        }
+    }
+
+    /**
+     * Records the phases of a consumer dispatch. All arguments are {@link System#nanoTime()} stamps.
+     *
+     * @param workerPool  the worker pool the handler ran on, or null on the event loop
+     * @param receivedAt  when the message reached the dispatcher
+     * @param startedAt   when the consumer started on its thread
+     * @param executedAt  when the consumer result was available
+     * @param completedAt when the reply, if any, was sent
+     * @param failed      whether the handler failed
+     */
+    public void recordDispatch(String workerPool, long receivedAt, long startedAt, long executedAt, long completedAt, boolean failed)
+    {
+        if (!recording)
+        {
+            return;
+        }
+        recordArrival(receivedAt);
+        schedulingDelay.recordNanos(startedAt - receivedAt);
+        replyTime.recordNanos(completedAt - executedAt);
+        totalTime.recordNanos(completedAt - receivedAt);
+        recordExecution(workerPool, executedAt - startedAt, failed);
+    }
+
+    private void recordArrival(long receivedAt)
+    {
+        arrivals.increment();
+        firstArrivalNanos.compareAndSet(0, receivedAt);
+        long last;
+        while (receivedAt - (last = lastArrivalNanos.get()) > 0 || last == 0)
+        {
+            if (lastArrivalNanos.compareAndSet(last, receivedAt))
+            {
+                break;
+            }
+        }
+    }
+
+    /**
+     * @return the configured expected interval, or the mean time between dispatched messages; 0 until two messages
+     * have arrived
+     */
+    public long getExpectedIntervalNanos()
+    {
+        long configured = expectedIntervalNanos;
+        if (configured > 0)
+        {
+            return configured;
+        }
+        long count = arrivals.sum();
+        if (count < 2)
+        {
+            return 0;
+        }
+        return Math.max(0, (lastArrivalNanos.get() - firstArrivalNanos.get()) / (count - 1));
+    }
+
+    /**
+     * Records a completed request/reply round trip made by a publisher. Reply failures themselves are
+     * counted by the metrics SPI so requests made outside publishers are included.
+     *
+     * @param durationNanos time from request to reply or failure
+     */
+    public void recordReply(long durationNanos)
+    {
+        if (!recording)
+        {
+            return;
+        }
+        replyLatency.recordNanos(durationNanos);
+    }
+
+    /**
+     * Records a consumer invocation reported by the {@link SlowConsumerWatchdog}.
+     */
+    public void recordSlowCall()
+    {
+        if (!recording)
+        {
+            return;
+        }
+        slowCalls.increment();
+    }
+
+    void recordReplyFailure(ReplyFailure failure)
+    {
+        if (!recording)
+        {
+            return;
+        }
+        replyFailures.increment();
+        if (failure == ReplyFailure.TIMEOUT)
+        {
+            timeouts.increment();
+        }
+    }
+
+    /**
+     * @return a point-in-time view of the address counters and histograms
+     */
+    public JsonObject toJson()
+    {
+        return new JsonObject()
+                .put("address", address)
+                .put("workerPool", workerPool)
+                .put("published", published.sum())
+                .put("sent", sent.sum())
+                .put("received", received.sum())
+                .put("delivered", delivered.sum())
+                .put("discarded", discarded.sum())
+                .put("bytesWritten", bytesWritten.sum())
+                .put("bytesRead", bytesRead.sum())
+                .put("replyFailures", replyFailures.sum())
+                .put("timeouts", timeouts.sum())
+                .put("handlerFailures", handlerFailures.sum())
+                .put("slowCalls", slowCalls.sum())
+                .put("queueWait", queueWait.toJson())
+                .put("schedulingDelay", schedulingDelay.toJson())
+                .put("executionTime", executionTime.toJson())
+                .put("replyTime", replyTime.toJson())
+                .put("totalTime", totalTime.snapshot()
+                        .copyCorrectedForCoordinatedOmission(TimeUnit.NANOSECONDS.toMicros(getExpectedIntervalNanos())).toJson())
+                .put("replyLatency", replyLatency.toJson());
+    }
+
+    /**
+     * Builds a snapshot of every address, plus per worker pool execution totals and saturation telemetry
+     * the event loop probe results, the heaviest sampled codecs and the startup profile.
+     *
+     * @return the metrics snapshot
+     */
+    public static JsonObject snapshot()
+    {
+        JsonObject addresses = new JsonObject();
+        Map<String, JsonObject> pools = new TreeMap<>();
+        new TreeMap<>(metrics().asMap()).forEach((address, m) -> {
+            addresses.put(address, m.toJson());
+            if (!m.workerPool.isEmpty())
+            {
+                JsonObject pool = pools.computeIfAbsent(m.workerPool, _ -> new JsonObject()
+                        .put("addresses", 0).put("executions", 0L).put("handlerFailures", 0L));
+                pool.put("addresses", pool.getInteger("addresses") + 1)
+                    .put("executions", pool.getLong("executions") + m.executionTime.getCount())
+                    .put("handlerFailures", pool.getLong("handlerFailures") + m.handlerFailures.sum());
+            }
+        });
+        WorkerPoolMetrics.getPools().forEach((poolName, pool) -> pools.computeIfAbsent(poolName, _ -> new JsonObject())
+                .mergeIn(pool.toJson()));
+        JsonObject workerPools = new JsonObject();
+        pools.forEach(workerPools::put);
+        return new JsonObject()
+                .put("timestamp", System.currentTimeMillis())
+                .put("addresses", addresses)
+                .put("workerPools", workerPools)
+                .put("eventLoops", EventLoopProbe.snapshot())
+                .put("codecs", CodecMetrics.snapshot())
+                .put("startup", StartupProfile.report());
+    }
+}
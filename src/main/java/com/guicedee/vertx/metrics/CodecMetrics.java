@@ -0,0 +1,202 @@
+package com.guicedee.vertx.metrics;
+
+import com.guicedee.vertx.spi.KeyedRegistry;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sampled payload size and encode/decode cost per message codec.
+ * <p>
+ * Codecs ask {@link #sample(String)} before each encode or decode; only a {@code sampleRate} share of
+ * calls get a recorder back, so with the default rate of 0 the cost is a single volatile read. Sampled
+ * calls record the encoded size in bytes and the time taken in nanoseconds. Totals are scaled by the
+ * sample rate to estimate the real traffic each codec carries, and {@link #heaviest(int)} ranks codecs
+ * by estimated bytes to show which addresses would gain most from a binary format or compression.
+ */
+public class CodecMetrics
+{
+    /**
+     * Number of codecs listed in the snapshot
+     */
+    public static final int SNAPSHOT_TOP_N = 10;
+
+    private static volatile double sampleRate;
+
+    private static final KeyedRegistry<CodecMetrics> codecs = new KeyedRegistry<>();
+
+    @Getter
+    private final String codecName;
+
+    /**
+     * Encoded payload sizes in bytes
+     */
+    @Getter
+    private final LatencyHistogram encodedBytes = new LatencyHistogram();
+    /**
+     * Encode time in nanoseconds
+     */
+    @Getter
+    private final LatencyHistogram encodeNanos = new LatencyHistogram();
+    /**
+     * Decode time in nanoseconds
+     */
+    @Getter
+    private final LatencyHistogram decodeNanos = new LatencyHistogram();
+
+    private final LongAdder sampledBytes = new LongAdder();
+    private final LongAdder sampledEncodeNanos = new LongAdder();
+    private final LongAdder sampledDecodeNanos = new LongAdder();
+
+    CodecMetrics(String codecName)
+    {
+        this.codecName = codecName;
+    }
+
+    /**
+     * Sets the share of encode and decode calls that are measured.
+     *
+     * @param rate 0 disables sampling, 1 measures every call
+     */
+    public static void setSampleRate(double rate)
+    {
+        sampleRate = Double.isNaN(rate) ? 0 : Math.max(0, Math.min(1, rate));
+    }
+
+    /**
+     * @return the share of calls that are measured
+     */
+    public static double getSampleRate()
+    {
+        return sampleRate;
+    }
+
+    /**
+     * @return codecs sampled so far, keyed by codec name
+     */
+    public static Map<String, CodecMetrics> getCodecs()
+    {
+        return codecs.asMap();
+    }
+
+    /**
+     * Decides whether to measure the current encode or decode call.
+     *
+     * @param codecName the codec name
+     * @return the recorder for the codec, or null when this call is not sampled
+     */
+    public static CodecMetrics sample(String codecName)
+    {
+        double rate = sampleRate;
+        if (rate <= 0 || (rate < 1 && ThreadLocalRandom.current().nextDouble() >= rate))
+        {
+            return null;
+        }
+        return codecs.get(codecName, CodecMetrics::new);
+    }
+
+    /**
+     * Drops all codec metrics and disables sampling. Called during context destroy.
+     */
+    public static void reset()
+    {
+        codecs.clear();
+        sampleRate = 0;
+    }
+
+    /**
+     * Records a sampled encode.
+     *
+     * @param bytes the encoded size
+     * @param nanos the time taken
+     */
+    public void recordEncode(long bytes, long nanos)
+    {
+        encodedBytes.recordValue(bytes);
+        encodeNanos.recordValue(nanos);
+        sampledBytes.add(Math.max(0, bytes));
+        sampledEncodeNanos.add(Math.max(0, nanos));
+    }
+
+    /**
+     * Records a sampled decode.
+     *
+     * @param nanos the time taken
+     */
+    public void recordDecode(long nanos)
+    {
+        decodeNanos.recordValue(nanos);
+        sampledDecodeNanos.add(Math.max(0, nanos));
+    }
+
+    /**
+     * @return the estimated bytes encoded by this codec, scaled up from the samples
+     */
+    public long getEstimatedBytes()
+    {
+        return scale(sampledBytes.sum());
+    }
+
+    /**
+     * @return the estimated nanoseconds spent encoding and decoding, scaled up from the samples
+     */
+    public long getEstimatedNanos()
+    {
+        return scale(sampledEncodeNanos.sum() + sampledDecodeNanos.sum());
+    }
+
+    private static long scale(long sampled)
+    {
+        double rate = sampleRate;
+        return rate <= 0 ? sampled : Math.round(sampled / rate);
+    }
+
+    /**
+     * Returns the codecs carrying the most bytes, breaking ties on encode and decode time.
+     *
+     * @param n the number of codecs to return
+     * @return up to {@code n} codecs, heaviest first
+     */
+    public static List<CodecMetrics> heaviest(int n)
+    {
+        return codecs.values().stream()
+                .sorted(Comparator.comparingLong(CodecMetrics::getEstimatedBytes)
+                        .thenComparingLong(CodecMetrics::getEstimatedNanos)
+                        .reversed())
+                .limit(Math.max(0, n))
+                .toList();
+    }
+
+    /**
+     * @return a point-in-time view of the codec
+     */
+    public JsonObject toJson()
+    {
+        return new JsonObject()
+                .put("codec", codecName)
+                .put("estimatedBytes", getEstimatedBytes())
+                .put("estimatedMs", getEstimatedNanos() / 1_000_000)
+                .put("size", encodedBytes.toJson("Bytes"))
+                .put("encode", encodeNanos.toJson("Ns"))
+                .put("decode", decodeNanos.toJson("Ns"));
+    }
+
+    /**
+     * @return the sample rate and the {@value #SNAPSHOT_TOP_N} heaviest codecs
+     */
+    public static JsonObject snapshot()
+    {
+        JsonArray heaviest = new JsonArray();
+        heaviest(SNAPSHOT_TOP_N).forEach(c -> heaviest.add(c.toJson()));
+        return new JsonObject()
+                .put("sampleRate", sampleRate)
+                .put("sampled", codecs.size())
+                .put("heaviest", heaviest);
+    }
+}
@@ -0,0 +1,65 @@
+package com.guicedee.vertx.metrics;
+
+import io.vertx.core.Vertx;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Periodically publishes {@link AddressMetrics#snapshot()} on a stats address so dashboards and
+ * other nodes can follow event bus load without polling each instance.
+ */
+@Log4j2
+public class EventBusStatsPublisher
+{
+    private static volatile String statsAddress;
+    private static volatile long intervalMs;
+    private static Vertx timerVertx;
+    private static long timerId = -1;
+
+    private EventBusStatsPublisher()
+    {
+    }
+
+    /**
+     * Sets where and how often snapshots are published. An empty address disables publishing.
+     *
+     * @param address    the stats address
+     * @param intervalMs the publish interval
+     */
+    public static void configure(String address, long intervalMs)
+    {
+        EventBusStatsPublisher.statsAddress = address;
+        EventBusStatsPublisher.intervalMs = intervalMs;
+    }
+
+    /**
+     * Starts publishing on the configured address, if any.
+     *
+     * @param vertx the Vert.x instance
+     */
+    public static synchronized void start(Vertx vertx)
+    {
+        String address = statsAddress;
+        if (address == null || address.isEmpty() || intervalMs <= 0 || timerId >= 0)
+        {
+            return;
+        }
+        timerVertx = vertx;
+        timerId = vertx.setPeriodic(intervalMs, _ -> vertx.eventBus().publish(address, AddressMetrics.snapshot()));
+        log.info("Publishing event bus metrics to {} every {}ms", address, intervalMs);
+    }
+
+    /**
+     * Stops publishing and clears the configuration. Called during context destroy.
+     */
+    public static synchronized void reset()
+    {
+        if (timerId >= 0 && timerVertx != null)
+        {
+            timerVertx.cancelTimer(timerId);
+        }
+        timerId = -1;
+        timerVertx = null;
+        statsAddress = null;
+        intervalMs = 0;
+    }
+}
@@ -0,0 +1,265 @@
+package com.guicedee.vertx.metrics;
+
+import com.guicedee.vertx.spi.KeyedRegistry;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.VerticleBase;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures scheduling lag on every event loop.
+ * <p>
+ * One probe instance is deployed per event loop; Vert.x assigns the loops of a multi instance deployment
+ * round robin, so {@code eventLoopPoolSize} instances cover every loop. Each probe arms a timer on its own
+ * loop and records how late it fires. A loop that is running other work cannot run the timer on time, so
+ * lag grows with load. The share of probes that find their loop late estimates how busy the loop is,
+ * since a probe arriving at a random moment waits with roughly the probability that the loop is working.
+ * <p>
+ * Consumer verticles report the loop they were deployed on, so a hot loop can be traced back to the
+ * addresses it carries.
+ */
+@Log4j2
+public class EventLoopProbe
+{
+    /**
+     * Lag above which a probe counts the loop as busy. NIO selectors wake with millisecond granularity,
+     * so anything below this is indistinguishable from an idle loop.
+     */
+    static final long BUSY_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Weight of each probe in the busy estimate; with the default interval this averages over about two seconds
+     */
+    static final double BUSY_SMOOTHING = 0.05;
+
+    private static final KeyedRegistry<EventLoopProbe> loops = new KeyedRegistry<>();
+
+    private static volatile long intervalMs;
+    private static volatile int loopCount = VertxOptions.DEFAULT_EVENT_LOOP_POOL_SIZE;
+    private static Vertx probeVertx;
+    private static String deploymentId;
+
+    @Getter
+    private final String thread;
+    @Getter
+    private final StripedLatencyRecorder lag = new StripedLatencyRecorder();
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder late = new LongAdder();
+    private final Set<String> addresses = ConcurrentHashMap.newKeySet();
+    private volatile double busy;
+
+    EventLoopProbe(String thread)
+    {
+        this.thread = thread;
+    }
+
+    /**
+     * @return probe results, keyed by event loop thread name
+     */
+    public static Map<String, EventLoopProbe> getLoops()
+    {
+        return loops.asMap();
+    }
+
+    /**
+     * Returns the results for an event loop thread, creating them on first use.
+     *
+     * @param thread the event loop thread name
+     * @return the loop results
+     */
+    public static EventLoopProbe forLoop(String thread)
+    {
+        return loops.get(thread, EventLoopProbe::new);
+    }
+
+    /**
+     * Sets the probe interval. Zero or less disables the probe.
+     *
+     * @param intervalMs the interval between probes on each loop
+     */
+    public static void configure(long intervalMs)
+    {
+        EventLoopProbe.intervalMs = intervalMs;
+    }
+
+    /**
+     * Sets how many event loops to probe, from {@code @VertX.eventLoopPoolSize}.
+     *
+     * @param eventLoopPoolSize the event loop pool size
+     */
+    public static void setLoopCount(int eventLoopPoolSize)
+    {
+        if (eventLoopPoolSize > 0)
+        {
+            loopCount = eventLoopPoolSize;
+        }
+    }
+
+    /**
+     * Deploys one probe per event loop, if the probe is enabled.
+     *
+     * @param vertx the Vert.x instance
+     */
+    public static synchronized void start(Vertx vertx)
+    {
+        long interval = intervalMs;
+        if (interval <= 0 || probeVertx != null)
+        {
+            return;
+        }
+        probeVertx = vertx;
+        int instances = loopCount;
+        vertx.deployVerticle(() -> new ProbeVerticle(interval), new DeploymentOptions().setInstances(instances))
+             .onSuccess(id -> {
+                 synchronized (EventLoopProbe.class)
+                 {
+                     deploymentId = id;
+                 }
+                 log.info("Probing {} event loops every {}ms", instances, interval);
+             })
+             .onFailure(t -> log.warn("Could not deploy event loop probe: {}", t.getMessage(), t));
+    }
+
+    /**
+     * Stops probing and drops all results. Called during context destroy.
+     */
+    public static synchronized void reset()
+    {
+        if (probeVertx != null && deploymentId != null)
+        {
+            probeVertx.undeploy(deploymentId);
+        }
+        probeVertx = null;
+        deploymentId = null;
+        intervalMs = 0;
+        loopCount = VertxOptions.DEFAULT_EVENT_LOOP_POOL_SIZE;
+        loops.clear();
+    }
+
+    /**
+     * Notes that a consumer address is served from the calling event loop thread. Calls from
+     * other threads are ignored.
+     *
+     * @param address the consumer address
+     */
+    public static void assign(String address)
+    {
+        if (Vertx.currentContext() != null && Vertx.currentContext().isEventLoopContext())
+        {
+            forLoop(Thread.currentThread().getName()).addresses.add(address);
+        }
+    }
+
+    /**
+     * Records how late a probe ran.
+     *
+     * @param lagNanos time between when the probe was due and when it ran
+     */
+    public void record(long lagNanos)
+    {
+        long value = Math.max(0, lagNanos);
+        lag.recordNanos(value);
+        probes.increment();
+        boolean wasLate = value > BUSY_THRESHOLD_NANOS;
+        if (wasLate)
+        {
+            late.increment();
+        }
+        // Single writer per loop, the probe runs on the loop it measures
+        busy += BUSY_SMOOTHING * ((wasLate ? 1.0 : 0.0) - busy);
+    }
+
+    /**
+     * @return the estimated share of time the loop is busy, 0 - 1
+     */
+    public double getBusy()
+    {
+        return busy;
+    }
+
+    /**
+     * @return a point-in-time view of the loop
+     */
+    public JsonObject toJson()
+    {
+        long count = probes.sum();
+        return new JsonObject()
+                .put("thread", thread)
+                .put("probes", count)
+                .put("late", late.sum())
+                .put("busy", Math.round(busy * 1000) / 1000.0)
+                .put("busyOverall", count == 0 ? 0.0 : Math.round(late.sum() * 1000.0 / count) / 1000.0)
+                .put("lag", lag.toJson())
+                .put("addresses", new JsonArray(addresses.stream().sorted().toList()));
+    }
+
+    /**
+     * @return every probed loop keyed by thread name
+     */
+    public static JsonObject snapshot()
+    {
+        return loops.toJson(EventLoopProbe::toJson);
+    }
+
+    /**
+     * Re-arms a one shot timer on its own event loop and records how late each one fires.
+     */
+    static class ProbeVerticle extends VerticleBase
+    {
+        private final long intervalMs;
+        private final long intervalNanos;
+        private EventLoopProbe loop;
+        private long dueAt;
+        private long timerId = -1;
+        private boolean stopped;
+
+        ProbeVerticle(long intervalMs)
+        {
+            this.intervalMs = intervalMs;
+            this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMs);
+        }
+
+        @Override
+        public Future<?> start()
+        {
+            loop = forLoop(Thread.currentThread().getName());
+            arm();
+            return Future.succeededFuture();
+        }
+
+        private void arm()
+        {
+            if (stopped)
+            {
+                return;
+            }
+            dueAt = System.nanoTime() + intervalNanos;
+            timerId = vertx.setTimer(intervalMs, _ -> {
+                loop.record(System.nanoTime() - dueAt);
+                arm();
+            });
+        }
+
+        @Override
+        public Future<?> stop()
+        {
+            stopped = true;
+            if (timerId >= 0)
+            {
+                vertx.cancelTimer(timerId);
+            }
+            return Future.succeededFuture();
+        }
+    }
+}
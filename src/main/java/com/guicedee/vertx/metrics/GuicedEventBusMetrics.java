@@ -0,0 +1,150 @@
+package com.guicedee.vertx.metrics;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.ReplyFailure;
+import io.vertx.core.spi.metrics.EventBusMetrics;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Vert.x event bus metrics SPI implementation feeding {@link AddressMetrics}.
+ * <p>
+ * Queue wait is measured per registered handler from the time Vert.x schedules a message onto the
+ * handler until it is delivered; delivery to one handler is ordered, so a FIFO of schedule times is
+ * enough to pair them. Vert.x internal reply addresses are ignored.
+ * <p>
+ * Metrics are recorded into the runtime of the Vert.x instance the metrics were created for, not the
+ * runtime of the calling thread, as Vert.x invokes the SPI from threads outside its own contexts.
+ */
+public class GuicedEventBusMetrics implements EventBusMetrics<GuicedEventBusMetrics.HandlerMetric>
+{
+    private volatile Vertx vertx;
+
+    /**
+     * Per registration state handed back to Vert.x
+     */
+    public static final class HandlerMetric
+    {
+        private final AddressMetrics metrics;
+        private final Queue<Long> scheduledAt = new ConcurrentLinkedQueue<>();
+
+        HandlerMetric(AddressMetrics metrics)
+        {
+            this.metrics = metrics;
+        }
+    }
+
+    /**
+     * Binds these metrics to the Vert.x instance they were created for, called once it is created.
+     *
+     * @param vertx the Vert.x instance
+     */
+    void bind(Vertx vertx)
+    {
+        this.vertx = vertx;
+    }
+
+    private AddressMetrics forAddress(String address)
+    {
+        Vertx owner = vertx;
+        return owner == null ? AddressMetrics.forAddress(address) : AddressMetrics.forAddress(owner, address);
+    }
+
+    @Override
+    public HandlerMetric handlerRegistered(String address)
+    {
+        if (AddressMetrics.isInternal(address))
+        {
+            return null;
+        }
+        return new HandlerMetric(forAddress(address));
+    }
+
+    @Override
+    public void scheduleMessage(HandlerMetric handler, boolean local)
+    {
+        if (handler != null)
+        {
+            handler.scheduledAt.offer(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void discardMessage(HandlerMetric handler, boolean local, Message<?> msg)
+    {
+        if (handler != null)
+        {
+            handler.scheduledAt.poll();
+            handler.metrics.discarded.increment();
+        }
+    }
+
+    @Override
+    public void messageDelivered(HandlerMetric handler, boolean local)
+    {
+        if (handler != null)
+        {
+            Long scheduled = handler.scheduledAt.poll();
+            if (scheduled != null)
+            {
+                handler.metrics.getQueueWait().recordNanos(System.nanoTime() - scheduled);
+            }
+            handler.metrics.delivered.increment();
+        }
+    }
+
+    @Override
+    public void messageSent(String address, boolean publish, boolean local, boolean remote)
+    {
+        if (!AddressMetrics.isInternal(address))
+        {
+            AddressMetrics m = forAddress(address);
+            if (publish)
+            {
+                m.published.increment();
+            }
+            else
+            {
+                m.sent.increment();
+            }
+        }
+    }
+
+    @Override
+    public void messageReceived(String address, boolean publish, boolean local, int handlers)
+    {
+        if (!AddressMetrics.isInternal(address))
+        {
+            forAddress(address).received.increment();
+        }
+    }
+
+    @Override
+    public void messageWritten(String address, int numberOfBytes)
+    {
+        if (!AddressMetrics.isInternal(address))
+        {
+            forAddress(address).bytesWritten.add(numberOfBytes);
+        }
+    }
+
+    @Override
+    public void messageRead(String address, int numberOfBytes)
+    {
+        if (!AddressMetrics.isInternal(address))
+        {
+            forAddress(address).bytesRead.add(numberOfBytes);
+        }
+    }
+
+    @Override
+    public void replyFailure(String address, ReplyFailure failure)
+    {
+        if (!AddressMetrics.isInternal(address))
+        {
+            forAddress(address).recordReplyFailure(failure);
+        }
+    }
+}
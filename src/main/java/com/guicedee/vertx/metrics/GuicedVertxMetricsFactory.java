@@ -0,0 +1,38 @@
+package com.guicedee.vertx.metrics;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.spi.VertxMetricsFactory;
+import io.vertx.core.spi.metrics.EventBusMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
+
+/**
+ * Metrics factory installed when {@code @MetricsOptions(enabled = true)} is set, providing
+ * per-address event bus metrics through {@link GuicedEventBusMetrics}.
+ * All other Vert.x metric families keep the SPI's no-op defaults.
+ * <p>
+ * Vert.x creates the metrics before the instance they belong to, so the event bus metrics are bound to
+ * their {@link Vertx} once it is created and record into that runtime's {@link AddressMetrics}.
+ */
+public class GuicedVertxMetricsFactory implements VertxMetricsFactory
+{
+    @Override
+    public VertxMetrics metrics(VertxOptions options)
+    {
+        GuicedEventBusMetrics eventBusMetrics = new GuicedEventBusMetrics();
+        return new VertxMetrics()
+        {
+            @Override
+            public EventBusMetrics<?> createEventBusMetrics()
+            {
+                return eventBusMetrics;
+            }
+
+            @Override
+            public void vertxCreated(Vertx vertx)
+            {
+                eventBusMetrics.bind(vertx);
+            }
+        };
+    }
+}
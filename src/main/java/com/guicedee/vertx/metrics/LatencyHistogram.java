@@ -0,0 +1,296 @@
+package com.guicedee.vertx.metrics;
+
+import io.vertx.core.json.JsonObject;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free, allocation-free latency histogram with HDR style log-linear buckets.
+ * <p>
+ * Values are recorded in microseconds. Each power of two is split into {@value #SUB_BUCKETS} linear
+ * sub-buckets, giving roughly 3% relative precision from 1µs up to about 12 days with a fixed array of
+ * counters. Recording is a single atomic increment, so it is safe on the event loop. Coordinated omission is
+ * corrected when a snapshot is read ({@link #copyCorrectedForCoordinatedOmission(long)}), never on the recording path.
+ */
+public class LatencyHistogram
+{
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int MAX_EXPONENT = 40;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void recordNanos(long nanos)
+    {
+        recordMicros(TimeUnit.NANOSECONDS.toMicros(Math.max(0, nanos)));
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param micros the latency in microseconds
+     */
+    public void recordMicros(long micros)
+    {
+        recordValue(micros);
+    }
+
+    /**
+     * Records a value in any unit, for histograms of non-time quantities such as payload sizes.
+     *
+     * @param raw the value
+     */
+    public void recordValue(long raw)
+    {
+        long value = Math.max(0, raw);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.incrementAndGet();
+        totalMicros.addAndGet(value);
+        long max;
+        while (value > (max = maxMicros.get()))
+        {
+            if (maxMicros.compareAndSet(max, value))
+            {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns a copy with the values that requests arriving every {@code expectedIntervalMicros} would have seen
+     * while each recorded one was stalled, correcting for coordinated omission. A value {@code v} adds
+     * {@code v - interval}, {@code v - 2 * interval} and so on down to the interval. The synthetic counts are added a
+     * bucket at a time, so the cost depends on the number of buckets, not on how long the stalls were.
+     *
+     * @param expectedIntervalMicros the expected time between requests, 0 for an uncorrected copy
+     * @return the corrected copy
+     */
+    public LatencyHistogram copyCorrectedForCoordinatedOmission(long expectedIntervalMicros)
+    {
+        LatencyHistogram copy = new LatencyHistogram();
+        copy.add(this);
+        if (expectedIntervalMicros <= 0)
+        {
+            return copy;
+        }
+        long interval = expectedIntervalMicros;
+        long max = maxMicros.get();
+        int first = indexOf(interval);
+        for (int i = first; i < BUCKET_COUNT; i++)
+        {
+            long c = counts.get(i);
+            if (c == 0)
+            {
+                continue;
+            }
+            long value = Math.min(upperBound(i), max);
+            long corrections = value / interval - 1;
+            if (corrections <= 0)
+            {
+                continue;
+            }
+            // Synthetic values are value - k * interval for k = 1 .. corrections, spread over the buckets below
+            for (int j = first; j <= i; j++)
+            {
+                long fromK = Math.max(1, ceilDiv(value - upperBound(j), interval));
+                long toK = Math.min(corrections, Math.floorDiv(value - lowerBound(j), interval));
+                if (toK >= fromK)
+                {
+                    long n = toK - fromK + 1;
+                    copy.counts.addAndGet(j, n * c);
+                    copy.totalCount.addAndGet(n * c);
+                    copy.totalMicros.addAndGet(c * (n * value - interval * (fromK + toK) * n / 2));
+                }
+            }
+        }
+        return copy;
+    }
+
+    private static long ceilDiv(long a, long b)
+    {
+        return -Math.floorDiv(-a, b);
+    }
+
+    static int indexOf(long value)
+    {
+        if (value < SUB_BUCKETS)
+        {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT)
+        {
+            return BUCKET_COUNT - 1;
+        }
+        long top = value >>> (exponent - SUB_BUCKET_BITS);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + (int) (top - SUB_BUCKETS);
+    }
+
+    static long lowerBound(int index)
+    {
+        if (index < SUB_BUCKETS)
+        {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long top = index % SUB_BUCKETS + SUB_BUCKETS;
+        return top << (exponent - SUB_BUCKET_BITS);
+    }
+
+    static long upperBound(int index)
+    {
+        if (index == BUCKET_COUNT - 1)
+        {
+            return Long.MAX_VALUE;
+        }
+        if (index < SUB_BUCKETS)
+        {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return lowerBound(index) + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    static long valueOf(int index)
+    {
+        if (index < SUB_BUCKETS)
+        {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long top = index % SUB_BUCKETS + SUB_BUCKETS;
+        long lower = top << (exponent - SUB_BUCKET_BITS);
+        // Report the middle of the bucket
+        return lower + ((1L << (exponent - SUB_BUCKET_BITS)) >> 1);
+    }
+
+    /**
+     * Adds the counts of another histogram into this one.
+     *
+     * @param other the histogram to merge
+     */
+    public void add(LatencyHistogram other)
+    {
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            long c = other.counts.get(i);
+            if (c != 0)
+            {
+                counts.addAndGet(i, c);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalMicros.addAndGet(other.totalMicros.get());
+        long otherMax = other.maxMicros.get();
+        long max;
+        while (otherMax > (max = maxMicros.get()))
+        {
+            if (maxMicros.compareAndSet(max, otherMax))
+            {
+                break;
+            }
+        }
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long getCount()
+    {
+        return totalCount.get();
+    }
+
+    /**
+     * @return the largest recorded value in microseconds
+     */
+    public long getMaxMicros()
+    {
+        return maxMicros.get();
+    }
+
+    /**
+     * @return the mean recorded value in microseconds
+     */
+    public double getMeanMicros()
+    {
+        long count = totalCount.get();
+        return count == 0 ? 0 : (double) totalMicros.get() / count;
+    }
+
+    /**
+     * Returns the value at a percentile.
+     *
+     * @param percentile the percentile, 0 - 100
+     * @return the value in microseconds, 0 when nothing has been recorded
+     */
+    public long percentileMicros(double percentile)
+    {
+        long count = totalCount.get();
+        if (count == 0)
+        {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * Math.min(100, Math.max(0, percentile)) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            seen += counts.get(i);
+            if (seen >= rank)
+            {
+                return Math.min(valueOf(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset()
+    {
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        totalMicros.set(0);
+        maxMicros.set(0);
+    }
+
+    /**
+     * @return count, mean, max and the common percentiles in microseconds
+     */
+    public JsonObject toJson()
+    {
+        return toJson("Us");
+    }
+
+    /**
+     * Renders the histogram with a unit suffix on each value key, e.g. {@code "Bytes"} gives {@code p99Bytes}.
+     *
+     * @param unit the key suffix
+     * @return count, mean, max and the common percentiles
+     */
+    public JsonObject toJson(String unit)
+    {
+        return new JsonObject()
+                .put("count", getCount())
+                .put("mean" + unit, Math.round(getMeanMicros()))
+                .put("p50" + unit, percentileMicros(50))
+                .put("p90" + unit, percentileMicros(90))
+                .put("p99" + unit, percentileMicros(99))
+                .put("p999" + unit, percentileMicros(99.9))
+                .put("max" + unit, getMaxMicros());
+    }
+}
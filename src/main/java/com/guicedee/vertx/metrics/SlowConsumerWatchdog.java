@@ -0,0 +1,309 @@
+package com.guicedee.vertx.metrics;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Watches in-flight consumer invocations and reports the ones that run past their address threshold.
+ * <p>
+ * Dispatch registers each invocation on an address with a {@code slowCallThresholdMs} through
+ * {@link #track}. A dedicated daemon thread checks the in-flight calls; once a call is over its threshold the stack of the
+ * thread running it is sampled on each check, up to {@value #MAX_SAMPLES} times. Each slow call is
+ * reported once, as soon as all samples are taken or when the call finishes, whichever comes first. The
+ * report is logged and published locally on {@link #SLOW_CALL_ADDRESS} as a JSON object with the address,
+ * consumer method, elapsed time, stack samples and message headers.
+ * <p>
+ * Unlike the Vert.x blocked thread checker this covers worker threads, and every report carries the
+ * address and consumer that caused it. Calls that return a {@code Uni} or {@code Future} are only sampled
+ * while the consumer method itself runs; after that the thread is doing other work.
+ */
+@Log4j2
+public class SlowConsumerWatchdog
+{
+    /**
+     * Address slow call reports are published on, local only
+     */
+    public static final String SLOW_CALL_ADDRESS = "guicedee.vertx.slowcall";
+
+    /**
+     * Stack samples taken per slow call
+     */
+    public static final int MAX_SAMPLES = 3;
+
+    /**
+     * Stack frames kept per sample
+     */
+    static final int MAX_FRAMES = 64;
+
+    static final long MIN_CHECK_INTERVAL_MS = 10;
+    static final long MAX_CHECK_INTERVAL_MS = 1000;
+
+    private static final AtomicLong ids = new AtomicLong();
+
+    /**
+     * Calls currently running on addresses with a threshold, keyed by call id
+     */
+    @Getter
+    private static final Map<Long, InFlightCall> inFlight = new ConcurrentHashMap<>();
+
+    private static volatile long checkIntervalMs = MAX_CHECK_INTERVAL_MS;
+    private static volatile ScheduledFuture<?> checkTask;
+    private static ScheduledExecutorService scheduler;
+
+    private SlowConsumerWatchdog()
+    {
+    }
+
+    /**
+     * Registers a consumer invocation running on the calling thread.
+     *
+     * @param vertx       the Vert.x instance to publish reports on
+     * @param address     the event bus address
+     * @param consumer    the consumer, e.g. {@code OrderConsumer.place}
+     * @param headers     the message headers
+     * @param thresholdMs the slow call threshold, 0 or less to skip tracking
+     * @return the tracked call, or null when the address has no threshold
+     */
+    public static InFlightCall track(Vertx vertx, String address, String consumer, MultiMap headers, long thresholdMs)
+    {
+        if (thresholdMs <= 0 || vertx == null)
+        {
+            return null;
+        }
+        InFlightCall call = new InFlightCall(ids.incrementAndGet(), vertx, address, consumer, headers,
+                Thread.currentThread(), TimeUnit.MILLISECONDS.toNanos(thresholdMs));
+        inFlight.put(call.id, call);
+        ensureStarted(thresholdMs);
+        return call;
+    }
+
+    private static void ensureStarted(long thresholdMs)
+    {
+        long wanted = Math.max(MIN_CHECK_INTERVAL_MS, Math.min(MAX_CHECK_INTERVAL_MS, thresholdMs / 4));
+        if (checkTask != null && wanted >= checkIntervalMs)
+        {
+            return;
+        }
+        synchronized (SlowConsumerWatchdog.class)
+        {
+            if (checkTask != null && wanted >= checkIntervalMs)
+            {
+                return;
+            }
+            checkIntervalMs = Math.min(wanted, checkIntervalMs);
+            if (scheduler == null)
+            {
+                // Own thread: a timer on an event loop would stall with the loop it is meant to watch
+                scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                        .name("guicedee-slow-consumer-watchdog")
+                        .daemon(true)
+                        .factory());
+            }
+            if (checkTask != null)
+            {
+                checkTask.cancel(false);
+            }
+            checkTask = scheduler.scheduleWithFixedDelay(() -> {
+                try
+                {
+                    check(System.nanoTime());
+                }
+                catch (Throwable t)
+                {
+                    log.warn("Slow consumer check failed: {}", t.getMessage(), t);
+                }
+            }, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Samples and reports the in-flight calls that are over their threshold.
+     *
+     * @param now the current {@link System#nanoTime()}
+     */
+    static void check(long now)
+    {
+        for (InFlightCall call : inFlight.values())
+        {
+            if (now - call.startedAt <= call.thresholdNanos || call.reported.get())
+            {
+                continue;
+            }
+            Thread thread = call.thread;
+            if (thread != null && call.samples.size() < MAX_SAMPLES)
+            {
+                call.sample(now, thread);
+            }
+            if (call.thread == null || call.samples.size() >= MAX_SAMPLES)
+            {
+                call.report(now, false);
+            }
+        }
+    }
+
+    /**
+     * Ends a tracked call.
+     *
+     * @param call the value returned by {@link #track}, may be null
+     */
+    public static void end(InFlightCall call)
+    {
+        if (call != null)
+        {
+            call.end();
+        }
+    }
+
+    /**
+     * Stops checking and drops all tracked calls. Called during context destroy.
+     */
+    public static synchronized void reset()
+    {
+        if (scheduler != null)
+        {
+            scheduler.shutdownNow();
+        }
+        scheduler = null;
+        checkTask = null;
+        checkIntervalMs = MAX_CHECK_INTERVAL_MS;
+        inFlight.clear();
+    }
+
+    /**
+     * A consumer invocation being watched
+     */
+    public static final class InFlightCall
+    {
+        private final long id;
+        private final Vertx vertx;
+        @Getter
+        private final String address;
+        @Getter
+        private final String consumer;
+        private final MultiMap headers;
+        private final String threadName;
+        private final long startedAt = System.nanoTime();
+        private final long thresholdNanos;
+        private final List<JsonObject> samples = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean reported = new AtomicBoolean();
+        private volatile Thread thread;
+
+        InFlightCall(long id, Vertx vertx, String address, String consumer, MultiMap headers, Thread thread, long thresholdNanos)
+        {
+            this.id = id;
+            this.vertx = vertx;
+            this.address = address;
+            this.consumer = consumer;
+            this.headers = headers;
+            this.thread = thread;
+            this.threadName = thread.getName();
+            this.thresholdNanos = thresholdNanos;
+        }
+
+        /**
+         * Stops stack sampling because the consumer method returned and the call continues asynchronously.
+         */
+        public void detach()
+        {
+            thread = null;
+        }
+
+        /**
+         * Ends the call, reporting it if it ran over the threshold and has not been reported yet.
+         */
+        public void end()
+        {
+            thread = null;
+            inFlight.remove(id);
+            long now = System.nanoTime();
+            if (now - startedAt > thresholdNanos)
+            {
+                report(now, true);
+            }
+        }
+
+        private void sample(long now, Thread target)
+        {
+            StackTraceElement[] stack = target.getStackTrace();
+            // The thread may have moved on between the check and the capture
+            if (thread != target)
+            {
+                return;
+            }
+            JsonArray frames = new JsonArray();
+            for (int i = 0; i < stack.length && i < MAX_FRAMES; i++)
+            {
+                frames.add(stack[i].toString());
+            }
+            samples.add(new JsonObject()
+                    .put("elapsedMs", TimeUnit.NANOSECONDS.toMillis(now - startedAt))
+                    .put("state", target.getState().name())
+                    .put("stack", frames));
+        }
+
+        private void report(long now, boolean completed)
+        {
+            if (!reported.compareAndSet(false, true))
+            {
+                return;
+            }
+            AddressMetrics.forAddress(vertx, address).recordSlowCall();
+            JsonObject event = toJson(now, completed);
+            log.warn("Slow consumer {} on address {} ran {}ms (threshold {}ms, {} stack samples){}",
+                    consumer, address, event.getLong("elapsedMs"), event.getLong("thresholdMs"),
+                    samples.size(), completed ? "" : ", still running");
+            try
+            {
+                vertx.eventBus().publish(SLOW_CALL_ADDRESS, event, new DeliveryOptions().setLocalOnly(true));
+            }
+            catch (Throwable t)
+            {
+                log.debug("Could not publish slow call report for {}: {}", address, t.getMessage());
+            }
+        }
+
+        /**
+         * Builds the slow call report.
+         *
+         * @param now       the current {@link System#nanoTime()}
+         * @param completed whether the call has finished
+         * @return the report
+         */
+        public JsonObject toJson(long now, boolean completed)
+        {
+            JsonObject headerJson = new JsonObject();
+            if (headers != null)
+            {
+                headers.names().forEach(name -> {
+                    List<String> values = headers.getAll(name);
+                    headerJson.put(name, values.size() == 1 ? values.getFirst() : new JsonArray(values));
+                });
+            }
+            return new JsonObject()
+                    .put("address", address)
+                    .put("consumer", consumer)
+                    .put("thread", threadName)
+                    .put("elapsedMs", TimeUnit.NANOSECONDS.toMillis(now - startedAt))
+                    .put("thresholdMs", TimeUnit.NANOSECONDS.toMillis(thresholdNanos))
+                    .put("completed", completed)
+                    .put("headers", headerJson)
+                    .put("samples", new JsonArray(List.copyOf(samples)));
+        }
+    }
+}
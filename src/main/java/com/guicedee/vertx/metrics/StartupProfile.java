@@ -0,0 +1,251 @@
+package com.guicedee.vertx.metrics;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Wall-clock timings of the Vert.x boot sequence.
+ * <p>
+ * Each boot step records a named phase with its offset from the start of boot, its duration and optional
+ * details such as the number of addresses or codecs it handled. Asynchronous steps such as verticle and
+ * consumer deployments are tracked through their futures. Once post-startup deployments have settled the
+ * report is logged once as a single JSON line, and it stays available from {@link #report()} and the
+ * {@code startup} entry of {@link AddressMetrics#snapshot()}.
+ * <p>
+ * Phases may nest or overlap; {@code VertXPreStartup.onStartup} for example contains the Vert.x build and the
+ * event scan. The offsets show how they line up.
+ */
+@Log4j2
+public class StartupProfile
+{
+    /**
+     * Phases recorded so far, in completion order
+     */
+    @Getter
+    private static final List<Phase> phases = new CopyOnWriteArrayList<>();
+
+    private static final List<Future<?>> pending = new CopyOnWriteArrayList<>();
+    private static final AtomicBoolean reported = new AtomicBoolean();
+    private static volatile long bootStartedAt;
+
+    private StartupProfile()
+    {
+    }
+
+    /**
+     * Marks the start of boot, if not marked yet. Offsets in the report are relative to this point.
+     */
+    public static synchronized void markBootStart()
+    {
+        if (bootStartedAt == 0)
+        {
+            bootStartedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Starts timing a phase.
+     *
+     * @param name the phase name
+     * @return the running stopwatch, stop it to record the phase
+     */
+    public static Stopwatch start(String name)
+    {
+        markBootStart();
+        return new Stopwatch(name, System.nanoTime());
+    }
+
+    /**
+     * Times a synchronous phase.
+     *
+     * @param name the phase name
+     * @param work the phase
+     */
+    public static void time(String name, Runnable work)
+    {
+        Stopwatch stopwatch = start(name);
+        try
+        {
+            work.run();
+        }
+        finally
+        {
+            stopwatch.stop();
+        }
+    }
+
+    /**
+     * Times a synchronous phase that returns a value.
+     *
+     * @param name the phase name
+     * @param work the phase
+     * @param <T>  the result type
+     * @return the phase result
+     */
+    public static <T> T time(String name, Supplier<T> work)
+    {
+        Stopwatch stopwatch = start(name);
+        try
+        {
+            return work.get();
+        }
+        finally
+        {
+            stopwatch.stop();
+        }
+    }
+
+    /**
+     * Times an asynchronous phase from now until the future completes. The report waits for it.
+     *
+     * @param name    the phase name
+     * @param details details recorded with the phase, may be null
+     * @param future  the phase completion
+     * @param <T>     the result type
+     * @return the same future
+     */
+    public static <T> Future<T> track(String name, JsonObject details, Future<T> future)
+    {
+        return track(start(name), details, future);
+    }
+
+    /**
+     * Records a phase started earlier once the future completes. The report waits for it.
+     *
+     * @param stopwatch the phase, started when its work was kicked off
+     * @param details   details recorded with the phase, may be null
+     * @param future    the phase completion
+     * @param <T>       the result type
+     * @return the same future
+     */
+    public static <T> Future<T> track(Stopwatch stopwatch, JsonObject details, Future<T> future)
+    {
+        pending.add(future);
+        future.onComplete(ar -> stopwatch.stop(ar.succeeded() ? details
+                : (details == null ? new JsonObject() : details.copy()).put("failed", String.valueOf(ar.cause()))));
+        return future;
+    }
+
+    /**
+     * @return a future completed with the report once all tracked asynchronous phases have settled
+     */
+    public static Future<JsonObject> whenSettled()
+    {
+        return Future.join(List.copyOf(pending)).transform(_ -> Future.succeededFuture(report()));
+    }
+
+    /**
+     * Logs the report once all tracked phases have settled. Later calls do nothing.
+     */
+    public static void emitWhenSettled()
+    {
+        if (!reported.compareAndSet(false, true))
+        {
+            return;
+        }
+        whenSettled().onSuccess(report -> log.info("Vert.x startup report ({}ms): {}", report.getLong("totalMs"), report.encode()));
+    }
+
+    /**
+     * @return the total boot time so far and every recorded phase
+     */
+    public static JsonObject report()
+    {
+        long start = bootStartedAt;
+        JsonArray list = new JsonArray();
+        long end = start;
+        for (Phase phase : phases)
+        {
+            list.add(phase.toJson(start));
+            end = Math.max(end, phase.startedAt() + phase.durationNanos());
+        }
+        return new JsonObject()
+                .put("totalMs", TimeUnit.NANOSECONDS.toMillis(end - start))
+                .put("phases", list);
+    }
+
+    /**
+     * Drops all recorded phases. Called during context destroy.
+     */
+    public static synchronized void reset()
+    {
+        phases.clear();
+        pending.clear();
+        reported.set(false);
+        bootStartedAt = 0;
+    }
+
+    /**
+     * A completed boot phase
+     *
+     * @param name          the phase name
+     * @param startedAt     the {@link System#nanoTime()} the phase started at
+     * @param durationNanos how long it took
+     * @param details       details recorded with the phase, may be null
+     */
+    public record Phase(String name, long startedAt, long durationNanos, JsonObject details)
+    {
+        /**
+         * @param bootStartedAt the boot start the offset is taken from
+         * @return the phase with its offset and duration in milliseconds
+         */
+        public JsonObject toJson(long bootStartedAt)
+        {
+            JsonObject json = new JsonObject()
+                    .put("name", name)
+                    .put("startMs", TimeUnit.NANOSECONDS.toMillis(startedAt - bootStartedAt))
+                    .put("durationMs", durationNanos / 1_000_000d);
+            if (details != null && !details.isEmpty())
+            {
+                json.put("details", details);
+            }
+            return json;
+        }
+    }
+
+    /**
+     * A phase being timed
+     */
+    public static final class Stopwatch
+    {
+        private final String name;
+        private final long startedAt;
+        private final AtomicBoolean stopped = new AtomicBoolean();
+
+        Stopwatch(String name, long startedAt)
+        {
+            this.name = name;
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * Records the phase.
+         */
+        public void stop()
+        {
+            stop(null);
+        }
+
+        /**
+         * Records the phase with details. Only the first stop is recorded.
+         *
+         * @param details details such as counts, may be null
+         */
+        public void stop(JsonObject details)
+        {
+            if (stopped.compareAndSet(false, true))
+            {
+                phases.add(new Phase(name, startedAt, System.nanoTime() - startedAt, details));
+            }
+        }
+    }
+}
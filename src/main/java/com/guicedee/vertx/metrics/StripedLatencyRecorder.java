@@ -0,0 +1,115 @@
+package com.guicedee.vertx.metrics;
+
+import io.vertx.core.json.JsonObject;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Latency recorder spread over several {@link LatencyHistogram} stripes selected by thread id.
+ * <p>
+ * Event-loop and worker threads each land on their own stripe most of the time, so recording stays a
+ * single uncontended atomic increment with no allocation. A stripe is only allocated the first time a thread
+ * mapped to it records, so a recorder used from one event loop holds a single histogram and an unused one
+ * holds none. Stripes are merged when read.
+ */
+public class StripedLatencyRecorder
+{
+    private static final int STRIPES = Integer.highestOneBit(Math.max(1, Math.min(16, Runtime.getRuntime().availableProcessors())) * 2 - 1);
+
+    private final AtomicReferenceArray<LatencyHistogram> stripes = new AtomicReferenceArray<>(STRIPES);
+
+    private LatencyHistogram stripe()
+    {
+        int index = (int) (Thread.currentThread().threadId() & (STRIPES - 1));
+        LatencyHistogram stripe = stripes.get(index);
+        if (stripe == null)
+        {
+            stripes.compareAndSet(index, null, new LatencyHistogram());
+            stripe = stripes.get(index);
+        }
+        return stripe;
+    }
+
+    /**
+     * @return the number of stripes allocated so far
+     */
+    public int getAllocatedStripes()
+    {
+        int allocated = 0;
+        for (int i = 0; i < STRIPES; i++)
+        {
+            if (stripes.get(i) != null)
+            {
+                allocated++;
+            }
+        }
+        return allocated;
+    }
+
+    /**
+     * Records a latency on the calling thread's stripe.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void recordNanos(long nanos)
+    {
+        stripe().recordNanos(nanos);
+    }
+
+    /**
+     * @return the number of recorded values across all stripes
+     */
+    public long getCount()
+    {
+        long count = 0;
+        for (int i = 0; i < STRIPES; i++)
+        {
+            LatencyHistogram stripe = stripes.get(i);
+            if (stripe != null)
+            {
+                count += stripe.getCount();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return a new histogram holding the merged stripes
+     */
+    public LatencyHistogram snapshot()
+    {
+        LatencyHistogram merged = new LatencyHistogram();
+        for (int i = 0; i < STRIPES; i++)
+        {
+            LatencyHistogram stripe = stripes.get(i);
+            if (stripe != null)
+            {
+                merged.add(stripe);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Clears every stripe.
+     */
+    public void reset()
+    {
+        for (int i = 0; i < STRIPES; i++)
+        {
+            LatencyHistogram stripe = stripes.get(i);
+            if (stripe != null)
+            {
+                stripe.reset();
+            }
+        }
+    }
+
+    /**
+     * @return the merged count, mean, max and percentiles in microseconds
+     */
+    public JsonObject toJson()
+    {
+        return snapshot().toJson();
+    }
+}
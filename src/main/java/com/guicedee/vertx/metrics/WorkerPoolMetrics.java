@@ -0,0 +1,251 @@
+package com.guicedee.vertx.metrics;
+
+import com.guicedee.vertx.spi.KeyedRegistry;
+import com.guicedee.vertx.spi.VertxRuntime;
+import io.vertx.core.json.JsonObject;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Saturation telemetry for a worker pool used by event bus consumers.
+ * <p>
+ * Vert.x worker pools do not expose their internals, so dispatch wraps every task it submits:
+ * {@link #submit()} when the task is handed to the pool, {@link #begin(long)} when a pool thread picks it
+ * up and {@link #end(long, boolean)} when it finishes. From these the pool reports queue depth, active
+ * threads, task wait and execution time, rejections, and tasks that ran longer than the blocked
+ * threshold (the pool's {@code maxWorkerExecuteTime}).
+ */
+public class WorkerPoolMetrics
+{
+    /**
+     * Blocked threshold used when a pool has none of its own, matching the Vert.x default
+     */
+    private static volatile long defaultBlockedThresholdNanos = TimeUnit.SECONDS.toNanos(60);
+
+    /**
+     * @return the worker pool metrics of the runtime owning the calling thread, see {@link VertxRuntime#registryOf(Class)}
+     */
+    private static KeyedRegistry<WorkerPoolMetrics> pools()
+    {
+        return VertxRuntime.registryOf(WorkerPoolMetrics.class);
+    }
+
+    @Getter
+    private final String name;
+    @Getter
+    private volatile int maxSize;
+    private volatile long blockedThresholdNanos;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger peakActive = new AtomicInteger();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder blocked = new LongAdder();
+
+    @Getter
+    private final StripedLatencyRecorder waitTime = new StripedLatencyRecorder();
+    @Getter
+    private final StripedLatencyRecorder executionTime = new StripedLatencyRecorder();
+
+    WorkerPoolMetrics(String name, int maxSize)
+    {
+        this.name = name;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return pools seen so far on the current runtime, keyed by pool name
+     */
+    public static Map<String, WorkerPoolMetrics> getPools()
+    {
+        return pools().asMap();
+    }
+
+    /**
+     * Returns the telemetry for a pool, creating it on first use.
+     *
+     * @param name    the worker pool name
+     * @param maxSize the pool size
+     * @return the pool telemetry
+     */
+    public static WorkerPoolMetrics forPool(String name, int maxSize)
+    {
+        return pools().get(name, n -> new WorkerPoolMetrics(n, maxSize));
+    }
+
+    /**
+     * Sets the blocked threshold for pools that do not configure their own, from {@code @VertX.maxWorkerExecuteTime}.
+     *
+     * @param threshold the threshold
+     * @param unit      the threshold unit
+     */
+    public static void setDefaultBlockedThreshold(long threshold, TimeUnit unit)
+    {
+        if (threshold > 0)
+        {
+            defaultBlockedThresholdNanos = unit.toNanos(threshold);
+        }
+    }
+
+    /**
+     * Drops all pool telemetry and restores the default blocked threshold. Called during context destroy.
+     */
+    public static void reset()
+    {
+        pools().clear();
+        defaultBlockedThresholdNanos = TimeUnit.SECONDS.toNanos(60);
+    }
+
+    /**
+     * Sets this pool's size and blocked threshold, from the {@code @Verticle} that declares it.
+     *
+     * @param maxSize   the pool size
+     * @param threshold the blocked threshold
+     * @param unit      the threshold unit
+     * @return this
+     */
+    public WorkerPoolMetrics configure(int maxSize, long threshold, TimeUnit unit)
+    {
+        if (maxSize > 0)
+        {
+            this.maxSize = maxSize;
+        }
+        if (threshold > 0)
+        {
+            this.blockedThresholdNanos = unit.toNanos(threshold);
+        }
+        return this;
+    }
+
+    /**
+     * Records a task being handed to the pool.
+     *
+     * @return the submit time, to pass to {@link #begin(long)}
+     */
+    public long submit()
+    {
+        submitted.increment();
+        queued.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a pool thread starting a task.
+     *
+     * @param submittedAt the value returned by {@link #submit()}
+     * @return the start time, to pass to {@link #end(long, boolean)}
+     */
+    public long begin(long submittedAt)
+    {
+        long startedAt = System.nanoTime();
+        queued.decrementAndGet();
+        int now = active.incrementAndGet();
+        int peak;
+        while (now > (peak = peakActive.get()))
+        {
+            if (peakActive.compareAndSet(peak, now))
+            {
+                break;
+            }
+        }
+        waitTime.recordNanos(startedAt - submittedAt);
+        return startedAt;
+    }
+
+    /**
+     * Records a task finishing.
+     *
+     * @param startedAt   the value returned by {@link #begin(long)}
+     * @param taskFailed  whether the task threw
+     */
+    public void end(long startedAt, boolean taskFailed)
+    {
+        long duration = System.nanoTime() - startedAt;
+        active.decrementAndGet();
+        completed.increment();
+        if (taskFailed)
+        {
+            failed.increment();
+        }
+        executionTime.recordNanos(duration);
+        long threshold = blockedThresholdNanos > 0 ? blockedThresholdNanos : defaultBlockedThresholdNanos;
+        if (duration > threshold)
+        {
+            blocked.increment();
+        }
+    }
+
+    /**
+     * Records a task that never reached the pool, either because submission failed or because
+     * a priority queue or concurrency limit in front of the pool turned it away.
+     */
+    public void rejected()
+    {
+        rejected.increment();
+    }
+
+    /**
+     * Records a submission that failed before reaching a pool thread.
+     */
+    public void submitFailed()
+    {
+        queued.decrementAndGet();
+        rejected.increment();
+    }
+
+    /**
+     * @return the number of tasks waiting for a pool thread
+     */
+    public int getQueueDepth()
+    {
+        return queued.get();
+    }
+
+    /**
+     * @return the number of pool threads currently running a task
+     */
+    public int getActive()
+    {
+        return active.get();
+    }
+
+    /**
+     * @return a point-in-time view of the pool
+     */
+    public JsonObject toJson()
+    {
+        int size = maxSize;
+        int running = active.get();
+        long threshold = blockedThresholdNanos > 0 ? blockedThresholdNanos : defaultBlockedThresholdNanos;
+        return new JsonObject()
+                .put("pool", name)
+                .put("maxSize", size)
+                .put("queueDepth", queued.get())
+                .put("active", running)
+                .put("peakActive", peakActive.get())
+                .put("utilisation", size > 0 ? Math.min(1.0, (double) running / size) : 0.0)
+                .put("submitted", submitted.sum())
+                .put("completed", completed.sum())
+                .put("failed", failed.sum())
+                .put("rejected", rejected.sum())
+                .put("blocked", blocked.sum())
+                .put("blockedThresholdMs", TimeUnit.NANOSECONDS.toMillis(threshold))
+                .put("waitTime", waitTime.toJson())
+                .put("executionTime", executionTime.toJson());
+    }
+
+    /**
+     * @return every pool keyed by name
+     */
+    public static JsonObject snapshot()
+    {
+        return pools().toJson(WorkerPoolMetrics::toJson);
+    }
+}
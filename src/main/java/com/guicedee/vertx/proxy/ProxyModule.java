@@ -5,6 +5,7 @@ import com.google.inject.name.Names;
 import com.guicedee.client.IGuiceContext;
 import com.guicedee.client.services.lifecycle.IGuiceModule;
 import com.guicedee.client.services.lifecycle.IGuicePreDestroy;
+import com.guicedee.vertx.spi.StartupTasks;
 import com.guicedee.vertx.spi.VertXPreStartup;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpClient;
@@ -120,7 +121,8 @@ public abstract class ProxyModule<J extends ProxyModule<J>>
             // Create and start the proxy server
             proxyServer = vertx.createHttpServer();
             proxyServer.requestHandler(httpProxy);
-            proxyServer.listen(info.getProxyPort(), info.getProxyHost())
+            // Joined before post-startup instead of left running unobserved
+            StartupTasks.track("proxy:" + info.getName(), proxyServer.listen(info.getProxyPort(), info.getProxyHost()))
                     .onSuccess(s -> log.info("✅ HTTP Proxy '{}' listening on {}:{}", info.getName(), info.getProxyHost(), s.actualPort()))
                     .onFailure(t -> log.error("❌ HTTP Proxy '{}' failed to start: {}", info.getName(), t.getMessage(), t));
 
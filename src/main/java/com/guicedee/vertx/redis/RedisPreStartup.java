@@ -3,8 +3,7 @@ package com.guicedee.vertx.redis;
 import com.guicedee.client.Environment;
 import com.guicedee.client.IGuiceContext;
 import com.guicedee.client.services.lifecycle.IGuicePreStartup;
-import io.github.classgraph.ClassInfo;
-import io.github.classgraph.ClassInfoList;
+import com.guicedee.vertx.spi.RegistrySnapshot;
 import io.github.classgraph.ScanResult;
 import io.vertx.core.Future;
 import lombok.Getter;
@@ -40,15 +39,13 @@ public class RedisPreStartup implements IGuicePreStartup<RedisPreStartup> {
         }
 
         // Scan classes for @RedisOptions
-        ClassInfoList annotatedClasses = scanResult.getClassesWithAnnotation(RedisOptions.class.getName());
-        for (ClassInfo classInfo : annotatedClasses) {
-            processAnnotations(classInfo.loadClass().getAnnotationsByType(RedisOptions.class));
+        for (Class<?> annotatedClass : RegistrySnapshot.classesWithAnnotation(RedisOptions.class)) {
+            processAnnotations(annotatedClass.getAnnotationsByType(RedisOptions.class));
         }
 
         // Scan package-info classes for @RedisOptions
-        ClassInfoList packageInfoClasses = scanResult.getClassesWithAnnotation(RedisOptionsContainer.class.getName());
-        for (ClassInfo classInfo : packageInfoClasses) {
-            processAnnotations(classInfo.loadClass().getAnnotationsByType(RedisOptions.class));
+        for (Class<?> packageInfoClass : RegistrySnapshot.classesWithAnnotation(RedisOptionsContainer.class)) {
+            processAnnotations(packageInfoClass.getAnnotationsByType(RedisOptions.class));
         }
 
         if (!discoveredConnections.isEmpty()) {
@@ -0,0 +1,229 @@
+package com.guicedee.vertx.resilience;
+
+import com.guicedee.vertx.spi.KeyedRegistry;
+import com.guicedee.vertx.spi.VertxRuntime;
+import io.vertx.core.json.JsonObject;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gradient based concurrency limit kept per address for worker consumers.
+ * <p>
+ * Every completed message reports how long its consumer ran, excluding time spent queued for a
+ * priority lane or a pool thread. A slow moving average of latency is kept as the
+ * baseline, and the limit is scaled by {@code baseline * tolerance / sample}. Concurrency shrinks as
+ * soon as a downstream slows down and grows back by roughly {@code sqrt(limit)} per sample while
+ * latency stays near the baseline. Consumer failures count as drops and cut the limit multiplicatively.
+ * <p>
+ * Messages that arrive while {@code limit} messages are already in flight are rejected by the caller
+ * with {@link #LIMIT_EXCEEDED_FAILURE_CODE}.
+ */
+@Log4j2
+public class AdaptiveConcurrencyLimiter
+{
+    /**
+     * Failure code used when a message is rejected because the address is at its concurrency limit. Negative, so it
+     * cannot collide with a code a consumer passes to {@code message.fail(...)}.
+     */
+    public static final int LIMIT_EXCEEDED_FAILURE_CODE = -429;
+
+    /**
+     * Latency growth tolerated over the baseline before the limit is reduced
+     */
+    static final double TOLERANCE = 1.5;
+
+    /**
+     * Weight of each new sample in the new limit
+     */
+    static final double SMOOTHING = 0.2;
+
+    /**
+     * Weight of a slower sample in the baseline latency; kept small so a degraded downstream is not
+     * quickly accepted as the new normal
+     */
+    static final double BASELINE_RISE_WEIGHT = 0.001;
+
+    /**
+     * Weight of a faster sample in the baseline latency
+     */
+    static final double BASELINE_FALL_WEIGHT = 0.1;
+
+    /**
+     * Multiplicative decrease applied on a drop
+     */
+    static final double BACKOFF = 0.9;
+
+    /**
+     * @return the limiters of the runtime owning the calling thread, see {@link VertxRuntime#registryOf(Class)}
+     */
+    private static KeyedRegistry<AdaptiveConcurrencyLimiter> limiters()
+    {
+        return VertxRuntime.registryOf(AdaptiveConcurrencyLimiter.class);
+    }
+
+    @Getter
+    private final String address;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private double baselineNanos;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder drops = new LongAdder();
+
+    /**
+     * Creates a limiter for an address.
+     *
+     * @param address  the event bus address
+     * @param minLimit lowest concurrency the limit may fall to
+     * @param maxLimit highest concurrency the limit may grow to, normally the worker pool size
+     */
+    public AdaptiveConcurrencyLimiter(String address, int minLimit, int maxLimit)
+    {
+        this.address = address;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.max(this.minLimit, this.maxLimit / 2.0);
+    }
+
+    /**
+     * @return limiters created so far on the current runtime, keyed by address
+     */
+    public static Map<String, AdaptiveConcurrencyLimiter> getLimiters()
+    {
+        return limiters().asMap();
+    }
+
+    /**
+     * Returns the shared limiter for an address, creating it on first use.
+     *
+     * @param address  the event bus address
+     * @param minLimit lowest concurrency the limit may fall to
+     * @param maxLimit highest concurrency the limit may grow to
+     * @return the limiter for the address
+     */
+    public static AdaptiveConcurrencyLimiter forAddress(String address, int minLimit, int maxLimit)
+    {
+        return limiters().get(address, a -> new AdaptiveConcurrencyLimiter(a, minLimit, maxLimit));
+    }
+
+    /**
+     * Clears the limiters of the current runtime; context destroy clears them with {@link VertxRuntime#reset()}.
+     */
+    public static void reset()
+    {
+        limiters().clear();
+    }
+
+    /**
+     * @return the current concurrency limit
+     */
+    public int getLimit()
+    {
+        return (int) limit;
+    }
+
+    /**
+     * @return the number of messages currently in flight
+     */
+    public int getInFlight()
+    {
+        return inFlight.get();
+    }
+
+    /**
+     * Takes an in-flight slot if the address is below its limit.
+     *
+     * @return true if the message may be dispatched, false if it must be rejected
+     */
+    public boolean tryAcquire()
+    {
+        while (true)
+        {
+            int current = inFlight.get();
+            if (current >= (int) limit)
+            {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1))
+            {
+                accepted.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases an in-flight slot and feeds the observed latency into the limit.
+     *
+     * @param latencyNanos execution time of the consumer
+     * @param dropped      true if the consumer failed or the message never reached it
+     */
+    public void release(long latencyNanos, boolean dropped)
+    {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        synchronized (this)
+        {
+            double current = limit;
+            double next;
+            if (dropped)
+            {
+                drops.increment();
+                next = current * BACKOFF;
+            }
+            else
+            {
+                double sample = Math.max(1, latencyNanos);
+                if (baselineNanos == 0)
+                {
+                    baselineNanos = sample;
+                }
+                else
+                {
+                    double weight = sample > baselineNanos ? BASELINE_RISE_WEIGHT : BASELINE_FALL_WEIGHT;
+                    baselineNanos += weight * (sample - baselineNanos);
+                }
+                // Only grow when the limit is actually being used, otherwise an idle address inflates to max
+                if (sample <= baselineNanos * TOLERANCE && inFlightAtCompletion < current / 2)
+                {
+                    return;
+                }
+                double gradient = Math.max(0.5, Math.min(1.0, baselineNanos * TOLERANCE / sample));
+                double target = current * gradient + Math.sqrt(current);
+                next = current * (1 - SMOOTHING) + target * SMOOTHING;
+            }
+            next = Math.max(minLimit, Math.min(maxLimit, next));
+            if ((int) next != (int) current)
+            {
+                log.debug("Concurrency limit for address {} changed {} -> {}", address, (int) current, (int) next);
+            }
+            limit = next;
+        }
+    }
+
+    /**
+     * @return a point-in-time view of the limiter
+     */
+    public synchronized JsonObject toJson()
+    {
+        return new JsonObject()
+                .put("address", address)
+                .put("limit", getLimit())
+                .put("minLimit", minLimit)
+                .put("maxLimit", maxLimit)
+                .put("inFlight", inFlight.get())
+                .put("baselineMs", TimeUnit.NANOSECONDS.toMillis((long) baselineNanos))
+                .put("accepted", accepted.sum())
+                .put("rejected", rejected.sum())
+                .put("drops", drops.sum());
+    }
+}
@@ -0,0 +1,268 @@
+package com.guicedee.vertx.resilience;
+
+import com.guicedee.vertx.spi.KeyedRegistry;
+import com.guicedee.vertx.spi.VertxRuntime;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.eventbus.ReplyFailure;
+import io.vertx.core.json.JsonObject;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free circuit breaker kept per event bus address by {@link com.guicedee.vertx.VertxEventPublisher}.
+ * <p>
+ * Counts consecutive request failures (recipient failures, missing handlers and timeouts). Once
+ * {@code threshold} is reached the circuit opens and requests are rejected immediately with a
+ * {@link CircuitOpenException} carrying {@link #CIRCUIT_OPEN_FAILURE_CODE}, instead of queueing behind
+ * {@code sendTimeout}. After {@code resetMs} the circuit turns half-open and lets a limited number of
+ * probe requests through; a successful probe closes it again, a failed probe re-opens it.
+ * <p>
+ * All state transitions are CAS based, so the breaker never blocks the event loop. The state and the time the
+ * circuit opened are swapped together as one {@link Phase}, and probe permits are only handed out by the caller
+ * whose CAS moved the circuit to half-open.
+ */
+@Log4j2
+public class AddressCircuitBreaker
+{
+    /**
+     * Failure code used on the {@link CircuitOpenException} returned while the circuit is open. Negative, so it
+     * cannot collide with a code a consumer passes to {@code message.fail(...)}.
+     */
+    public static final int CIRCUIT_OPEN_FAILURE_CODE = -503;
+
+    /**
+     * The states a circuit can be in.
+     */
+    public enum State
+    {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * A state and the time the circuit last opened, replaced as a whole on every transition
+     */
+    private record Phase(State state, long openedAtNanos)
+    {
+    }
+
+    /**
+     * Rejection returned while the circuit is open, distinguishable from a failure of the consumer
+     */
+    public static final class CircuitOpenException extends ReplyException
+    {
+        CircuitOpenException(String address)
+        {
+            super(ReplyFailure.ERROR, CIRCUIT_OPEN_FAILURE_CODE, "Circuit open for address " + address);
+        }
+    }
+
+    private static final Phase CLOSED = new Phase(State.CLOSED, 0L);
+
+    /**
+     * @return the breakers of the runtime owning the calling thread, see {@link VertxRuntime#registryOf(Class)}
+     */
+    private static KeyedRegistry<AddressCircuitBreaker> breakers()
+    {
+        return VertxRuntime.registryOf(AddressCircuitBreaker.class);
+    }
+
+    @Getter
+    private final String address;
+    private final int threshold;
+    private final long resetNanos;
+    private final int halfOpenProbes;
+
+    private final AtomicReference<Phase> phase = new AtomicReference<>(CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicInteger probePermits = new AtomicInteger();
+
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder opened = new LongAdder();
+
+    /**
+     * Creates a breaker for an address.
+     *
+     * @param address        the event bus address
+     * @param threshold      consecutive failures that open the circuit
+     * @param resetMs        time the circuit stays open before probing
+     * @param halfOpenProbes number of probe requests allowed while half-open
+     */
+    public AddressCircuitBreaker(String address, int threshold, long resetMs, int halfOpenProbes)
+    {
+        this.address = address;
+        this.threshold = Math.max(1, threshold);
+        this.resetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, resetMs));
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+    }
+
+    /**
+     * @return breakers created so far on the current runtime, keyed by address
+     */
+    public static Map<String, AddressCircuitBreaker> getBreakers()
+    {
+        return breakers().asMap();
+    }
+
+    /**
+     * Returns the shared breaker for an address, creating it on first use.
+     *
+     * @param address        the event bus address
+     * @param threshold      consecutive failures that open the circuit
+     * @param resetMs        time the circuit stays open before probing
+     * @param halfOpenProbes number of probe requests allowed while half-open
+     * @return the breaker for the address
+     */
+    public static AddressCircuitBreaker forAddress(String address, int threshold, long resetMs, int halfOpenProbes)
+    {
+        return breakers().get(address, a -> new AddressCircuitBreaker(a, threshold, resetMs, halfOpenProbes));
+    }
+
+    /**
+     * Clears the breakers of the current runtime; context destroy clears them with {@link VertxRuntime#reset()}.
+     */
+    public static void reset()
+    {
+        breakers().clear();
+    }
+
+    /**
+     * @return the current state, moving an expired open circuit to half-open on read
+     */
+    public State getState()
+    {
+        Phase current = phase.get();
+        if (current.state() == State.OPEN && System.nanoTime() - current.openedAtNanos() >= resetNanos)
+        {
+            return State.HALF_OPEN;
+        }
+        return current.state();
+    }
+
+    /**
+     * Asks for permission to send a request.
+     *
+     * @return true if the request may proceed, false if it must fail fast
+     */
+    public boolean tryAcquire()
+    {
+        while (true)
+        {
+            Phase current = phase.get();
+            switch (current.state())
+            {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (System.nanoTime() - current.openedAtNanos() < resetNanos)
+                    {
+                        rejected.increment();
+                        return false;
+                    }
+                    if (phase.compareAndSet(current, new Phase(State.HALF_OPEN, current.openedAtNanos())))
+                    {
+                        // Only the winner of the transition hands out permits; callers racing in before this
+                        // set see no permits and are rejected, never granted extra probes
+                        probePermits.set(halfOpenProbes - 1);
+                        log.debug("Circuit for address {} is half-open, allowing {} probe(s)", address, halfOpenProbes);
+                        return true;
+                    }
+                    continue;
+                case HALF_OPEN:
+                default:
+                    if (probePermits.getAndDecrement() > 0)
+                    {
+                        return true;
+                    }
+                    rejected.increment();
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * Records a successful request.
+     */
+    public void onSuccess()
+    {
+        successes.increment();
+        consecutiveFailures.set(0);
+        Phase current = phase.get();
+        if (current.state() == State.HALF_OPEN && phase.compareAndSet(current, CLOSED))
+        {
+            probePermits.set(0);
+            log.info("Circuit for address {} closed after successful probe", address);
+        }
+    }
+
+    /**
+     * Records a failed request.
+     *
+     * @param cause the failure returned by the event bus
+     */
+    public void onFailure(Throwable cause)
+    {
+        failures.increment();
+        if (cause instanceof ReplyException re && re.failureType() == ReplyFailure.TIMEOUT)
+        {
+            timeouts.increment();
+        }
+        Phase current = phase.get();
+        if (current.state() == State.HALF_OPEN)
+        {
+            trip(current);
+        }
+        else if (current.state() == State.CLOSED && consecutiveFailures.incrementAndGet() >= threshold)
+        {
+            trip(current);
+        }
+    }
+
+    private void trip(Phase from)
+    {
+        if (phase.compareAndSet(from, new Phase(State.OPEN, System.nanoTime())))
+        {
+            probePermits.set(0);
+            opened.increment();
+            consecutiveFailures.set(0);
+            log.warn("Circuit for address {} opened, failing fast for {}ms", address, TimeUnit.NANOSECONDS.toMillis(resetNanos));
+        }
+    }
+
+    /**
+     * Builds the failure returned to callers while the circuit is open.
+     *
+     * @return a {@link CircuitOpenException} carrying {@link #CIRCUIT_OPEN_FAILURE_CODE}
+     */
+    public CircuitOpenException openFailure()
+    {
+        return new CircuitOpenException(address);
+    }
+
+    /**
+     * @return a point-in-time view of the breaker counters
+     */
+    public JsonObject toJson()
+    {
+        return new JsonObject()
+                .put("address", address)
+                .put("state", getState().name())
+                .put("threshold", threshold)
+                .put("consecutiveFailures", consecutiveFailures.get())
+                .put("successes", successes.sum())
+                .put("failures", failures.sum())
+                .put("timeouts", timeouts.sum())
+                .put("rejected", rejected.sum())
+                .put("opened", opened.sum());
+    }
+}
@@ -0,0 +1,106 @@
+package com.guicedee.vertx.spi;
+
+import com.guicedee.client.IGuiceContext;
+import io.github.classgraph.AnnotationInfo;
+import io.github.classgraph.PackageInfo;
+import io.github.classgraph.ScanResult;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One-pass index of package-level annotations, shared by every options scanner.
+ * <p>
+ * The package annotations of the scan result are read once, from class file metadata and without loading any
+ * {@code package-info} class, into a map from annotation name to package names. Scanners then ask for the packages
+ * carrying their annotation in constant time and load only those {@code package-info} classes, instead of trying
+ * {@code Class.forName} on the {@code package-info} of every scanned package. Type-level annotations are already
+ * indexed by the scan result; {@link #find(Class)} checks both, classes first.
+ */
+@Log4j2
+public class AnnotationIndex {
+
+    private static volatile Map<String, List<String>> packagesByAnnotation;
+
+    private AnnotationIndex() {
+    }
+
+    /**
+     * Finds the packages whose {@code package-info} carries the given annotation.
+     *
+     * @param annotationName the annotation class name
+     * @return the package names in scan order, empty when there are none
+     */
+    public static List<String> packagesWithAnnotation(String annotationName) {
+        return index().getOrDefault(annotationName, List.of());
+    }
+
+    /**
+     * Finds the options annotation of a scanner: the first annotated class, otherwise the first annotated package.
+     *
+     * @param type the annotation type
+     * @param <A>  the annotation type
+     * @return the annotation, or null when it is not declared
+     */
+    public static <A extends Annotation> A find(Class<A> type) {
+        for (Class<?> annotatedClass : RegistrySnapshot.classesWithAnnotation(type)) {
+            A annotation = annotatedClass.getAnnotation(type);
+            if (annotation != null) {
+                log.debug("Found @{} on class: {}", type.getSimpleName(), annotatedClass.getName());
+                return annotation;
+            }
+        }
+        for (String packageName : RegistrySnapshot.packagesWithAnnotation(type.getName())) {
+            try {
+                A annotation = Class.forName(packageName + ".package-info", false, type.getClassLoader()).getAnnotation(type);
+                if (annotation != null) {
+                    log.debug("Found @{} on package: {}", type.getSimpleName(), packageName);
+                    return annotation;
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.debug("Could not load package-info of {} for @{}: {}", packageName, type.getSimpleName(), e.toString());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drops the index. Called during context destroy.
+     */
+    public static void reset() {
+        packagesByAnnotation = null;
+    }
+
+    private static Map<String, List<String>> index() {
+        Map<String, List<String>> index = packagesByAnnotation;
+        if (index == null) {
+            synchronized (AnnotationIndex.class) {
+                index = packagesByAnnotation;
+                if (index == null) {
+                    index = build(IGuiceContext.instance().getScanResult());
+                    packagesByAnnotation = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private static Map<String, List<String>> build(ScanResult scanResult) {
+        Map<String, List<String>> index = new HashMap<>();
+        if (scanResult == null) {
+            return index;
+        }
+        for (PackageInfo packageInfo : scanResult.getPackageInfo()) {
+            for (AnnotationInfo annotationInfo : packageInfo.getAnnotationInfo()) {
+                index.computeIfAbsent(annotationInfo.getName(), _ -> new ArrayList<>()).add(packageInfo.getName());
+            }
+        }
+        index.replaceAll((_, packages) -> List.copyOf(packages));
+        log.debug("Indexed {} package annotation(s)", index.size());
+        return Map.copyOf(index);
+    }
+}
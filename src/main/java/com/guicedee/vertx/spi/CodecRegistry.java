@@ -1,13 +1,15 @@
 package com.guicedee.vertx.spi;
 
+import com.guicedee.vertx.index.CodecNames;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.MessageCodec;
 import lombok.extern.log4j.Log4j2;
 
 import java.lang.reflect.Type;
-import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Registry for managing dynamic codecs for the Vertx event bus
@@ -16,50 +18,39 @@ import java.util.regex.Pattern;
 public class CodecRegistry {
     
     /**
-     * Map to store registered codec names to prevent duplicate registration
-     * Key: codec name, Value: true if registered
+     * Codec names computed at build time by the event index, keyed by declared payload type
      */
-    private static final Map<String, Boolean> registeredCodecs = new HashMap<>();
+    private static final Map<Type, String> preloadedCodecNames = new ConcurrentHashMap<>();
 
     /**
-     * Resets the registered codecs tracker, allowing re-registration on the next context boot.
+     * Resets the preloaded codec names. The codecs registered with each event bus are tracked by its
+     * {@link VertxRuntime} and dropped with it.
      */
     public static void reset() {
-        registeredCodecs.clear();
+        preloadedCodecNames.clear();
     }
 
     /**
-     * Pattern for converting camel case to kebab case
+     * Records the codec name the build-time event index derived for a declared payload type, so
+     * {@link #getCodecName(Type)} returns it without walking the type again.
+     *
+     * @param type      the declared payload type, ignored when null
+     * @param codecName the precomputed codec name, ignored when null
      */
-    private static final Pattern CAMEL_CASE_PATTERN = Pattern.compile("([a-z])([A-Z])|([A-Z])([A-Z][a-z])");
-    
+    public static void preloadCodecName(Type type, String codecName) {
+        if (type != null && codecName != null) {
+            preloadedCodecNames.put(type, codecName);
+        }
+    }
+
     /**
-     * Standard Vertx types that don't need custom codecs
+     * @return the number of codecs registered so far with the primary event bus, 0 while none is running
      */
-    private static final Class<?>[] STANDARD_VERTX_TYPES = {
-        String.class,
-        Boolean.class,
-        boolean.class,
-        Integer.class,
-        int.class,
-        Long.class,
-        long.class,
-        Double.class,
-        double.class,
-        Float.class,
-        float.class,
-        Short.class,
-        short.class,
-        Byte.class,
-        byte.class,
-        Character.class,
-        char.class,
-        io.vertx.core.json.JsonObject.class,
-        io.vertx.core.json.JsonArray.class,
-        io.vertx.core.buffer.Buffer.class,
-        byte[].class
-    };
-    
+    public static int getRegisteredCodecCount() {
+        VertxRuntime primary = VertxRuntime.primaryIfBound();
+        return primary == null ? 0 : primary.getRegisteredCodecs().size();
+    }
+
     /**
      * Checks if the given class is a standard Vertx type
      *
@@ -67,43 +58,18 @@ public class CodecRegistry {
      * @return true if the class is a standard Vertx type, false otherwise
      */
     public static boolean isStandardVertxType(Class<?> clazz) {
-        if (clazz == null) {
-            return true;
-        }
-        
-        for (Class<?> standardType : STANDARD_VERTX_TYPES) {
-            if (standardType.equals(clazz)) {
-                return true;
-            }
-        }
-        
-        return false;
+        return clazz == null || CodecNames.isStandardType(clazz.getTypeName());
     }
     
     /**
-     * Converts a camel case string to kebab case
+     * Converts a camel case string to kebab case, e.g. "camelCase" to "camel-case" and "UWEServerMessage" to
+     * "uwe-server-message". The build-time event index applies the same rules through {@link CodecNames}.
      *
      * @param camelCase The camel case string
      * @return The kebab case string
      */
     public static String toKebabCase(String camelCase) {
-        if (camelCase == null || camelCase.isEmpty()) {
-            return "";
-        }
-        
-        // Replace camel case with kebab case (e.g., "camelCase" -> "camel-case")
-        // Also handle acronyms (e.g., "UWEServerMessage" -> "uwe-server-message")
-        String kebabCase = CAMEL_CASE_PATTERN.matcher(camelCase).replaceAll(match -> {
-            // Check which pattern matched
-            if (match.group(1) != null && match.group(2) != null) {
-                // First pattern: lowercase to uppercase
-                return match.group(1) + "-" + match.group(2);
-            } else {
-                // Second pattern: uppercase to uppercase followed by lowercase
-                return match.group(3) + "-" + match.group(4);
-            }
-        }).toLowerCase();
-        return kebabCase;
+        return CodecNames.toKebabCase(camelCase);
     }
     
     /**
@@ -145,6 +111,10 @@ public class CodecRegistry {
         if (type == null) {
             return null;
         }
+        String preloaded = preloadedCodecNames.get(type);
+        if (preloaded != null) {
+            return preloaded;
+        }
         if (type instanceof Class<?> clazz) {
             return getCodecName(clazz);
         }
@@ -227,18 +197,23 @@ public class CodecRegistry {
             return null;
         }
         
-        // Check if the codec is already registered
+        // Check if the codec is already registered with this event bus
+        Map<String, Boolean> registeredCodecs = VertxRuntime.of(vertx).getRegisteredCodecs();
         if (registeredCodecs.containsKey(codecName)) {
             log.trace("Codec already registered for type {} with name {}", type.getTypeName(), codecName);
             return codecName;
         }
         
-        // Create and register the codec carrying the full generic type
+        // Create and register the codec carrying the full generic type. Registering inside computeIfAbsent
+        // keeps two threads racing on the same name from registering it twice with the event bus.
         try {
-            MessageCodec<T, T> codec = new DynamicCodec<>(type, codecName);
-            vertx.eventBus().registerCodec(codec);
-            registeredCodecs.put(codecName, true);
-            log.debug("Registered codec for type {} with name {}", type.getTypeName(), codecName);
+            String name = codecName;
+            registeredCodecs.computeIfAbsent(codecName, _ -> {
+                MessageCodec<T, T> codec = new DynamicCodec<>(type, name);
+                vertx.eventBus().registerCodec(codec);
+                log.debug("Registered codec for type {} with name {}", type.getTypeName(), name);
+                return true;
+            });
             return codecName;
         } catch (Exception e) {
             log.error("Error registering codec for type {} with name {}", type.getTypeName(), codecName, e);
@@ -248,16 +223,18 @@ public class CodecRegistry {
     
     /**
      * Creates and registers codecs for all event types in the registry
+     * <p>
+     * Distinct payload types are registered in parallel on the common fork-join pool unless
+     * {@code VERTX_EVENT_SCAN_PARALLEL=false}.
      *
      * @param vertx The Vertx instance
      */
     public static void createAndRegisterCodecsForAllEventTypes(Vertx vertx) {
         log.trace("Creating and registering codecs for all event types");
+        Set<Type> types = new LinkedHashSet<>();
         
         // Register codecs for consumer reference types
-        VertxEventRegistry.getEventConsumerReferenceTypes().forEach((address, type) -> {
-            createAndRegisterCodec(vertx, type);
-        });
+        types.addAll(VertxEventRegistry.getEventConsumerReferenceTypes().values());
         
         // Register codecs for publisher reference types
         VertxEventRegistry.getEventPublisherKeys().forEach((address, key) -> {
@@ -265,10 +242,12 @@ public class CodecRegistry {
                 java.lang.reflect.ParameterizedType paramType = (java.lang.reflect.ParameterizedType) key.getTypeLiteral().getType();
                 java.lang.reflect.Type[] typeArgs = paramType.getActualTypeArguments();
                 if (typeArgs.length > 0) {
-                    java.lang.reflect.Type referenceType = typeArgs[0];
-                    createAndRegisterCodec(vertx, referenceType);
+                    types.add(typeArgs[0]);
                 }
             }
         });
+
+        boolean parallel = Boolean.parseBoolean(com.guicedee.client.Environment.getSystemPropertyOrEnvironment("VERTX_EVENT_SCAN_PARALLEL", "true"));
+        (parallel ? types.parallelStream() : types.stream()).forEach(type -> createAndRegisterCodec(vertx, type));
     }
 }
\ No newline at end of file
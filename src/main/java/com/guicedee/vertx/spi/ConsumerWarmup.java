@@ -0,0 +1,227 @@
+package com.guicedee.vertx.spi;
+
+import com.guicedee.client.IGuiceContext;
+import com.guicedee.client.scopes.CallScoper;
+import com.guicedee.modules.services.jsonrepresentation.IJsonRepresentation;
+import com.guicedee.vertx.VertxEventDefinition;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.extern.log4j.Log4j2;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opt-in warm-up of every registered consumer before traffic arrives.
+ * <p>
+ * Enabled with {@code VERTX_WARMUP=true}. Once the verticles are deployed, for each consumer address:
+ * <ol>
+ *   <li>a default instance of the reference type is synthesised by Jackson from an empty JSON skeleton
+ *       ({@code {}} for beans and maps, a one-element array for collections)</li>
+ *   <li>it is run {@code VERTX_WARMUP_ITERATIONS} times (default 200) through the codec encode, decode and
+ *       transform path and through the parameter preparation of method consumers, with both the decoded object
+ *       and its {@link JsonObject} or {@link JsonArray} form as the body</li>
+ *   <li>the consumer class is instantiated through Guice inside a call scope, which builds its singletons</li>
+ * </ol>
+ * That moves class initialisation, Jackson serializer construction and the first JIT compilations out of the
+ * first requests. Consumer methods are never invoked. Lazy consumers are not instantiated, and types Jackson
+ * cannot synthesise are skipped. Warm-up runs as the {@code warmup} {@link StartupTasks startup task}, so later
+ * post-startups wait for it.
+ */
+@Log4j2
+public class ConsumerWarmup {
+
+    /**
+     * The startup task name
+     */
+    public static final String TASK = "warmup";
+
+    private ConsumerWarmup() {
+    }
+
+    /**
+     * @return whether warm-up is enabled
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(com.guicedee.client.Environment.getSystemPropertyOrEnvironment("VERTX_WARMUP", "false"));
+    }
+
+    /**
+     * @return how many times each payload is run through the codec and parameter path
+     */
+    static int iterations() {
+        return Math.max(1, Integer.parseInt(com.guicedee.client.Environment.getSystemPropertyOrEnvironment("VERTX_WARMUP_ITERATIONS", "200")));
+    }
+
+    /**
+     * Warms every registered consumer. Blocking; runs on a worker thread.
+     *
+     * @return the number of addresses warmed
+     */
+    public static int run() {
+        int iterations = iterations();
+        Map<String, Class<?>> consumers = new LinkedHashMap<>();
+        VertxEventRegistry.getEventConsumerMethodClasses().forEach(consumers::put);
+        VertxEventRegistry.getEventConsumerClass().forEach((address, clazz) -> consumers.putIfAbsent(address, (Class<?>) clazz));
+        int warmed = 0;
+        for (var consumer : consumers.entrySet()) {
+            String address = consumer.getKey();
+            try {
+                warmPayload(address, VertxEventRegistry.getEventConsumerReferenceTypes().get(address),
+                        VertxEventRegistry.getEventConsumerMethods().get(address), iterations);
+                VertxEventDefinition definition = VertxEventRegistry.getEventConsumerDefinitions().get(address);
+                if (definition == null || !definition.options().lazy()) {
+                    instantiate(consumer.getValue());
+                }
+                warmed++;
+            } catch (Throwable t) {
+                log.debug("Skipped warm-up of '{}': {}", address, t.toString());
+            }
+        }
+        log.info("🔥 Warmed {} of {} consumer address(es) with {} iteration(s) each", warmed, consumers.size(), iterations);
+        return warmed;
+    }
+
+    private static void warmPayload(String address, Type referenceType, Method method, int iterations) {
+        if (referenceType == null) {
+            return;
+        }
+        Object sample = synthesise(referenceType);
+        if (sample == null) {
+            log.debug("No warm-up payload for '{}', {} cannot be synthesised", address, referenceType.getTypeName());
+            return;
+        }
+        String codecName = CodecRegistry.getCodecName(referenceType);
+        DynamicCodec<Object> codec = codecName == null ? null : new DynamicCodec<>(referenceType, codecName);
+        String json = IJsonRepresentation.getObjectMapper().writeValueAsString(sample);
+        Object jsonBody = json.startsWith("[") ? new JsonArray(json) : json.startsWith("{") ? new JsonObject(json) : null;
+        for (int i = 0; i < iterations; i++) {
+            Object body = sample;
+            if (codec != null) {
+                Buffer buffer = Buffer.buffer();
+                codec.encodeToWire(buffer, sample);
+                body = codec.decodeFromWire(0, buffer);
+                codec.transform(sample);
+            }
+            if (method != null) {
+                VertxEventRegistry.prepareMethodParameters(method, new WarmupMessage(address, body));
+                if (jsonBody != null) {
+                    VertxEventRegistry.prepareMethodParameters(method, new WarmupMessage(address, jsonBody));
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds a default instance of a payload type from an empty JSON skeleton.
+     *
+     * @param type the payload type
+     * @return the instance, or null when the type is a plain Vert.x type or cannot be built
+     */
+    static Object synthesise(Type type) {
+        ObjectMapper mapper = IJsonRepresentation.getObjectMapper();
+        JavaType javaType = mapper.getTypeFactory().constructType(type);
+        if (javaType.isPrimitive() || javaType.isEnumType() || javaType.isTypeOrSubTypeOf(CharSequence.class)
+                || javaType.isTypeOrSubTypeOf(Number.class) || javaType.isTypeOrSubTypeOf(Boolean.class)
+                || javaType.hasRawClass(Object.class) || javaType.isAbstract() && !javaType.isContainerType()) {
+            return null;
+        }
+        String skeleton = skeleton(javaType);
+        try {
+            return mapper.readValue(skeleton, javaType);
+        } catch (RuntimeException e) {
+            if (javaType.isContainerType() && !javaType.isMapLikeType()) {
+                // Elements that cannot be built still leave an empty collection to warm the container path
+                try {
+                    return mapper.readValue("[]", javaType);
+                } catch (RuntimeException ignored) {
+                    // fall through
+                }
+            }
+            log.trace("Could not synthesise {} from {}: {}", type.getTypeName(), skeleton, e.getMessage());
+            return null;
+        }
+    }
+
+    private static String skeleton(JavaType type) {
+        if (type.isMapLikeType()) {
+            return "{}";
+        }
+        if (type.isContainerType()) {
+            JavaType element = type.getContentType();
+            boolean beanElement = element != null && !element.isPrimitive() && !element.isEnumType()
+                    && !element.isTypeOrSubTypeOf(CharSequence.class) && !element.isTypeOrSubTypeOf(Number.class)
+                    && !element.isTypeOrSubTypeOf(Boolean.class) && !element.hasRawClass(Object.class);
+            return beanElement ? "[" + skeleton(element) + "]" : "[]";
+        }
+        return "{}";
+    }
+
+    private static void instantiate(Class<?> consumerClass) {
+        CallScoper callScoper = IGuiceContext.get(CallScoper.class);
+        boolean started = false;
+        if (!callScoper.isStartedScope()) {
+            callScoper.enter();
+            started = true;
+        }
+        try {
+            IGuiceContext.get(consumerClass);
+        } finally {
+            if (started) {
+                callScoper.exit();
+            }
+        }
+    }
+
+    /**
+     * A point-to-point message that is never replied to
+     */
+    private record WarmupMessage(String address, Object body) implements Message<Object> {
+
+        @Override
+        public MultiMap headers() {
+            return MultiMap.caseInsensitiveMultiMap();
+        }
+
+        @Override
+        public String replyAddress() {
+            return null;
+        }
+
+        @Override
+        public boolean isSend() {
+            return true;
+        }
+
+        @Override
+        public void reply(Object message) {
+        }
+
+        @Override
+        public void reply(Object message, DeliveryOptions options) {
+        }
+
+        @Override
+        public <R> Future<Message<R>> replyAndRequest(Object message) {
+            return replyAndRequest(message, new DeliveryOptions());
+        }
+
+        @Override
+        public <R> Future<Message<R>> replyAndRequest(Object message, DeliveryOptions options) {
+            return Future.failedFuture("Warm-up messages cannot be replied to");
+        }
+
+        @Override
+        public void fail(int failureCode, String message) {
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.guicedee.vertx.spi;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.JavaType;
 import com.guicedee.modules.services.jsonrepresentation.IJsonRepresentation;
+import com.guicedee.vertx.metrics.CodecMetrics;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.eventbus.MessageCodec;
 import lombok.extern.log4j.Log4j2;
@@ -17,6 +18,8 @@ import java.lang.reflect.Type;
  * the raw {@link Class}), so parameterized payloads such as {@code List<Dto>} or
  * {@code Map<String, Dto>} are reconstructed with their element types intact rather than
  * collapsing into {@code List<LinkedHashMap>} / {@code Map<String, LinkedHashMap>}.
+ * <p>
+ * A sample of encodes and decodes is measured into {@link CodecMetrics} when a codec sample rate is set.
  *
  * @param <T> The type of object this codec handles.
  */
@@ -58,9 +61,15 @@ public class DynamicCodec<T> implements MessageCodec<T, T> {
     
     @Override
     public void encodeToWire(Buffer buffer, T object) {
+        CodecMetrics metrics = CodecMetrics.sample(codecName);
+        long startedAt = metrics == null ? 0 : System.nanoTime();
+        int startLength = metrics == null ? 0 : buffer.length();
         try {
             buffer.appendString(IJsonRepresentation.getObjectMapper()
                     .writeValueAsString(object));
+            if (metrics != null) {
+                metrics.recordEncode(buffer.length() - startLength, System.nanoTime() - startedAt);
+            }
         } catch (JacksonException e) {
             log.error("Error encoding object to wire", e);
             throw new RuntimeException(e);
@@ -69,10 +78,16 @@ public class DynamicCodec<T> implements MessageCodec<T, T> {
 
     @Override
     public T decodeFromWire(int pos, Buffer buffer) {
+        CodecMetrics metrics = CodecMetrics.sample(codecName);
+        long startedAt = metrics == null ? 0 : System.nanoTime();
         String message = buffer.getString(pos, buffer.length(), "UTF-8");
         try {
-            return IJsonRepresentation.getObjectMapper()
+            T value = IJsonRepresentation.getObjectMapper()
                     .readValue(message, javaType());
+            if (metrics != null) {
+                metrics.recordDecode(System.nanoTime() - startedAt);
+            }
+            return value;
         } catch (JacksonException e) {
             log.error("Error decoding object from wire", e);
             throw new RuntimeException(e);
@@ -84,12 +99,20 @@ public class DynamicCodec<T> implements MessageCodec<T, T> {
         if (object == null) {
             return null;
         }
+        CodecMetrics metrics = CodecMetrics.sample(codecName);
         try {
             // Perform a deep copy by serializing and deserializing using the shared ObjectMapper.
             // Decoding through the full generic JavaType preserves nested object/list element types.
+            long startedAt = metrics == null ? 0 : System.nanoTime();
             byte[] json = IJsonRepresentation.getObjectMapper().writeValueAsBytes(object);
-            return IJsonRepresentation.getObjectMapper()
+            long encodedAt = metrics == null ? 0 : System.nanoTime();
+            T copy = IJsonRepresentation.getObjectMapper()
                     .readValue(json, javaType());
+            if (metrics != null) {
+                metrics.recordEncode(json.length, encodedAt - startedAt);
+                metrics.recordDecode(System.nanoTime() - encodedAt);
+            }
+            return copy;
         } catch (Exception e) {
             log.error("Error transforming object via serialize/deserialize for codec {}", codecName, e);
             throw new RuntimeException(e);
@@ -3,6 +3,8 @@ package com.guicedee.vertx.spi;
 import com.guicedee.vertx.VertxEventDefinition;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.internal.ContextInternal;
 import lombok.extern.log4j.Log4j2;
@@ -16,19 +18,51 @@ public class EventConsumerVerticle extends AbstractVerticle {
     private final VertxEventDefinition definition;
     private final Method targetMethod;
     private final Class<?> targetClass;
+    private final boolean replacing;
 
     public EventConsumerVerticle(String address, VertxEventDefinition definition, Method targetMethod, Class<?> targetClass) {
+        this(address, definition, targetMethod, targetClass, false);
+    }
+
+    /**
+     * @param replacing whether this deployment takes over the address from a running one, which is undeployed
+     *                  once this one has started
+     */
+    EventConsumerVerticle(String address, VertxEventDefinition definition, Method targetMethod, Class<?> targetClass, boolean replacing) {
         this.address = address;
         this.definition = definition;
         this.targetMethod = targetMethod;
         this.targetClass = targetClass;
+        this.replacing = replacing;
+    }
+
+    /**
+     * Dispatches a message to the consumer on the current context, failing the message when the consumer fails.
+     */
+    static void dispatch(Vertx vertx, Message<?> message, Method targetMethod, Class<?> targetClass, VertxEventDefinition definition) {
+        vertx.runOnContext(v ->
+            VertxEventRegistry
+                    .dispatch(vertx, message, targetMethod, targetClass, definition)
+                    .subscribe().with(
+                            ignored -> { /* no-op */ },
+                            ex -> {
+                                Throwable cause = (ex instanceof java.lang.reflect.InvocationTargetException && ex.getCause() != null)
+                                        ? ex.getCause() : ex;
+                                log.error("Error dispatching message for {}: {}", message.address(), cause.getMessage(), cause);
+                                try {
+                                    message.fail(500, String.valueOf(cause.getMessage()));
+                                } catch (Throwable ignored2) {
+                                }
+                            }
+                    )
+        );
     }
 
     @Override
     public void start(Promise<Void> startPromise) {
         try {
-            // Guard against duplicate registration for the same address
-            if (!VertxEventRegistry.getRegisteredAddresses().add(address)) {
+            // Guard against duplicate registration for the same address; every instance of the owning deployment registers
+            if (!claimAddress(VertxRuntime.of(vertx))) {
                 log.debug("Consumer for address '{}' already registered, skipping duplicate", address);
                 startPromise.tryComplete();
                 return;
@@ -42,28 +76,13 @@ public class EventConsumerVerticle extends AbstractVerticle {
                 consumer = vertx.eventBus().consumer(address);
             }
 
-            // Note: buffering configuration (maxBufferedMessages) may not be supported across all Vert.x versions.
-            // If supported in your version, you can enable it here.
+            if (definition != null && definition.options().maxBufferedMessages() > 0) {
+                consumer.setMaxBufferedMessages(definition.options().maxBufferedMessages());
+            }
 
-            consumer.handler(message -> {
-                vertx.runOnContext(v ->
-                    VertxEventRegistry
-                            .dispatch(vertx, message, targetMethod, targetClass, definition)
-                            .subscribe().with(
-                                    ignored -> { /* no-op */ },
-                                    ex -> {
-                                        Throwable cause = (ex instanceof java.lang.reflect.InvocationTargetException && ex.getCause() != null)
-                                                ? ex.getCause() : ex;
-                                        log.error("Error dispatching message for {}: {}", message.address(), cause.getMessage(), cause);
-                                        try {
-                                            message.fail(500, String.valueOf(cause.getMessage()));
-                                        } catch (Throwable ignored2) {
-                                        }
-                                    }
-                            )
-                );
-            });
+            consumer.handler(message -> dispatch(vertx, message, targetMethod, targetClass, definition));
 
+            com.guicedee.vertx.metrics.EventLoopProbe.assign(address);
             log.debug("Registered consumer on address '{}' in verticle {} (localOnly={})", address, this.getClass().getSimpleName(), localOnly);
             startPromise.tryComplete();
         } catch (Throwable t) {
@@ -71,4 +90,23 @@ public class EventConsumerVerticle extends AbstractVerticle {
             startPromise.tryFail(t);
         }
     }
+
+    private boolean claimAddress(VertxRuntime runtime) {
+        String deploymentId = deploymentID();
+        if (replacing) {
+            runtime.getConsumerDeployments().put(address, deploymentId);
+            runtime.getRegisteredAddresses().add(address);
+            return true;
+        }
+        String owner = runtime.getConsumerDeployments().putIfAbsent(address, deploymentId);
+        if (owner != null) {
+            return owner.equals(deploymentId);
+        }
+        if (!runtime.getRegisteredAddresses().add(address)) {
+            // Registered outside a consumer verticle, e.g. multiplexed
+            runtime.getConsumerDeployments().remove(address, deploymentId);
+            return false;
+        }
+        return true;
+    }
 }
@@ -0,0 +1,365 @@
+package com.guicedee.vertx.spi;
+
+import com.guicedee.vertx.VertxEventDefinition;
+import com.guicedee.vertx.VertxEventOptions;
+import com.guicedee.vertx.metrics.WorkerPoolMetrics;
+import com.guicedee.vertx.resilience.AdaptiveConcurrencyLimiter;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Changes the {@link VertxEventOptions} of live consumers without a restart.
+ * <p>
+ * Event options are resolved once per address and resolved again after every update, so an override set here takes precedence over the
+ * {@code VERTX_EVENT_<OPTION>_<ADDRESS>} and {@code VERTX_EVENT_<OPTION>} variables and the annotation from the next
+ * message on. That covers the per-message options such as {@code worker}, {@code workerPool}, {@code timeoutMs},
+ * priorities and limits. Options fixed when the consumer is registered ({@code instances}, {@code consumerCount},
+ * {@code localOnly}, {@code maxBufferedMessages} and the worker settings of the deployment) redeploy the address: a new
+ * consumer verticle with the new options is deployed next to the running one, which is undeployed once the new one
+ * has started, so the address keeps a consumer throughout. When the new verticle cannot be deployed the overrides of
+ * that update are rolled back and the running consumer is left as it was.
+ * <p>
+ * Updates are sent to {@link #CONTROL_ADDRESS} as a JsonObject such as
+ * {@code {"address": "orders.create", "options": {"instances": 4, "workerPool": "orders"}}} and answered with the
+ * applied overrides. A null or empty value drops an override. The control consumer is local to the node and only
+ * registered with {@code VERTX_EVENT_OPTIONS_CONTROL=true}; {@link #update(String, JsonObject)} works either way.
+ * Instance counts are bounded by {@link #MAX_INSTANCES} and worker pool sizes by {@link #MAX_WORKER_POOL_SIZE}.
+ */
+@Log4j2
+public class EventOptionsControl {
+
+    /**
+     * Control address used to update consumer options
+     */
+    public static final String CONTROL_ADDRESS = "guicedee.vertx.options.update";
+
+    /**
+     * Options that take a redeployment of the consumer verticle to apply
+     */
+    static final Set<String> REDEPLOY_OPTIONS = Set.of("instances", "consumerCount", "localOnly", "maxBufferedMessages",
+            "worker", "workerPool", "workerPoolSize");
+
+    /**
+     * Options that decide whether and when a consumer exists at all, and cannot change at runtime
+     */
+    static final Set<String> FIXED_OPTIONS = Set.of("autobind", "lazy");
+
+    /**
+     * The largest {@code instances} or {@code consumerCount} an update may set
+     */
+    public static final int MAX_INSTANCES = 256;
+
+    /**
+     * The largest {@code workerPoolSize} an update may set
+     */
+    public static final int MAX_WORKER_POOL_SIZE = 1024;
+
+    /**
+     * Overrides by effective address (after any {@code VERTX_EVENT_ADDRESS_*} rename), then by {@code VERTX_EVENT_*} option key
+     */
+    private static final Map<String, Map<String, String>> overrides = new ConcurrentHashMap<>();
+
+    /**
+     * The last update of each address, so updates to one address apply in order
+     */
+    private static final Map<String, Future<JsonObject>> pending = new ConcurrentHashMap<>();
+
+    private static volatile MessageConsumer<JsonObject> controlConsumer;
+
+    private EventOptionsControl() {
+    }
+
+    /**
+     * @param address   the effective consumer address, as registered on the event bus
+     * @param optionKey the {@code VERTX_EVENT_*} option key
+     * @return the runtime override, or null
+     */
+    static String override(String address, String optionKey) {
+        Map<String, String> options = overrides.get(address);
+        return options == null ? null : options.get(optionKey);
+    }
+
+    /**
+     * @param address the consumer address
+     * @return the overrides in place, keyed by option name
+     */
+    public static Map<String, String> overrides(String address) {
+        Map<String, String> byName = new LinkedHashMap<>();
+        overrides.getOrDefault(address, Map.of()).forEach((key, value) -> byName.put(optionName(key), value));
+        return byName;
+    }
+
+    /**
+     * Updates the options of a consumer on the primary runtime.
+     *
+     * @param address the consumer address
+     * @param options option names of {@link VertxEventOptions} and their new values
+     * @return the address, the overrides now in place and whether the consumer was redeployed
+     */
+    public static Future<JsonObject> update(String address, JsonObject options) {
+        return update(VertXPreStartup.getVertx(), address, options);
+    }
+
+    /**
+     * Updates the options of a consumer, redeploying it on the given runtime when an option needs it.
+     *
+     * @param vertx   the runtime whose consumer verticle is redeployed
+     * @param address the consumer address
+     * @param options option names of {@link VertxEventOptions} and their new values
+     * @return the address, the overrides now in place and whether the consumer was redeployed; failed with an
+     * {@link IllegalArgumentException} for an unknown address, option or value
+     */
+    public static Future<JsonObject> update(Vertx vertx, String address, JsonObject options) {
+        Map<String, String> changes;
+        try {
+            changes = validate(address, options);
+        } catch (IllegalArgumentException e) {
+            return Future.failedFuture(e);
+        }
+        return pending.compute(address, (_, previous) -> (previous == null ? Future.<JsonObject>succeededFuture() : previous)
+                .transform(_ -> apply(vertx, address, changes)));
+    }
+
+    private static Map<String, String> validate(String address, JsonObject options) {
+        if (address == null || !VertxEventRegistry.getEventConsumerDefinitions().containsKey(address)) {
+            throw new IllegalArgumentException("No consumer registered for address " + address);
+        }
+        if (options == null || options.isEmpty()) {
+            throw new IllegalArgumentException("No options given for address " + address);
+        }
+        Map<String, String> changes = new LinkedHashMap<>();
+        for (String name : options.fieldNames()) {
+            if (FIXED_OPTIONS.contains(name)) {
+                throw new IllegalArgumentException("Option " + name + " cannot be changed at runtime");
+            }
+            Method option;
+            try {
+                option = VertxEventOptions.class.getMethod(name);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException("Unknown event option " + name);
+            }
+            if (option.getDeclaringClass() != VertxEventOptions.class) {
+                throw new IllegalArgumentException("Unknown event option " + name);
+            }
+            Object raw = options.getValue(name);
+            String value = raw == null ? null : String.valueOf(raw);
+            if (value != null && !value.isEmpty()) {
+                checkValue(name, option.getReturnType(), value);
+                checkBounds(name, value);
+            }
+            changes.put(name, value);
+        }
+        return changes;
+    }
+
+    private static void checkValue(String name, Class<?> type, String value) {
+        try {
+            if (type == int.class) {
+                Integer.parseInt(value);
+            } else if (type == long.class) {
+                Long.parseLong(value);
+            } else if (type == boolean.class && !"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value)) {
+                throw new IllegalArgumentException("Option " + name + " must be true or false, not " + value);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Option " + name + " must be a number, not " + value);
+        }
+    }
+
+    private static void checkBounds(String name, String value) {
+        int max = switch (name) {
+            case "instances", "consumerCount" -> MAX_INSTANCES;
+            case "workerPoolSize" -> MAX_WORKER_POOL_SIZE;
+            default -> -1;
+        };
+        if (max < 0) {
+            return;
+        }
+        int number = Integer.parseInt(value);
+        // instances and workerPoolSize use 0 for "not set", a consumer always needs one verticle
+        int min = "consumerCount".equals(name) ? 1 : 0;
+        if (number < min || number > max) {
+            throw new IllegalArgumentException("Option " + name + " must be between " + min + " and " + max + ", not " + value);
+        }
+    }
+
+    private static Future<JsonObject> apply(Vertx vertx, String address, Map<String, String> changes) {
+        VertxEventDefinition definition = VertxEventRegistry.getEventConsumerDefinitions().get(address);
+        String previousPool = workerPool(address, definition);
+
+        Map<String, String> current = overrides.computeIfAbsent(address, _ -> new ConcurrentHashMap<>());
+        Map<String, String> previous = Map.copyOf(current);
+        changes.forEach((name, value) -> {
+            if (value == null || value.isEmpty()) {
+                current.remove(optionKey(name));
+            } else {
+                current.put(optionKey(name), value);
+            }
+        });
+        VertxEventRegistry.invalidateResolvedOptions();
+        log.info("🎛️ Options of '{}' updated: {}", address, changes);
+
+        if (changes.containsKey("workerPool") || changes.containsKey("workerPoolSize")) {
+            VertxRuntime runtime = VertxRuntime.of(vertx);
+            // The limiter's ceiling is the pool size, the next message creates it again
+            runtime.registry(AdaptiveConcurrencyLimiter.class).asMap().remove(address);
+            if (previousPool != null && !sharesPool(address, previousPool)) {
+                // The next worker dispatch creates the executor, its scheduler and its metrics again with the new size
+                runtime.registry(PriorityLaneScheduler.class).asMap().remove(previousPool);
+                runtime.registry(WorkerPoolMetrics.class).asMap().remove(previousPool);
+                WorkerExecutor executor = runtime.getWorkerExecutors().remove(previousPool);
+                if (executor != null) {
+                    executor.close();
+                }
+            }
+        }
+
+        JsonObject result = new JsonObject()
+                .put("address", address)
+                .put("options", new JsonObject(new LinkedHashMap<>(overrides(address))));
+        if (changes.keySet().stream().noneMatch(REDEPLOY_OPTIONS::contains)) {
+            return Future.succeededFuture(result.put("redeployed", false));
+        }
+        return redeploy(vertx, address, definition)
+                .map(id -> result.put("redeployed", id != null).put("deploymentId", id))
+                .onFailure(_ -> {
+                    current.clear();
+                    current.putAll(previous);
+                    VertxEventRegistry.invalidateResolvedOptions();
+                    log.warn("🎛️ Options of '{}' rolled back to {}", address, previous);
+                });
+    }
+
+    /**
+     * Resolves the worker pool an address dispatches to: the event options, then the {@code @Verticle} of its package.
+     *
+     * @return the pool name, or null for the default worker pool or an event loop consumer
+     */
+    private static String workerPool(String address, VertxEventDefinition definition) {
+        if (definition == null || !definition.options().worker()) {
+            return null;
+        }
+        String pool = definition.options().workerPool();
+        if (pool != null && !pool.isEmpty()) {
+            return pool;
+        }
+        Class<?> targetClass = VertxEventRegistry.getEventConsumerMethodClasses().getOrDefault(address,
+                VertxEventRegistry.getEventConsumerClass().get(address));
+        return targetClass == null ? null : VerticleBuilder.getVerticleAnnotation(targetClass)
+                .map(Verticle::value)
+                .filter(value -> !value.isEmpty())
+                .orElse(null);
+    }
+
+    /**
+     * @return whether an address other than the given one dispatches to the pool
+     */
+    private static boolean sharesPool(String address, String pool) {
+        for (var entry : VertxEventRegistry.getEventConsumerDefinitions().entrySet()) {
+            if (!entry.getKey().equals(address) && pool.equals(workerPool(entry.getKey(), entry.getValue()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Deploys a consumer verticle with the current options next to the one owning the address, then undeploys the old one.
+     *
+     * @return the new deployment id, or null when the address is not hosted by its own consumer verticle
+     */
+    private static Future<String> redeploy(Vertx vertx, String address, VertxEventDefinition definition) {
+        VertxRuntime runtime = VertxRuntime.of(vertx);
+        String previous = runtime.getConsumerDeployments().get(address);
+        if (previous == null) {
+            log.info("'{}' is not hosted by its own consumer verticle (multiplexed, manual or inactive lazy consumer), "
+                    + "the new options apply per message only", address);
+            return Future.succeededFuture();
+        }
+        Method targetMethod;
+        Class<?> targetClass;
+        if (VertxEventRegistry.getEventConsumerMethods().containsKey(address)) {
+            targetMethod = VertxEventRegistry.getEventConsumerMethods().get(address);
+            targetClass = VertxEventRegistry.getEventConsumerMethodClasses().get(address);
+        } else {
+            targetClass = VertxEventRegistry.getEventConsumerClass().get(address);
+            try {
+                targetMethod = targetClass.getMethod("consume", Message.class);
+            } catch (NoSuchMethodException e) {
+                return Future.failedFuture(new IllegalStateException("No consume(Message) method found for class " + targetClass.getName(), e));
+            }
+        }
+        DeploymentOptions options = VertxConsumersStartup.deploymentOptions(address, definition, targetClass);
+        return vertx.deployVerticle(() -> new EventConsumerVerticle(address, definition, targetMethod, targetClass, true), options)
+                .compose(id -> vertx.undeploy(previous)
+                        .onFailure(t -> log.warn("Could not undeploy the previous consumer of {} [{}]: {}", address, previous, t.getMessage()))
+                        .transform(_ -> Future.succeededFuture(id)))
+                .onSuccess(id -> log.info("🔁 Redeployed consumer of '{}' [{} -> {}] with {} instance(s)", address, previous, id,
+                        options.getInstances()))
+                .onFailure(t -> log.error("Could not redeploy the consumer of {}, the previous deployment keeps running: {}",
+                        address, t.getMessage(), t));
+    }
+
+    /**
+     * Registers the local consumer of {@link #CONTROL_ADDRESS} when {@code VERTX_EVENT_OPTIONS_CONTROL=true}.
+     * It stays off the cluster, so other nodes cannot change this node's consumers.
+     *
+     * @param vertx the Vert.x instance
+     */
+    public static synchronized void registerControlConsumer(Vertx vertx) {
+        if (controlConsumer != null
+                || !Boolean.parseBoolean(com.guicedee.client.Environment.getSystemPropertyOrEnvironment("VERTX_EVENT_OPTIONS_CONTROL", "false"))) {
+            return;
+        }
+        controlConsumer = vertx.eventBus().localConsumer(CONTROL_ADDRESS, message -> {
+            JsonObject body = message.body();
+            if (body == null) {
+                message.fail(400, "Expected {\"address\": ..., \"options\": {...}}");
+                return;
+            }
+            update(vertx, body.getString("address"), body.getJsonObject("options"))
+                    .onSuccess(message::reply)
+                    .onFailure(t -> message.fail(t instanceof IllegalArgumentException ? 400 : 500, String.valueOf(t.getMessage())));
+        });
+        log.debug("Registered event options control consumer on {}", CONTROL_ADDRESS);
+    }
+
+    /**
+     * Drops every override. Called during context destroy.
+     */
+    public static synchronized void reset() {
+        overrides.clear();
+        pending.clear();
+        VertxEventRegistry.invalidateResolvedOptions();
+        controlConsumer = null;
+    }
+
+    /**
+     * @param name an option name, e.g. {@code workerPoolSize}
+     * @return its key, e.g. {@code VERTX_EVENT_WORKER_POOL_SIZE}
+     */
+    static String optionKey(String name) {
+        return "VERTX_EVENT_" + name.replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase();
+    }
+
+    private static String optionName(String key) {
+        String[] words = key.substring("VERTX_EVENT_".length()).toLowerCase().split("_");
+        StringBuilder name = new StringBuilder(words[0]);
+        for (int i = 1; i < words.length; i++) {
+            name.append(Character.toUpperCase(words[i].charAt(0))).append(words[i].substring(1));
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,84 @@
+package com.guicedee.vertx.spi;
+
+import io.vertx.core.json.JsonObject;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Instances of one kind of state kept per address, worker pool, codec or event loop, created on first use.
+ * <p>
+ * Circuit breakers, concurrency limiters, reply caches, priority schedulers and the metrics recorders all follow the
+ * same pattern: a lookup on the dispatch path that creates the instance the first time a key is seen, a map view for
+ * inspection, a clear during context destroy and a JSON view of every instance ordered by key. The dispatch path
+ * state is kept per {@link VertxRuntime}, see {@link VertxRuntime#registryOf(Class)}.
+ *
+ * @param <T> the instance type
+ */
+public class KeyedRegistry<T> {
+
+    private final Map<String, T> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the instance for a key, creating it on first use.
+     *
+     * @param key     the address, pool or codec name
+     * @param factory creates the instance for a key not seen before
+     * @return the instance
+     */
+    public T get(String key, Function<String, ? extends T> factory) {
+        T existing = entries.get(key);
+        return existing != null ? existing : entries.computeIfAbsent(key, factory);
+    }
+
+    /**
+     * @param key the address, pool or codec name
+     * @return the instance for the key, or null when none was created
+     */
+    public T find(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * @return the live map of instances by key
+     */
+    public Map<String, T> asMap() {
+        return entries;
+    }
+
+    /**
+     * @return the live instances
+     */
+    public Collection<T> values() {
+        return entries.values();
+    }
+
+    /**
+     * @return the number of instances
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drops every instance.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Renders every instance under its key, ordered by key.
+     *
+     * @param renderer renders one instance
+     * @return the instances by key
+     */
+    public JsonObject toJson(Function<? super T, JsonObject> renderer) {
+        JsonObject json = new JsonObject();
+        new TreeMap<>(entries).forEach((key, value) -> json.put(key, renderer.apply(value)));
+        return json;
+    }
+}
@@ -0,0 +1,184 @@
+package com.guicedee.vertx.spi;
+
+import com.guicedee.vertx.VertxEventDefinition;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Defers the deployment of consumers marked {@code lazy} until they are first used.
+ * <p>
+ * At startup each lazy address only gets a placeholder handler on the event bus, registered in the context of the
+ * verticle running {@link VertxConsumersStartup}. The first message, or an explicit {@link #activate(String)},
+ * deploys the real {@link EventConsumerVerticle} with the options it would have had at boot, which is also when
+ * the consumer class is first instantiated through Guice. Messages that reach the placeholder before the
+ * consumer is up are dispatched directly, so nothing is lost or failed. Once deployed, the placeholder is
+ * unregistered.
+ * <p>
+ * While a consumer activates, a published message may reach both the placeholder and the new consumer and be
+ * handled twice; point-to-point messages are handled once.
+ */
+@Log4j2
+public class LazyConsumerDispatcher {
+
+    /**
+     * Lazy consumers by address, kept after activation
+     */
+    @Getter
+    private static final Map<String, LazyConsumer> lazyConsumers = new ConcurrentHashMap<>();
+
+    private LazyConsumerDispatcher() {
+    }
+
+    /**
+     * Registers a placeholder for a lazy consumer.
+     *
+     * @param vertx        the Vert.x instance
+     * @param address      the event bus address
+     * @param definition   the consumer definition
+     * @param targetMethod the consumer method
+     * @param targetClass  the consumer class
+     * @param options      the deployment options used on activation
+     * @return completes once the placeholder is registered
+     */
+    static Future<Void> register(Vertx vertx, String address, VertxEventDefinition definition, Method targetMethod,
+                                 Class<?> targetClass, DeploymentOptions options) {
+        LazyConsumer lazy = new LazyConsumer(vertx, address, definition, targetMethod, targetClass, options);
+        if (lazyConsumers.putIfAbsent(address, lazy) != null) {
+            log.debug("Lazy consumer for address '{}' already registered, skipping duplicate", address);
+            return Future.succeededFuture();
+        }
+        boolean localOnly = definition != null && definition.options().localOnly();
+        MessageConsumer<Object> placeholder = localOnly ? vertx.eventBus().localConsumer(address) : vertx.eventBus().consumer(address);
+        lazy.placeholder = placeholder;
+        placeholder.handler(lazy::onPlaceholderMessage);
+        log.debug("Registered lazy placeholder on address '{}' (localOnly={})", address, localOnly);
+        return placeholder.completion();
+    }
+
+    /**
+     * Deploys a lazy consumer now instead of on its first message.
+     *
+     * @param address the event bus address
+     * @return the deployment id once the consumer is deployed
+     */
+    public static Future<String> activate(String address) {
+        LazyConsumer lazy = lazyConsumers.get(address);
+        if (lazy == null) {
+            return Future.failedFuture("No lazy consumer registered for address " + address);
+        }
+        return lazy.activate();
+    }
+
+    /**
+     * Deploys every lazy consumer that is not active yet.
+     *
+     * @return completes once all are deployed
+     */
+    public static Future<Void> activateAll() {
+        List<Future<String>> activations = new ArrayList<>();
+        lazyConsumers.values().forEach(lazy -> activations.add(lazy.activate()));
+        return Future.all(activations).mapEmpty();
+    }
+
+    /**
+     * @param address the event bus address
+     * @return whether the address is a lazy consumer that has been deployed
+     */
+    public static boolean isActive(String address) {
+        LazyConsumer lazy = lazyConsumers.get(address);
+        return lazy != null && lazy.isActive();
+    }
+
+    /**
+     * Drops all lazy consumers. Called during context destroy.
+     */
+    public static void reset() {
+        lazyConsumers.clear();
+    }
+
+    /**
+     * A consumer waiting for its first message
+     */
+    public static final class LazyConsumer {
+        private final Vertx vertx;
+        @Getter
+        private final String address;
+        private final VertxEventDefinition definition;
+        private final Method targetMethod;
+        private final Class<?> targetClass;
+        private final DeploymentOptions options;
+        private volatile MessageConsumer<Object> placeholder;
+        private Promise<String> activation;
+
+        LazyConsumer(Vertx vertx, String address, VertxEventDefinition definition, Method targetMethod, Class<?> targetClass,
+                     DeploymentOptions options) {
+            this.vertx = vertx;
+            this.address = address;
+            this.definition = definition;
+            this.targetMethod = targetMethod;
+            this.targetClass = targetClass;
+            this.options = options;
+        }
+
+        /**
+         * @return whether the consumer has been deployed
+         */
+        public synchronized boolean isActive() {
+            return activation != null && activation.future().succeeded();
+        }
+
+        private void onPlaceholderMessage(Message<Object> message) {
+            Future<String> activated = activate();
+            if (activated.succeeded() && !message.isSend()) {
+                // The deployed consumer received this published message too
+                return;
+            }
+            EventConsumerVerticle.dispatch(vertx, message, targetMethod, targetClass, definition);
+        }
+
+        /**
+         * Deploys the consumer on the first call; later calls return the same result.
+         *
+         * @return the deployment id once the consumer is deployed
+         */
+        public Future<String> activate() {
+            Promise<String> started;
+            synchronized (this) {
+                if (activation != null) {
+                    return activation.future();
+                }
+                started = Promise.promise();
+                activation = started;
+            }
+            log.info("Activating lazy consumer for address '{}'", address);
+            vertx.deployVerticle(() -> new EventConsumerVerticle(address, definition, targetMethod, targetClass), new DeploymentOptions(options))
+                    .compose(id -> {
+                        MessageConsumer<Object> current = placeholder;
+                        if (current == null) {
+                            return Future.succeededFuture(id);
+                        }
+                        // The consumer is up either way; a placeholder that fails to unregister only costs duplicates
+                        return current.unregister()
+                                .onFailure(t -> log.warn("Could not unregister lazy placeholder for {}: {}", address, t.getMessage()))
+                                .transform(_ -> Future.succeededFuture(id));
+                    })
+                    .onSuccess(id -> log.debug("Deployed lazy consumer verticle [{}] for address {}", id, address))
+                    .onFailure(t -> log.error("Failed to activate lazy consumer for {}, the placeholder keeps dispatching: {}",
+                            address, t.getMessage(), t))
+                    .onComplete(started);
+            return started.future();
+        }
+    }
+}
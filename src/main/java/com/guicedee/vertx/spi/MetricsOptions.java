@@ -14,4 +14,42 @@ public @interface MetricsOptions
      * @return
      */
     boolean enabled() default false;
+
+    /**
+     * Installs the built-in per-address event bus metrics when metrics are enabled.
+     * Set to false to let Vert.x discover another metrics implementation instead.
+     * @return
+     */
+    boolean eventBusMetrics() default true;
+
+    /**
+     * Address on which a snapshot of the per-address metrics is published periodically, empty to disable
+     * @return
+     */
+    String statsAddress() default "";
+
+    /**
+     * Interval in milliseconds between snapshots published on the stats address
+     * @return
+     */
+    long statsIntervalMs() default 10000L;
+
+    /**
+     * Interval in milliseconds between lag probes on each event loop, 0 to disable the probe
+     * @return
+     */
+    long eventLoopProbeIntervalMs() default 100L;
+
+    /**
+     * Share of codec encode and decode calls measured for payload size and cost, 0 to disable, 1 for every call
+     * @return
+     */
+    double codecSampleRate() default 0.0;
+
+    /**
+     * Time between requests used to correct consumer {@code totalTime} for coordinated omission in snapshots,
+     * 0 to use each address's observed mean arrival interval
+     * @return
+     */
+    long expectedIntervalMs() default 0L;
 }
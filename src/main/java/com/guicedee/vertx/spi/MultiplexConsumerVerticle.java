@@ -0,0 +1,128 @@
+package com.guicedee.vertx.spi;
+
+import com.guicedee.vertx.VertxEventDefinition;
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import lombok.extern.log4j.Log4j2;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hosts the consumers of many addresses in one verticle, and so on one event loop context.
+ * <p>
+ * Used when {@code VERTX_CONSUMER_MULTIPLEX} is {@code package} or {@code eventloop}, in place of one
+ * {@link EventConsumerVerticle} per address. Every address gets its own {@link MessageConsumer}, and all of them
+ * share one handler that looks up the consumer in the address table. Dispatch itself is unchanged: worker consumers
+ * still run on their worker pools.
+ * <p>
+ * Routes are given at construction, or added later with {@link #host(Map)}, which registers them on the verticle's
+ * own context. That lets the {@code eventloop} mode keep one set of verticles for every package.
+ */
+@Log4j2
+public class MultiplexConsumerVerticle extends AbstractVerticle {
+
+    /**
+     * A consumer hosted by the verticle
+     *
+     * @param address      the event bus address
+     * @param definition   the consumer definition
+     * @param targetMethod the consumer method
+     * @param targetClass  the consumer class
+     */
+    public record Route(String address, VertxEventDefinition definition, Method targetMethod, Class<?> targetClass) {
+    }
+
+    /**
+     * The address table
+     */
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+
+    /**
+     * Routes given at construction, registered when the verticle starts
+     */
+    private final Map<String, Route> initialRoutes;
+
+    /**
+     * @param routes the consumers to host, keyed by address
+     */
+    public MultiplexConsumerVerticle(Map<String, Route> routes) {
+        this.initialRoutes = Map.copyOf(routes);
+    }
+
+    /**
+     * @return the consumers hosted so far, keyed by address
+     */
+    public Map<String, Route> getRoutes() {
+        return Collections.unmodifiableMap(routes);
+    }
+
+    @Override
+    public void start(Promise<Void> startPromise) {
+        try {
+            register(initialRoutes).onComplete(startPromise);
+        } catch (Throwable t) {
+            log.error("Failed to start MultiplexConsumerVerticle for {}", initialRoutes.keySet(), t);
+            startPromise.tryFail(t);
+        }
+    }
+
+    /**
+     * Hosts more consumers on this deployed verticle, registering them on its context.
+     *
+     * @param routes the consumers to add, keyed by address
+     * @return completes once every consumer is registered
+     */
+    public Future<Void> host(Map<String, Route> routes) {
+        if (context == null) {
+            return Future.failedFuture(new IllegalStateException("MultiplexConsumerVerticle is not deployed"));
+        }
+        Promise<Void> registered = Promise.promise();
+        context.runOnContext(_ -> {
+            try {
+                register(routes).onComplete(registered);
+            } catch (Throwable t) {
+                log.error("Failed to host consumers for {}", routes.keySet(), t);
+                registered.tryFail(t);
+            }
+        });
+        return registered.future();
+    }
+
+    private Future<Void> register(Map<String, Route> added) {
+        List<Future<Void>> registrations = new ArrayList<>();
+        for (Route route : added.values()) {
+            // Guard against duplicate registration for the same address
+            if (!VertxRuntime.of(vertx).getRegisteredAddresses().add(route.address())) {
+                log.debug("Consumer for address '{}' already registered, skipping duplicate", route.address());
+                continue;
+            }
+            boolean localOnly = route.definition() != null && route.definition().options().localOnly();
+            MessageConsumer<Object> consumer = localOnly
+                    ? vertx.eventBus().localConsumer(route.address())
+                    : vertx.eventBus().consumer(route.address());
+            routes.put(route.address(), route);
+            consumer.handler(this::route);
+            registrations.add(consumer.completion());
+            com.guicedee.vertx.metrics.EventLoopProbe.assign(route.address());
+        }
+        log.debug("Registered {} consumers in {}", registrations.size(), getClass().getSimpleName());
+        return Future.all(registrations).mapEmpty();
+    }
+
+    private void route(Message<Object> message) {
+        Route route = routes.get(message.address());
+        if (route == null) {
+            message.fail(404, "No consumer for address " + message.address());
+            return;
+        }
+        EventConsumerVerticle.dispatch(vertx, message, route.targetMethod(), route.targetClass(), route.definition());
+    }
+}
@@ -0,0 +1,254 @@
+package com.guicedee.vertx.spi;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded multi-level queue placed in front of a worker pool.
+ * <p>
+ * Every worker task dispatched to the pool goes through the scheduler: while fewer than {@code maxInFlight} tasks
+ * (the real pool size) are running, tasks start at once, otherwise they queue in one FIFO lane per priority level
+ * and the highest non-empty lane is drained first as pool tasks finish, so health checks and control messages
+ * overtake queued bulk traffic once the pool is saturated. Addresses without priority settings use lane 0. When the
+ * queue is full the newest task of the lowest lane is rejected, or the incoming task itself if nothing queued has a
+ * lower priority, and the message is failed with {@link #QUEUE_FULL_FAILURE_CODE}.
+ * <p>
+ * Tasks that complete synchronously are drained in a loop rather than from each completion callback, so a long
+ * queue of fast tasks cannot overflow the stack.
+ */
+@Log4j2
+public class PriorityLaneScheduler {
+
+    /**
+     * Failure code used when a message is rejected because the priority queue of its pool is full. Negative, so it
+     * cannot collide with a code a consumer passes to {@code message.fail(...)}.
+     */
+    public static final int QUEUE_FULL_FAILURE_CODE = -507;
+
+    /**
+     * @return the schedulers of the runtime owning the calling thread, see {@link VertxRuntime#registryOf(Class)}
+     */
+    private static KeyedRegistry<PriorityLaneScheduler> schedulers() {
+        return VertxRuntime.registryOf(PriorityLaneScheduler.class);
+    }
+
+    @Getter
+    private final String name;
+    private final int maxInFlight;
+    private final int capacity;
+
+    private final TreeMap<Integer, ArrayDeque<Task>> lanes = new TreeMap<>(Comparator.reverseOrder());
+    /**
+     * Written under the monitor, read without it on the completion path
+     */
+    private volatile int queued;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder overtaken = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private record Task(int priority, Supplier<Future<Void>> work, Promise<Void> promise, Runnable onReject) {
+    }
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param name        the worker pool name the scheduler fronts
+     * @param maxInFlight tasks allowed to run concurrently, the pool size
+     * @param capacity    maximum queued tasks across all lanes
+     */
+    public PriorityLaneScheduler(String name, int maxInFlight, int capacity) {
+        this.name = name;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * @return schedulers created so far on the current runtime, keyed by worker pool name
+     */
+    public static Map<String, PriorityLaneScheduler> getSchedulers() {
+        return schedulers().asMap();
+    }
+
+    /**
+     * Returns the shared scheduler for a worker pool, creating it on first use.
+     *
+     * @param name        the worker pool name
+     * @param maxInFlight tasks allowed to run concurrently, the pool size
+     * @param capacity    maximum queued tasks across all lanes
+     * @return the scheduler
+     */
+    public static PriorityLaneScheduler forPool(String name, int maxInFlight, int capacity) {
+        return schedulers().get(name, n -> new PriorityLaneScheduler(n, maxInFlight, capacity));
+    }
+
+    /**
+     * Drops the schedulers of the current runtime; context destroy drops them with {@link VertxRuntime#reset()}.
+     */
+    public static void reset() {
+        schedulers().clear();
+    }
+
+    /**
+     * Runs the task now if a slot is free, otherwise queues it in its priority lane.
+     *
+     * @param priority higher values run first
+     * @param work     starts the task and returns its completion
+     * @param onReject invoked when the task is rejected because the queue is full
+     * @return completes when the task completes, or once the rejection has been handled
+     */
+    public Future<Void> submit(int priority, Supplier<Future<Void>> work, Runnable onReject) {
+        return submit(priority, capacity, work, onReject);
+    }
+
+    /**
+     * Runs the task now if a slot is free, otherwise queues it in its priority lane.
+     *
+     * @param priority higher values run first
+     * @param capacity maximum queued tasks across all lanes before this task or a lower one is rejected
+     * @param work     starts the task and returns its completion
+     * @param onReject invoked when the task is rejected because the queue is full
+     * @return completes when the task completes, or once the rejection has been handled
+     */
+    public Future<Void> submit(int priority, int capacity, Supplier<Future<Void>> work, Runnable onReject) {
+        Task task = new Task(priority, work, Promise.promise(), onReject);
+        Task victim = null;
+        boolean runNow = false;
+        synchronized (this) {
+            if (queued == 0 && inFlight.get() < maxInFlight) {
+                inFlight.incrementAndGet();
+                runNow = true;
+            } else if (queued < Math.max(1, capacity)) {
+                enqueue(task);
+            } else {
+                Map.Entry<Integer, ArrayDeque<Task>> lowest = lanes.lastEntry();
+                if (lowest != null && lowest.getKey() < priority) {
+                    victim = lowest.getValue().pollLast();
+                    if (lowest.getValue().isEmpty()) {
+                        lanes.remove(lowest.getKey());
+                    }
+                    queued--;
+                    enqueue(task);
+                } else {
+                    victim = task;
+                }
+            }
+        }
+        if (victim != null) {
+            reject(victim);
+        }
+        if (runNow) {
+            run(task);
+        } else if (victim != task) {
+            // A slot may have been released between the occupancy check and the enqueue
+            run(claimNext());
+        }
+        return task.promise().future();
+    }
+
+    private void enqueue(Task task) {
+        if (!lanes.isEmpty() && lanes.lastKey() < task.priority()) {
+            overtaken.increment();
+        }
+        lanes.computeIfAbsent(task.priority(), _ -> new ArrayDeque<>()).addLast(task);
+        queued++;
+    }
+
+    private static Future<Void> start(Supplier<Future<Void>> work) {
+        try {
+            return work.get();
+        } catch (Throwable t) {
+            return Future.failedFuture(t);
+        }
+    }
+
+    /**
+     * Runs a task holding a slot, then every queued task the slot is handed to. Tasks that complete synchronously
+     * are drained by this loop; the first asynchronous one continues the drain from its completion.
+     */
+    private void run(Task first) {
+        Task task = first;
+        while (task != null) {
+            Task current = task;
+            Future<Void> started = start(current.work());
+            if (!started.isComplete()) {
+                started.onComplete(ar -> {
+                    complete(current, ar);
+                    run(releaseAndPoll());
+                });
+                return;
+            }
+            complete(current, started);
+            task = releaseAndPoll();
+        }
+    }
+
+    private void complete(Task task, AsyncResult<Void> result) {
+        executed.increment();
+        task.promise().handle(result);
+    }
+
+    /**
+     * Releases a slot and claims it back for the highest queued task, if any.
+     */
+    private Task releaseAndPoll() {
+        inFlight.decrementAndGet();
+        return queued == 0 ? null : claimNext();
+    }
+
+    private synchronized Task claimNext() {
+        Map.Entry<Integer, ArrayDeque<Task>> highest = lanes.firstEntry();
+        if (highest == null || inFlight.get() >= maxInFlight) {
+            return null;
+        }
+        Task next = highest.getValue().pollFirst();
+        if (highest.getValue().isEmpty()) {
+            lanes.remove(highest.getKey());
+        }
+        queued--;
+        inFlight.incrementAndGet();
+        return next;
+    }
+
+    private void reject(Task task) {
+        rejected.increment();
+        log.warn("Priority queue for pool {} is full, rejecting priority {} message", name, task.priority());
+        try {
+            task.onReject().run();
+        } catch (Throwable t) {
+            log.error("Error rejecting queued message on pool {}: {}", name, t.getMessage(), t);
+        }
+        task.promise().tryComplete();
+    }
+
+    /**
+     * @return a point-in-time view of the scheduler
+     */
+    public synchronized JsonObject toJson() {
+        JsonObject lanesJson = new JsonObject();
+        lanes.forEach((priority, lane) -> lanesJson.put(String.valueOf(priority), lane.size()));
+        return new JsonObject()
+                .put("pool", name)
+                .put("maxInFlight", maxInFlight)
+                .put("capacity", capacity)
+                .put("inFlight", inFlight.get())
+                .put("queued", queued)
+                .put("lanes", lanesJson)
+                .put("executed", executed.sum())
+                .put("overtaken", overtaken.sum())
+                .put("rejected", rejected.sum());
+    }
+}
@@ -0,0 +1,322 @@
+package com.guicedee.vertx.spi;
+
+import com.guicedee.client.IGuiceContext;
+import com.guicedee.vertx.index.EventIndex;
+import io.github.classgraph.ScanResult;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Snapshot of the resolved discovery state, saved after one boot and reused by the next.
+ * <p>
+ * Set {@code VERTX_REGISTRY_SNAPSHOT} to a file path to enable it. The snapshot holds:
+ * <ul>
+ *   <li>every consumer and publisher with its payload type and codec name, in the {@link EventIndex} line format</li>
+ *   <li>the answer to every annotation lookup made at startup through {@link #classesWithAnnotation},
+ *       {@link #packagesWithAnnotation} and {@link #classNamesImplementing}: the {@code @VertX} and options classes,
+ *       {@code @Verticle} classes and packages, the auth providers, and the auth, Redis and gRPC option carriers</li>
+ * </ul>
+ * The snapshot is stamped with a fingerprint of every class path and module path entry: its name, size and
+ * modification time, and for a directory also those of its event index. Files inside directories are not walked,
+ * so a snapshot taken against exploded class directories should be deleted after a rebuild that leaves their index
+ * untouched. When the fingerprint matches, lookups are answered from the
+ * snapshot and only the named classes are loaded; otherwise the scan result is queried as before and a new
+ * snapshot is written once the verticles are found. A lookup the snapshot does not hold falls back to the scan.
+ * <p>
+ * Write the snapshot in a training run, for example the same run that records a CDS archive or AOT cache, and ship
+ * it with the image.
+ */
+@Log4j2
+public class RegistrySnapshot {
+
+    static final String HEADER = "# GuicedEE Vert.x registry snapshot";
+
+    private static final String FINGERPRINT = "F";
+    private static final String EVENT = "E";
+    private static final String LOOKUP = "L";
+
+    /**
+     * Lookups answered this boot, keyed by lookup, in the order they were made
+     */
+    private static final Map<String, List<String>> recorded = new ConcurrentHashMap<>();
+
+    private static volatile Loaded loaded;
+    private static volatile boolean loadAttempted;
+
+    private RegistrySnapshot() {
+    }
+
+    /**
+     * What a valid snapshot file held
+     */
+    private record Loaded(EventIndex events, Map<String, List<String>> lookups) {
+    }
+
+    /**
+     * @return the configured snapshot file, or empty when snapshots are disabled
+     */
+    public static Optional<Path> path() {
+        String configured = com.guicedee.client.Environment.getSystemPropertyOrEnvironment("VERTX_REGISTRY_SNAPSHOT", "");
+        return configured == null || configured.isBlank() ? Optional.empty() : Optional.of(Path.of(configured.trim()));
+    }
+
+    /**
+     * @return the consumers and publishers of a valid snapshot, or empty when there is none
+     */
+    public static Optional<EventIndex> events() {
+        Loaded snapshot = load();
+        return snapshot == null ? Optional.empty() : Optional.of(snapshot.events());
+    }
+
+    /**
+     * Finds the classes annotated with the given annotation.
+     *
+     * @param annotation the annotation
+     * @return the annotated classes, from the snapshot when it is valid
+     */
+    public static List<Class<?>> classesWithAnnotation(Class<? extends Annotation> annotation) {
+        List<Class<?>> classes = new ArrayList<>();
+        ClassLoader loader = classLoader();
+        for (String className : classNamesWithAnnotation(annotation.getName())) {
+            try {
+                classes.add(Class.forName(className, false, loader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.warn("Could not load {} annotated with @{}: {}", className, annotation.getSimpleName(), e.toString());
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Finds the names of the classes annotated with the given annotation, without loading them.
+     * Looking up by name lets optional annotations be queried when their module is absent.
+     *
+     * @param annotationName the annotation class name
+     * @return the annotated class names, from the snapshot when it is valid
+     */
+    public static List<String> classNamesWithAnnotation(String annotationName) {
+        return lookup("class:" + annotationName, scan -> scan.getClassesWithAnnotation(annotationName).getNames());
+    }
+
+    /**
+     * Finds the names of the classes implementing the given interface, without loading them.
+     *
+     * @param interfaceName the interface class name
+     * @return the implementing class names, from the snapshot when it is valid
+     */
+    public static List<String> classNamesImplementing(String interfaceName) {
+        return lookup("implements:" + interfaceName, scan -> scan.getClassesImplementing(interfaceName).getNames());
+    }
+
+    /**
+     * Finds the packages whose {@code package-info} carries the given annotation.
+     *
+     * @param annotationName the annotation class name
+     * @return the package names, from the snapshot when it is valid
+     */
+    public static List<String> packagesWithAnnotation(String annotationName) {
+        return lookup("package:" + annotationName, _ -> AnnotationIndex.packagesWithAnnotation(annotationName));
+    }
+
+    private static List<String> lookup(String key, java.util.function.Function<ScanResult, List<String>> query) {
+        Loaded snapshot = load();
+        if (snapshot != null && snapshot.lookups().containsKey(key)) {
+            return snapshot.lookups().get(key);
+        }
+        ScanResult scanResult = IGuiceContext.instance().getScanResult();
+        List<String> names = scanResult == null ? List.of() : List.copyOf(query.apply(scanResult));
+        recorded.put(key, names);
+        return names;
+    }
+
+    /**
+     * Writes the snapshot when enabled and the loaded one was missing, stale or incomplete.
+     * Called once the verticles have been found, after every startup lookup.
+     */
+    public static void save() {
+        Optional<Path> target = path();
+        if (target.isEmpty()) {
+            return;
+        }
+        Loaded snapshot = load();
+        if (snapshot != null && recorded.isEmpty()) {
+            return;
+        }
+        Map<String, List<String>> lookups = new LinkedHashMap<>();
+        if (snapshot != null) {
+            lookups.putAll(snapshot.lookups());
+        }
+        lookups.putAll(recorded);
+        List<EventIndex.Entry> events = snapshot != null ? snapshot.events().getEntries() : currentEvents();
+        Path file = target.get();
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                writer.write(FINGERPRINT + "\t" + fingerprint());
+                writer.newLine();
+                for (EventIndex.Entry entry : events) {
+                    writer.write(EVENT + "\t" + entry.toLine());
+                    writer.newLine();
+                }
+                for (var lookup : lookups.entrySet()) {
+                    writer.write(LOOKUP + "\t" + lookup.getKey() + "\t" + String.join(",", lookup.getValue()));
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Wrote Vert.x registry snapshot {} ({} events, {} lookups)", file, events.size(), lookups.size());
+        } catch (IOException e) {
+            log.warn("Could not write Vert.x registry snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Drops the loaded snapshot and recorded lookups. Called during context destroy.
+     */
+    public static synchronized void reset() {
+        loaded = null;
+        loadAttempted = false;
+        recorded.clear();
+    }
+
+    private static synchronized Loaded load() {
+        if (loadAttempted) {
+            return loaded;
+        }
+        loadAttempted = true;
+        Optional<Path> file = path().filter(Files::isRegularFile);
+        if (file.isEmpty()) {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file.get(), StandardCharsets.UTF_8)) {
+            List<EventIndex.Entry> events = new ArrayList<>();
+            Map<String, List<String>> lookups = new LinkedHashMap<>();
+            String expected = fingerprint();
+            boolean fingerprintMatched = false;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split("\t", 2);
+                String value = parts.length > 1 ? parts[1] : "";
+                switch (parts[0]) {
+                    case FINGERPRINT -> fingerprintMatched = expected.equals(value);
+                    case EVENT -> events.add(EventIndex.Entry.parse(value));
+                    case LOOKUP -> {
+                        String[] lookup = value.split("\t", 2);
+                        String names = lookup.length > 1 ? lookup[1] : "";
+                        lookups.put(lookup[0], names.isEmpty() ? List.of() : List.of(names.split(",")));
+                    }
+                    default -> throw new IllegalArgumentException("Unknown snapshot line: " + line);
+                }
+            }
+            if (!fingerprintMatched) {
+                log.info("Vert.x registry snapshot {} does not match the class path, scanning", file.get());
+                return null;
+            }
+            loaded = new Loaded(EventIndex.of(events), Map.copyOf(lookups));
+            log.debug("Loaded Vert.x registry snapshot {} ({} events, {} lookups)", file.get(), events.size(), lookups.size());
+            return loaded;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read Vert.x registry snapshot {}, scanning: {}", file.get(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Builds event entries from the resolved registry.
+     */
+    private static List<EventIndex.Entry> currentEvents() {
+        List<EventIndex.Entry> entries = new ArrayList<>();
+        VertxEventRegistry.getEventConsumerClass().forEach((address, clazz) ->
+                entries.add(new EventIndex.Entry(EventIndex.Kind.CONSUMER_CLASS, clazz.getName(), null, address, null, null)));
+        VertxEventRegistry.getEventConsumerMethods().forEach((address, method) -> {
+            Class<?> owner = VertxEventRegistry.getEventConsumerMethodClasses().getOrDefault(address, method.getDeclaringClass());
+            entries.add(eventEntry(EventIndex.Kind.CONSUMER_METHOD, owner, method.getName(), address,
+                    VertxEventRegistry.methodPayloadType(method)));
+        });
+        VertxEventRegistry.getEventPublisherFields().forEach((address, field) ->
+                entries.add(eventEntry(EventIndex.Kind.PUBLISHER_FIELD, field.getDeclaringClass(), field.getName(), address,
+                        VertxEventRegistry.publisherPayloadType(field.getGenericType()))));
+        return entries;
+    }
+
+    private static EventIndex.Entry eventEntry(EventIndex.Kind kind, Class<?> owner, String member, String address, Type payload) {
+        return new EventIndex.Entry(kind, owner.getName(), member, address,
+                payload == null ? null : payload.getTypeName(), CodecRegistry.getCodecName(payload));
+    }
+
+    private static ClassLoader classLoader() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return loader != null ? loader : RegistrySnapshot.class.getClassLoader();
+    }
+
+    /**
+     * Hashes the name, size and modification time of every class path and module path entry, and of the event index
+     * inside directory entries.
+     *
+     * @return the class path fingerprint
+     */
+    public static String fingerprint() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String property : new String[]{"java.class.path", "jdk.module.path"}) {
+                String value = System.getProperty(property);
+                if (value == null || value.isBlank()) {
+                    continue;
+                }
+                for (String element : value.split(File.pathSeparator)) {
+                    if (!element.isBlank()) {
+                        digestPath(digest, Path.of(element));
+                    }
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void digestPath(MessageDigest digest, Path root) {
+        digest.update(root.toString().getBytes(StandardCharsets.UTF_8));
+        digestFile(digest, root);
+        if (Files.isDirectory(root)) {
+            digestFile(digest, root.resolve(EventIndex.RESOURCE));
+        }
+    }
+
+    private static void digestFile(MessageDigest digest, Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            digest.update((":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis() + ";").getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            digest.update(":missing;".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
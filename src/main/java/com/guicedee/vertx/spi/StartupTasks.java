@@ -0,0 +1,236 @@
+package com.guicedee.vertx.spi;
+
+import com.guicedee.vertx.metrics.StartupProfile;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Named asynchronous initialisation tasks that run concurrently during boot and are joined before post-startup.
+ * <p>
+ * Module initialisation that used to block the startup thread one step after another (OIDC discovery, reading key
+ * and policy files, binding servers) is submitted here instead. Each task:
+ * <ul>
+ *   <li>starts once the tasks it depends on have succeeded, and fails when one of them fails</li>
+ *   <li>fails with a {@link TimeoutException} when it runs longer than its timeout, {@code VERTX_STARTUP_TASK_TIMEOUT}
+ *       milliseconds by default (30000)</li>
+ *   <li>is recorded as a {@code task:<name>} phase in the {@link StartupProfile}</li>
+ * </ul>
+ * Blocking work runs unordered on the worker pool, so independent tasks overlap. {@link VertxVerticlePostStartup}
+ * waits for every task to settle, which holds back later post-startups such as the web server.
+ */
+@Log4j2
+public class StartupTasks {
+
+    private static final Map<String, Future<?>> tasks = new ConcurrentHashMap<>();
+
+    /**
+     * The key of the latest task submitted under each name, which differs from the name once a suffix was needed
+     */
+    private static final Map<String, String> latest = new ConcurrentHashMap<>();
+
+    private StartupTasks() {
+    }
+
+    /**
+     * @return the default task timeout
+     */
+    public static Duration defaultTimeout() {
+        return Duration.ofMillis(Long.parseLong(com.guicedee.client.Environment.getSystemPropertyOrEnvironment(
+                "VERTX_STARTUP_TASK_TIMEOUT", "30000")));
+    }
+
+    /**
+     * Runs blocking work on the worker pool once its dependencies have succeeded.
+     *
+     * @param name      the task name
+     * @param work      the blocking work
+     * @param dependsOn the names of tasks that must succeed first, submitted before this one
+     * @param <T>       the result type
+     * @return the task result
+     */
+    public static <T> Future<T> submitBlocking(String name, Callable<T> work, String... dependsOn) {
+        return submit(name, defaultTimeout(), () -> vertx().executeBlocking(work, false), dependsOn);
+    }
+
+    /**
+     * Starts asynchronous work once its dependencies have succeeded, with the default timeout.
+     *
+     * @param name      the task name
+     * @param work      starts the work and returns its completion
+     * @param dependsOn the names of tasks that must succeed first, submitted before this one
+     * @param <T>       the result type
+     * @return the task result
+     */
+    public static <T> Future<T> submit(String name, Supplier<Future<T>> work, String... dependsOn) {
+        return submit(name, defaultTimeout(), work, dependsOn);
+    }
+
+    /**
+     * Starts asynchronous work once its dependencies have succeeded.
+     *
+     * @param name      the task name, suffixed with {@code #2}, {@code #3}... while a task of that name is running
+     * @param timeout   how long the work may run once started
+     * @param work      starts the work and returns its completion
+     * @param dependsOn the names of tasks that must succeed first, submitted before this one; a name resolves to the
+     *                  latest task submitted under it
+     * @param <T>       the result type
+     * @return the task result
+     * @throws IllegalStateException when a dependency is unknown
+     */
+    public static <T> Future<T> submit(String name, Duration timeout, Supplier<Future<T>> work, String... dependsOn) {
+        List<Future<?>> dependencies = new ArrayList<>();
+        for (String dependency : dependsOn) {
+            Future<?> future = find(dependency);
+            if (future == null) {
+                throw new IllegalStateException("Startup task '" + name + "' depends on unknown task '" + dependency + "'");
+            }
+            dependencies.add(future);
+        }
+        Promise<T> result = Promise.promise();
+        register(name, result.future());
+        Future.all(dependencies)
+                .recover(t -> Future.failedFuture(new IllegalStateException(
+                        "Startup task '" + name + "' skipped, a dependency failed: " + t.getMessage(), t)))
+                .<T>compose(_ -> {
+                    StartupProfile.Stopwatch stopwatch = StartupProfile.start("task:" + name);
+                    Future<T> started;
+                    try {
+                        started = work.get();
+                    } catch (Throwable t) {
+                        started = Future.failedFuture(t);
+                    }
+                    return StartupProfile.track(stopwatch, null, withTimeout(name, timeout, started));
+                })
+                .onComplete(result);
+        return result.future();
+    }
+
+    /**
+     * Tracks work that has already been started, such as a server listen, with the default timeout.
+     *
+     * @param name   the task name
+     * @param future the work completion
+     * @param <T>    the result type
+     * @return the task result
+     */
+    public static <T> Future<T> track(String name, Future<T> future) {
+        return submit(name, () -> future);
+    }
+
+    /**
+     * @param name the task name, resolving to the latest task submitted under it
+     * @return the task result, or a failed future when no such task was submitted
+     */
+    public static Future<?> get(String name) {
+        Future<?> future = find(name);
+        return future != null ? future : Future.failedFuture("No startup task named " + name);
+    }
+
+    /**
+     * Blocks the calling thread until a task settles, returning at once when no task of that name was submitted.
+     * Only for callers that must run synchronously, such as Guice {@code configure()}; never call it on an event loop.
+     *
+     * @param name the task name
+     * @throws IllegalStateException when the task failed
+     */
+    public static void await(String name) {
+        Future<?> future = find(name);
+        if (future == null) {
+            return;
+        }
+        try {
+            // The task carries its own timeout, this only guards against one that never settles
+            future.toCompletionStage().toCompletableFuture().get(defaultTimeout().toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for startup task " + name, e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Startup task " + name + " failed", e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    /**
+     * Waits for every submitted task to settle. Failures are logged; the returned future always succeeds, callers
+     * that need a task's outcome read it through {@link #get(String)}.
+     *
+     * @return completes once no task is running
+     */
+    public static Future<Void> awaitAll() {
+        Map<String, Future<?>> all = Map.copyOf(tasks);
+        return Future.join(List.copyOf(all.values())).transform(_ -> {
+            long failed = 0;
+            for (var task : all.entrySet()) {
+                if (task.getValue().failed()) {
+                    failed++;
+                    log.error("❌ Startup task '{}' failed: {}", task.getKey(), task.getValue().cause().getMessage());
+                }
+            }
+            log.debug("{} startup task(s) settled, {} failed", all.size(), failed);
+            return Future.<Void>succeededFuture();
+        });
+    }
+
+    /**
+     * Drops all tasks. Called during context destroy.
+     */
+    public static void reset() {
+        tasks.clear();
+        latest.clear();
+    }
+
+    private static Future<?> find(String name) {
+        Future<?> future = tasks.get(latest.getOrDefault(name, name));
+        return future != null ? future : tasks.get(name);
+    }
+
+    private static void register(String name, Future<?> future) {
+        // A finished task of the same name is replaced; a running one keeps its name and the new task gets a suffix
+        String key = name;
+        for (int i = 2; ; i++) {
+            Future<?> existing = tasks.putIfAbsent(key, future);
+            if (existing == null || existing.isComplete() && tasks.replace(key, existing, future)) {
+                latest.put(name, key);
+                return;
+            }
+            key = name + "#" + i;
+        }
+    }
+
+    private static <T> Future<T> withTimeout(String name, Duration timeout, Future<T> future) {
+        if (future.isComplete() || timeout.isZero() || timeout.isNegative()) {
+            return future;
+        }
+        Promise<T> bounded = Promise.promise();
+        long timer = vertx().setTimer(timeout.toMillis(), _ -> bounded.tryFail(
+                new TimeoutException("Startup task '" + name + "' did not complete within " + timeout.toMillis() + "ms")));
+        future.onComplete(ar -> {
+            vertx().cancelTimer(timer);
+            if (ar.succeeded()) {
+                bounded.tryComplete(ar.result());
+            } else {
+                bounded.tryFail(ar.cause());
+            }
+        });
+        return bounded.future();
+    }
+
+    private static Vertx vertx() {
+        Vertx vertx = VertXPreStartup.getVertx();
+        if (vertx == null) {
+            throw new IllegalStateException("Startup tasks need the Vert.x instance, VertXPreStartup has not run");
+        }
+        return vertx;
+    }
+}
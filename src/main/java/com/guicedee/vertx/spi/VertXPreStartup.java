@@ -3,6 +3,16 @@ package com.guicedee.vertx.spi;
 import com.guicedee.client.IGuiceContext;
 import com.guicedee.client.services.lifecycle.IGuicePreDestroy;
 import com.guicedee.client.services.lifecycle.IGuicePreStartup;
+import com.guicedee.vertx.cache.ReplyCache;
+import com.guicedee.vertx.metrics.AddressMetrics;
+import com.guicedee.vertx.metrics.CodecMetrics;
+import com.guicedee.vertx.metrics.EventBusStatsPublisher;
+import com.guicedee.vertx.metrics.EventLoopProbe;
+import com.guicedee.vertx.metrics.GuicedVertxMetricsFactory;
+import com.guicedee.vertx.metrics.SlowConsumerWatchdog;
+import com.guicedee.vertx.metrics.StartupProfile;
+import com.guicedee.vertx.metrics.WorkerPoolMetrics;
+import com.guicedee.vertx.tracing.EventTracing;
 import io.vertx.core.Future;
 import io.vertx.core.Verticle;
 import io.vertx.core.Vertx;
@@ -10,11 +20,13 @@ import io.vertx.core.VertxBuilder;
 import io.vertx.core.VertxOptions;
 
 import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Bootstraps the shared Vert.x instance during Guice pre-startup and
@@ -26,9 +38,22 @@ import java.util.ServiceLoader;
  * are deployed. The Vert.x instance is cached and reused across calls.
  */
 @Getter
+@Log4j2
 public class VertXPreStartup implements IGuicePreStartup<VertXPreStartup>, IGuicePreDestroy<VertXPreStartup> {
     private static Vertx vertx;
 
+    /**
+     * The configured event loop pool size, from {@code @VertX} or the Vert.x default
+     */
+    @Getter
+    private static int eventLoopPoolSize = VertxOptions.DEFAULT_EVENT_LOOP_POOL_SIZE;
+
+    /**
+     * The configured size of the default worker pool, from {@code @VertX} or the Vert.x default
+     */
+    @Getter
+    private static int workerPoolSize = VertxOptions.DEFAULT_WORKER_POOL_SIZE;
+
     public static Optional<io.vertx.core.Verticle> getAssociatedVerticle(Class<?> clazz) {
         String packageName = clazz.getPackageName(); // Get package name of the class
         Map<String, Verticle> verticlePackages = VerticleBuilder.getVerticlePackages(); // Map of package prefixes to Verticles
@@ -43,6 +68,9 @@ public class VertXPreStartup implements IGuicePreStartup<VertXPreStartup>, IGuic
     @Override
     public List<Future<Boolean>> onStartup() {
         if (vertx == null) {
+            StartupProfile.markBootStart();
+            var onStartupTimer = StartupProfile.start("VertXPreStartup.onStartup");
+
             // Force CallScoper class loading so its ContextLocal key is registered
             // BEFORE the Vertx instance is created — Vert.x 5 requires all
             // ContextLocal keys to be registered before Vertx.builder().build().
@@ -66,32 +94,50 @@ public class VertXPreStartup implements IGuicePreStartup<VertXPreStartup>, IGuic
             VertxBuilder builder = Vertx.builder();
 
             // Configure Vertx options based on annotations
-            configureVertxOptions(builder);
+            StartupProfile.time("configureVertxOptions", () -> configureVertxOptions(builder));
 
             // Apply additional configurations from ServiceLoader
-            applyServiceLoaderConfigurations(builder);
+            StartupProfile.time("VertxConfigurator", () -> applyServiceLoaderConfigurations(builder));
 
             if (clusterMode) {
                 // Clustered mode — buildClustered() returns Future<Vertx>
-                return List.of(builder.buildClustered().map(clusteredVertx -> {
+                var clustered = StartupProfile.track("Vertx.buildClustered", null, builder.buildClustered());
+                return List.of(clustered.map(clusteredVertx -> {
                     vertx = clusteredVertx;
+                    VertxRuntime.bindPrimary(vertx);
                     // Scan event definitions early so codec registry has full type info
-                    VertxEventRegistry.scanAndRegisterEvents();
-                    // Register dynamic codecs for all event types up-front
-                    CodecRegistry.createAndRegisterCodecsForAllEventTypes(vertx);
+                    scanAndRegisterCodecs();
+                    ReplyCache.registerInvalidationConsumer(vertx);
+                    EventOptionsControl.registerControlConsumer(vertx);
+                    EventBusStatsPublisher.start(vertx);
+                    EventLoopProbe.start(vertx);
+                    onStartupTimer.stop();
                     return true;
                 }));
             }
 
             // Build the Vertx instance (non-clustered)
-            vertx = builder.build();
+            vertx = StartupProfile.time("Vertx.build", builder::build);
+            VertxRuntime.bindPrimary(vertx);
 
             // Scan event definitions early so codec registry has full type info
-            // This populates eventConsumerDefinitions and eventConsumerClass maps
-            VertxEventRegistry.scanAndRegisterEvents();
+            // This populates eventConsumerDefinitions and eventConsumerClass maps,
+            // then registers dynamic codecs for all event types up-front
+            scanAndRegisterCodecs();
+
+            // Control consumer used to invalidate consumer reply caches
+            ReplyCache.registerInvalidationConsumer(vertx);
+
+            // Control consumer used to change consumer options at runtime
+            EventOptionsControl.registerControlConsumer(vertx);
 
-            // Register dynamic codecs for all event types up-front
-            CodecRegistry.createAndRegisterCodecsForAllEventTypes(vertx);
+            // Periodic per-address metrics snapshots, when a stats address is configured
+            EventBusStatsPublisher.start(vertx);
+
+            // Per event loop lag probes, when metrics are enabled
+            EventLoopProbe.start(vertx);
+
+            onStartupTimer.stop();
 
             // Verticle deployment is deferred to VertxVerticlePostStartup (IGuicePostStartup)
             // so that VerticleStartup implementations can safely use the Guice injector.
@@ -99,15 +145,27 @@ public class VertXPreStartup implements IGuicePreStartup<VertXPreStartup>, IGuic
         return List.of(Future.succeededFuture(true));
     }
 
+    private static void scanAndRegisterCodecs() {
+        var scanTimer = StartupProfile.start("scanAndRegisterEvents");
+        VertxEventRegistry.scanAndRegisterEvents();
+        scanTimer.stop(new io.vertx.core.json.JsonObject()
+                .put("consumers", VertxEventRegistry.getEventConsumerDefinitions().size())
+                .put("publishers", VertxEventRegistry.getEventPublisherDefinitions().size()));
+
+        var codecTimer = StartupProfile.start("createAndRegisterCodecsForAllEventTypes");
+        CodecRegistry.createAndRegisterCodecsForAllEventTypes(vertx);
+        codecTimer.stop(new io.vertx.core.json.JsonObject().put("codecs", VertxRuntime.of(vertx).getRegisteredCodecs().size()));
+    }
+
 
     private void configureVertxOptions(VertxBuilder builder) {
         // Process the @VertX annotation
-        var vertxStaticConfig = IGuiceContext.instance().getScanResult().getClassesWithAnnotation(VertX.class);
+        var vertxStaticConfig = RegistrySnapshot.classesWithAnnotation(VertX.class);
         if (vertxStaticConfig.size() > 1) {
             throw new RuntimeException("Only one VertX class may be defined");
         }
         if (vertxStaticConfig.size() == 1) {
-            var clazz = vertxStaticConfig.getFirst().loadClass();
+            var clazz = vertxStaticConfig.getFirst();
             VertX annotation = clazz.getDeclaredAnnotation(VertX.class);
             if (annotation == null) {
                 throw new RuntimeException("Could not read VertX annotation from class");
@@ -209,6 +267,14 @@ public class VertXPreStartup implements IGuicePreStartup<VertXPreStartup>, IGuic
     }
 
     private void applyVertxAnnotation(VertxBuilder builder, VertX annotation) {
+        WorkerPoolMetrics.setDefaultBlockedThreshold(annotation.maxWorkerExecuteTime(), annotation.maxWorkerExecuteTimeUnit());
+        EventLoopProbe.setLoopCount(annotation.eventLoopPoolSize());
+        if (annotation.eventLoopPoolSize() > 0) {
+            eventLoopPoolSize = annotation.eventLoopPoolSize();
+        }
+        if (annotation.workerPoolSize() > 0) {
+            workerPoolSize = annotation.workerPoolSize();
+        }
         builder.with(new VertxOptions()
                 .setEventLoopPoolSize(annotation.eventLoopPoolSize())
                 .setWorkerPoolSize(annotation.workerPoolSize())
@@ -228,9 +294,9 @@ public class VertXPreStartup implements IGuicePreStartup<VertXPreStartup>, IGuic
     }
 
     private void processMetricsOptions(VertxBuilder builder) {
-        var metricsConfig = IGuiceContext.instance().getScanResult().getClassesWithAnnotation(MetricsOptions.class);
+        var metricsConfig = RegistrySnapshot.classesWithAnnotation(MetricsOptions.class);
         if (metricsConfig.size() == 1) {
-            var clazz = metricsConfig.getFirst().loadClass();
+            var clazz = metricsConfig.getFirst();
             MetricsOptions metricsAnnotation = clazz.getDeclaredAnnotation(MetricsOptions.class);
             if (metricsAnnotation != null) {
                 MetricsOptions wrappedMetrics = new MetricsOptions() {
@@ -243,18 +309,56 @@ public class VertXPreStartup implements IGuicePreStartup<VertXPreStartup>, IGuic
                     public boolean enabled() {
                         return Boolean.parseBoolean(com.guicedee.client.Environment.getSystemPropertyOrEnvironment("VERTX_METRICS_ENABLED", String.valueOf(metricsAnnotation.enabled())));
                     }
+
+                    @Override
+                    public boolean eventBusMetrics() {
+                        return Boolean.parseBoolean(com.guicedee.client.Environment.getSystemPropertyOrEnvironment("VERTX_METRICS_EVENT_BUS", String.valueOf(metricsAnnotation.eventBusMetrics())));
+                    }
+
+                    @Override
+                    public String statsAddress() {
+                        return com.guicedee.client.Environment.getSystemPropertyOrEnvironment("VERTX_METRICS_STATS_ADDRESS", metricsAnnotation.statsAddress());
+                    }
+
+                    @Override
+                    public long statsIntervalMs() {
+                        return Long.parseLong(com.guicedee.client.Environment.getSystemPropertyOrEnvironment("VERTX_METRICS_STATS_INTERVAL_MS", String.valueOf(metricsAnnotation.statsIntervalMs())));
+                    }
+
+                    @Override
+                    public long eventLoopProbeIntervalMs() {
+                        return Long.parseLong(com.guicedee.client.Environment.getSystemPropertyOrEnvironment("VERTX_METRICS_EVENT_LOOP_PROBE_INTERVAL_MS", String.valueOf(metricsAnnotation.eventLoopProbeIntervalMs())));
+                    }
+
+                    @Override
+                    public double codecSampleRate() {
+                        return Double.parseDouble(com.guicedee.client.Environment.getSystemPropertyOrEnvironment("VERTX_METRICS_CODEC_SAMPLE_RATE", String.valueOf(metricsAnnotation.codecSampleRate())));
+                    }
+
+                    @Override
+                    public long expectedIntervalMs() {
+                        return Long.parseLong(com.guicedee.client.Environment.getSystemPropertyOrEnvironment("VERTX_METRICS_EXPECTED_INTERVAL_MS", String.valueOf(metricsAnnotation.expectedIntervalMs())));
+                    }
                 };
                 builder.with(new VertxOptions()
                         .setMetricsOptions(new io.vertx.core.metrics.MetricsOptions().setEnabled(wrappedMetrics.enabled()))
                 );
+                if (wrappedMetrics.enabled() && wrappedMetrics.eventBusMetrics()) {
+                    builder.withMetrics(new GuicedVertxMetricsFactory());
+                }
+                EventBusStatsPublisher.configure(wrappedMetrics.statsAddress(), wrappedMetrics.statsIntervalMs());
+                EventLoopProbe.configure(wrappedMetrics.enabled() ? wrappedMetrics.eventLoopProbeIntervalMs() : 0);
+                CodecMetrics.setSampleRate(wrappedMetrics.enabled() ? wrappedMetrics.codecSampleRate() : 0);
+                AddressMetrics.setEnabled(wrappedMetrics.enabled());
+                AddressMetrics.setExpectedInterval(wrappedMetrics.expectedIntervalMs(), TimeUnit.MILLISECONDS);
             }
         }
     }
 
     private void processFileSystemOptions(VertxBuilder builder) {
-        var fileSystemConfig = IGuiceContext.instance().getScanResult().getClassesWithAnnotation(FileSystemOptions.class);
+        var fileSystemConfig = RegistrySnapshot.classesWithAnnotation(FileSystemOptions.class);
         if (fileSystemConfig.size() == 1) {
-            var clazz = fileSystemConfig.getFirst().loadClass();
+            var clazz = fileSystemConfig.getFirst();
             FileSystemOptions fileSystemAnnotation = clazz.getDeclaredAnnotation(FileSystemOptions.class);
             if (fileSystemAnnotation != null) {
                 FileSystemOptions wrappedFS = new FileSystemOptions() {
@@ -290,9 +394,9 @@ public class VertXPreStartup implements IGuicePreStartup<VertXPreStartup>, IGuic
     }
 
     private void processEventBusOptions(VertxBuilder builder) {
-        var eventBusConfig = IGuiceContext.instance().getScanResult().getClassesWithAnnotation(EventBusOptions.class);
+        var eventBusConfig = RegistrySnapshot.classesWithAnnotation(EventBusOptions.class);
         if (eventBusConfig.size() == 1) {
-            var clazz = eventBusConfig.getFirst().loadClass();
+            var clazz = eventBusConfig.getFirst();
             EventBusOptions eventBusAnnotation = clazz.getDeclaredAnnotation(EventBusOptions.class);
             if (eventBusAnnotation != null) {
                 EventBusOptions wrappedEB = new EventBusOptions() {
@@ -382,9 +486,9 @@ public class VertXPreStartup implements IGuicePreStartup<VertXPreStartup>, IGuic
     }
 
     private void processAddressResolverOptions(VertxBuilder builder) {
-        var addressResolverConfig = IGuiceContext.instance().getScanResult().getClassesWithAnnotation(AddressResolverOptions.class);
+        var addressResolverConfig = RegistrySnapshot.classesWithAnnotation(AddressResolverOptions.class);
         if (addressResolverConfig.size() == 1) {
-            var clazz = addressResolverConfig.getFirst().loadClass();
+            var clazz = addressResolverConfig.getFirst();
             AddressResolverOptions addressResolverAnnotation = clazz.getDeclaredAnnotation(AddressResolverOptions.class);
             if (addressResolverAnnotation != null) {
                 AddressResolverOptions wrappedAR = new AddressResolverOptions() {
@@ -507,11 +611,45 @@ public class VertXPreStartup implements IGuicePreStartup<VertXPreStartup>, IGuic
         return vertx;
     }
 
+    /**
+     * @return the primary runtime, bound to the shared Vert.x instance
+     */
+    public static VertxRuntime getRuntime() {
+        return VertxRuntime.primary();
+    }
+
     @Override
     public void onDestroy() {
         VertxEventRegistry.reset();
         VerticleBuilder.reset();
         CodecRegistry.reset();
+        LazyConsumerDispatcher.reset();
+        RegistrySnapshot.reset();
+        AnnotationIndex.reset();
+        StartupTasks.reset();
+        // VertxRuntime.reset() clears every per-runtime registry (schedulers, breakers, limiters, caches, metrics) and
+        // forgets the runtimes, so resets called after it only reach empty unbound registries. These also hold static
+        // settings, consumers, timers or threads outside the registries and run first, while their runtime is bound.
+        ReplyCache.reset();
+        AddressMetrics.reset();
+        WorkerPoolMetrics.reset();
+        EventBusStatsPublisher.reset();
+        EventLoopProbe.reset();
+        SlowConsumerWatchdog.reset();
+        try {
+            // Runtimes built with VertxRuntime.create release their event loops and worker pools before the context is reused
+            VertxRuntime.reset().toCompletionStage().toCompletableFuture().get(30, java.util.concurrent.TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Vert.x runtimes did not close cleanly: {}", e.getMessage());
+        }
+        EventOptionsControl.reset();
+        CodecMetrics.reset();
+        EventTracing.reset();
+        StartupProfile.reset();
+        eventLoopPoolSize = VertxOptions.DEFAULT_EVENT_LOOP_POOL_SIZE;
+        workerPoolSize = VertxOptions.DEFAULT_WORKER_POOL_SIZE;
         if (vertx != null) {
             vertx.close();
             vertx = null;
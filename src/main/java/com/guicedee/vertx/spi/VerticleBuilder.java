@@ -3,8 +3,6 @@ package com.guicedee.vertx.spi;
 import com.google.common.base.Strings;
 import com.guicedee.client.IGuiceContext;
 import io.github.classgraph.AnnotationInfo;
-import io.github.classgraph.ClassInfo;
-import io.github.classgraph.ClassInfoList;
 import io.github.classgraph.PackageInfo;
 import io.vertx.core.*;
 import lombok.Getter;
@@ -66,19 +64,18 @@ public class VerticleBuilder
             return verticlePackages;
         }
         Map<String, io.vertx.core.Verticle> map = new HashMap<>();
-        var scanResult = IGuiceContext.instance().getScanResult();
-        ClassInfoList foundVerticleClasses = scanResult.getClassesWithAnnotation(Verticle.class);
+        // Answered by the registry snapshot when one is valid, otherwise by the scan result
+        List<Class<?>> foundVerticleClasses = RegistrySnapshot.classesWithAnnotation(Verticle.class);
 
         // Also discover package-level @Verticle annotations from package-info.java files
         Map<String, Verticle> packageLevelVerticles = new LinkedHashMap<>();
-        for (PackageInfo packageInfo : scanResult.getPackageInfo())
+        for (String packageName : RegistrySnapshot.packagesWithAnnotation(Verticle.class.getName()))
         {
-            AnnotationInfo annotationInfo = packageInfo.getAnnotationInfo(Verticle.class.getName());
-            if (annotationInfo != null)
+            Verticle annotation = packageVerticleAnnotation(packageName);
+            if (annotation != null)
             {
-                Verticle reconstructed = reconstructVerticleAnnotation(annotationInfo);
-                packageLevelVerticles.put(packageInfo.getName(), reconstructed);
-                log.debug("Found package-level Verticle: {} - workerPoolName={}", packageInfo.getName(), reconstructed.value());
+                packageLevelVerticles.put(packageName, annotation);
+                log.debug("Found package-level Verticle: {} - workerPoolName={}", packageName, annotation.value());
             }
         }
 
@@ -125,11 +122,11 @@ public class VerticleBuilder
             // Key = package name, Value = annotation
             Map<String, Verticle> mergedVerticles = new LinkedHashMap<>();
 
-            for (ClassInfo classInfo : foundVerticleClasses)
+            for (Class<?> verticleClass : foundVerticleClasses)
             {
-                var annotation = classInfo.loadClass().getDeclaredAnnotation(Verticle.class);
-                log.debug("Found Verticle (class-level): {} - {}", classInfo.getPackageName(), classInfo.getSimpleName());
-                mergedVerticles.put(classInfo.getPackageName(), annotation);
+                var annotation = verticleClass.getDeclaredAnnotation(Verticle.class);
+                log.debug("Found Verticle (class-level): {} - {}", verticleClass.getPackageName(), verticleClass.getSimpleName());
+                mergedVerticles.put(verticleClass.getPackageName(), annotation);
             }
 
             for (var pkgEntry : packageLevelVerticles.entrySet())
@@ -342,6 +339,34 @@ public class VerticleBuilder
         return packageNames;
     }
 
+    /**
+     * Reads the {@code @Verticle} annotation of a package, from its loaded {@code package-info} when possible and
+     * otherwise from the scan result.
+     *
+     * @param packageName the package
+     * @return the annotation, or null when the package has none
+     */
+    private Verticle packageVerticleAnnotation(String packageName)
+    {
+        try
+        {
+            var packageInfoClass = Class.forName(packageName + ".package-info", false, VerticleBuilder.class.getClassLoader());
+            Verticle annotation = packageInfoClass.getAnnotation(Verticle.class);
+            if (annotation != null)
+            {
+                return annotation;
+            }
+        }
+        catch (ClassNotFoundException | LinkageError e)
+        {
+            log.trace("Could not load package-info for {}, reading the scan result: {}", packageName, e.toString());
+        }
+        var scanResult = IGuiceContext.instance().getScanResult();
+        PackageInfo packageInfo = scanResult == null ? null : scanResult.getPackageInfo(packageName);
+        AnnotationInfo annotationInfo = packageInfo == null ? null : packageInfo.getAnnotationInfo(Verticle.class.getName());
+        return annotationInfo == null ? null : reconstructVerticleAnnotation(annotationInfo);
+    }
+
     /**
      * Reconstructs a {@link Verticle} annotation instance from ClassGraph's {@link AnnotationInfo}.
      * This is needed because package-level annotations cannot be retrieved via {@code Class.getDeclaredAnnotation()},
@@ -526,6 +551,8 @@ public class VerticleBuilder
         if (!Strings.isNullOrEmpty(wrapped.value()))
         {
             d.setWorkerPoolName(wrapped.value());
+            com.guicedee.vertx.metrics.WorkerPoolMetrics.forPool(wrapped.value(), wrapped.workerPoolSize())
+                    .configure(wrapped.workerPoolSize(), wrapped.maxWorkerExecuteTime(), wrapped.maxWorkerExecuteTimeUnit());
         }
         if (wrapped.workerPoolSize() != 20)
         {
@@ -14,6 +14,17 @@ import java.util.List;
 /**
  * Verticle startup hook that registers event consumers scoped to the
  * verticle's assigned package.
+ * <p>
+ * By default each address gets its own {@link EventConsumerVerticle}. {@code VERTX_CONSUMER_MULTIPLEX} hosts
+ * single-instance consumers in {@link MultiplexConsumerVerticle}s instead:
+ * <ul>
+ *   <li>{@code package} deploys one verticle for all addresses of the assigned package</li>
+ *   <li>{@code eventloop} deploys one set of verticles per runtime, as many as there are event loops, shared by
+ *       every package; each address is placed by its hash so it always lands on the same verticle</li>
+ * </ul>
+ * Vert.x hands the contexts of a deployment to its event loops round robin, so the {@code eventloop} verticles
+ * usually, but not necessarily, run on distinct loops.
+ * Addresses with more than one instance, and lazy addresses, keep their own deployment.
  */
 @Log4j2
 public class VertxConsumersStartup implements VerticleStartup<VertxConsumersStartup>
@@ -39,8 +50,12 @@ public class VertxConsumersStartup implements VerticleStartup<VertxConsumersStar
 
             // Collect deployment futures so startup waits for all consumers to be registered
             List<Future<?>> deploymentFutures = new ArrayList<>();
+            var lazyCount = new java.util.concurrent.atomic.AtomicInteger();
+            String multiplex = com.guicedee.client.Environment.getSystemPropertyOrEnvironment("VERTX_CONSUMER_MULTIPLEX", "none").trim().toLowerCase();
+            java.util.Map<String, MultiplexConsumerVerticle.Route> multiplexed = new java.util.LinkedHashMap<>();
 
             // Deploy a dedicated verticle per address (per @VertxEventDefinition)
+            var deployTimer = com.guicedee.vertx.metrics.StartupProfile.start("consumerDeployments");
             definitions.forEach((address, def) -> {
                 try {
                     if (!def.options().autobind()) {
@@ -80,39 +95,23 @@ public class VertxConsumersStartup implements VerticleStartup<VertxConsumersStar
                         return;
                     }
 
-                    int instances = Math.max(1, def.options().instances() > 0 ? def.options().instances() : def.options().consumerCount());
+                    DeploymentOptions options = deploymentOptions(address, def, targetClass);
+                    int instances = options.getInstances();
 
-                    DeploymentOptions options = new DeploymentOptions();
-                    if (def.options().worker()) {
-                        String pool = def.options().workerPool();
-                        int poolSize = def.options().workerPoolSize();
-                        if (pool != null && !pool.isEmpty()) {
-                            options.setWorkerPoolName(pool);
-                        }
-                        if (poolSize > 0) {
-                            options.setWorkerPoolSize(poolSize);
-                        }
+                    if (def.options().lazy()) {
+                        deploymentFutures.add(LazyConsumerDispatcher.register(vertx, address, def, targetMethod, targetClass, options));
+                        lazyCount.incrementAndGet();
+                        return;
                     }
 
-                    // If no explicit worker pool was set by the event options,
-                    // inherit from the enclosing @Verticle annotation for this consumer's package
-                    if (options.getWorkerPoolName() == null || options.getWorkerPoolName().isEmpty()) {
-                        var verticleAnnotation = VerticleBuilder.getVerticleAnnotation(targetClass);
-                        if (verticleAnnotation.isPresent()) {
-                            var va = verticleAnnotation.get();
-                            if (va.value() != null && !va.value().isEmpty()) {
-                                options.setWorkerPoolName(va.value());
-                                if (va.workerPoolSize() > 0) {
-                                    options.setWorkerPoolSize(va.workerPoolSize());
-                                }
-                                log.debug("Event consumer for address {} inheriting worker pool '{}' from @Verticle", address, va.value());
-                            }
-                        }
+                    if (instances == 1 && ("package".equals(multiplex) || "eventloop".equals(multiplex))) {
+                        multiplexed.put(address, new MultiplexConsumerVerticle.Route(address, def, targetMethod, targetClass));
+                        return;
                     }
-                    options.setInstances(instances);
 
-                    var consumerVerticle = new EventConsumerVerticle(address, def, targetMethod, targetClass);
-                    var deployFuture = vertx.deployVerticle(consumerVerticle, options)
+                    // A supplier, so every instance gets its own verticle
+                    java.lang.reflect.Method consumeMethod = targetMethod;
+                    var deployFuture = vertx.deployVerticle(() -> new EventConsumerVerticle(address, def, consumeMethod, targetClass), options)
                             .onFailure(t -> log.error("Failed to deploy consumer verticle for {}: {}", address, t.getMessage(), t))
                             .onSuccess(id -> log.debug("Deployed consumer verticle [{}] for address {} (instances={})", id, address, instances));
                     deploymentFutures.add(deployFuture);
@@ -121,9 +120,16 @@ public class VertxConsumersStartup implements VerticleStartup<VertxConsumersStar
                 }
             });
 
+            deploymentFutures.addAll(deployMultiplexed(vertx, multiplexed, "eventloop".equals(multiplex)));
+
             // Wait for all consumer verticle deployments to complete before signalling startup
             if (!deploymentFutures.isEmpty()) {
-                Future.all(deploymentFutures)
+                com.guicedee.vertx.metrics.StartupProfile.track(deployTimer, new io.vertx.core.json.JsonObject()
+                                        .put("package", assignedPackage == null ? "" : assignedPackage)
+                                        .put("consumers", deploymentFutures.size())
+                                        .put("lazy", lazyCount.get())
+                                        .put("multiplexed", multiplexed.size()),
+                                Future.all(deploymentFutures))
                         .onSuccess(v -> log.debug("VertxConsumersStartup: all {} consumer verticles deployed for assignedPackage='{}'",
                                     deploymentFutures.size(), assignedPackage))
                         .onFailure(t -> log.error("VertxConsumersStartup: some consumer verticles failed to deploy for assignedPackage='{}'",
@@ -136,4 +142,76 @@ public class VertxConsumersStartup implements VerticleStartup<VertxConsumersStar
             // Do not fail the verticle start promise here to avoid cascading failures.
         }
     }
+
+    /**
+     * Builds the deployment options of a consumer verticle from its current event options.
+     */
+    static DeploymentOptions deploymentOptions(String address, com.guicedee.vertx.VertxEventDefinition def, Class<?> targetClass)
+    {
+        int instances = Math.max(1, def.options().instances() > 0 ? def.options().instances() : def.options().consumerCount());
+
+        DeploymentOptions options = new DeploymentOptions();
+        if (def.options().worker()) {
+            String pool = def.options().workerPool();
+            int poolSize = def.options().workerPoolSize();
+            if (pool != null && !pool.isEmpty()) {
+                options.setWorkerPoolName(pool);
+            }
+            if (poolSize > 0) {
+                options.setWorkerPoolSize(poolSize);
+            }
+        }
+
+        // If no explicit worker pool was set by the event options,
+        // inherit from the enclosing @Verticle annotation for this consumer's package
+        if (options.getWorkerPoolName() == null || options.getWorkerPoolName().isEmpty()) {
+            var verticleAnnotation = VerticleBuilder.getVerticleAnnotation(targetClass);
+            if (verticleAnnotation.isPresent()) {
+                var va = verticleAnnotation.get();
+                if (va.value() != null && !va.value().isEmpty()) {
+                    options.setWorkerPoolName(va.value());
+                    if (va.workerPoolSize() > 0) {
+                        options.setWorkerPoolSize(va.workerPoolSize());
+                    }
+                    log.debug("Event consumer for address {} inheriting worker pool '{}' from @Verticle", address, va.value());
+                }
+            }
+        }
+        options.setInstances(instances);
+        return options;
+    }
+
+    /**
+     * Deploys the multiplexed consumers of a package in one verticle, or hosts them on the runtime's shared
+     * {@code eventloop} verticles.
+     */
+    private static List<Future<?>> deployMultiplexed(Vertx vertx, java.util.Map<String, MultiplexConsumerVerticle.Route> routes, boolean shared)
+    {
+        if (routes.isEmpty()) {
+            return List.of();
+        }
+        if (!shared) {
+            return List.of(vertx.deployVerticle(new MultiplexConsumerVerticle(routes))
+                    .onFailure(t -> log.error("Failed to deploy multiplexed consumers for {}: {}", routes.keySet(), t.getMessage(), t))
+                    .onSuccess(id -> log.debug("Deployed multiplexed consumer verticle [{}] for {} addresses", id, routes.size())));
+        }
+        int count = Math.max(1, VertXPreStartup.getEventLoopPoolSize());
+        Future<?> hosted = VertxRuntime.of(vertx).multiplexVerticles(count).compose(verticles -> {
+            List<java.util.Map<String, MultiplexConsumerVerticle.Route>> tables = new ArrayList<>();
+            for (int i = 0; i < verticles.size(); i++) {
+                tables.add(new java.util.LinkedHashMap<>());
+            }
+            routes.forEach((address, route) -> tables.get(Math.floorMod(address.hashCode(), verticles.size())).put(address, route));
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < verticles.size(); i++) {
+                if (!tables.get(i).isEmpty()) {
+                    futures.add(verticles.get(i).host(tables.get(i)));
+                }
+            }
+            return Future.all(futures);
+        });
+        return List.of(hosted
+                .onFailure(t -> log.error("Failed to host multiplexed consumers for {}: {}", routes.keySet(), t.getMessage(), t))
+                .onSuccess(_ -> log.debug("Hosted {} multiplexed consumers on the shared consumer verticles", routes.size())));
+    }
 }
@@ -11,6 +11,15 @@ import com.guicedee.modules.services.jsonrepresentation.IJsonRepresentation;
 import com.guicedee.vertx.VertxEventDefinition;
 import com.guicedee.vertx.VertxEventOptions;
 import com.guicedee.vertx.VertxEventPublisher;
+import com.guicedee.vertx.cache.CachingReplyMessage;
+import com.guicedee.vertx.cache.ReplyCache;
+import com.guicedee.vertx.metrics.AddressMetrics;
+import com.guicedee.vertx.metrics.SlowConsumerWatchdog;
+import com.guicedee.vertx.metrics.WorkerPoolMetrics;
+import com.guicedee.vertx.resilience.AdaptiveConcurrencyLimiter;
+import com.guicedee.vertx.tracing.EventSpan;
+import com.guicedee.vertx.tracing.EventTracing;
+import com.guicedee.vertx.tracing.TraceContext;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -31,13 +40,10 @@ import java.util.Map;
 @Log4j2
 public class VertxEventRegistry {
 
-    private static final java.util.concurrent.ConcurrentHashMap<String, WorkerExecutor> workerExecutors = new java.util.concurrent.ConcurrentHashMap<>();
-
     /**
-     * Set of addresses that have already been registered to prevent duplicate consumer registration.
+     * Scheduler key used for worker consumers running on the Vert.x default worker pool
      */
-    @Getter
-    private static final java.util.Set<String> registeredAddresses = java.util.concurrent.ConcurrentHashMap.newKeySet();
+    static final String DEFAULT_WORKER_POOL = "vert.x-worker-thread";
 
     @Getter
     private static final Map<String, VertxEventDefinition> eventConsumerDefinitions = new java.util.concurrent.ConcurrentHashMap<>();
@@ -57,6 +63,12 @@ public class VertxEventRegistry {
     @Getter
     private static Map<String, Key<?>> eventPublisherKeys = new java.util.concurrent.ConcurrentHashMap<>();
 
+    /**
+     * The publisher field registered for each address, recorded for the {@link RegistrySnapshot}
+     */
+    @Getter
+    private static final Map<String, Field> eventPublisherFields = new java.util.concurrent.ConcurrentHashMap<>();
+
     /**
      * Map to store the reference types for consumers
      * Key: address, Value: reference type for the consumer's generic parameter
@@ -64,27 +76,58 @@ public class VertxEventRegistry {
     @Getter
     private static Map<String, Type> eventConsumerReferenceTypes = new java.util.concurrent.ConcurrentHashMap<>();
 
+    /**
+     * Addresses with consumers registered on the primary event bus. Other runtimes keep their own set, see
+     * {@link VertxRuntime#getRegisteredAddresses()}.
+     *
+     * @return the registered addresses of the primary runtime, empty while none is running
+     */
+    public static java.util.Set<String> getRegisteredAddresses() {
+        VertxRuntime primary = VertxRuntime.primaryIfBound();
+        return primary == null ? java.util.Set.of() : primary.getRegisteredAddresses();
+    }
+
     /**
      * Resets all static state in the registry, allowing re-initialization
      * on the next context boot. Called during context destroy.
      */
     public static void reset() {
         scanned.set(false);
-        workerExecutors.clear();
-        registeredAddresses.clear();
         eventConsumerDefinitions.clear();
         eventConsumerClass.clear();
         eventPublisherDefinitions.clear();
         eventConsumerMethods.clear();
         eventConsumerMethodClasses.clear();
         eventPublisherKeys.clear();
+        eventPublisherFields.clear();
         eventConsumerReferenceTypes.clear();
     }
 
+    /**
+     * Bumped whenever a runtime override changes, so the resolved views of every address are rebuilt on their next read
+     */
+    private static final java.util.concurrent.atomic.AtomicInteger optionsGeneration = new java.util.concurrent.atomic.AtomicInteger();
+
+    /**
+     * Drops the resolved event options of every address; the next read resolves them again. Called by
+     * {@link EventOptionsControl} when an override changes.
+     */
+    static void invalidateResolvedOptions() {
+        optionsGeneration.incrementAndGet();
+    }
+
     private static VertxEventDefinition wrapEventDefinition(VertxEventDefinition definition) {
         if (definition == null) return null;
         // Capture the original address value before creating the wrapper
         final String originalAddress = definition.value();
+        // Allow per-address override via VERTX_EVENT_ADDRESS_<NORMALIZED_ADDRESS> environment variable
+        // e.g., for address "my.event.address", check VERTX_EVENT_ADDRESS_MY_EVENT_ADDRESS
+        final String normalizedAddress = normalizeAddress(originalAddress);
+        final String envKey = "VERTX_EVENT_ADDRESS_" + normalizedAddress;
+        String addressOverride = System.getProperty(envKey, System.getenv(envKey));
+        final String address = (addressOverride != null && !addressOverride.isEmpty()) ? addressOverride : originalAddress;
+        // Environment overrides are keyed by the annotated address, runtime overrides by the address consumers use
+        final VertxEventOptions options = wrapEventOptions(address, normalizedAddress, definition.options());
         return new VertxEventDefinition() {
             @Override
             public Class<? extends Annotation> annotationType() {
@@ -93,34 +136,38 @@ public class VertxEventRegistry {
 
             @Override
             public String value() {
-                // Allow per-address override via VERTX_EVENT_ADDRESS_<NORMALIZED_ADDRESS> environment variable
-                // e.g., for address "my.event.address", check VERTX_EVENT_ADDRESS_MY_EVENT_ADDRESS
-                String normalizedAddress = originalAddress.toUpperCase().replace('.', '_').replace('-', '_');
-                String envKey = "VERTX_EVENT_ADDRESS_" + normalizedAddress;
-                String addressOverride = System.getProperty(envKey, System.getenv(envKey));
-                return (addressOverride != null && !addressOverride.isEmpty()) ? addressOverride : originalAddress;
+                return address;
             }
 
             @Override
             public VertxEventOptions options() {
-                return wrapEventOptions(originalAddress, definition.options());
+                return options;
             }
         };
     }
 
+    private static String normalizeAddress(String address) {
+        return address.toUpperCase().replace('.', '_').replace('-', '_');
+    }
+
     /**
      * Resolves an option value with per-address override support.
      * <p>
      * Lookup order:
      * <ol>
-     *   <li>{@code VERTX_EVENT_<OPTION>_<NORMALIZED_ADDRESS>} — per-address override</li>
+     *   <li>A runtime override set through {@link EventOptionsControl}, by effective address</li>
+     *   <li>{@code VERTX_EVENT_<OPTION>_<NORMALIZED_ADDRESS>} — per-address override, by annotated address</li>
      *   <li>{@code VERTX_EVENT_<OPTION>} — global override for all events</li>
      *   <li>The annotation default value</li>
      * </ol>
      */
-    private static String resolveOption(String address, String optionKey, String defaultValue) {
+    private static String resolveOption(String address, String normalizedAddress, String optionKey, String defaultValue) {
+        // 0. Runtime: EventOptionsControl.update(...)
+        String runtimeOverride = EventOptionsControl.override(address, optionKey);
+        if (runtimeOverride != null) {
+            return runtimeOverride;
+        }
         // 1. Per-address: VERTX_EVENT_WORKER_MY_EVENT_ADDRESS
-        String normalizedAddress = address.toUpperCase().replace('.', '_').replace('-', '_');
         String perAddressKey = optionKey + "_" + normalizedAddress;
         // Check system property and env var directly to avoid Environment's empty-string fallback
         String perAddress = System.getProperty(perAddressKey);
@@ -134,9 +181,87 @@ public class VertxEventRegistry {
         return com.guicedee.client.Environment.getSystemPropertyOrEnvironment(optionKey, defaultValue);
     }
 
-    private static VertxEventOptions wrapEventOptions(String address, VertxEventOptions options) {
+    /**
+     * The options of one address resolved through {@link #resolveOption}, read on the dispatch path instead of
+     * resolving each option per message.
+     */
+    private static final class ResolvedOptions {
+        private final int generation;
+        private final boolean localOnly;
+        private final boolean autobind;
+        private final int consumerCount;
+        private final boolean worker;
+        private final String workerPool;
+        private final int workerPoolSize;
+        private final int instances;
+        private final String orderedByHeader;
+        private final int maxBufferedMessages;
+        private final int resumeAtMessages;
+        private final int batchWindowMs;
+        private final int batchMax;
+        private final long timeoutMs;
+        private final int circuitBreakerThreshold;
+        private final long circuitBreakerResetMs;
+        private final int circuitBreakerHalfOpenProbes;
+        private final boolean idempotent;
+        private final long replyCacheTtlMs;
+        private final int replyCacheMaxEntries;
+        private final long replyCacheMaxBytes;
+        private final int priority;
+        private final String priorityHeader;
+        private final int priorityQueueCapacity;
+        private final boolean adaptiveConcurrency;
+        private final int adaptiveMinConcurrency;
+        private final long slowCallThresholdMs;
+        private final boolean lazy;
+
+        private ResolvedOptions(String address, String normalizedAddress, VertxEventOptions options, int generation) {
+            this.generation = generation;
+            this.localOnly = Boolean.parseBoolean(resolveOption(address, normalizedAddress, "VERTX_EVENT_LOCAL_ONLY", String.valueOf(options.localOnly())));
+            this.autobind = Boolean.parseBoolean(resolveOption(address, normalizedAddress, "VERTX_EVENT_AUTOBIND", String.valueOf(options.autobind())));
+            this.consumerCount = Integer.parseInt(resolveOption(address, normalizedAddress, "VERTX_EVENT_CONSUMER_COUNT", String.valueOf(options.consumerCount())));
+            this.worker = Boolean.parseBoolean(resolveOption(address, normalizedAddress, "VERTX_EVENT_WORKER", String.valueOf(options.worker())));
+            this.workerPool = resolveOption(address, normalizedAddress, "VERTX_EVENT_WORKER_POOL", options.workerPool());
+            this.workerPoolSize = Integer.parseInt(resolveOption(address, normalizedAddress, "VERTX_EVENT_WORKER_POOL_SIZE", String.valueOf(options.workerPoolSize())));
+            this.instances = Integer.parseInt(resolveOption(address, normalizedAddress, "VERTX_EVENT_INSTANCES", String.valueOf(options.instances())));
+            this.orderedByHeader = resolveOption(address, normalizedAddress, "VERTX_EVENT_ORDERED_BY_HEADER", options.orderedByHeader());
+            this.maxBufferedMessages = Integer.parseInt(resolveOption(address, normalizedAddress, "VERTX_EVENT_MAX_BUFFERED_MESSAGES", String.valueOf(options.maxBufferedMessages())));
+            this.resumeAtMessages = Integer.parseInt(resolveOption(address, normalizedAddress, "VERTX_EVENT_RESUME_AT_MESSAGES", String.valueOf(options.resumeAtMessages())));
+            this.batchWindowMs = Integer.parseInt(resolveOption(address, normalizedAddress, "VERTX_EVENT_BATCH_WINDOW_MS", String.valueOf(options.batchWindowMs())));
+            this.batchMax = Integer.parseInt(resolveOption(address, normalizedAddress, "VERTX_EVENT_BATCH_MAX", String.valueOf(options.batchMax())));
+            this.timeoutMs = Long.parseLong(resolveOption(address, normalizedAddress, "VERTX_EVENT_TIMEOUT_MS", String.valueOf(options.timeoutMs())));
+            this.circuitBreakerThreshold = Integer.parseInt(resolveOption(address, normalizedAddress, "VERTX_EVENT_CIRCUIT_BREAKER_THRESHOLD", String.valueOf(options.circuitBreakerThreshold())));
+            this.circuitBreakerResetMs = Long.parseLong(resolveOption(address, normalizedAddress, "VERTX_EVENT_CIRCUIT_BREAKER_RESET_MS", String.valueOf(options.circuitBreakerResetMs())));
+            this.circuitBreakerHalfOpenProbes = Integer.parseInt(resolveOption(address, normalizedAddress, "VERTX_EVENT_CIRCUIT_BREAKER_HALF_OPEN_PROBES", String.valueOf(options.circuitBreakerHalfOpenProbes())));
+            this.idempotent = Boolean.parseBoolean(resolveOption(address, normalizedAddress, "VERTX_EVENT_IDEMPOTENT", String.valueOf(options.idempotent())));
+            this.replyCacheTtlMs = Long.parseLong(resolveOption(address, normalizedAddress, "VERTX_EVENT_REPLY_CACHE_TTL_MS", String.valueOf(options.replyCacheTtlMs())));
+            this.replyCacheMaxEntries = Integer.parseInt(resolveOption(address, normalizedAddress, "VERTX_EVENT_REPLY_CACHE_MAX_ENTRIES", String.valueOf(options.replyCacheMaxEntries())));
+            this.replyCacheMaxBytes = Long.parseLong(resolveOption(address, normalizedAddress, "VERTX_EVENT_REPLY_CACHE_MAX_BYTES", String.valueOf(options.replyCacheMaxBytes())));
+            this.priority = Integer.parseInt(resolveOption(address, normalizedAddress, "VERTX_EVENT_PRIORITY", String.valueOf(options.priority())));
+            this.priorityHeader = resolveOption(address, normalizedAddress, "VERTX_EVENT_PRIORITY_HEADER", options.priorityHeader());
+            this.priorityQueueCapacity = Integer.parseInt(resolveOption(address, normalizedAddress, "VERTX_EVENT_PRIORITY_QUEUE_CAPACITY", String.valueOf(options.priorityQueueCapacity())));
+            this.adaptiveConcurrency = Boolean.parseBoolean(resolveOption(address, normalizedAddress, "VERTX_EVENT_ADAPTIVE_CONCURRENCY", String.valueOf(options.adaptiveConcurrency())));
+            this.adaptiveMinConcurrency = Integer.parseInt(resolveOption(address, normalizedAddress, "VERTX_EVENT_ADAPTIVE_MIN_CONCURRENCY", String.valueOf(options.adaptiveMinConcurrency())));
+            this.slowCallThresholdMs = Long.parseLong(resolveOption(address, normalizedAddress, "VERTX_EVENT_SLOW_CALL_THRESHOLD_MS", String.valueOf(options.slowCallThresholdMs())));
+            this.lazy = Boolean.parseBoolean(resolveOption(address, normalizedAddress, "VERTX_EVENT_LAZY", String.valueOf(options.lazy())));
+        }
+    }
+
+    private static VertxEventOptions wrapEventOptions(String address, String normalizedAddress, VertxEventOptions options) {
         if (options == null) return null;
         return new VertxEventOptions() {
+            private volatile ResolvedOptions resolved;
+
+            private ResolvedOptions resolved() {
+                int generation = optionsGeneration.get();
+                ResolvedOptions current = resolved;
+                if (current == null || current.generation != generation) {
+                    current = new ResolvedOptions(address, normalizedAddress, options, generation);
+                    resolved = current;
+                }
+                return current;
+            }
+
             @Override
             public Class<? extends Annotation> annotationType() {
                 return VertxEventOptions.class;
@@ -144,67 +269,137 @@ public class VertxEventRegistry {
 
             @Override
             public boolean localOnly() {
-                return Boolean.parseBoolean(resolveOption(address, "VERTX_EVENT_LOCAL_ONLY", String.valueOf(options.localOnly())));
+                return resolved().localOnly;
             }
 
             @Override
             public boolean autobind() {
-                return Boolean.parseBoolean(resolveOption(address, "VERTX_EVENT_AUTOBIND", String.valueOf(options.autobind())));
+                return resolved().autobind;
             }
 
             @Override
             public int consumerCount() {
-                return Integer.parseInt(resolveOption(address, "VERTX_EVENT_CONSUMER_COUNT", String.valueOf(options.consumerCount())));
+                return resolved().consumerCount;
             }
 
             @Override
             public boolean worker() {
-                return Boolean.parseBoolean(resolveOption(address, "VERTX_EVENT_WORKER", String.valueOf(options.worker())));
+                return resolved().worker;
             }
 
             @Override
             public String workerPool() {
-                return resolveOption(address, "VERTX_EVENT_WORKER_POOL", options.workerPool());
+                return resolved().workerPool;
             }
 
             @Override
             public int workerPoolSize() {
-                return Integer.parseInt(resolveOption(address, "VERTX_EVENT_WORKER_POOL_SIZE", String.valueOf(options.workerPoolSize())));
+                return resolved().workerPoolSize;
             }
 
             @Override
             public int instances() {
-                return Integer.parseInt(resolveOption(address, "VERTX_EVENT_INSTANCES", String.valueOf(options.instances())));
+                return resolved().instances;
             }
 
             @Override
             public String orderedByHeader() {
-                return resolveOption(address, "VERTX_EVENT_ORDERED_BY_HEADER", options.orderedByHeader());
+                return resolved().orderedByHeader;
             }
 
             @Override
             public int maxBufferedMessages() {
-                return Integer.parseInt(resolveOption(address, "VERTX_EVENT_MAX_BUFFERED_MESSAGES", String.valueOf(options.maxBufferedMessages())));
+                return resolved().maxBufferedMessages;
             }
 
             @Override
             public int resumeAtMessages() {
-                return Integer.parseInt(resolveOption(address, "VERTX_EVENT_RESUME_AT_MESSAGES", String.valueOf(options.resumeAtMessages())));
+                return resolved().resumeAtMessages;
             }
 
             @Override
             public int batchWindowMs() {
-                return Integer.parseInt(resolveOption(address, "VERTX_EVENT_BATCH_WINDOW_MS", String.valueOf(options.batchWindowMs())));
+                return resolved().batchWindowMs;
             }
 
             @Override
             public int batchMax() {
-                return Integer.parseInt(resolveOption(address, "VERTX_EVENT_BATCH_MAX", String.valueOf(options.batchMax())));
+                return resolved().batchMax;
             }
 
             @Override
             public long timeoutMs() {
-                return Long.parseLong(resolveOption(address, "VERTX_EVENT_TIMEOUT_MS", String.valueOf(options.timeoutMs())));
+                return resolved().timeoutMs;
+            }
+
+            @Override
+            public int circuitBreakerThreshold() {
+                return resolved().circuitBreakerThreshold;
+            }
+
+            @Override
+            public long circuitBreakerResetMs() {
+                return resolved().circuitBreakerResetMs;
+            }
+
+            @Override
+            public int circuitBreakerHalfOpenProbes() {
+                return resolved().circuitBreakerHalfOpenProbes;
+            }
+
+            @Override
+            public boolean idempotent() {
+                return resolved().idempotent;
+            }
+
+            @Override
+            public long replyCacheTtlMs() {
+                return resolved().replyCacheTtlMs;
+            }
+
+            @Override
+            public int replyCacheMaxEntries() {
+                return resolved().replyCacheMaxEntries;
+            }
+
+            @Override
+            public long replyCacheMaxBytes() {
+                return resolved().replyCacheMaxBytes;
+            }
+
+            @Override
+            public int priority() {
+                return resolved().priority;
+            }
+
+            @Override
+            public String priorityHeader() {
+                return resolved().priorityHeader;
+            }
+
+            @Override
+            public int priorityQueueCapacity() {
+                return resolved().priorityQueueCapacity;
+            }
+
+            @Override
+            public boolean adaptiveConcurrency() {
+                return resolved().adaptiveConcurrency;
+            }
+
+            @Override
+            public int adaptiveMinConcurrency() {
+                return resolved().adaptiveMinConcurrency;
+            }
+
+            @Override
+            public long slowCallThresholdMs() {
+                return resolved().slowCallThresholdMs;
+            }
+
+            @Override
+            public boolean lazy() {
+                return resolved().lazy;
             }
         };
     }
@@ -215,7 +410,17 @@ public class VertxEventRegistry {
     private static final java.util.concurrent.atomic.AtomicBoolean scanned = new java.util.concurrent.atomic.AtomicBoolean(false);
 
     /**
-     * Scans for classes with @VertxEventDefinition annotation and registers them.
+     * Registers the consumers and publishers of the application, once.
+     * <p>
+     * When a build-time {@link com.guicedee.vertx.index.EventIndex} is on the class path, the classes it lists are
+     * registered from it and only the jars and directories without an index are scanned; see
+     * {@link com.guicedee.vertx.index.EventIndexProcessor}. Setting {@code VERTX_EVENT_INDEX=false} forces a full
+     * scan. A valid {@link RegistrySnapshot} takes precedence over both.
+     * <p>
+     * Classes are loaded and their reflection data resolved in parallel on the common fork-join pool, which is
+     * where most of the time goes. Registration then runs on the calling thread in scan order, so duplicate
+     * addresses resolve the same way as a sequential scan. Set {@code VERTX_EVENT_SCAN_PARALLEL=false} to
+     * load on the calling thread only.
      * This method is idempotent — subsequent calls after the first are no-ops.
      */
     public static void scanAndRegisterEvents() {
@@ -223,50 +428,51 @@ public class VertxEventRegistry {
             log.debug("scanAndRegisterEvents() already completed, skipping re-scan");
             return;
         }
+        var snapshot = RegistrySnapshot.events();
+        if (snapshot.isPresent()) {
+            registerFromIndex(snapshot.get());
+            return;
+        }
+        if (Boolean.parseBoolean(com.guicedee.client.Environment.getSystemPropertyOrEnvironment("VERTX_EVENT_INDEX", "true"))) {
+            var index = com.guicedee.vertx.index.EventIndex.load(indexClassLoader());
+            if (index.isPresent()) {
+                registerFromIndex(index.get());
+                // Jars and directories compiled without the processor still need scanning
+                java.util.Set<java.nio.file.Path> indexed = index.get().getSources();
+                log.debug("Scanning the class path entries without an event index ({} indexed)", indexed.size());
+                scanEvents(classInfo -> !indexed.contains(classPathElement(classInfo)));
+                return;
+            }
+        }
         log.debug("Scanning for Vertx event consumers and publishers");
+        scanEvents(classInfo -> true);
+    }
+
+    /**
+     * @return the jar or directory a scanned class was found in, or null when it is not a local file
+     */
+    private static java.nio.file.Path classPathElement(io.github.classgraph.ClassInfo classInfo) {
+        java.io.File element = classInfo.getClasspathElementFile();
+        return element == null ? null : element.toPath().toAbsolutePath().normalize();
+    }
 
+    /**
+     * Registers the consumers and publishers of the scanned classes the filter accepts.
+     */
+    private static void scanEvents(java.util.function.Predicate<io.github.classgraph.ClassInfo> include) {
         // Scan for classes with @VertxEventDefinition annotation
         var consumerClasses = IGuiceContext.instance().getScanResult()
                 .getClassesWithAnnotation(VertxEventDefinition.class)
                 .stream()
                 .filter(classInfo -> !classInfo.isInterfaceOrAnnotation() && !classInfo.isAbstract())
+                .filter(include)
                 .toList();
 
         log.debug("📋 Found {} consumer classes with @VertxEventDefinition", consumerClasses.size());
 
-        for (var consumerClassInfo : consumerClasses) {
+        for (Class<?> consumerClass : loadClasses(consumerClasses, "consumer")) {
             try {
-                Class consumerClass = consumerClassInfo.loadClass();
-                VertxEventDefinition eventDefinition = wrapEventDefinition((VertxEventDefinition) consumerClass.getAnnotation(VertxEventDefinition.class));
-                String address = eventDefinition.value();
-
-                log.info("Registering Vertx event consumer class {} for address: {}", consumerClass.getSimpleName(), address);
-                eventConsumerDefinitions.put(address, eventDefinition);
-                eventConsumerClass.put(address, consumerClass);
-
-                // Look for a consume method that takes a Message parameter
-                try {
-                    Method consumeMethod = consumerClass.getMethod("consume", Message.class);
-                    if (consumeMethod != null) {
-                        // Extract the parameter type from the consume method
-                        Parameter[] parameters = consumeMethod.getParameters();
-                        if (parameters.length > 0 && Message.class.isAssignableFrom(parameters[0].getType())) {
-                            Type paramType = parameters[0].getParameterizedType();
-                            if (paramType instanceof ParameterizedType) {
-                                ParameterizedType parameterizedType = (ParameterizedType) paramType;
-                                Type[] typeArgs = parameterizedType.getActualTypeArguments();
-                                if (typeArgs.length > 0) {
-                                    Type consumerType = typeArgs[0];
-                                    log.debug("Found reference type {} for consumer at address: {}", consumerType.getTypeName(), address);
-                                    eventConsumerReferenceTypes.put(address, consumerType);
-                                }
-                            }
-                        }
-                    }
-                } catch (NoSuchMethodException e) {
-                    // No consume method found, that's okay
-                    log.debug("No consume method found for class {}", consumerClass.getName());
-                }
+                registerConsumerClass(consumerClass);
             } catch (Exception e) {
                 log.error("Error registering Vertx event consumer", e);
             }
@@ -277,38 +483,13 @@ public class VertxEventRegistry {
                 .getClassesWithMethodAnnotation(VertxEventDefinition.class)
                 .filter(classInfo -> !classInfo.isInterfaceOrAnnotation() && !classInfo.isAbstract())
                 .stream()
+                .filter(include)
                 .toList();
 
-        for (var classInfo : methodConsumerClasses) {
+        for (Class<?> clazz : loadClasses(methodConsumerClasses, "consumer method")) {
             try {
-                Class<?> clazz = classInfo.loadClass();
                 for (Method method : clazz.getDeclaredMethods()) {
-                    VertxEventDefinition eventDefinition = wrapEventDefinition(method.getAnnotation(VertxEventDefinition.class));
-                    if (eventDefinition != null) {
-                        String address = eventDefinition.value();
-
-                        log.debug("Registering Vertx event consumer method for address: {}", address);
-                        eventConsumerDefinitions.put(address, eventDefinition);
-                        eventConsumerMethods.put(address, method);
-                        eventConsumerMethodClasses.put(address, clazz);
-
-                        // Extract the reference type from the method parameters
-                        Parameter[] parameters = method.getParameters();
-                        for (Parameter param : parameters) {
-                            // Skip Message parameters
-                            if (Message.class.isAssignableFrom(param.getType())) {
-                                continue;
-                            }
-
-                            // Get the parameter type
-                            Type paramType = param.getParameterizedType();
-                            if (paramType != null) {
-                                log.debug("Found reference type {} for method consumer at address: {}", paramType.getTypeName(), address);
-                                eventConsumerReferenceTypes.put(address, paramType);
-                                break; // Use the first non-Message parameter
-                            }
-                        }
-                    }
+                    registerConsumerMethod(clazz, method);
                 }
             } catch (Exception e) {
                 log.error("Error registering Vertx event consumer method", e);
@@ -319,46 +500,235 @@ public class VertxEventRegistry {
         var publisherClasses = IGuiceContext.instance().getScanResult()
                 .getAllClasses()
                 .stream()
+                .filter(include)
                 .filter(info -> info.hasDeclaredFieldAnnotation(VertxEventDefinition.class) ||
                         info.hasDeclaredFieldAnnotation(com.google.inject.name.Named.class))
                 .toList();
 
-        for (var classInfo : publisherClasses) {
+        for (Class<?> clazz : loadClasses(publisherClasses, "publisher")) {
             try {
-                Class<?> clazz = classInfo.loadClass();
                 for (Field field : clazz.getDeclaredFields()) {
-                    // Check if field type is VertxEventPublisher
-                    if (field.getType().equals(VertxEventPublisher.class)) {
-                        String address = null;
-                        VertxEventDefinition eventDefinition = wrapEventDefinition(field.getAnnotation(VertxEventDefinition.class));
-
-                        // If @VertxEventDefinition is present, use its value as address
-                        if (eventDefinition != null) {
-                            address = eventDefinition.value();
-                        }
-                        // Otherwise, check for @Named annotation
-                        else {
-                            com.google.inject.name.Named named = field.getAnnotation(com.google.inject.name.Named.class);
-                            if (named != null) {
-                                address = named.value();
-                                // Create a default event definition
-                                eventDefinition = createDefaultEventDefinition(address);
-                            }
-                        }
+                    registerPublisherField(field);
+                }
+            } catch (Exception e) {
+                log.error("Error registering Vertx event publisher", e);
+            }
+        }
+    }
+
+    private static boolean loadInParallel() {
+        return Boolean.parseBoolean(com.guicedee.client.Environment.getSystemPropertyOrEnvironment("VERTX_EVENT_SCAN_PARALLEL", "true"));
+    }
+
+    /**
+     * Loads the scanned classes, in parallel unless disabled, and returns the ones that loaded in scan order.
+     */
+    private static java.util.List<Class<?>> loadClasses(java.util.List<io.github.classgraph.ClassInfo> classInfos, String kind) {
+        return (loadInParallel() ? classInfos.parallelStream() : classInfos.stream())
+                .<Class<?>>map(classInfo -> {
+                    try {
+                        return resolveReflection(classInfo.loadClass());
+                    } catch (Exception | LinkageError e) {
+                        log.error("Error loading Vertx event {} class {}", kind, classInfo.getName(), e);
+                        return null;
+                    }
+                })
+                .filter(java.util.Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Resolves the declared members and their annotations, which loads the classes in member signatures.
+     * The JDK caches the results on the class, so registration afterwards reads them without that cost.
+     */
+    private static Class<?> resolveReflection(Class<?> clazz) {
+        clazz.getDeclaredAnnotations();
+        for (Method method : clazz.getDeclaredMethods()) {
+            method.getDeclaredAnnotations();
+        }
+        for (Field field : clazz.getDeclaredFields()) {
+            field.getDeclaredAnnotations();
+        }
+        return clazz;
+    }
 
-                        if (address != null) {
-                            if (!eventPublisherKeys.containsKey(address)) {
-                                log.debug("Registering Vertx event publisher for address: {}", address);
-                                eventPublisherDefinitions.put(address, eventDefinition);
-                                // Extract the generic type parameter
-                                Type genericType = field.getGenericType();
-                                eventPublisherKeys.put(address, createGuiceKey(genericType, address));
+    private static ClassLoader indexClassLoader() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return loader != null ? loader : VertxEventRegistry.class.getClassLoader();
+    }
+
+    /**
+     * Registers the consumers and publishers listed in a build-time index or registry snapshot, loading only the
+     * listed classes.
+     */
+    private static void registerFromIndex(com.guicedee.vertx.index.EventIndex index) {
+        log.debug("Registering Vertx events from an index ({} entries)", index.getEntries().size());
+        ClassLoader loader = indexClassLoader();
+        var entries = index.getEntries();
+        // Entries of one class share the loaded class; empty marks a class that did not load
+        var classes = new java.util.concurrent.ConcurrentHashMap<String, java.util.Optional<Class<?>>>();
+        (loadInParallel() ? entries.parallelStream() : entries.stream())
+                .map(com.guicedee.vertx.index.EventIndex.Entry::className)
+                .distinct()
+                .forEach(className -> classes.put(className, loadIndexedClass(className, loader)));
+        for (var entry : entries) {
+            try {
+                Class<?> clazz = classes.get(entry.className()).orElse(null);
+                if (clazz == null) {
+                    continue;
+                }
+                switch (entry.kind()) {
+                    case CONSUMER_CLASS -> registerConsumerClass(clazz);
+                    case CONSUMER_METHOD -> {
+                        for (Method method : clazz.getDeclaredMethods()) {
+                            if (method.getName().equals(entry.member()) && method.isAnnotationPresent(VertxEventDefinition.class)) {
+                                registerConsumerMethod(clazz, method);
+                                CodecRegistry.preloadCodecName(methodPayloadType(method), entry.codecName());
                             }
                         }
                     }
+                    case PUBLISHER_FIELD -> {
+                        Field field = clazz.getDeclaredField(entry.member());
+                        registerPublisherField(field);
+                        CodecRegistry.preloadCodecName(publisherPayloadType(field.getGenericType()), entry.codecName());
+                    }
                 }
+            } catch (NoSuchFieldException | LinkageError e) {
+                log.warn("Stale Vertx event index entry {} {}.{}: {}", entry.kind(), entry.className(), entry.member(), e.toString());
             } catch (Exception e) {
-                log.error("Error registering Vertx event publisher", e);
+                log.error("Error registering indexed Vertx event {} {}", entry.kind(), entry.className(), e);
+            }
+        }
+    }
+
+    private static java.util.Optional<Class<?>> loadIndexedClass(String className, ClassLoader loader) {
+        try {
+            return java.util.Optional.of(resolveReflection(Class.forName(className, false, loader)));
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.warn("Stale Vertx event index entry for class {}: {}", className, e.toString());
+            return java.util.Optional.empty();
+        }
+    }
+
+    static Type methodPayloadType(Method method) {
+        for (Parameter param : method.getParameters()) {
+            if (!Message.class.isAssignableFrom(param.getType())) {
+                return param.getParameterizedType();
+            }
+        }
+        return null;
+    }
+
+    static Type publisherPayloadType(Type fieldType) {
+        if (fieldType instanceof ParameterizedType parameterizedType && parameterizedType.getActualTypeArguments().length > 0) {
+            return parameterizedType.getActualTypeArguments()[0];
+        }
+        return null;
+    }
+
+    /**
+     * Registers a class-based consumer and the payload type of its {@code consume(Message)} method.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static void registerConsumerClass(Class consumerClass) {
+        VertxEventDefinition eventDefinition = wrapEventDefinition((VertxEventDefinition) consumerClass.getAnnotation(VertxEventDefinition.class));
+        String address = eventDefinition.value();
+
+        log.info("Registering Vertx event consumer class {} for address: {}", consumerClass.getSimpleName(), address);
+        eventConsumerDefinitions.put(address, eventDefinition);
+        eventConsumerClass.put(address, consumerClass);
+
+        // Look for a consume method that takes a Message parameter
+        try {
+            Method consumeMethod = consumerClass.getMethod("consume", Message.class);
+            if (consumeMethod != null) {
+                // Extract the parameter type from the consume method
+                Parameter[] parameters = consumeMethod.getParameters();
+                if (parameters.length > 0 && Message.class.isAssignableFrom(parameters[0].getType())) {
+                    Type paramType = parameters[0].getParameterizedType();
+                    if (paramType instanceof ParameterizedType) {
+                        ParameterizedType parameterizedType = (ParameterizedType) paramType;
+                        Type[] typeArgs = parameterizedType.getActualTypeArguments();
+                        if (typeArgs.length > 0) {
+                            Type consumerType = typeArgs[0];
+                            log.debug("Found reference type {} for consumer at address: {}", consumerType.getTypeName(), address);
+                            eventConsumerReferenceTypes.put(address, consumerType);
+                        }
+                    }
+                }
+            }
+        } catch (NoSuchMethodException e) {
+            // No consume method found, that's okay
+            log.debug("No consume method found for class {}", consumerClass.getName());
+        }
+    }
+
+    /**
+     * Registers a method-based consumer when the method carries {@code @VertxEventDefinition}.
+     */
+    private static void registerConsumerMethod(Class<?> clazz, Method method) {
+        VertxEventDefinition eventDefinition = wrapEventDefinition(method.getAnnotation(VertxEventDefinition.class));
+        if (eventDefinition == null) {
+            return;
+        }
+        String address = eventDefinition.value();
+
+        log.debug("Registering Vertx event consumer method for address: {}", address);
+        eventConsumerDefinitions.put(address, eventDefinition);
+        eventConsumerMethods.put(address, method);
+        eventConsumerMethodClasses.put(address, clazz);
+
+        // Extract the reference type from the method parameters
+        Parameter[] parameters = method.getParameters();
+        for (Parameter param : parameters) {
+            // Skip Message parameters
+            if (Message.class.isAssignableFrom(param.getType())) {
+                continue;
+            }
+
+            // Get the parameter type
+            Type paramType = param.getParameterizedType();
+            if (paramType != null) {
+                log.debug("Found reference type {} for method consumer at address: {}", paramType.getTypeName(), address);
+                eventConsumerReferenceTypes.put(address, paramType);
+                break; // Use the first non-Message parameter
+            }
+        }
+    }
+
+    /**
+     * Registers a {@code VertxEventPublisher} field addressed by {@code @VertxEventDefinition} or {@code @Named}.
+     */
+    private static void registerPublisherField(Field field) {
+        // Check if field type is VertxEventPublisher
+        if (!field.getType().equals(VertxEventPublisher.class)) {
+            return;
+        }
+        String address = null;
+        VertxEventDefinition eventDefinition = wrapEventDefinition(field.getAnnotation(VertxEventDefinition.class));
+
+        // If @VertxEventDefinition is present, use its value as address
+        if (eventDefinition != null) {
+            address = eventDefinition.value();
+        }
+        // Otherwise, check for @Named annotation
+        else {
+            com.google.inject.name.Named named = field.getAnnotation(com.google.inject.name.Named.class);
+            if (named != null) {
+                address = named.value();
+                // Create a default event definition
+                eventDefinition = createDefaultEventDefinition(address);
+            }
+        }
+
+        if (address != null) {
+            if (!eventPublisherKeys.containsKey(address)) {
+                log.debug("Registering Vertx event publisher for address: {}", address);
+                eventPublisherDefinitions.put(address, eventDefinition);
+                // Extract the generic type parameter
+                Type genericType = field.getGenericType();
+                eventPublisherKeys.put(address, createGuiceKey(genericType, address));
+                eventPublisherFields.put(address, field);
             }
         }
     }
@@ -374,7 +744,18 @@ public class VertxEventRegistry {
      *                         the default verticle registration. May be null or empty.
      */
     public static void registerEventConsumersFiltered(String assignedPackage, java.util.List<String> excludedPrefixes) {
-        Vertx vertx = VertXPreStartup.getVertx();
+        registerEventConsumersFiltered(VertXPreStartup.getVertx(), assignedPackage, excludedPrefixes);
+    }
+
+    /**
+     * Registers event consumers filtered by assigned package or excluded prefixes on the event bus of a given runtime.
+     *
+     * @param vertx            The Vert.x instance whose event bus takes the consumers
+     * @param assignedPackage  The package assigned to the current verticle, see {@link #registerEventConsumersFiltered(String, java.util.List)}
+     * @param excludedPrefixes Package prefixes handled by annotated verticles. May be null or empty.
+     */
+    public static void registerEventConsumersFiltered(Vertx vertx, String assignedPackage, java.util.List<String> excludedPrefixes) {
+        java.util.Set<String> registeredAddresses = VertxRuntime.of(vertx).getRegisteredAddresses();
 
         log.debug("registerEventConsumersFiltered called for package='{}', excludedPrefixes={}", assignedPackage, excludedPrefixes);
 
@@ -517,14 +898,24 @@ public class VertxEventRegistry {
      * <p>
      * When the {@code @VertxEventOptions} does not specify a worker pool, the dispatcher
      * falls back to the enclosing {@code @Verticle}'s worker pool for the consumer class.
+     * <p>
+     * Requests on addresses with a reply cache are answered from the cache when possible,
+     * skipping the consumer invocation entirely.
      */
-    public static Uni<Void> dispatch(Vertx vertx, Message<?> message, Method method, Class<?> methodClass, VertxEventDefinition eventDefinition) {
+    public static Uni<Void> dispatch(Vertx vertx, Message<?> received, Method method, Class<?> methodClass, VertxEventDefinition eventDefinition) {
+        long receivedAt = System.nanoTime();
+        Message<?> message = applyReplyCache(received, eventDefinition);
+        if (message == null) {
+            return Uni.createFrom().voidItem();
+        }
         try {
             boolean isWorker = eventDefinition != null && eventDefinition.options().worker();
+            long slowCallThresholdMs = eventDefinition == null ? 0 : eventDefinition.options().slowCallThresholdMs();
 
             // Resolve the effective worker pool: event-level → verticle-level → none
+            VertxRuntime runtime = VertxRuntime.of(vertx);
             String resolvedPool = null;
-            int resolvedPoolSize = 20;
+            int resolvedPoolSize = runtime.getWorkerPoolSize();
             if (eventDefinition != null) {
                 resolvedPool = eventDefinition.options().workerPool();
                 if (eventDefinition.options().workerPoolSize() > 0) {
@@ -550,27 +941,44 @@ public class VertxEventRegistry {
                 if (resolvedPool != null && !resolvedPool.isEmpty()) {
                     final int size = resolvedPoolSize;
                     final String poolName = resolvedPool;
-                    WorkerExecutor exec = workerExecutors.computeIfAbsent(poolName, name -> vertx.createSharedWorkerExecutor(name, size));
-                    Future<Void> fut = exec.<Void>executeBlocking(() -> {
-                        log.debug("Executing on named worker pool: {}", poolName);
-                        invokeConsumerMethod(message, method, methodClass);
-                        return null;
-                    }, false);
+                    WorkerExecutor exec = runtime.getWorkerExecutors()
+                            .computeIfAbsent(poolName, name -> vertx.createSharedWorkerExecutor(name, size));
+                    WorkerPoolMetrics poolMetrics = WorkerPoolMetrics.forPool(poolName, size);
+                    // The pool keeps the size it was created with, whichever address created it
+                    Future<Void> fut = schedule(message, eventDefinition, poolName, poolMetrics.getMaxSize(), () -> {
+                        long submittedAt = poolMetrics.submit();
+                        return exec.<ConsumerOutcome>executeBlocking(() -> {
+                            log.debug("Executing on named worker pool: {}", poolName);
+                            return runOnWorker(poolMetrics, submittedAt, () -> invokeConsumerMethod(vertx, message, method, methodClass, poolName, receivedAt, slowCallThresholdMs));
+                        }, false).onFailure(ex -> {
+                            if (ex instanceof java.util.concurrent.RejectedExecutionException) {
+                                poolMetrics.submitFailed();
+                            }
+                        });
+                    });
                     return Uni.createFrom().completionStage(fut.toCompletionStage())
                             .onFailure().invoke(ex -> log.error("Worker dispatch setup failed for {}: {}", message.address(), ex.getMessage(), ex));
                 } else {
                     var currentContext = Vertx.currentContext();
-                    Future<Void> fut = currentContext.<Void>executeBlocking(() -> {
-                        log.debug("Executing on default worker pool");
-                        invokeConsumerMethod(message, method, methodClass);
-                        return null;
-                    }, false);
+                    int defaultPoolSize = runtime.getWorkerPoolSize();
+                    WorkerPoolMetrics poolMetrics = WorkerPoolMetrics.forPool(DEFAULT_WORKER_POOL, defaultPoolSize);
+                    Future<Void> fut = schedule(message, eventDefinition, DEFAULT_WORKER_POOL, defaultPoolSize, () -> {
+                        long submittedAt = poolMetrics.submit();
+                        return currentContext.<ConsumerOutcome>executeBlocking(() -> {
+                            log.debug("Executing on default worker pool");
+                            return runOnWorker(poolMetrics, submittedAt, () -> invokeConsumerMethod(vertx, message, method, methodClass, DEFAULT_WORKER_POOL, receivedAt, slowCallThresholdMs));
+                        }, false).onFailure(ex -> {
+                            if (ex instanceof java.util.concurrent.RejectedExecutionException) {
+                                poolMetrics.submitFailed();
+                            }
+                        });
+                    });
                     return Uni.createFrom().completionStage(fut.toCompletionStage())
                             .onFailure().invoke(ex -> log.error("Worker dispatch setup failed for {}: {}", message.address(), ex.getMessage(), ex));
                 }
             } else {
                 // Defer so the CallScope is established at subscription time
-                handleMethodBasedConsumer(message, method, methodClass);
+                handleMethodBasedConsumer(vertx, message, method, methodClass, receivedAt, slowCallThresholdMs);
                 return Uni.createFrom().voidItem();
             }
         } catch (Throwable t) {
@@ -583,15 +991,136 @@ public class VertxEventRegistry {
         }
     }
 
+    /**
+     * The result of one consumer invocation on a worker: whether the consumer failed, and how long it ran
+     * excluding any time queued for a priority lane or a pool thread.
+     */
+    record ConsumerOutcome(boolean failed, long executionNanos) {
+    }
+
+    /**
+     * Runs a task on a worker thread, reporting its start and end to the pool telemetry.
+     */
+    private static ConsumerOutcome runOnWorker(WorkerPoolMetrics poolMetrics, long submittedAt, java.util.function.Supplier<ConsumerOutcome> task) {
+        long startedAt = poolMetrics.begin(submittedAt);
+        boolean taskFailed = true;
+        try {
+            ConsumerOutcome outcome = task.get();
+            taskFailed = outcome.failed();
+            return outcome;
+        } finally {
+            poolMetrics.end(startedAt, taskFailed);
+        }
+    }
+
+    /**
+     * Starts worker execution through the pool's {@link PriorityLaneScheduler}, which gates every task on the pool
+     * and queues them by priority, lane 0 for addresses without priority settings.
+     * Addresses with adaptive concurrency take a limiter slot first and are rejected when at the limit; the slot is
+     * released with the consumer's own outcome and execution time, so failures cut the limit and queueing time does
+     * not count as downstream latency.
+     */
+    private static Future<Void> schedule(Message<?> message, VertxEventDefinition eventDefinition, String poolName, int poolSize,
+                                         java.util.function.Supplier<Future<ConsumerOutcome>> execution) {
+        VertxEventOptions options = eventDefinition.options();
+        java.util.function.Supplier<Future<Void>> work = () -> execution.get().mapEmpty();
+        if (options.adaptiveConcurrency()) {
+            AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.forAddress(message.address(), options.adaptiveMinConcurrency(), poolSize);
+            if (!limiter.tryAcquire()) {
+                log.debug("Address {} at concurrency limit {}, rejecting message", message.address(), limiter.getLimit());
+                WorkerPoolMetrics.forPool(poolName, poolSize).rejected();
+                message.fail(AdaptiveConcurrencyLimiter.LIMIT_EXCEEDED_FAILURE_CODE, "Concurrency limit reached for " + message.address());
+                return Future.succeededFuture();
+            }
+            work = () -> {
+                Future<ConsumerOutcome> started;
+                try {
+                    started = execution.get();
+                } catch (Throwable t) {
+                    started = Future.failedFuture(t);
+                }
+                return started.onComplete(ar -> {
+                    if (ar.succeeded()) {
+                        limiter.release(ar.result().executionNanos(), ar.result().failed());
+                    } else {
+                        // Never reached the consumer, so there is no latency to learn from
+                        limiter.release(0, true);
+                    }
+                }).mapEmpty();
+            };
+        }
+        // Every task goes through the lanes, so the occupancy gate holds for unprioritised traffic too (lane 0)
+        String priorityHeader = options.priorityHeader();
+        PriorityLaneScheduler scheduler = PriorityLaneScheduler.forPool(poolName, poolSize, options.priorityQueueCapacity());
+        int priority = options.priority();
+        if (priorityHeader != null && !priorityHeader.isEmpty()) {
+            String headerValue = message.headers().get(priorityHeader);
+            if (headerValue != null) {
+                try {
+                    priority = Integer.parseInt(headerValue.trim());
+                } catch (NumberFormatException e) {
+                    log.debug("Ignoring non-numeric priority header {}={} on {}", priorityHeader, headerValue, message.address());
+                }
+            }
+        }
+        return scheduler.submit(priority, options.priorityQueueCapacity(), work, () -> {
+            WorkerPoolMetrics.forPool(poolName, poolSize).rejected();
+            message.fail(PriorityLaneScheduler.QUEUE_FULL_FAILURE_CODE, "Priority queue full for " + message.address());
+        });
+    }
+
+    /**
+     * Serves a request from the address reply cache, or wraps it so the consumer's reply is cached.
+     * Requests with headers are never cached since headers may change the reply; trace headers are ignored.
+     *
+     * @return the message to dispatch, or null when the request was answered from the cache
+     */
+    private static Message<?> applyReplyCache(Message<?> message, VertxEventDefinition eventDefinition) {
+        try {
+            if (eventDefinition == null || message.replyAddress() == null || message.body() == null
+                    || EventTracing.hasApplicationHeaders(message.headers())) {
+                return message;
+            }
+            VertxEventOptions options = eventDefinition.options();
+            long ttlMs = options.replyCacheTtlMs();
+            if (ttlMs <= 0) {
+                return message;
+            }
+            ReplyCache cache = ReplyCache.forAddress(message.address(), ttlMs, options.replyCacheMaxEntries(), options.replyCacheMaxBytes());
+            Object key = cache.keyFor(message.body());
+            Object cached = cache.get(key);
+            if (cached != null) {
+                log.trace("Reply cache hit on address {}", message.address());
+                message.reply(cached);
+                return null;
+            }
+            return new CachingReplyMessage<>(message, cache, key);
+        } catch (Throwable t) {
+            log.warn("Reply cache lookup failed on address {}, invoking consumer: {}", message.address(), t.getMessage());
+            return message;
+        }
+    }
+
     /**
      * Eagerly invokes a consumer method on the current thread and handles the reply.
      * <p>
      * Used by worker dispatch to ensure the method executes on the worker thread
      * rather than being deferred back to the event-loop via Uni subscription.
+     *
+     * @return whether the consumer failed and how long it ran
      */
-    private static void invokeConsumerMethod(Message<?> message, Method method, Class<?> methodClass) {
+    private static ConsumerOutcome invokeConsumerMethod(Vertx vertx, Message<?> message, Method method, Class<?> methodClass, String workerPool, long receivedAt,
+                                                          long slowCallThresholdMs) {
         CallScoper callScoper = null;
         boolean started = false;
+        boolean failed = false;
+        long startedAt = System.nanoTime();
+        long executedAt = 0;
+        long completedAt;
+        EventSpan span = null;
+        TraceContext previousTrace = null;
+        SlowConsumerWatchdog.InFlightCall slowCall = SlowConsumerWatchdog.track(vertx, message.address(),
+                methodClass.getSimpleName() + "." + method.getName(), message.headers(), slowCallThresholdMs);
         try {
             callScoper = IGuiceContext.get(CallScoper.class);
             if (!callScoper.isStartedScope()) {
@@ -602,56 +1131,85 @@ public class VertxEventRegistry {
             if (props.getSource() == null || props.getSource() == CallScopeSource.Unknown) {
                 props.setSource(CallScopeSource.VertXConsumer);
             }
+            span = startConsumerSpan(message, props);
+            previousTrace = EventTracing.setCurrent(span.getContext());
 
             Object instance = IGuiceContext.get(methodClass);
             Object[] params = prepareMethodParameters(method, message);
             Object invocationResult = method.invoke(instance, params);
 
+            Object res = null;
+            boolean reply = false;
             if (invocationResult instanceof Uni<?> uniResult) {
                 uniResult.subscribe().asCompletionStage().toCompletableFuture().join();
             } else if (invocationResult instanceof Future<?> futResult) {
-                Object res = futResult.toCompletionStage().toCompletableFuture().join();
-                try {
-                    message.reply(res);
-                } catch (Throwable t) {
-                    log.error("Failed to reply to message on {}: {}", message.address(), t.getMessage(), t);
-                }
+                res = futResult.toCompletionStage().toCompletableFuture().join();
+                reply = true;
             } else if (invocationResult instanceof java.util.concurrent.CompletableFuture<?> cfResult) {
-                Object res = cfResult.join();
-                try {
-                    message.reply(res);
-                } catch (Throwable t) {
-                    log.error("Failed to reply to message on {}: {}", message.address(), t.getMessage(), t);
-                }
+                res = cfResult.join();
+                reply = true;
             } else if (invocationResult != null) {
+                res = invocationResult;
+                reply = true;
+            }
+            // null result = void method, no reply needed
+            executedAt = System.nanoTime();
+            if (reply) {
                 try {
-                    message.reply(invocationResult);
+                    message.reply(res);
                 } catch (Throwable t) {
                     log.error("Failed to reply to message on {}: {}", message.address(), t.getMessage(), t);
                 }
             }
-            // null result = void method, no reply needed
         } catch (Throwable t) {
             Throwable cause = (t instanceof java.lang.reflect.InvocationTargetException && t.getCause() != null)
                     ? t.getCause() : t;
             log.error("Error invoking worker consumer {}.{}(): {}", methodClass.getSimpleName(), method.getName(), cause.getMessage(), cause);
+            failed = true;
             try {
                 message.fail(500, String.valueOf(cause.getMessage()));
             } catch (Throwable ignored) {
             }
         } finally {
+            SlowConsumerWatchdog.end(slowCall);
+            completedAt = System.nanoTime();
+            AddressMetrics.forAddress(message.address()).recordDispatch(workerPool, receivedAt, startedAt,
+                    executedAt == 0 ? completedAt : executedAt, completedAt, failed);
+            if (span != null) {
+                span.end(failed);
+                EventTracing.setCurrent(previousTrace);
+            }
             if (started && callScoper != null) {
                 callScoper.exit();
             }
         }
+        return new ConsumerOutcome(failed, completedAt - startedAt);
+    }
+
+    /**
+     * Starts the consumer span for a message and restores its trace context into the call scope
+     * under {@link EventTracing#TRACEPARENT_HEADER} and onto the message's Vert.x context, where
+     * asynchronous continuations of the consumer find it.
+     */
+    private static EventSpan startConsumerSpan(Message<?> message, CallScopeProperties props) {
+        EventSpan span = EventTracing.startConsumer(message.address(), message.headers());
+        TraceContext context = span.getContext();
+        if (context != null) {
+            props.getProperties().put(EventTracing.TRACEPARENT_HEADER, context.toTraceparent());
+        }
+        EventTracing.bind(context);
+        return span;
     }
 
     /**
      * Handles a message by invoking a method-based consumer
      */
-    private static void handleMethodBasedConsumer(Message<?> message, Method method, Class<?> methodClass) {
+    private static void handleMethodBasedConsumer(Vertx vertx, Message<?> message, Method method, Class<?> methodClass, long receivedAt,
+                                                               long slowCallThresholdMs) {
         // Execute the consumer invocation within a Uni so interceptors/scopes can participate.
-        VertXPreStartup.getVertx().runOnContext(_ -> {
+        vertx.runOnContext(_ -> {
+            long startedAt = System.nanoTime();
+            AddressMetrics addressMetrics = AddressMetrics.forAddress(message.address());
             CallScoper callScoper = IGuiceContext.get(CallScoper.class);
             boolean started = false;
             if (!callScoper.isStartedScope()) {
@@ -662,19 +1220,25 @@ public class VertxEventRegistry {
             if (props.getSource() == null || props.getSource() == CallScopeSource.Unknown) {
                 props.setSource(CallScopeSource.VertXConsumer);
             }
+            EventSpan span = startConsumerSpan(message, props);
 
-                // Obtain target instance from Guice
-                Object instance = IGuiceContext.get(methodClass);
-
-                // Prepare parameters
-            Object[] params = prepareMethodParameters(method, message);
             // Invoke on the current thread (event-loop or worker depending on dispatch)
             Object invocationResult;
+            TraceContext previousTrace = EventTracing.setCurrent(span.getContext());
+            SlowConsumerWatchdog.InFlightCall slowCall = SlowConsumerWatchdog.track(vertx, message.address(),
+                    methodClass.getSimpleName() + "." + method.getName(), message.headers(), slowCallThresholdMs);
             try {
+                // Obtain target instance from Guice and prepare parameters; a failure here ends the span like a consumer failure
+                Object instance = IGuiceContext.get(methodClass);
+                Object[] params = prepareMethodParameters(method, message);
                 invocationResult = method.invoke(instance, params);
-            } catch (IllegalAccessException | InvocationTargetException e) {
+            } catch (Throwable e) {
                 Throwable cause = (e instanceof InvocationTargetException && e.getCause() != null) ? e.getCause() : e;
                 log.error("Error invoking consumer {}.{}(): {}", methodClass.getSimpleName(), method.getName(), cause.getMessage(), cause);
+                long failedAt = System.nanoTime();
+                addressMetrics.recordDispatch(null, receivedAt, startedAt, failedAt, failedAt, true);
+                span.end(true);
+                SlowConsumerWatchdog.end(slowCall);
                 try {
                     message.fail(500, String.valueOf(cause.getMessage()));
                 } catch (Throwable ignored) {
@@ -683,8 +1247,15 @@ public class VertxEventRegistry {
                     callScoper.exit();
                 }
                 return;
+            } finally {
+                EventTracing.setCurrent(previousTrace);
+            }
+            if (slowCall != null) {
+                // Asynchronous results complete on other work; stop sampling this thread
+                slowCall.detach();
             }
 
+            long executedAt = System.nanoTime();
             final CallScoper finalScoper = callScoper;
             final boolean finalStarted = started;
 
@@ -694,14 +1265,22 @@ public class VertxEventRegistry {
                 Uni<Object> uniResult = (Uni<Object>) invocationResult;
                 uniResult
                         .onItem().invoke(res -> {
+                            long resultAt = System.nanoTime();
                             // Reply with the resulting item (may be null)
                             try {
                                 message.reply(res);
                             } catch (Throwable t) {
                                 log.error("Failed to reply to message on {}: {}", message.address(), t.getMessage(), t);
                             }
+                            addressMetrics.recordDispatch(null, receivedAt, startedAt, resultAt, System.nanoTime(), false);
+                            span.end(false);
+                            SlowConsumerWatchdog.end(slowCall);
                         })
                         .onFailure().invoke(ex -> {
+                            long failedAt = System.nanoTime();
+                            addressMetrics.recordDispatch(null, receivedAt, startedAt, failedAt, failedAt, true);
+                            span.end(true);
+                            SlowConsumerWatchdog.end(slowCall);
                             log.error("Uni failure for consumer on {}: {}", message.address(), ex.getMessage(), ex);
                             try {
                                 message.fail(500, String.valueOf(ex.getMessage()));
@@ -722,13 +1301,21 @@ public class VertxEventRegistry {
             else if (invocationResult instanceof Future<?> fut) {
                 Uni.createFrom().completionStage(fut.toCompletionStage())
                         .onItem().invoke(res -> {
+                            long resultAt = System.nanoTime();
                             try {
                                 message.reply(res);
                             } catch (Throwable t) {
                                 log.error("Failed to reply to message on {}: {}", message.address(), t.getMessage(), t);
                             }
+                            addressMetrics.recordDispatch(null, receivedAt, startedAt, resultAt, System.nanoTime(), false);
+                            span.end(false);
+                            SlowConsumerWatchdog.end(slowCall);
                         })
                         .onFailure().invoke(ex -> {
+                            long failedAt = System.nanoTime();
+                            addressMetrics.recordDispatch(null, receivedAt, startedAt, failedAt, failedAt, true);
+                            span.end(true);
+                            SlowConsumerWatchdog.end(slowCall);
                             log.error("Future failure for consumer on {}: {}", message.address(), ex.getMessage(), ex);
                             try {
                                 message.fail(500, String.valueOf(ex.getMessage()));
@@ -749,13 +1336,21 @@ public class VertxEventRegistry {
             else if (invocationResult instanceof java.util.concurrent.CompletableFuture<?> cf) {
                 Uni.createFrom().completionStage(cf)
                         .onItem().invoke(res -> {
+                            long resultAt = System.nanoTime();
                             try {
                                 message.reply(res);
                             } catch (Throwable t) {
                                 log.error("Failed to reply to message on {}: {}", message.address(), t.getMessage(), t);
                             }
+                            addressMetrics.recordDispatch(null, receivedAt, startedAt, resultAt, System.nanoTime(), false);
+                            span.end(false);
+                            SlowConsumerWatchdog.end(slowCall);
                         })
                         .onFailure().invoke(ex -> {
+                            long failedAt = System.nanoTime();
+                            addressMetrics.recordDispatch(null, receivedAt, startedAt, failedAt, failedAt, true);
+                            span.end(true);
+                            SlowConsumerWatchdog.end(slowCall);
                             log.error("CompletableFuture failure for consumer on {}: {}", message.address(), ex.getMessage(), ex);
                             try {
                                 message.fail(500, String.valueOf(ex.getMessage()));
@@ -779,12 +1374,18 @@ public class VertxEventRegistry {
                 } catch (Throwable t) {
                     log.error("Failed to reply to message on {}: {}", message.address(), t.getMessage(), t);
                 }
+                addressMetrics.recordDispatch(null, receivedAt, startedAt, executedAt, System.nanoTime(), false);
+                span.end(false);
+                SlowConsumerWatchdog.end(slowCall);
                 if (finalStarted && finalScoper != null) {
                     finalScoper.exit();
                 }
             }
             // null result = void method, no reply needed
             else {
+                addressMetrics.recordDispatch(null, receivedAt, startedAt, executedAt, executedAt, false);
+                span.end(false);
+                SlowConsumerWatchdog.end(slowCall);
                 if (finalStarted && finalScoper != null) {
                     finalScoper.exit();
                 }
@@ -795,7 +1396,7 @@ public class VertxEventRegistry {
     /**
      * Prepares the parameters for a method invocation
      */
-    private static Object[] prepareMethodParameters(Method method, Message<?> message) {
+    static Object[] prepareMethodParameters(Method method, Message<?> message) {
         Parameter[] parameters = method.getParameters();
         Object[] params = new Object[parameters.length];
         String address = message.address();
@@ -983,6 +1584,76 @@ public class VertxEventRegistry {
                         return 0L;
                     }
 
+                    @Override
+                    public int circuitBreakerThreshold() {
+                        return 0;
+                    }
+
+                    @Override
+                    public long circuitBreakerResetMs() {
+                        return 5000L;
+                    }
+
+                    @Override
+                    public int circuitBreakerHalfOpenProbes() {
+                        return 1;
+                    }
+
+                    @Override
+                    public boolean idempotent() {
+                        return false;
+                    }
+
+                    @Override
+                    public long replyCacheTtlMs() {
+                        return 0L;
+                    }
+
+                    @Override
+                    public int replyCacheMaxEntries() {
+                        return 1024;
+                    }
+
+                    @Override
+                    public long replyCacheMaxBytes() {
+                        return 0L;
+                    }
+
+                    @Override
+                    public int priority() {
+                        return 0;
+                    }
+
+                    @Override
+                    public String priorityHeader() {
+                        return "";
+                    }
+
+                    @Override
+                    public int priorityQueueCapacity() {
+                        return 10000;
+                    }
+
+                    @Override
+                    public boolean adaptiveConcurrency() {
+                        return false;
+                    }
+
+                    @Override
+                    public int adaptiveMinConcurrency() {
+                        return 1;
+                    }
+
+                    @Override
+                    public long slowCallThresholdMs() {
+                        return 0L;
+                    }
+
+                    @Override
+                    public boolean lazy() {
+                        return false;
+                    }
+
                     @Override
                     public Class<? extends Annotation> annotationType() {
                         return VertxEventOptions.class;
@@ -0,0 +1,338 @@
+package com.guicedee.vertx.spi;
+
+import io.vertx.core.Context;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.internal.VertxInternal;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The state bound to one {@link Vertx} instance, so one JVM can host several isolated Vert.x runtimes.
+ * <p>
+ * What the classpath scan discovers (consumer and publisher definitions, payload types, codec names) describes the
+ * application and is shared by every runtime through {@link VertxEventRegistry}. What belongs to an event bus is kept
+ * here instead:
+ * <ul>
+ *   <li>the codecs registered with the bus</li>
+ *   <li>the named worker executors consumers are dispatched to</li>
+ *   <li>the addresses consumers are registered on, and the consumer verticle deployments owning them</li>
+ *   <li>the multiplexed consumer verticles shared by every package</li>
+ *   <li>the per-address and per-pool state of the dispatch path, kept in one {@link KeyedRegistry} per kind: circuit
+ *       breakers, concurrency limiters, reply caches, priority schedulers and the address and worker pool metrics</li>
+ * </ul>
+ * The runtime built by {@link VertXPreStartup} is the primary one and is bound in Guice. Further runtimes, each with
+ * its own event loops and worker pools sized for a tenant or a CPU subset, are built with {@link #create(String, VertxOptions)}
+ * and take the application consumers with {@link #registerConsumers()}. Consumer instances still come from the one
+ * Guice injector. A runtime made by {@link #of(Vertx)} for any other instance is forgotten when that instance closes.
+ */
+@Log4j2
+public class VertxRuntime {
+
+    /**
+     * The name of the runtime built by {@link VertXPreStartup}
+     */
+    public static final String PRIMARY = "default";
+
+    private static final Map<Vertx, VertxRuntime> runtimes = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger sequence = new AtomicInteger();
+
+    private static volatile VertxRuntime primary;
+
+    /**
+     * Registries used off any Vert.x context while no primary runtime is bound, e.g. before boot or after destroy
+     */
+    private static final Map<Class<?>, KeyedRegistry<?>> unbound = new ConcurrentHashMap<>();
+
+    /**
+     * The runtime name
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * The Vert.x instance this runtime is bound to
+     */
+    @Getter
+    private final Vertx vertx;
+
+    /**
+     * The size of this runtime's default worker pool
+     */
+    @Getter
+    private final int workerPoolSize;
+
+    /**
+     * Codec names registered with this runtime's event bus
+     */
+    @Getter
+    private final Map<String, Boolean> registeredCodecs = new ConcurrentHashMap<>();
+
+    /**
+     * Shared worker executors created on this runtime, by pool name
+     */
+    @Getter
+    private final Map<String, WorkerExecutor> workerExecutors = new ConcurrentHashMap<>();
+
+    /**
+     * Addresses with consumers registered on this runtime's event bus
+     */
+    @Getter
+    private final Set<String> registeredAddresses = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The deployment id of the consumer verticle owning each address
+     */
+    @Getter
+    private final Map<String, String> consumerDeployments = new ConcurrentHashMap<>();
+
+    /**
+     * Per-address and per-pool state by kind
+     */
+    private final Map<Class<?>, KeyedRegistry<?>> registries = new ConcurrentHashMap<>();
+
+    /**
+     * The {@code eventloop} multiplexed consumer verticles, deployed on first use
+     */
+    private Future<List<MultiplexConsumerVerticle>> multiplexVerticles;
+
+    /**
+     * Whether the Vert.x instance was built by {@link #create(String, VertxOptions)} and is closed with the context
+     */
+    private final boolean owned;
+
+    private VertxRuntime(String name, Vertx vertx, int workerPoolSize, boolean owned) {
+        this.name = name;
+        this.vertx = vertx;
+        this.workerPoolSize = workerPoolSize > 0 ? workerPoolSize : VertxOptions.DEFAULT_WORKER_POOL_SIZE;
+        this.owned = owned;
+    }
+
+    /**
+     * @param vertx a Vert.x instance
+     * @return the runtime bound to it, created on first use
+     */
+    public static VertxRuntime of(Vertx vertx) {
+        if (vertx == null) {
+            throw new IllegalArgumentException("A Vert.x runtime needs a Vert.x instance");
+        }
+        VertxRuntime existing = runtimes.get(vertx);
+        if (existing != null) {
+            return existing;
+        }
+        VertxRuntime[] created = new VertxRuntime[1];
+        VertxRuntime runtime = runtimes.computeIfAbsent(vertx, v -> created[0] = new VertxRuntime("vertx-" + sequence.incrementAndGet(), v,
+                VertxOptions.DEFAULT_WORKER_POOL_SIZE, false));
+        if (created[0] != null && vertx instanceof VertxInternal internal) {
+            // Forget the runtime with its instance, so callers passing short-lived instances do not pile up state
+            internal.addCloseHook(completion -> {
+                runtimes.remove(vertx, runtime);
+                completion.succeed();
+            });
+        }
+        return runtime;
+    }
+
+    /**
+     * Binds the instance built by {@link VertXPreStartup} as the primary runtime.
+     *
+     * @param vertx the primary Vert.x instance
+     * @return the primary runtime
+     */
+    static VertxRuntime bindPrimary(Vertx vertx) {
+        VertxRuntime runtime = new VertxRuntime(PRIMARY, vertx, VertXPreStartup.getWorkerPoolSize(), false);
+        runtimes.put(vertx, runtime);
+        primary = runtime;
+        return runtime;
+    }
+
+    /**
+     * @return the runtime built by {@link VertXPreStartup}, starting it when needed
+     */
+    public static VertxRuntime primary() {
+        VertxRuntime runtime = primary;
+        return runtime != null ? runtime : of(VertXPreStartup.getVertx());
+    }
+
+    /**
+     * @return the primary runtime, or null before boot and after destroy; never starts Vert.x
+     */
+    public static VertxRuntime primaryIfBound() {
+        return primary;
+    }
+
+    /**
+     * @return the runtime owning the calling thread's context, the primary one outside a Vert.x context
+     */
+    public static VertxRuntime current() {
+        Context context = Vertx.currentContext();
+        return context != null ? of(context.owner()) : primary();
+    }
+
+    /**
+     * Finds the state of one kind for the calling thread: that of the runtime owning its Vert.x context, otherwise
+     * that of the primary runtime. Off any context and with no primary runtime bound, a registry not tied to any
+     * runtime is used.
+     *
+     * @param kind the state type, e.g. {@code AddressCircuitBreaker.class}
+     * @param <T>  the state type
+     * @return the registry
+     */
+    public static <T> KeyedRegistry<T> registryOf(Class<T> kind) {
+        Context context = Vertx.currentContext();
+        VertxRuntime runtime = context != null ? of(context.owner()) : primary;
+        return runtime != null ? runtime.registry(kind) : cast(unbound.computeIfAbsent(kind, _ -> new KeyedRegistry<>()));
+    }
+
+    /**
+     * @param kind the state type, e.g. {@code AddressMetrics.class}
+     * @param <T>  the state type
+     * @return this runtime's registry of that kind, created on first use
+     */
+    public <T> KeyedRegistry<T> registry(Class<T> kind) {
+        return cast(registries.computeIfAbsent(kind, _ -> new KeyedRegistry<>()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> KeyedRegistry<T> cast(KeyedRegistry<?> registry) {
+        return (KeyedRegistry<T>) registry;
+    }
+
+    /**
+     * @param name a runtime name
+     * @return the runtime of that name, or null
+     */
+    public static VertxRuntime named(String name) {
+        for (VertxRuntime runtime : runtimes.values()) {
+            if (runtime.name.equals(name)) {
+                return runtime;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return every live runtime
+     */
+    public static List<VertxRuntime> all() {
+        return List.copyOf(runtimes.values());
+    }
+
+    /**
+     * Builds an additional, isolated runtime and registers the application codecs on its event bus.
+     *
+     * @param name    the runtime name, unique in the JVM
+     * @param options the Vert.x options, e.g. an event loop and worker pool size for the tenant
+     * @return the runtime
+     * @throws IllegalStateException when a runtime of that name exists
+     */
+    public static VertxRuntime create(String name, VertxOptions options) {
+        if (named(name) != null) {
+            throw new IllegalStateException("A Vert.x runtime named " + name + " already exists");
+        }
+        // The shared scan must be complete before codecs can be derived from it
+        VertxEventRegistry.scanAndRegisterEvents();
+        Vertx vertx = Vertx.builder().with(options).build();
+        VertxRuntime runtime = new VertxRuntime(name, vertx, options.getWorkerPoolSize(), true);
+        runtimes.put(vertx, runtime);
+        CodecRegistry.createAndRegisterCodecsForAllEventTypes(vertx);
+        log.info("🧩 Vert.x runtime '{}' created with {} event loop(s) and {} codec(s)", name, options.getEventLoopPoolSize(),
+                runtime.registeredCodecs.size());
+        return runtime;
+    }
+
+    /**
+     * Registers every auto-bound application consumer on this runtime's event bus.
+     */
+    public void registerConsumers() {
+        VertxEventRegistry.registerEventConsumersFiltered(vertx, "", List.of());
+    }
+
+    /**
+     * Returns the multiplexed consumer verticles shared by every package on this runtime, deploying them the first
+     * time. They are deployed together, so Vert.x spreads their contexts over the event loops round robin.
+     *
+     * @param count the number of verticles, used by the first call only
+     * @return the deployed verticles
+     */
+    synchronized Future<List<MultiplexConsumerVerticle>> multiplexVerticles(int count) {
+        if (multiplexVerticles == null) {
+            List<MultiplexConsumerVerticle> verticles = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                verticles.add(new MultiplexConsumerVerticle(Map.of()));
+            }
+            AtomicInteger next = new AtomicInteger();
+            multiplexVerticles = vertx.deployVerticle(() -> verticles.get(next.getAndIncrement()), new DeploymentOptions().setInstances(count))
+                    .onSuccess(id -> log.debug("Deployed {} shared multiplexed consumer verticle(s) [{}] on {}", count, id, name))
+                    .onFailure(_ -> {
+                        synchronized (this) {
+                            multiplexVerticles = null;
+                        }
+                    })
+                    .map(_ -> List.copyOf(verticles));
+        }
+        return multiplexVerticles;
+    }
+
+    /**
+     * Closes the worker executors and the Vert.x instance of this runtime and forgets it.
+     *
+     * @return completes once Vert.x is closed
+     */
+    public Future<Void> close() {
+        runtimes.remove(vertx, this);
+        if (primary == this) {
+            primary = null;
+        }
+        List<Future<Void>> closing = new ArrayList<>();
+        workerExecutors.values().forEach(executor -> closing.add(executor.close()));
+        workerExecutors.clear();
+        registeredAddresses.clear();
+        consumerDeployments.clear();
+        registeredCodecs.clear();
+        registries.values().forEach(KeyedRegistry::clear);
+        synchronized (this) {
+            multiplexVerticles = null;
+        }
+        return Future.join(closing).transform(_ -> vertx.close());
+    }
+
+    /**
+     * Closes every runtime built by {@link #create(String, VertxOptions)} and forgets all of them. Called during
+     * context destroy, before the primary Vert.x instance is closed.
+     *
+     * @return completes once every owned Vert.x instance is closed
+     */
+    public static Future<Void> reset() {
+        List<Future<Void>> closing = new ArrayList<>();
+        for (VertxRuntime runtime : all()) {
+            if (runtime.owned) {
+                closing.add(runtime.close()
+                        .onFailure(t -> log.warn("Could not close Vert.x runtime '{}': {}", runtime.name, t.getMessage())));
+            } else {
+                runtime.registries.values().forEach(KeyedRegistry::clear);
+            }
+        }
+        runtimes.clear();
+        unbound.clear();
+        primary = null;
+        sequence.set(0);
+        return Future.join(closing).mapEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "VertxRuntime[" + name + "]";
+    }
+}
@@ -1,10 +1,13 @@
 package com.guicedee.vertx.spi;
 
 import com.guicedee.client.services.lifecycle.IGuicePostStartup;
+import com.guicedee.vertx.metrics.StartupProfile;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
 import lombok.extern.log4j.Log4j2;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -25,29 +28,42 @@ public class VertxVerticlePostStartup implements IGuicePostStartup<VertxVerticle
         log.debug("🚀 Deploying Vert.x verticles (post-startup)");
 
         // Deploy verticles - each verticle will register its assigned consumers via VertxConsumersStartup
-        new VerticleBuilder().findVerticles();
+        var deployTimer = StartupProfile.start("verticleDeployments");
+        StartupProfile.time("VerticleBuilder.findVerticles", () -> new VerticleBuilder().findVerticles());
+        // Every startup lookup has been made by now
+        RegistrySnapshot.save();
 
         // Convert the verticle deployment futures to Uni so the lifecycle waits for them to complete
         Map<String, Future<?>> verticleFutures = VerticleBuilder.getVerticleFutures();
-        if (!verticleFutures.isEmpty())
+        StartupProfile.track(deployTimer, new JsonObject().put("verticles", verticleFutures.size()),
+                        Future.join(List.copyOf(verticleFutures.values())))
+                .onComplete(_ -> StartupProfile.emitWhenSettled());
+
+        // Opt-in warm-up of codecs, parameter conversion and consumer singletons once the consumers are deployed
+        if (ConsumerWarmup.isEnabled())
         {
-            return verticleFutures.values().stream()
-                    .map(f -> Uni.createFrom().<Boolean>emitter(em ->
-                            f.onComplete(ar -> {
-                                if (ar.succeeded())
-                                {
-                                    em.complete(true);
-                                }
-                                else
-                                {
-                                    em.fail(ar.cause());
-                                }
-                            })
-                    ))
-                    .toList();
+            StartupTasks.track("verticles", Future.join(List.copyOf(verticleFutures.values())));
+            StartupTasks.submitBlocking(ConsumerWarmup.TASK, ConsumerWarmup::run, "verticles");
         }
 
-        return List.of(Uni.createFrom().item(true));
+        // Module startup tasks (auth providers, server binds) overlap with the deployments and are joined here,
+        // so later post-startups only run once they have settled
+        List<Future<?>> joined = new ArrayList<>(verticleFutures.values());
+        joined.add(StartupTasks.awaitAll());
+        return joined.stream()
+                .map(f -> Uni.createFrom().<Boolean>emitter(em ->
+                        f.onComplete(ar -> {
+                            if (ar.succeeded())
+                            {
+                                em.complete(true);
+                            }
+                            else
+                            {
+                                em.fail(ar.cause());
+                            }
+                        })
+                ))
+                .toList();
     }
 
     /**
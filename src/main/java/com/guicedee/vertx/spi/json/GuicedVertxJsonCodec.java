@@ -1,6 +1,7 @@
 package com.guicedee.vertx.spi.json;
 
 import com.guicedee.modules.services.jsonrepresentation.IJsonRepresentation;
+import com.guicedee.vertx.metrics.CodecMetrics;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.EncodeException;
@@ -30,9 +31,16 @@ import java.util.Map;
  * The behaviour mirrors Vert.x's own {@code DatabindCodec}: when the requested type is
  * {@link Object}, raw {@link Map}/{@link List} results are wrapped into
  * {@link JsonObject}/{@link JsonArray}.
+ * <p>
+ * String and buffer conversions are sampled into {@link CodecMetrics} under {@value #METRICS_NAME}.
  */
 public class GuicedVertxJsonCodec implements JsonCodec
 {
+    /**
+     * Name this codec reports under in {@link CodecMetrics}
+     */
+    public static final String METRICS_NAME = "vertx-json";
+
     private static volatile ObjectMapper baseMapper;
     private static volatile ObjectMapper vertxMapper;
 
@@ -70,9 +78,15 @@ public class GuicedVertxJsonCodec implements JsonCodec
     @SuppressWarnings("unchecked")
     public <T> T fromString(String json, Class<T> clazz) throws DecodeException
     {
+        CodecMetrics metrics = CodecMetrics.sample(METRICS_NAME);
+        long startedAt = metrics == null ? 0 : System.nanoTime();
         try
         {
             T value = mapper().readValue(json, clazz);
+            if (metrics != null)
+            {
+                metrics.recordDecode(System.nanoTime() - startedAt);
+            }
             return clazz == Object.class ? (T) adapt(value) : value;
         }
         catch (Exception e)
@@ -85,9 +99,15 @@ public class GuicedVertxJsonCodec implements JsonCodec
     @SuppressWarnings("unchecked")
     public <T> T fromBuffer(Buffer buf, Class<T> clazz) throws DecodeException
     {
+        CodecMetrics metrics = CodecMetrics.sample(METRICS_NAME);
+        long startedAt = metrics == null ? 0 : System.nanoTime();
         try
         {
             T value = mapper().readValue(buf.getBytes(), clazz);
+            if (metrics != null)
+            {
+                metrics.recordDecode(System.nanoTime() - startedAt);
+            }
             return clazz == Object.class ? (T) adapt(value) : value;
         }
         catch (Exception e)
@@ -107,12 +127,20 @@ public class GuicedVertxJsonCodec implements JsonCodec
     @Override
     public String toString(Object object, boolean pretty) throws EncodeException
     {
+        CodecMetrics metrics = CodecMetrics.sample(METRICS_NAME);
+        long startedAt = metrics == null ? 0 : System.nanoTime();
         try
         {
             ObjectMapper m = mapper();
-            return pretty
+            String json = pretty
                     ? m.writerWithDefaultPrettyPrinter().writeValueAsString(object)
                     : m.writeValueAsString(object);
+            if (metrics != null)
+            {
+                // Length in chars; exact for the ASCII that dominates JSON
+                metrics.recordEncode(json.length(), System.nanoTime() - startedAt);
+            }
+            return json;
         }
         catch (Exception e)
         {
@@ -123,12 +151,18 @@ public class GuicedVertxJsonCodec implements JsonCodec
     @Override
     public Buffer toBuffer(Object object, boolean pretty) throws EncodeException
     {
+        CodecMetrics metrics = CodecMetrics.sample(METRICS_NAME);
+        long startedAt = metrics == null ? 0 : System.nanoTime();
         try
         {
             ObjectMapper m = mapper();
             byte[] bytes = pretty
                     ? m.writerWithDefaultPrettyPrinter().writeValueAsBytes(object)
                     : m.writeValueAsBytes(object);
+            if (metrics != null)
+            {
+                metrics.recordEncode(bytes.length, System.nanoTime() - startedAt);
+            }
             return Buffer.buffer(bytes);
         }
         catch (Exception e)
@@ -0,0 +1,58 @@
+package com.guicedee.vertx.tracing;
+
+/**
+ * A span covering one side of an event bus hop, created by an {@link EventTracer}.
+ */
+public interface EventSpan
+{
+    /**
+     * Which side of the hop a span covers
+     */
+    enum Kind
+    {
+        /**
+         * Publish, send or request made by a publisher
+         */
+        PRODUCER,
+        /**
+         * Consumer invocation for a received message
+         */
+        CONSUMER
+    }
+
+    /**
+     * @return the context propagated to downstream hops, null when there is none
+     */
+    TraceContext getContext();
+
+    /**
+     * Ends the span.
+     *
+     * @param failed whether the hop failed
+     */
+    void end(boolean failed);
+
+    /**
+     * A span that records nothing and only carries a context along.
+     *
+     * @param context the context to propagate, may be null
+     * @return the span
+     */
+    static EventSpan propagating(TraceContext context)
+    {
+        return new EventSpan()
+        {
+            @Override
+            public TraceContext getContext()
+            {
+                return context;
+            }
+
+            @Override
+            public void end(boolean failed)
+            {
+                //No-op
+            }
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.guicedee.vertx.tracing;
+
+/**
+ * Service provider interface for recording event bus spans.
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader}; the first one found is used.
+ * Without an implementation {@link NoopEventTracer} is installed, which records nothing but still
+ * passes incoming trace context on to downstream hops.
+ */
+public interface EventTracer
+{
+    /**
+     * Starts a span. The span is ended by the caller when the hop completes.
+     *
+     * @param kind    the side of the hop
+     * @param address the event bus address
+     * @param context the context of the new span
+     * @param parent  the context of the parent span, null for a root span
+     * @return the started span
+     */
+    EventSpan startSpan(EventSpan.Kind kind, String address, TraceContext context, TraceContext parent);
+
+    /**
+     * Whether this tracer records spans. When false no new span ids are generated and only
+     * existing context is propagated.
+     *
+     * @return true if spans are recorded
+     */
+    default boolean isRecording()
+    {
+        return true;
+    }
+}
@@ -0,0 +1,255 @@
+package com.guicedee.vertx.tracing;
+
+import io.vertx.core.Context;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.internal.ContextInternal;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ServiceLoader;
+
+/**
+ * Propagates trace context through event bus message headers.
+ * <p>
+ * Publishers call {@link #startProducer(String)} and {@link #inject(EventSpan, DeliveryOptions)} to add a
+ * {@code traceparent} header; consumer dispatch calls {@link #startConsumer(String, MultiMap)} and makes
+ * the span context current with {@link #setCurrent(TraceContext)} while the consumer runs, so anything
+ * the consumer publishes continues the same trace. The context is also bound to the Vert.x context the message is
+ * handled on with {@link #bind(TraceContext)}, so callbacks of the futures and Unis a consumer returns, which run
+ * after the handler has returned, still see it.
+ * <p>
+ * When the installed tracer does not record, no ids are generated: incoming context is passed through
+ * unchanged and messages without context get no header.
+ */
+@Log4j2
+public class EventTracing
+{
+    /**
+     * W3C trace context header
+     */
+    public static final String TRACEPARENT_HEADER = "traceparent";
+
+    /**
+     * W3C vendor trace state header; not interpreted, but not treated as an application header either
+     */
+    public static final String TRACESTATE_HEADER = "tracestate";
+
+    private static final ThreadLocal<TraceContext> current = new ThreadLocal<>();
+
+    /**
+     * Key of the consumer context in the local data of a message's Vert.x context
+     */
+    private static final Object CONTEXT_KEY = new Object();
+
+    private static volatile EventTracer tracer;
+
+    private EventTracing()
+    {
+    }
+
+    /**
+     * @return the installed tracer, loading it from the service loader on first use
+     */
+    public static EventTracer getTracer()
+    {
+        EventTracer t = tracer;
+        if (t == null)
+        {
+            synchronized (EventTracing.class)
+            {
+                if (tracer == null)
+                {
+                    tracer = ServiceLoader.load(EventTracer.class).findFirst().orElseGet(NoopEventTracer::new);
+                    log.debug("Using event tracer {}", tracer.getClass().getName());
+                }
+                t = tracer;
+            }
+        }
+        return t;
+    }
+
+    /**
+     * Installs a tracer, replacing any loaded from the service loader.
+     *
+     * @param eventTracer the tracer, null to reload from the service loader
+     */
+    public static void setTracer(EventTracer eventTracer)
+    {
+        tracer = eventTracer;
+    }
+
+    /**
+     * Drops the installed tracer. Called during context destroy.
+     */
+    public static void reset()
+    {
+        tracer = null;
+        current.remove();
+    }
+
+    /**
+     * @return the trace context of the consumer running on this thread, or bound to the calling Vert.x context, or null
+     */
+    public static TraceContext current()
+    {
+        TraceContext context = current.get();
+        if (context != null)
+        {
+            return context;
+        }
+        ContextInternal messageContext = messageContext();
+        return messageContext == null ? null : (TraceContext) messageContext.localContextData().get(CONTEXT_KEY);
+    }
+
+    /**
+     * Binds a consumer's context to the Vert.x context handling its message, so continuations scheduled by the consumer
+     * publish into the same trace. Only a duplicated context, which Vert.x creates for each delivered message, takes
+     * it; binding to a shared event loop context would hand it to unrelated messages.
+     *
+     * @param context the consumer span context, may be null
+     */
+    public static void bind(TraceContext context)
+    {
+        ContextInternal messageContext = messageContext();
+        if (messageContext == null)
+        {
+            return;
+        }
+        if (context == null)
+        {
+            messageContext.localContextData().remove(CONTEXT_KEY);
+        }
+        else
+        {
+            messageContext.localContextData().put(CONTEXT_KEY, context);
+        }
+    }
+
+    private static ContextInternal messageContext()
+    {
+        Context context = Vertx.currentContext();
+        return context instanceof ContextInternal internal && internal.isDuplicate() ? internal : null;
+    }
+
+    /**
+     * Makes a context current on this thread.
+     *
+     * @param context the context, null to clear
+     * @return the previous context, to restore when the scope ends
+     */
+    public static TraceContext setCurrent(TraceContext context)
+    {
+        TraceContext previous = current.get();
+        if (context == null)
+        {
+            current.remove();
+        }
+        else
+        {
+            current.set(context);
+        }
+        return previous;
+    }
+
+    /**
+     * Starts a producer span for an outgoing message, as a child of the current context.
+     *
+     * @param address the event bus address
+     * @return the span, or null when there is no context to propagate
+     */
+    public static EventSpan startProducer(String address)
+    {
+        EventTracer t = getTracer();
+        TraceContext parent = current();
+        if (!t.isRecording())
+        {
+            return parent == null ? null : EventSpan.propagating(parent);
+        }
+        TraceContext context = parent == null ? TraceContext.newRoot() : parent.child();
+        return t.startSpan(EventSpan.Kind.PRODUCER, address, context, parent);
+    }
+
+    /**
+     * Starts a consumer span for a received message, as a child of the context in its headers.
+     *
+     * @param address the event bus address
+     * @param headers the message headers
+     * @return the span, never null; its context is null when there is nothing to propagate
+     */
+    public static EventSpan startConsumer(String address, MultiMap headers)
+    {
+        TraceContext parent = extract(headers);
+        EventTracer t = getTracer();
+        if (!t.isRecording())
+        {
+            return EventSpan.propagating(parent);
+        }
+        TraceContext context = parent == null ? TraceContext.newRoot() : parent.child();
+        return t.startSpan(EventSpan.Kind.CONSUMER, address, context, parent);
+    }
+
+    /**
+     * Writes the span context into the delivery options, replacing any existing {@code traceparent}.
+     *
+     * @param span    the producer span, may be null
+     * @param options the delivery options to update
+     * @return the options
+     */
+    public static DeliveryOptions inject(EventSpan span, DeliveryOptions options)
+    {
+        TraceContext context = span == null ? null : span.getContext();
+        if (context == null)
+        {
+            return options;
+        }
+        MultiMap headers = options.getHeaders();
+        if (headers == null)
+        {
+            options.addHeader(TRACEPARENT_HEADER, context.toTraceparent());
+        }
+        else
+        {
+            headers.set(TRACEPARENT_HEADER, context.toTraceparent());
+        }
+        return options;
+    }
+
+    /**
+     * Reads the trace context from message headers.
+     *
+     * @param headers the message headers, may be null
+     * @return the context, or null when absent or malformed
+     */
+    public static TraceContext extract(MultiMap headers)
+    {
+        if (headers == null || headers.isEmpty())
+        {
+            return null;
+        }
+        return TraceContext.parse(headers.get(TRACEPARENT_HEADER));
+    }
+
+    /**
+     * Whether headers carry anything other than trace context. Trace headers differ on every message,
+     * so features that skip messages with headers (request coalescing, reply caching) ignore them.
+     *
+     * @param headers the headers, may be null
+     * @return true if there is at least one non-trace header
+     */
+    public static boolean hasApplicationHeaders(MultiMap headers)
+    {
+        if (headers == null || headers.isEmpty())
+        {
+            return false;
+        }
+        for (String name : headers.names())
+        {
+            if (!TRACEPARENT_HEADER.equalsIgnoreCase(name) && !TRACESTATE_HEADER.equalsIgnoreCase(name))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,113 @@
+package com.guicedee.vertx.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracer that keeps finished spans in memory, for tests and local diagnostics.
+ * <p>
+ * Install it with {@link EventTracing#setTracer(EventTracer)} and read the spans back with
+ * {@link #getSpans()}. The oldest spans are dropped once {@code capacity} is reached.
+ */
+public class InMemoryEventTracer implements EventTracer
+{
+    /**
+     * A finished span
+     *
+     * @param kind           the side of the hop
+     * @param address        the event bus address
+     * @param traceId        the trace id
+     * @param spanId         the span id
+     * @param parentSpanId   the parent span id, null for a root span
+     * @param startEpochMs   wall clock start time
+     * @param durationNanos  time from start to end
+     * @param failed         whether the hop failed
+     */
+    public record RecordedSpan(EventSpan.Kind kind, String address, String traceId, String spanId, String parentSpanId,
+                               long startEpochMs, long durationNanos, boolean failed)
+    {
+    }
+
+    private final int capacity;
+    private final ConcurrentLinkedDeque<RecordedSpan> spans = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Keeps up to 10000 spans
+     */
+    public InMemoryEventTracer()
+    {
+        this(10_000);
+    }
+
+    /**
+     * @param capacity the number of finished spans kept
+     */
+    public InMemoryEventTracer(int capacity)
+    {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    @Override
+    public EventSpan startSpan(EventSpan.Kind kind, String address, TraceContext context, TraceContext parent)
+    {
+        long startEpochMs = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        return new EventSpan()
+        {
+            private boolean ended;
+
+            @Override
+            public TraceContext getContext()
+            {
+                return context;
+            }
+
+            @Override
+            public synchronized void end(boolean failed)
+            {
+                if (ended)
+                {
+                    return;
+                }
+                ended = true;
+                spans.addLast(new RecordedSpan(kind, address, context.traceId(), context.spanId(),
+                        parent == null ? null : parent.spanId(), startEpochMs, System.nanoTime() - startNanos, failed));
+                if (size.incrementAndGet() > capacity && spans.pollFirst() != null)
+                {
+                    size.decrementAndGet();
+                }
+            }
+        };
+    }
+
+    /**
+     * @return the finished spans, oldest first
+     */
+    public List<RecordedSpan> getSpans()
+    {
+        return new ArrayList<>(spans);
+    }
+
+    /**
+     * Returns the finished spans of one trace.
+     *
+     * @param traceId the trace id
+     * @return the spans, oldest first
+     */
+    public List<RecordedSpan> getTrace(String traceId)
+    {
+        return spans.stream().filter(s -> s.traceId().equals(traceId)).toList();
+    }
+
+    /**
+     * Drops all finished spans.
+     */
+    public void clear()
+    {
+        spans.clear();
+        size.set(0);
+    }
+}
@@ -0,0 +1,19 @@
+package com.guicedee.vertx.tracing;
+
+/**
+ * Default tracer used when no {@link EventTracer} is provided. Records nothing.
+ */
+public class NoopEventTracer implements EventTracer
+{
+    @Override
+    public EventSpan startSpan(EventSpan.Kind kind, String address, TraceContext context, TraceContext parent)
+    {
+        return EventSpan.propagating(parent);
+    }
+
+    @Override
+    public boolean isRecording()
+    {
+        return false;
+    }
+}
@@ -0,0 +1,114 @@
+package com.guicedee.vertx.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Trace and span identifiers carried across event bus hops in a W3C {@code traceparent} header.
+ * <p>
+ * The header has the form {@code 00-<32 hex trace id>-<16 hex span id>-<2 hex flags>}. Only the sampled
+ * flag is interpreted; unknown versions are accepted as long as the layout matches.
+ *
+ * @param traceId the 32 character lower-case hex trace id
+ * @param spanId  the 16 character lower-case hex span id
+ * @param sampled whether the trace is sampled
+ */
+public record TraceContext(String traceId, String spanId, boolean sampled)
+{
+    private static final String VERSION = "00";
+    private static final String INVALID_TRACE_ID = "00000000000000000000000000000000";
+    private static final String INVALID_SPAN_ID = "0000000000000000";
+
+    /**
+     * Starts a new trace.
+     *
+     * @return a sampled root context
+     */
+    public static TraceContext newRoot()
+    {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String traceId = hex(random.nextLong(), 16) + hex(random.nextLong(), 16);
+        if (INVALID_TRACE_ID.equals(traceId))
+        {
+            return newRoot();
+        }
+        return new TraceContext(traceId, newSpanId(), true);
+    }
+
+    /**
+     * Creates the context of a child span in the same trace.
+     *
+     * @return a context with the same trace id and a new span id
+     */
+    public TraceContext child()
+    {
+        return new TraceContext(traceId, newSpanId(), sampled);
+    }
+
+    /**
+     * Parses a {@code traceparent} header value.
+     *
+     * @param traceparent the header value, may be null
+     * @return the context, or null when the value is missing or malformed
+     */
+    public static TraceContext parse(String traceparent)
+    {
+        if (traceparent == null)
+        {
+            return null;
+        }
+        String value = traceparent.trim();
+        if (value.length() < 55 || value.charAt(2) != '-' || value.charAt(35) != '-' || value.charAt(52) != '-'
+            || (value.length() > 55 && value.charAt(55) != '-'))
+        {
+            return null;
+        }
+        String version = value.substring(0, 2);
+        String traceId = value.substring(3, 35);
+        String spanId = value.substring(36, 52);
+        String flags = value.substring(53, 55);
+        if (!isHex(version) || "ff".equals(version) || !isHex(traceId) || !isHex(spanId) || !isHex(flags)
+            || INVALID_TRACE_ID.equals(traceId) || INVALID_SPAN_ID.equals(spanId))
+        {
+            return null;
+        }
+        return new TraceContext(traceId, spanId, (Integer.parseInt(flags, 16) & 1) == 1);
+    }
+
+    /**
+     * @return the {@code traceparent} header value for this context
+     */
+    public String toTraceparent()
+    {
+        return VERSION + "-" + traceId + "-" + spanId + (sampled ? "-01" : "-00");
+    }
+
+    private static String newSpanId()
+    {
+        long id;
+        do
+        {
+            id = ThreadLocalRandom.current().nextLong();
+        }
+        while (id == 0);
+        return hex(id, 16);
+    }
+
+    private static String hex(long value, int width)
+    {
+        String hex = Long.toHexString(value);
+        return hex.length() >= width ? hex : "0".repeat(width - hex.length()) + hex;
+    }
+
+    private static boolean isHex(String value)
+    {
+        for (int i = 0; i < value.length(); i++)
+        {
+            char c = value.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f')))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
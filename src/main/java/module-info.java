@@ -44,6 +44,7 @@ module com.guicedee.vertx {
     requires io.github.classgraph;
 
     requires static lombok;
+    requires static java.compiler;
 
     exports com.guicedee.vertx.spi;
     exports com.guicedee.vertx.spi.json;
@@ -52,6 +53,11 @@ module com.guicedee.vertx {
     exports com.guicedee.vertx.redis;
     exports com.guicedee.vertx.auth;
     exports com.guicedee.vertx.grpc;
+    exports com.guicedee.vertx.resilience;
+    exports com.guicedee.vertx.cache;
+    exports com.guicedee.vertx.metrics;
+    exports com.guicedee.vertx.tracing;
+    exports com.guicedee.vertx.index;
     exports com.guicedee.vertx.auth.oauth2;
     exports com.guicedee.vertx.auth.jwt;
     exports com.guicedee.vertx.auth.abac;
@@ -87,6 +93,9 @@ module com.guicedee.vertx {
     // Jackson 2 fallback codec.
     provides io.vertx.core.spi.JsonFactory with com.guicedee.vertx.spi.json.GuicedVertxJsonFactory;
 
+    // Lets javac discover the event index processor when this module is on the processor module path
+    provides javax.annotation.processing.Processor with com.guicedee.vertx.index.EventIndexProcessor;
+
     uses com.guicedee.vertx.spi.VertxConfigurator;
     uses VerticleStartup;
     uses IGuicedAuthenticationProvider;
@@ -97,4 +106,5 @@ module com.guicedee.vertx {
     uses com.guicedee.vertx.auth.abac.IAbacPolicyProvider;
     uses com.guicedee.vertx.auth.otp.IOtpAuthenticatorService;
     uses com.guicedee.vertx.grpc.IGrpcServiceProvider;
+    uses com.guicedee.vertx.tracing.EventTracer;
 }
\ No newline at end of file
@@ -119,6 +119,33 @@ public class CodecRegistryTest {
         assertEquals("Test Message", result.getContent());
     }
     
+    @Test
+    public void testConcurrentRegistrationRegistersOnce() throws Exception {
+        var type = new com.google.inject.TypeLiteral<java.util.List<ConcurrentMessage>>() {}.getType();
+        var pool = java.util.concurrent.Executors.newFixedThreadPool(8);
+        try {
+            var start = new java.util.concurrent.CountDownLatch(1);
+            var results = new java.util.ArrayList<java.util.concurrent.Future<String>>();
+            for (int i = 0; i < 32; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return CodecRegistry.createAndRegisterCodec(vertx, type);
+                }));
+            }
+            start.countDown();
+            for (var result : results) {
+                // A duplicate event bus registration would throw and come back as null
+                assertEquals("list-concurrent-message", result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    public static class ConcurrentMessage {
+        public String content;
+    }
+
     /**
      * Test message class for codec testing
      */
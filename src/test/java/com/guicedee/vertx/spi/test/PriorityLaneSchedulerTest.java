@@ -0,0 +1,100 @@
+package com.guicedee.vertx.spi.test;
+
+import com.guicedee.vertx.spi.PriorityLaneScheduler;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ordering and rejection tests for {@link PriorityLaneScheduler}.
+ */
+public class PriorityLaneSchedulerTest {
+
+    @Test
+    public void highPriorityOvertakesQueuedBulkTraffic() {
+        PriorityLaneScheduler scheduler = new PriorityLaneScheduler("test-lanes", 1, 10);
+        List<String> order = new ArrayList<>();
+        Promise<Void> blocker = Promise.promise();
+
+        scheduler.submit(0, () -> blocker.future(), () -> {});
+        scheduler.submit(0, task(order, "bulk-1"), () -> {});
+        scheduler.submit(0, task(order, "bulk-2"), () -> {});
+        scheduler.submit(10, task(order, "health"), () -> {});
+
+        blocker.complete();
+
+        assertEquals(List.of("health", "bulk-1", "bulk-2"), order);
+        assertEquals(1L, scheduler.toJson().getLong("overtaken"));
+        assertEquals(0, scheduler.toJson().getInteger("inFlight"));
+    }
+
+    @Test
+    public void fullQueueRejectsLowestPriorityFirst() {
+        PriorityLaneScheduler scheduler = new PriorityLaneScheduler("test-lanes-full", 1, 2);
+        List<String> order = new ArrayList<>();
+        AtomicBoolean bulkRejected = new AtomicBoolean();
+        AtomicBoolean lowRejected = new AtomicBoolean();
+        Promise<Void> blocker = Promise.promise();
+
+        scheduler.submit(0, () -> blocker.future(), () -> {});
+        scheduler.submit(0, task(order, "bulk-1"), () -> {});
+        scheduler.submit(0, task(order, "bulk-2"), () -> bulkRejected.set(true));
+        scheduler.submit(5, task(order, "control"), () -> {});
+        scheduler.submit(-1, task(order, "background"), () -> lowRejected.set(true));
+
+        blocker.complete();
+
+        assertTrue(bulkRejected.get(), "Newest bulk message should make room for the control message");
+        assertTrue(lowRejected.get(), "Lower priority than anything queued is rejected when full");
+        assertEquals(List.of("control", "bulk-1"), order);
+        assertEquals(2L, scheduler.toJson().getLong("rejected"));
+    }
+
+    @Test
+    public void longQueueOfSynchronousTasksDoesNotOverflowTheStack() {
+        PriorityLaneScheduler scheduler = new PriorityLaneScheduler("test-lanes-deep", 1, 200_000);
+        Promise<Void> blocker = Promise.promise();
+        List<String> order = new ArrayList<>();
+
+        scheduler.submit(0, () -> blocker.future(), () -> {});
+        for (int i = 0; i < 100_000; i++) {
+            scheduler.submit(0, task(order, "task"), () -> {});
+        }
+
+        assertDoesNotThrow(blocker::complete);
+        assertEquals(100_000, order.size());
+        assertEquals(0, scheduler.toJson().getInteger("inFlight"));
+    }
+
+    @Test
+    public void unprioritisedTrafficQueuesInTheDefaultLane() {
+        PriorityLaneScheduler scheduler = new PriorityLaneScheduler("test-lanes-shared", 1, 10);
+        List<String> order = new ArrayList<>();
+        Promise<Void> bulk = Promise.promise();
+
+        scheduler.submit(0, () -> bulk.future(), () -> {});
+        scheduler.submit(0, task(order, "unprioritised"), () -> {});
+        scheduler.submit(10, task(order, "health"), () -> {});
+
+        assertEquals(List.of(), order, "Nothing starts while the pool is occupied");
+        assertEquals(2, scheduler.toJson().getInteger("queued"));
+
+        bulk.complete();
+
+        assertEquals(List.of("health", "unprioritised"), order, "The prioritised task overtakes queued default lane traffic");
+        assertEquals(0, scheduler.toJson().getInteger("inFlight"));
+    }
+
+    private static java.util.function.Supplier<Future<Void>> task(List<String> order, String name) {
+        return () -> {
+            order.add(name);
+            return Future.succeededFuture();
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.vertx.resilience.AdaptiveConcurrencyLimiter;
+import com.guicedee.vertx.resilience.AddressCircuitBreaker;
+import com.guicedee.vertx.spi.PriorityLaneScheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Limit adaptation tests for the per-address {@link AdaptiveConcurrencyLimiter}.
+ */
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    @Test
+    public void rejectsBeyondLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test.limit.reject", 1, 4);
+        int limit = limiter.getLimit();
+
+        for (int i = 0; i < limit; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        assertFalse(limiter.tryAcquire(), "Acquire beyond the limit must be rejected");
+        assertEquals(1L, limiter.toJson().getLong("rejected"));
+    }
+
+    @Test
+    public void rejectionCodesCannotBeMistakenForConsumerFailures() {
+        int limit = AdaptiveConcurrencyLimiter.LIMIT_EXCEEDED_FAILURE_CODE;
+        int queueFull = PriorityLaneScheduler.QUEUE_FULL_FAILURE_CODE;
+        int circuitOpen = AddressCircuitBreaker.CIRCUIT_OPEN_FAILURE_CODE;
+
+        assertTrue(limit < 0 && queueFull < 0 && circuitOpen < 0, "Dispatch rejections use negative codes");
+        assertNotEquals(limit, queueFull);
+        assertNotEquals(limit, circuitOpen);
+        assertNotEquals(queueFull, circuitOpen);
+    }
+
+    @Test
+    public void growsWhileSaturatedAtSteadyLatency() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test.limit.grow", 1, 40);
+        int initial = limiter.getLimit();
+
+        for (int i = 0; i < 200; i++) {
+            saturateAndRelease(limiter, FAST);
+        }
+
+        assertTrue(limiter.getLimit() > initial, "Limit should grow while latency stays at the baseline");
+        assertTrue(limiter.getLimit() <= 40);
+    }
+
+    @Test
+    public void shrinksWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test.limit.shrink", 2, 40);
+        for (int i = 0; i < 200; i++) {
+            saturateAndRelease(limiter, FAST);
+        }
+        int healthy = limiter.getLimit();
+
+        for (int i = 0; i < 50; i++) {
+            saturateAndRelease(limiter, SLOW);
+        }
+
+        assertTrue(limiter.getLimit() < healthy, "Limit should shrink when the downstream slows down");
+        assertTrue(limiter.getLimit() >= 2);
+    }
+
+    @Test
+    public void dropsBackOffMultiplicatively() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test.limit.drop", 1, 40);
+        int initial = limiter.getLimit();
+
+        assertTrue(limiter.tryAcquire());
+        limiter.release(FAST, true);
+
+        assertTrue(limiter.getLimit() < initial);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    private static void saturateAndRelease(AdaptiveConcurrencyLimiter limiter, long latency) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(latency, false);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.vertx.resilience.AddressCircuitBreaker;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.eventbus.ReplyFailure;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * State transition tests for the per-address {@link AddressCircuitBreaker}.
+ */
+public class AddressCircuitBreakerTest {
+
+    @Test
+    public void opensAfterConsecutiveFailuresAndFailsFast() {
+        AddressCircuitBreaker breaker = new AddressCircuitBreaker("test.breaker.open", 2, 60_000, 1);
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure(new ReplyException(ReplyFailure.TIMEOUT, "timed out"));
+        assertEquals(AddressCircuitBreaker.State.CLOSED, breaker.getState());
+
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure(new ReplyException(ReplyFailure.RECIPIENT_FAILURE, 500, "boom"));
+        assertEquals(AddressCircuitBreaker.State.OPEN, breaker.getState());
+
+        assertFalse(breaker.tryAcquire(), "Open circuit must reject requests");
+        assertEquals(1L, breaker.toJson().getLong("rejected"));
+        assertEquals(1L, breaker.toJson().getLong("timeouts"));
+        assertEquals(AddressCircuitBreaker.CIRCUIT_OPEN_FAILURE_CODE, breaker.openFailure().failureCode());
+        assertNotEquals(ReplyFailure.RECIPIENT_FAILURE, breaker.openFailure().failureType(),
+                "Rejections must not look like consumer failures");
+    }
+
+    @Test
+    public void successResetsConsecutiveFailures() {
+        AddressCircuitBreaker breaker = new AddressCircuitBreaker("test.breaker.reset", 2, 60_000, 1);
+
+        breaker.onFailure(new RuntimeException("one"));
+        breaker.onSuccess();
+        breaker.onFailure(new RuntimeException("two"));
+
+        assertEquals(AddressCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void halfOpenProbeClosesOrReopensCircuit() {
+        AddressCircuitBreaker breaker = new AddressCircuitBreaker("test.breaker.probe", 1, 0, 1);
+
+        breaker.onFailure(new RuntimeException("trip"));
+        assertTrue(breaker.tryAcquire(), "Expired open circuit must allow a probe");
+        assertFalse(breaker.tryAcquire(), "Only one probe is allowed while half-open");
+
+        breaker.onFailure(new RuntimeException("probe failed"));
+        assertTrue(breaker.tryAcquire(), "Circuit re-opens and probes again after the reset period");
+        breaker.onSuccess();
+        assertEquals(AddressCircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    public void concurrentCallersNeverExceedProbePermits() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            AddressCircuitBreaker breaker = new AddressCircuitBreaker("test.breaker.race", 1, 0, 2);
+            breaker.onFailure(new RuntimeException("trip"));
+            java.util.concurrent.atomic.AtomicInteger granted = new java.util.concurrent.atomic.AtomicInteger();
+            java.util.concurrent.CountDownLatch start = new java.util.concurrent.CountDownLatch(1);
+            Thread[] threads = new Thread[8];
+            for (int i = 0; i < threads.length; i++) {
+                threads[i] = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    if (breaker.tryAcquire()) {
+                        granted.incrementAndGet();
+                    }
+                });
+                threads[i].start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertTrue(granted.get() <= 2, "At most two probes may pass, got " + granted.get());
+        }
+    }
+}
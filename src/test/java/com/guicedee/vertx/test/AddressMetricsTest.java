@@ -0,0 +1,189 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.vertx.metrics.AddressMetrics;
+import com.guicedee.vertx.metrics.GuicedVertxMetricsFactory;
+import com.guicedee.vertx.metrics.LatencyHistogram;
+import com.guicedee.vertx.metrics.StripedLatencyRecorder;
+import com.guicedee.vertx.spi.VertxRuntime;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Histogram precision and snapshot tests for the per-address metrics surface.
+ */
+public class AddressMetricsTest {
+
+    @BeforeEach
+    public void enableMetrics() {
+        AddressMetrics.setEnabled(true);
+    }
+
+    @AfterEach
+    public void disableMetrics() {
+        AddressMetrics.setEnabled(false);
+    }
+
+    @Test
+    public void histogramPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.recordMicros(i);
+        }
+
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000, histogram.getMaxMicros());
+        assertEquals(5_000, histogram.percentileMicros(50), 5_000 * 0.04);
+        assertEquals(9_900, histogram.percentileMicros(99), 9_900 * 0.04);
+        assertEquals(5_000.5, histogram.getMeanMicros(), 0.01);
+    }
+
+    @Test
+    public void histogramMergeAddsCounts() {
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        a.recordMicros(10);
+        b.recordMicros(1_000_000);
+
+        a.add(b);
+
+        assertEquals(2, a.getCount());
+        assertEquals(1_000_000, a.getMaxMicros());
+    }
+
+    @Test
+    public void coordinatedOmissionCorrectionBackFillsStalledRequests() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(100));
+
+        LatencyHistogram corrected = histogram.copyCorrectedForCoordinatedOmission(TimeUnit.MILLISECONDS.toMicros(10));
+
+        assertEquals(10, corrected.getCount(), "A 100ms stall at a 10ms interval hides 9 further requests");
+        assertEquals(100_000, corrected.getMaxMicros());
+        assertEquals(55_000, Math.round(corrected.getMeanMicros()));
+        assertEquals(1, histogram.getCount(), "Recording adds no synthetic values");
+    }
+
+    @Test
+    public void coordinatedOmissionCorrectionCostDoesNotGrowWithTheStall() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(TimeUnit.SECONDS.toNanos(60));
+
+        LatencyHistogram corrected = histogram.copyCorrectedForCoordinatedOmission(1);
+
+        assertEquals(60_000_000, corrected.getCount(), "Every hidden request is accounted for without recording each one");
+        assertEquals(30_000_000, corrected.percentileMicros(50), 30_000_000 * 0.05);
+    }
+
+    @Test
+    public void stripedRecorderMergesAcrossThreads() throws InterruptedException {
+        StripedLatencyRecorder recorder = new StripedLatencyRecorder();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    recorder.recordNanos(TimeUnit.MICROSECONDS.toNanos(50));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(8_000, recorder.getCount());
+        assertEquals(8_000, recorder.snapshot().getCount());
+    }
+
+    @Test
+    public void dispatchPhasesAreRecordedSeparately() {
+        AddressMetrics metrics = AddressMetrics.forAddress("test.metrics.phases");
+        long received = System.nanoTime();
+        long started = received + TimeUnit.MILLISECONDS.toNanos(40);
+        long executed = started + TimeUnit.MILLISECONDS.toNanos(2);
+        long completed = executed + TimeUnit.MICROSECONDS.toNanos(100);
+
+        metrics.recordDispatch("db-pool", received, started, executed, completed, false);
+
+        JsonObject json = metrics.toJson();
+        assertEquals(40_000, json.getJsonObject("schedulingDelay").getLong("maxUs"));
+        assertEquals(2_000, json.getJsonObject("executionTime").getLong("maxUs"));
+        assertEquals(100, json.getJsonObject("replyTime").getLong("maxUs"));
+        assertEquals("db-pool", metrics.getWorkerPool());
+
+        AddressMetrics.getMetrics().remove("test.metrics.phases");
+    }
+
+    @Test
+    public void snapshotGroupsExecutionsByWorkerPool() {
+        AddressMetrics orders = AddressMetrics.forAddress("test.metrics.orders");
+        AddressMetrics invoices = AddressMetrics.forAddress("test.metrics.invoices");
+        orders.recordExecution("db-pool", TimeUnit.MILLISECONDS.toNanos(5), false);
+        invoices.recordExecution("db-pool", TimeUnit.MILLISECONDS.toNanos(7), true);
+        orders.recordReply(TimeUnit.MILLISECONDS.toNanos(9));
+
+        JsonObject snapshot = AddressMetrics.snapshot();
+        JsonObject pool = snapshot.getJsonObject("workerPools").getJsonObject("db-pool");
+        JsonObject ordersJson = snapshot.getJsonObject("addresses").getJsonObject("test.metrics.orders");
+
+        assertEquals(2, pool.getInteger("addresses"));
+        assertEquals(2L, pool.getLong("executions"));
+        assertEquals(1L, pool.getLong("handlerFailures"));
+        assertEquals(1L, ordersJson.getJsonObject("replyLatency").getLong("count"));
+
+        AddressMetrics.getMetrics().remove("test.metrics.orders");
+        AddressMetrics.getMetrics().remove("test.metrics.invoices");
+    }
+
+    @Test
+    public void eventBusMetricsRecordIntoTheRuntimeTheyWereCreatedFor() throws Exception {
+        Vertx other = Vertx.builder().withMetrics(new GuicedVertxMetricsFactory()).build();
+        try {
+            other.eventBus().publish("test.metrics.runtime", "ping");
+
+            AddressMetrics metrics = null;
+            for (int i = 0; i < 50 && metrics == null; i++) {
+                metrics = VertxRuntime.of(other).registry(AddressMetrics.class).find("test.metrics.runtime");
+                if (metrics == null) {
+                    Thread.sleep(20);
+                }
+            }
+            assertNotNull(metrics, "A send from outside any context must record into the sending instance's runtime");
+            assertEquals(1L, metrics.toJson().getLong("published"));
+            assertFalse(AddressMetrics.getMetrics().containsKey("test.metrics.runtime"));
+        } finally {
+            other.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void nothingIsAllocatedWhileDisabled() {
+        AddressMetrics.setEnabled(false);
+
+        AddressMetrics metrics = AddressMetrics.forAddress("test.metrics.disabled");
+        metrics.recordExecution("db-pool", TimeUnit.MILLISECONDS.toNanos(5), true);
+
+        assertSame(metrics, AddressMetrics.forAddress("test.metrics.other"));
+        assertFalse(AddressMetrics.getMetrics().containsKey("test.metrics.disabled"));
+        assertEquals(0, metrics.getExecutionTime().getAllocatedStripes());
+    }
+
+    @Test
+    public void stripesAreAllocatedOnFirstRecord() {
+        StripedLatencyRecorder recorder = new StripedLatencyRecorder();
+        assertEquals(0, recorder.getAllocatedStripes());
+
+        recorder.recordNanos(1_000);
+        recorder.recordNanos(2_000);
+
+        assertEquals(1, recorder.getAllocatedStripes());
+        assertEquals(2, recorder.getCount());
+    }
+}
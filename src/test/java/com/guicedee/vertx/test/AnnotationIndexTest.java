@@ -0,0 +1,35 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.client.IGuiceContext;
+import com.guicedee.vertx.spi.AnnotationIndex;
+import io.github.classgraph.PackageInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The shared package annotation index agrees with a direct scan of every package.
+ */
+public class AnnotationIndexTest {
+
+    @Test
+    public void matchesAFullPackageScan() {
+        IGuiceContext.instance().getConfig().setFieldScanning(true).setClasspathScanning(true).setAnnotationScanning(true).setIgnoreClassVisibility(true);
+        IGuiceContext.instance().inject();
+        var scanResult = IGuiceContext.instance().getScanResult();
+        assertNotNull(scanResult);
+
+        for (PackageInfo packageInfo : scanResult.getPackageInfo()) {
+            for (var annotationInfo : packageInfo.getAnnotationInfo()) {
+                List<String> expected = scanResult.getPackageInfo().stream()
+                        .filter(candidate -> candidate.getAnnotationInfo(annotationInfo.getName()) != null)
+                        .map(PackageInfo::getName)
+                        .toList();
+                assertEquals(expected, AnnotationIndex.packagesWithAnnotation(annotationInfo.getName()));
+            }
+        }
+        assertEquals(List.of(), AnnotationIndex.packagesWithAnnotation("com.example.NotAnAnnotation"));
+    }
+}
@@ -0,0 +1,66 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.vertx.metrics.CodecMetrics;
+import com.guicedee.vertx.spi.DynamicCodec;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sampling and ranking tests for {@link CodecMetrics}.
+ */
+public class CodecMetricsTest {
+
+    @AfterEach
+    public void resetMetrics() {
+        CodecMetrics.reset();
+    }
+
+    @Test
+    public void nothingIsRecordedWhenSamplingIsOff() {
+        CodecMetrics.setSampleRate(0);
+        assertNull(CodecMetrics.sample("test-codec-off"));
+        assertFalse(CodecMetrics.getCodecs().containsKey("test-codec-off"));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void dynamicCodecRecordsSizeAndCost() {
+        CodecMetrics.setSampleRate(1);
+        DynamicCodec<Map> codec = new DynamicCodec<>(Map.class, "test-codec-map");
+
+        Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, Map.of("name", "value"));
+        Map decoded = codec.decodeFromWire(0, buffer);
+        assertEquals("value", decoded.get("name"));
+
+        CodecMetrics metrics = CodecMetrics.getCodecs().get("test-codec-map");
+        assertNotNull(metrics);
+        assertEquals(1, metrics.getEncodedBytes().getCount());
+        assertEquals(buffer.length(), metrics.getEstimatedBytes());
+        assertEquals(1, metrics.getDecodeNanos().getCount());
+    }
+
+    @Test
+    public void ranksCodecsByEstimatedBytes() {
+        CodecMetrics.setSampleRate(1);
+        CodecMetrics.sample("test-codec-small").recordEncode(100, 1_000);
+        CodecMetrics.sample("test-codec-large").recordEncode(50_000, 20_000);
+        CodecMetrics.sample("test-codec-medium").recordEncode(5_000, 5_000);
+
+        List<CodecMetrics> heaviest = CodecMetrics.heaviest(2);
+        assertEquals(2, heaviest.size());
+        assertEquals("test-codec-large", heaviest.get(0).getCodecName());
+        assertEquals("test-codec-medium", heaviest.get(1).getCodecName());
+
+        JsonObject snapshot = CodecMetrics.snapshot();
+        assertEquals(3, snapshot.getInteger("sampled"));
+        assertEquals("test-codec-large", snapshot.getJsonArray("heaviest").getJsonObject(0).getString("codec"));
+    }
+}
@@ -0,0 +1,148 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.client.IGuiceContext;
+import com.guicedee.vertx.VertxEventDefinition;
+import com.guicedee.vertx.VertxEventOptions;
+import com.guicedee.vertx.VertxEventPublisher;
+import com.guicedee.vertx.spi.CodecRegistry;
+import com.guicedee.vertx.spi.VertXPreStartup;
+import com.guicedee.vertx.spi.VertxEventRegistry;
+import io.vertx.core.Vertx;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Throughput regression suite: drives synthetic consumers with {@link LoadHarness} at a fixed arrival rate and
+ * fails when a dispatch mode cannot keep up or its p99 latency exceeds the threshold.
+ * <p>
+ * The thresholds depend on the machine, so the suite is tagged {@code load} and left out of the default test run;
+ * run it with {@code mvn test -Pload-tests}.
+ */
+@Log4j2
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ConsumerLoadTest {
+
+    static final String EVENT_LOOP_STRING = "test.load.eventloop.string";
+    static final String EVENT_LOOP_DTO = "test.load.eventloop.dto";
+    static final String WORKER_STRING = "test.load.worker.string";
+    static final String WORKER_DTO = "test.load.worker.dto";
+
+    private final List<LoadHarness.Result> results = new ArrayList<>();
+    private final AtomicLong ids = new AtomicLong();
+    private Vertx vertx;
+
+    @BeforeAll
+    public void beforeAll() throws Exception {
+        IGuiceContext.instance().getConfig().setFieldScanning(true).setClasspathScanning(true).setAnnotationScanning(true).setIgnoreClassVisibility(true);
+        IGuiceContext.instance().inject();
+        vertx = VertXPreStartup.getVertx();
+        assertNotNull(vertx, "Vertx must be initialized for tests");
+        CodecRegistry.createAndRegisterCodec(vertx, LoadDto.class);
+        for (String address : List.of(EVENT_LOOP_STRING, EVENT_LOOP_DTO, WORKER_STRING, WORKER_DTO)) {
+            awaitRegistered(address);
+        }
+    }
+
+    @AfterAll
+    public void report() {
+        log.info("Consumer load at {}/s for {}ms after a {}ms warm-up (min throughput {}%, max p99 {}ms):", LoadHarness.RATE,
+                LoadHarness.DURATION_MS, LoadHarness.WARMUP_MS, Math.round(LoadHarness.MIN_THROUGHPUT_RATIO * 100),
+                LoadHarness.MAX_P99_MS);
+        results.forEach(result -> log.info("  {}", result));
+        IGuiceContext.instance().destroy();
+    }
+
+    @Test
+    public void eventLoopStringSustainsRate() {
+        VertxEventPublisher<String> publisher = new VertxEventPublisher<>(vertx, EVENT_LOOP_STRING, null);
+        assertSustained(LoadHarness.run("event-loop/string", () -> publisher.request("ping")));
+    }
+
+    @Test
+    public void eventLoopDtoSustainsRate() {
+        VertxEventPublisher<LoadDto> publisher = new VertxEventPublisher<>(vertx, EVENT_LOOP_DTO, null, LoadDto.class);
+        assertSustained(LoadHarness.run("event-loop/dto", () -> publisher.request(LoadDto.of(ids.incrementAndGet()))));
+    }
+
+    @Test
+    public void workerStringSustainsRate() {
+        VertxEventPublisher<String> publisher = new VertxEventPublisher<>(vertx, WORKER_STRING, null);
+        assertSustained(LoadHarness.run("worker/string", () -> publisher.request("ping")));
+    }
+
+    @Test
+    public void workerDtoSustainsRate() {
+        VertxEventPublisher<LoadDto> publisher = new VertxEventPublisher<>(vertx, WORKER_DTO, null, LoadDto.class);
+        assertSustained(LoadHarness.run("worker/dto", () -> publisher.request(LoadDto.of(ids.incrementAndGet()))));
+    }
+
+    private void assertSustained(LoadHarness.Result result) {
+        results.add(result);
+        log.info("{}", result);
+        assertEquals(0, result.failed(), () -> result.scenario() + " had failed or unanswered requests: " + result);
+        assertTrue(result.throughput() >= result.offered() * LoadHarness.MIN_THROUGHPUT_RATIO,
+                () -> result.scenario() + " could not keep up with the offered rate: " + result);
+        assertTrue(result.p99Ms() <= LoadHarness.MAX_P99_MS,
+                () -> result.scenario() + " p99 latency over " + LoadHarness.MAX_P99_MS + "ms: " + result);
+    }
+
+    private static void awaitRegistered(String address) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!VertxEventRegistry.getRegisteredAddresses().contains(address)) {
+            assertTrue(System.nanoTime() < deadline, "No consumer registered on " + address);
+            Thread.sleep(10);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class LoadDto {
+        private long id;
+        private String name;
+        private List<String> tags = new ArrayList<>();
+
+        static LoadDto of(long id) {
+            LoadDto dto = new LoadDto();
+            dto.setId(id);
+            dto.setName("load-" + id);
+            dto.getTags().add("synthetic");
+            return dto;
+        }
+    }
+
+    /**
+     * Synthetic consumers, one per dispatch mode and payload type
+     */
+    public static class LoadConsumers {
+
+        @VertxEventDefinition(value = EVENT_LOOP_STRING, options = @VertxEventOptions(localOnly = true))
+        public String eventLoopString(String body) {
+            return "ACK:" + body;
+        }
+
+        @VertxEventDefinition(value = EVENT_LOOP_DTO, options = @VertxEventOptions(localOnly = true))
+        public String eventLoopDto(LoadDto body) {
+            return "ACK:" + body.getId();
+        }
+
+        @VertxEventDefinition(value = WORKER_STRING, options = @VertxEventOptions(localOnly = true, worker = true))
+        public String workerString(String body) {
+            return "ACK:" + body;
+        }
+
+        @VertxEventDefinition(value = WORKER_DTO, options = @VertxEventOptions(localOnly = true, worker = true))
+        public String workerDto(LoadDto body) {
+            return "ACK:" + body.getId();
+        }
+    }
+}
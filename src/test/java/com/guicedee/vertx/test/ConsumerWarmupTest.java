@@ -0,0 +1,49 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.client.IGuiceContext;
+import com.guicedee.vertx.VertxEventDefinition;
+import com.guicedee.vertx.VertxEventOptions;
+import com.guicedee.vertx.spi.ConsumerWarmup;
+import com.guicedee.vertx.spi.VertXPreStartup;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Warm-up builds consumers and runs synthesised payloads without invoking consumer methods.
+ */
+public class ConsumerWarmupTest {
+
+    static final AtomicInteger constructed = new AtomicInteger();
+    static final AtomicInteger invoked = new AtomicInteger();
+
+    public static class WarmupItem {
+        public String name;
+        public List<Integer> values;
+    }
+
+    public ConsumerWarmupTest() {
+        constructed.incrementAndGet();
+    }
+
+    @VertxEventDefinition(value = "test.warmup.items", options = @VertxEventOptions(localOnly = true, autobind = false))
+    public String items(List<WarmupItem> items) {
+        invoked.incrementAndGet();
+        return "items:" + items.size();
+    }
+
+    @Test
+    public void warmsWithoutInvoking() {
+        IGuiceContext.instance().getConfig().setFieldScanning(true).setClasspathScanning(true).setAnnotationScanning(true).setIgnoreClassVisibility(true);
+        IGuiceContext.instance().inject();
+        assertNotNull(VertXPreStartup.getVertx(), "Vertx must be initialized for tests");
+
+        int before = constructed.get();
+        assertTrue(ConsumerWarmup.run() > 0, "Registered consumers are warmed");
+        assertTrue(constructed.get() > before, "The consumer class is instantiated through Guice");
+        assertEquals(0, invoked.get(), "Consumer methods are never invoked");
+    }
+}
@@ -0,0 +1,199 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.vertx.index.EventIndex;
+import com.guicedee.vertx.index.EventIndexProcessor;
+import com.guicedee.vertx.spi.CodecRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compiles sample sources with {@link EventIndexProcessor} and checks the written {@link EventIndex}.
+ */
+public class EventIndexProcessorTest {
+
+    private static final String SAMPLE = """
+            package sample;
+
+            import com.google.inject.name.Named;
+            import com.guicedee.vertx.VertxEventDefinition;
+            import com.guicedee.vertx.VertxEventPublisher;
+            import io.vertx.core.eventbus.Message;
+
+            import java.util.List;
+            import java.util.Map;
+
+            public class SampleEvents {
+                @VertxEventDefinition("sample.list")
+                public void onList(Message<?> message, List<SampleDto> items) {
+                }
+
+                @VertxEventDefinition("sample.text")
+                public void onText(String text) {
+                }
+
+                @Named("sample.map")
+                VertxEventPublisher<Map<String, SampleDto>> mapPublisher;
+
+                @VertxEventDefinition("sample.dto")
+                VertxEventPublisher<SampleDto> dtoPublisher;
+
+                @Named("sample.ignored")
+                String notAPublisher;
+
+                public static class SampleDto {
+                }
+
+                @VertxEventDefinition("sample.class")
+                public static class SampleConsumer {
+                    public void consume(Message<SampleDto> message) {
+                    }
+                }
+            }
+            """;
+
+    @Test
+    public void indexesConsumersAndPublishers(@TempDir Path dir) throws Exception {
+        Path classes = compile(dir);
+        Path resource = classes.resolve(EventIndex.RESOURCE);
+        assertTrue(Files.exists(resource), "The processor must write " + EventIndex.RESOURCE);
+
+        List<EventIndex.Entry> entries;
+        try (Reader reader = Files.newBufferedReader(resource)) {
+            entries = EventIndex.read(reader);
+        }
+        Map<String, EventIndex.Entry> byAddress = entries.stream()
+                .collect(Collectors.toMap(EventIndex.Entry::address, Function.identity()));
+        assertEquals(5, entries.size(), "Non-publisher @Named fields must not be indexed: " + entries);
+
+        EventIndex.Entry consumerClass = byAddress.get("sample.class");
+        assertEquals(EventIndex.Kind.CONSUMER_CLASS, consumerClass.kind());
+        assertEquals("sample.SampleEvents$SampleConsumer", consumerClass.className());
+        assertNull(consumerClass.member());
+
+        EventIndex.Entry list = byAddress.get("sample.list");
+        assertEquals(EventIndex.Kind.CONSUMER_METHOD, list.kind());
+        assertEquals("onList", list.member());
+        assertEquals("list-sample-dto", list.codecName());
+
+        assertNull(byAddress.get("sample.text").codecName(), "Standard Vert.x types need no codec");
+        assertEquals(EventIndex.Kind.PUBLISHER_FIELD, byAddress.get("sample.map").kind());
+        assertEquals("mapPublisher", byAddress.get("sample.map").member());
+
+        // The build-time names must match what the registry derives from the reflected types
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> events = loader.loadClass("sample.SampleEvents");
+            Method onList = events.getDeclaredMethod("onList", loader.loadClass("io.vertx.core.eventbus.Message"), List.class);
+            assertEquals(CodecRegistry.getCodecName(onList.getGenericParameterTypes()[1]), list.codecName());
+            for (String field : List.of("mapPublisher", "dtoPublisher")) {
+                var payload = ((ParameterizedType) events.getDeclaredField(field).getGenericType()).getActualTypeArguments()[0];
+                EventIndex.Entry entry = entries.stream().filter(e -> field.equals(e.member())).findFirst().orElseThrow();
+                assertEquals(CodecRegistry.getCodecName(payload), entry.codecName(), field);
+            }
+
+            Optional<EventIndex> loaded = EventIndex.load(loader);
+            assertTrue(loaded.isPresent());
+            assertTrue(loaded.get().getEntries().containsAll(entries));
+            assertTrue(loaded.get().getSources().contains(classes.toAbsolutePath().normalize()),
+                    "The directory carrying the index is not scanned again: " + loaded.get().getSources());
+        }
+    }
+
+    @Test
+    public void incrementalCompileMergesTheEarlierIndex(@TempDir Path dir) throws Exception {
+        Path classes = compile(dir);
+        compile(dir, "MoreEvents", """
+                package sample;
+
+                import com.guicedee.vertx.VertxEventDefinition;
+
+                public class MoreEvents {
+                    @VertxEventDefinition("sample.more")
+                    public void onMore(String text) {
+                    }
+                }
+                """);
+        assertEquals(6, readIndex(classes).size(), "Entries of classes not recompiled are kept");
+
+        compile(dir, "SampleEvents", """
+                package sample;
+
+                import com.guicedee.vertx.VertxEventDefinition;
+
+                public class SampleEvents {
+                    @VertxEventDefinition("sample.text")
+                    public void onText(String text) {
+                    }
+                }
+                """);
+        List<String> addresses = readIndex(classes).stream().map(EventIndex.Entry::address).sorted().toList();
+        assertEquals(List.of("sample.more", "sample.text"), addresses,
+                "Entries of a recompiled class are replaced, those of its removed nested class dropped");
+    }
+
+    @Test
+    public void roundTripsEntries() throws Exception {
+        List<EventIndex.Entry> entries = List.of(
+                new EventIndex.Entry(EventIndex.Kind.CONSUMER_CLASS, "a.Consumer", null, "a.address", null, null),
+                new EventIndex.Entry(EventIndex.Kind.PUBLISHER_FIELD, "a.Service", "publisher", "b.address",
+                        "java.util.List<a.Dto>", "list-dto"));
+        StringWriter writer = new StringWriter();
+        EventIndex.write(writer, entries);
+        assertEquals(entries, EventIndex.read(new StringReader(writer.toString())));
+    }
+
+    private static List<EventIndex.Entry> readIndex(Path classes) throws Exception {
+        try (Reader reader = Files.newBufferedReader(classes.resolve(EventIndex.RESOURCE))) {
+            return EventIndex.read(reader);
+        }
+    }
+
+    private static Path compile(Path dir) throws Exception {
+        return compile(dir, "SampleEvents", SAMPLE);
+    }
+
+    /**
+     * Compiles one source of package {@code sample} into {@code dir/classes}, with earlier output on the class path
+     */
+    private static Path compile(Path dir, String className, String content) throws Exception {
+        Path source = dir.resolve("src/sample/" + className + ".java");
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, content);
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+
+        // Tests may run on the module path, so offer both paths to the compiler as a class path
+        String classPath = Stream.of(classes.toString(), System.getProperty("jdk.module.path"), System.getProperty("java.class.path"))
+                .filter(path -> path != null && !path.isBlank())
+                .collect(Collectors.joining(File.pathSeparator));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StringWriter output = new StringWriter();
+        var task = compiler.getTask(output, null, null,
+                List.of("-classpath", classPath, "-d", classes.toString(), "-implicit:none"),
+                null,
+                compiler.getStandardFileManager(null, null, null).getJavaFileObjects(source.toFile()));
+        task.setProcessors(List.of(new EventIndexProcessor()));
+        assertTrue(task.call(), output.toString());
+        return classes;
+    }
+}
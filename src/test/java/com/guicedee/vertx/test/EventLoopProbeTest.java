@@ -0,0 +1,60 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.vertx.metrics.EventLoopProbe;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Lag and busy estimation tests for {@link EventLoopProbe}.
+ */
+public class EventLoopProbeTest {
+
+    @Test
+    public void lateProbesRaiseTheBusyEstimate() {
+        EventLoopProbe loop = EventLoopProbe.forLoop("test-loop-busy");
+        for (int i = 0; i < 100; i++) {
+            loop.record(TimeUnit.MICROSECONDS.toNanos(50));
+        }
+        assertTrue(loop.getBusy() < 0.01);
+
+        for (int i = 0; i < 100; i++) {
+            loop.record(TimeUnit.MILLISECONDS.toNanos(20));
+        }
+        assertTrue(loop.getBusy() > 0.9);
+
+        JsonObject json = loop.toJson();
+        assertEquals(200L, json.getLong("probes"));
+        assertEquals(100L, json.getLong("late"));
+        assertEquals(0.5, json.getDouble("busyOverall"));
+        assertTrue(json.getJsonObject("lag").getLong("maxUs") >= 19_000);
+
+        EventLoopProbe.getLoops().remove("test-loop-busy");
+    }
+
+    @Test
+    public void probesEveryEventLoop() throws Exception {
+        Vertx vertx = Vertx.vertx(new VertxOptions().setEventLoopPoolSize(2));
+        try {
+            EventLoopProbe.configure(10);
+            EventLoopProbe.setLoopCount(2);
+            EventLoopProbe.start(vertx);
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (System.currentTimeMillis() < deadline
+                    && EventLoopProbe.getLoops().values().stream().filter(l -> l.getLag().getCount() > 3).count() < 2) {
+                Thread.sleep(20);
+            }
+            JsonObject loops = EventLoopProbe.snapshot();
+            assertEquals(2, loops.stream().filter(e -> ((JsonObject) e.getValue()).getLong("probes") > 3).count());
+        } finally {
+            EventLoopProbe.reset();
+            vertx.close().toCompletionStage().toCompletableFuture().join();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.client.IGuiceContext;
+import com.guicedee.vertx.VertxEventDefinition;
+import com.guicedee.vertx.VertxEventOptions;
+import com.guicedee.vertx.spi.EventOptionsControl;
+import com.guicedee.vertx.spi.PriorityLaneScheduler;
+import com.guicedee.vertx.spi.VertXPreStartup;
+import com.guicedee.vertx.spi.VertxEventRegistry;
+import com.guicedee.vertx.spi.VertxRuntime;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runtime option updates apply per message or redeploy the consumer, without dropping the address.
+ */
+public class EventOptionsControlTest {
+
+    private static final String ADDRESS = "test.options.echo";
+
+    @VertxEventDefinition(value = ADDRESS, options = @VertxEventOptions(localOnly = true))
+    public String echo(String message) {
+        return "Options: " + message;
+    }
+
+    private static final String POOL_ADDRESS = "test.options.pool";
+
+    private static final AtomicReference<CountDownLatch> entered = new AtomicReference<>(new CountDownLatch(0));
+    private static final AtomicReference<CountDownLatch> release = new AtomicReference<>(new CountDownLatch(0));
+
+    @VertxEventDefinition(value = POOL_ADDRESS, options = @VertxEventOptions(localOnly = true, worker = true,
+            workerPool = "test-options-pool", workerPoolSize = 1))
+    public String pooled(String message) throws InterruptedException {
+        entered.get().countDown();
+        release.get().await(10, TimeUnit.SECONDS);
+        return "Pooled: " + message;
+    }
+
+    private static Vertx boot() {
+        IGuiceContext.instance().getConfig().setFieldScanning(true).setClasspathScanning(true).setAnnotationScanning(true).setIgnoreClassVisibility(true);
+        IGuiceContext.instance().inject();
+        Vertx vertx = VertXPreStartup.getVertx();
+        assertNotNull(vertx, "Vertx must be initialized for tests");
+        return vertx;
+    }
+
+    private static <T> T await(io.vertx.core.Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void appliesPerMessageOptionsInPlace() throws Exception {
+        boot();
+        JsonObject result = await(EventOptionsControl.update(ADDRESS, new JsonObject().put("timeoutMs", 1500)));
+        assertFalse(result.getBoolean("redeployed"));
+        assertEquals(1500L, VertxEventRegistry.getEventConsumerDefinitions().get(ADDRESS).options().timeoutMs());
+
+        await(EventOptionsControl.update(ADDRESS, new JsonObject().putNull("timeoutMs")));
+        assertEquals(0L, VertxEventRegistry.getEventConsumerDefinitions().get(ADDRESS).options().timeoutMs(),
+                "Dropping the override restores the annotated value");
+    }
+
+    @Test
+    public void resolvesOptionsOncePerUpdate() throws Exception {
+        boot();
+        String key = "VERTX_EVENT_PRIORITY_TEST_OPTIONS_ECHO";
+        VertxEventOptions options = VertxEventRegistry.getEventConsumerDefinitions().get(ADDRESS).options();
+        int resolved = options.priority();
+        System.setProperty(key, "7");
+        try {
+            assertEquals(resolved, options.priority(), "Resolved options are not looked up again per read");
+            await(EventOptionsControl.update(ADDRESS, new JsonObject().put("timeoutMs", 1500)));
+            assertEquals(7, options.priority(), "An update resolves the options again");
+        } finally {
+            System.clearProperty(key);
+            await(EventOptionsControl.update(ADDRESS, new JsonObject().putNull("timeoutMs")));
+        }
+    }
+
+    @Test
+    public void scalesInstancesByRedeploying() throws Exception {
+        Vertx vertx = boot();
+        VertxRuntime runtime = VertXPreStartup.getRuntime();
+        String previous = runtime.getConsumerDeployments().get(ADDRESS);
+        assertNotNull(previous, "The consumer is hosted by its own verticle");
+
+        JsonObject result = await(EventOptionsControl.update(ADDRESS, new JsonObject().put("instances", 3)));
+        assertTrue(result.getBoolean("redeployed"));
+        assertNotEquals(previous, result.getString("deploymentId"));
+        assertEquals(result.getString("deploymentId"), runtime.getConsumerDeployments().get(ADDRESS));
+        assertFalse(vertx.deploymentIDs().contains(previous), "The previous deployment is undeployed");
+
+        for (int i = 0; i < 6; i++) {
+            assertEquals("Options: " + i, await(vertx.eventBus().request(ADDRESS, String.valueOf(i))).body());
+        }
+        await(EventOptionsControl.update(ADDRESS, new JsonObject().putNull("instances")));
+    }
+
+    @Test
+    public void resizedPoolGatesWithTheNewSize() throws Exception {
+        Vertx vertx = boot();
+        entered.set(new CountDownLatch(2));
+        release.set(new CountDownLatch(1));
+        var first = vertx.eventBus().request(POOL_ADDRESS, "a");
+        var second = vertx.eventBus().request(POOL_ADDRESS, "b");
+        assertFalse(entered.get().await(500, TimeUnit.MILLISECONDS), "A pool of one runs one message at a time");
+        release.get().countDown();
+        await(first);
+        await(second);
+
+        try {
+            await(EventOptionsControl.update(POOL_ADDRESS, new JsonObject().put("workerPoolSize", 2)));
+            entered.set(new CountDownLatch(2));
+            release.set(new CountDownLatch(1));
+            var third = vertx.eventBus().request(POOL_ADDRESS, "c");
+            var fourth = vertx.eventBus().request(POOL_ADDRESS, "d");
+            assertTrue(entered.get().await(5, TimeUnit.SECONDS), "The resized pool runs two messages at once");
+            release.get().countDown();
+            assertEquals("Pooled: c", await(third).body());
+            assertEquals("Pooled: d", await(fourth).body());
+            assertEquals(2, PriorityLaneScheduler.getSchedulers().get("test-options-pool").toJson().getInteger("maxInFlight"));
+        } finally {
+            release.get().countDown();
+            await(EventOptionsControl.update(POOL_ADDRESS, new JsonObject().putNull("workerPoolSize")));
+        }
+    }
+
+    @Test
+    public void rejectsUnknownAndFixedOptions() throws Exception {
+        Vertx vertx = boot();
+        ExecutionException unknown = assertThrows(ExecutionException.class,
+                () -> await(EventOptionsControl.update(ADDRESS, new JsonObject().put("hashCode", 1))));
+        assertInstanceOf(IllegalArgumentException.class, unknown.getCause());
+        assertThrows(ExecutionException.class, () -> await(EventOptionsControl.update(ADDRESS, new JsonObject().put("lazy", true))));
+        assertThrows(ExecutionException.class, () -> await(EventOptionsControl.update(ADDRESS, new JsonObject().put("instances", "many"))));
+        assertThrows(ExecutionException.class, () -> await(EventOptionsControl.update("test.options.missing", new JsonObject().put("instances", 2))));
+        assertThrows(ExecutionException.class, () -> await(EventOptionsControl.update(ADDRESS,
+                new JsonObject().put("instances", EventOptionsControl.MAX_INSTANCES + 1))), "Instance counts are bounded");
+        assertThrows(ExecutionException.class, () -> await(EventOptionsControl.update(ADDRESS, new JsonObject().put("consumerCount", 0))));
+        assertThrows(ExecutionException.class, () -> await(EventOptionsControl.update(ADDRESS, new JsonObject().put("workerPoolSize", -1))));
+        assertTrue(EventOptionsControl.overrides(ADDRESS).isEmpty(), "Rejected updates leave no override");
+
+        // The control consumer is opt-in
+        System.setProperty("VERTX_EVENT_OPTIONS_CONTROL", "true");
+        try {
+            EventOptionsControl.registerControlConsumer(vertx);
+        } finally {
+            System.clearProperty("VERTX_EVENT_OPTIONS_CONTROL");
+        }
+        JsonObject reply = (JsonObject) await(vertx.eventBus().request(EventOptionsControl.CONTROL_ADDRESS,
+                new JsonObject().put("address", ADDRESS).put("options", new JsonObject().put("priority", 5)))).body();
+        assertEquals("5", reply.getJsonObject("options").getString("priority"));
+        assertEquals(5, VertxEventRegistry.getEventConsumerDefinitions().get(ADDRESS).options().priority());
+        await(EventOptionsControl.update(ADDRESS, new JsonObject().putNull("priority")));
+    }
+}
@@ -0,0 +1,153 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.vertx.VertxEventPublisher;
+import com.guicedee.vertx.tracing.EventSpan;
+import com.guicedee.vertx.tracing.EventTracing;
+import com.guicedee.vertx.tracing.InMemoryEventTracer;
+import com.guicedee.vertx.tracing.NoopEventTracer;
+import com.guicedee.vertx.tracing.TraceContext;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Header format and propagation tests for {@link EventTracing}.
+ */
+public class EventTracingTest {
+
+    @AfterEach
+    public void resetTracing() {
+        EventTracing.reset();
+    }
+
+    @Test
+    public void parsesAndFormatsTraceparent() {
+        String header = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+        TraceContext context = TraceContext.parse(header);
+
+        assertNotNull(context);
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", context.traceId());
+        assertEquals("00f067aa0ba902b7", context.spanId());
+        assertTrue(context.sampled());
+        assertEquals(header, context.toTraceparent());
+
+        assertNull(TraceContext.parse("00-00000000000000000000000000000000-00f067aa0ba902b7-01"));
+        assertNull(TraceContext.parse("00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01"));
+        assertNull(TraceContext.parse("garbage"));
+
+        TraceContext root = TraceContext.newRoot();
+        assertEquals(root, TraceContext.parse(root.toTraceparent()));
+    }
+
+    @Test
+    public void noopTracerOnlyPropagatesExistingContext() {
+        EventTracing.setTracer(new NoopEventTracer());
+        assertNull(EventTracing.startProducer("test.trace.noop"));
+
+        TraceContext incoming = TraceContext.newRoot();
+        EventSpan consumer = EventTracing.startConsumer("test.trace.noop",
+                MultiMap.caseInsensitiveMultiMap().add(EventTracing.TRACEPARENT_HEADER, incoming.toTraceparent()));
+        assertEquals(incoming, consumer.getContext());
+
+        TraceContext previous = EventTracing.setCurrent(consumer.getContext());
+        try {
+            assertEquals(incoming, EventTracing.startProducer("test.trace.noop").getContext());
+        } finally {
+            EventTracing.setCurrent(previous);
+        }
+    }
+
+    @Test
+    public void traceHeadersAreNotApplicationHeaders() {
+        MultiMap headers = MultiMap.caseInsensitiveMultiMap()
+                .add(EventTracing.TRACEPARENT_HEADER, TraceContext.newRoot().toTraceparent());
+        assertFalse(EventTracing.hasApplicationHeaders(headers));
+        headers.add("tenant", "a");
+        assertTrue(EventTracing.hasApplicationHeaders(headers));
+    }
+
+    @Test
+    public void publisherInjectsTraceparentAsChildOfCurrentContext() throws Exception {
+        InMemoryEventTracer tracer = new InMemoryEventTracer();
+        EventTracing.setTracer(tracer);
+        Vertx vertx = Vertx.vertx();
+        try {
+            CompletableFuture<String> received = new CompletableFuture<>();
+            vertx.eventBus().<String>consumer("test.trace.send", message ->
+                    received.complete(message.headers().get(EventTracing.TRACEPARENT_HEADER)));
+
+            TraceContext parent = TraceContext.newRoot();
+            TraceContext previous = EventTracing.setCurrent(parent);
+            try {
+                new VertxEventPublisher<String>(vertx, "test.trace.send", null).send("hello");
+            } finally {
+                EventTracing.setCurrent(previous);
+            }
+
+            TraceContext propagated = TraceContext.parse(received.get(5, TimeUnit.SECONDS));
+            assertNotNull(propagated);
+            assertEquals(parent.traceId(), propagated.traceId());
+            assertNotEquals(parent.spanId(), propagated.spanId());
+
+            List<InMemoryEventTracer.RecordedSpan> spans = tracer.getTrace(parent.traceId());
+            assertEquals(1, spans.size());
+            assertEquals(EventSpan.Kind.PRODUCER, spans.getFirst().kind());
+            assertEquals(parent.spanId(), spans.getFirst().parentSpanId());
+            assertEquals(propagated.spanId(), spans.getFirst().spanId());
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().join();
+        }
+    }
+
+    @Test
+    public void requestLeavesCallerOptionsUnchanged() throws Exception {
+        EventTracing.setTracer(new InMemoryEventTracer());
+        Vertx vertx = Vertx.vertx();
+        try {
+            vertx.eventBus().<String>consumer("test.trace.request", message ->
+                    message.reply(message.headers().get(EventTracing.TRACEPARENT_HEADER)));
+            DeliveryOptions options = new DeliveryOptions().addHeader("tenant", "a");
+
+            String traceparent = new VertxEventPublisher<String>(vertx, "test.trace.request", null)
+                    .<String>request("hello", options)
+                    .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+            assertNotNull(TraceContext.parse(traceparent));
+            assertNull(options.getHeaders().get(EventTracing.TRACEPARENT_HEADER), "The caller's options are not written to");
+            assertEquals(1, options.getHeaders().size());
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().join();
+        }
+    }
+
+    @Test
+    public void consumerContextFollowsAsynchronousContinuations() throws Exception {
+        Vertx vertx = Vertx.vertx();
+        try {
+            TraceContext consumerContext = TraceContext.newRoot();
+            CompletableFuture<TraceContext> continued = new CompletableFuture<>();
+            CompletableFuture<TraceContext> unrelated = new CompletableFuture<>();
+            vertx.eventBus().<String>consumer("test.trace.async", message -> {
+                EventTracing.bind(consumerContext);
+                vertx.setTimer(5, _ -> continued.complete(EventTracing.current()));
+            });
+            vertx.eventBus().<String>consumer("test.trace.other", message -> unrelated.complete(EventTracing.current()));
+
+            vertx.eventBus().send("test.trace.async", "hello");
+            assertEquals(consumerContext, continued.get(5, TimeUnit.SECONDS), "A timer set by the consumer sees its context");
+
+            vertx.eventBus().send("test.trace.other", "hello");
+            assertNull(unrelated.get(5, TimeUnit.SECONDS), "Other messages do not inherit it");
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().join();
+        }
+    }
+}
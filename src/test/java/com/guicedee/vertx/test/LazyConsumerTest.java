@@ -0,0 +1,71 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.client.IGuiceContext;
+import com.guicedee.vertx.VertxEventDefinition;
+import com.guicedee.vertx.VertxEventOptions;
+import com.guicedee.vertx.spi.LazyConsumerDispatcher;
+import com.guicedee.vertx.spi.VertXPreStartup;
+import com.guicedee.vertx.spi.VertxEventRegistry;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Placeholder registration and activation tests for lazy consumers.
+ */
+public class LazyConsumerTest {
+
+    @VertxEventDefinition(value = "test.lazy.echo", options = @VertxEventOptions(localOnly = true, lazy = true))
+    public String echo(String message) {
+        return "Lazy: " + message;
+    }
+
+    @VertxEventDefinition(value = "test.lazy.explicit", options = @VertxEventOptions(localOnly = true, lazy = true))
+    public String explicit(String message) {
+        return "Explicit: " + message;
+    }
+
+    private static Vertx boot() {
+        IGuiceContext.instance().getConfig().setFieldScanning(true).setClasspathScanning(true).setAnnotationScanning(true).setIgnoreClassVisibility(true);
+        IGuiceContext.instance().inject();
+        Vertx vertx = VertXPreStartup.getVertx();
+        assertNotNull(vertx, "Vertx must be initialized for tests");
+        return vertx;
+    }
+
+    @Test
+    public void activatesOnFirstMessage() throws Exception {
+        Vertx vertx = boot();
+        assertTrue(LazyConsumerDispatcher.getLazyConsumers().containsKey("test.lazy.echo"));
+        assertFalse(VertxEventRegistry.getRegisteredAddresses().contains("test.lazy.echo"), "No consumer verticle before first use");
+
+        Object first = vertx.eventBus().request("test.lazy.echo", "one")
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS).body();
+        assertEquals("Lazy: one", first, "The placeholder must serve the message that triggers activation");
+
+        LazyConsumerDispatcher.activate("test.lazy.echo").toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        assertTrue(LazyConsumerDispatcher.isActive("test.lazy.echo"));
+        assertTrue(VertxEventRegistry.getRegisteredAddresses().contains("test.lazy.echo"));
+
+        Object second = vertx.eventBus().request("test.lazy.echo", "two")
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS).body();
+        assertEquals("Lazy: two", second);
+    }
+
+    @Test
+    public void activatesOnDemand() throws Exception {
+        Vertx vertx = boot();
+        String id = LazyConsumerDispatcher.activate("test.lazy.explicit")
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        assertNotNull(id);
+        assertEquals(id, LazyConsumerDispatcher.activate("test.lazy.explicit").result(), "Activation happens once");
+
+        Object reply = vertx.eventBus().request("test.lazy.explicit", "now")
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS).body();
+        assertEquals("Explicit: now", reply);
+        assertTrue(LazyConsumerDispatcher.activate("test.lazy.missing").failed());
+    }
+}
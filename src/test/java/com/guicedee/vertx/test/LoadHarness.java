@@ -0,0 +1,165 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.client.Environment;
+import com.guicedee.vertx.metrics.LatencyHistogram;
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-loop load generator for event bus consumers.
+ * <p>
+ * Requests are issued at a fixed arrival rate whether or not earlier ones have been answered, the way
+ * independent clients behave. Latency is measured from the time each request was due to be sent, so a
+ * stalled generator or a slow consumer shows up in the percentiles instead of silently lowering the
+ * offered load.
+ * <p>
+ * Each scenario first runs a warm-up at the same rate whose results are discarded, so class loading, JIT
+ * compilation and pool start-up are not measured.
+ * <p>
+ * Rate, duration, warm-up and pass/fail thresholds can be overridden with system properties or environment
+ * variables: {@code VERTX_LOAD_RATE}, {@code VERTX_LOAD_DURATION_MS}, {@code VERTX_LOAD_WARMUP_MS},
+ * {@code VERTX_LOAD_MIN_THROUGHPUT_RATIO} and {@code VERTX_LOAD_MAX_P99_MS}.
+ */
+public final class LoadHarness {
+
+    public static final int RATE = intSetting("VERTX_LOAD_RATE", 1000);
+    public static final long DURATION_MS = intSetting("VERTX_LOAD_DURATION_MS", 2000);
+    public static final long WARMUP_MS = intSetting("VERTX_LOAD_WARMUP_MS", 1000);
+    public static final double MIN_THROUGHPUT_RATIO = doubleSetting("VERTX_LOAD_MIN_THROUGHPUT_RATIO", 0.9);
+    public static final long MAX_P99_MS = intSetting("VERTX_LOAD_MAX_P99_MS", 250);
+
+    /**
+     * Time allowed after the last arrival for outstanding requests to complete
+     */
+    static final long DRAIN_MS = 10_000;
+
+    private LoadHarness() {
+    }
+
+    /**
+     * Warms one scenario up, then drives it at the configured rate and duration.
+     *
+     * @param scenario the scenario name, e.g. {@code worker/dto}
+     * @param request  issues one request and returns its completion
+     * @return the measured result, without the warm-up
+     */
+    public static Result run(String scenario, Supplier<Future<?>> request) {
+        if (WARMUP_MS > 0) {
+            run(scenario + " warm-up", request, RATE, WARMUP_MS);
+        }
+        return run(scenario, request, RATE, DURATION_MS);
+    }
+
+    /**
+     * Drives one scenario.
+     *
+     * @param scenario      the scenario name
+     * @param request       issues one request and returns its completion
+     * @param ratePerSecond the arrival rate
+     * @param durationMs    how long to keep arriving
+     * @return the measured result
+     */
+    public static Result run(String scenario, Supplier<Future<?>> request, int ratePerSecond, long durationMs) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerSecond);
+        long total = Math.max(1, ratePerSecond * durationMs / 1000);
+        LatencyHistogram latency = new LatencyHistogram();
+        AtomicLong completed = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        AtomicLong lastCompletion = new AtomicLong();
+
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long due = start + i * intervalNanos;
+            long wait;
+            while ((wait = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Future<?> future;
+            try {
+                future = request.get();
+            } catch (Throwable t) {
+                failed.incrementAndGet();
+                continue;
+            }
+            future.onComplete(ar -> {
+                long now = System.nanoTime();
+                if (ar.succeeded()) {
+                    latency.recordNanos(now - due);
+                    completed.incrementAndGet();
+                } else {
+                    failed.incrementAndGet();
+                }
+                lastCompletion.accumulateAndGet(now, Math::max);
+            });
+        }
+
+        long drainDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DRAIN_MS);
+        while (completed.get() + failed.get() < total && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        long end = Math.max(lastCompletion.get(), start + TimeUnit.MILLISECONDS.toNanos(durationMs));
+        long unanswered = total - completed.get() - failed.get();
+        return new Result(scenario, ratePerSecond, total, completed.get(), failed.get() + unanswered,
+                TimeUnit.NANOSECONDS.toMillis(end - start), latency);
+    }
+
+    /**
+     * Outcome of one scenario
+     *
+     * @param scenario  the scenario name
+     * @param offered   the arrival rate per second
+     * @param sent      requests issued
+     * @param completed requests answered successfully
+     * @param failed    requests that failed or were not answered before the drain timeout
+     * @param elapsedMs time from the first arrival to the last completion
+     * @param latency   latency of the successful requests, from their due time
+     */
+    public record Result(String scenario, int offered, long sent, long completed, long failed, long elapsedMs,
+                         LatencyHistogram latency) {
+
+        /**
+         * @return successful requests per second
+         */
+        public double throughput() {
+            return elapsedMs == 0 ? 0 : completed * 1000.0 / elapsedMs;
+        }
+
+        /**
+         * @return the 99th percentile latency in milliseconds
+         */
+        public double p99Ms() {
+            return latency.percentileMicros(99) / 1000.0;
+        }
+
+        public JsonObject toJson() {
+            return new JsonObject()
+                    .put("scenario", scenario)
+                    .put("offered", offered)
+                    .put("sent", sent)
+                    .put("completed", completed)
+                    .put("failed", failed)
+                    .put("throughput", Math.round(throughput()))
+                    .put("latency", latency.toJson());
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-18s offered %6d/s  achieved %8.1f/s  failed %5d  p50 %7.2fms  p99 %7.2fms  max %7.2fms",
+                    scenario, offered, throughput(), failed, latency.percentileMicros(50) / 1000.0, p99Ms(),
+                    latency.getMaxMicros() / 1000.0);
+        }
+    }
+
+    private static int intSetting(String name, int defaultValue) {
+        return Integer.parseInt(Environment.getSystemPropertyOrEnvironment(name, String.valueOf(defaultValue)));
+    }
+
+    private static double doubleSetting(String name, double defaultValue) {
+        return Double.parseDouble(Environment.getSystemPropertyOrEnvironment(name, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.client.IGuiceContext;
+import com.guicedee.vertx.VertxEventDefinition;
+import com.guicedee.vertx.VertxEventOptions;
+import com.guicedee.vertx.spi.MultiplexConsumerVerticle;
+import com.guicedee.vertx.spi.VertXPreStartup;
+import com.guicedee.vertx.spi.VertxEventRegistry;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hosting several addresses in one {@link MultiplexConsumerVerticle}.
+ */
+public class MultiplexConsumerVerticleTest {
+
+    // autobind = false keeps startup from deploying these, the test hosts them itself
+    @VertxEventDefinition(value = "test.multiplex.upper", options = @VertxEventOptions(localOnly = true, autobind = false))
+    public String upper(String message) {
+        return message.toUpperCase();
+    }
+
+    @VertxEventDefinition(value = "test.multiplex.worker", options = @VertxEventOptions(localOnly = true, autobind = false, worker = true))
+    public String onWorker(String message) {
+        return message + "@" + (Thread.currentThread().getName().contains("worker") ? "worker" : "loop");
+    }
+
+    @VertxEventDefinition(value = "test.multiplex.later", options = @VertxEventOptions(localOnly = true, autobind = false))
+    public String later(String message) {
+        return message + "!";
+    }
+
+    @Test
+    public void hostsManyAddressesInOneDeployment() throws Exception {
+        IGuiceContext.instance().getConfig().setFieldScanning(true).setClasspathScanning(true).setAnnotationScanning(true).setIgnoreClassVisibility(true);
+        IGuiceContext.instance().inject();
+        Vertx vertx = VertXPreStartup.getVertx();
+        assertNotNull(vertx, "Vertx must be initialized for tests");
+
+        Map<String, MultiplexConsumerVerticle.Route> routes = new LinkedHashMap<>();
+        for (String address : new String[]{"test.multiplex.upper", "test.multiplex.worker"}) {
+            routes.put(address, new MultiplexConsumerVerticle.Route(address,
+                    VertxEventRegistry.getEventConsumerDefinitions().get(address),
+                    VertxEventRegistry.getEventConsumerMethods().get(address),
+                    VertxEventRegistry.getEventConsumerMethodClasses().get(address)));
+        }
+        int deployments = vertx.deploymentIDs().size();
+        vertx.deployVerticle(new MultiplexConsumerVerticle(routes))
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        assertEquals(deployments + 1, vertx.deploymentIDs().size(), "Both addresses share one deployment");
+
+        assertEquals("HELLO", vertx.eventBus().request("test.multiplex.upper", "hello")
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS).body());
+        assertEquals("job@worker", vertx.eventBus().request("test.multiplex.worker", "job")
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS).body(),
+                "Worker consumers still run on a worker pool");
+    }
+
+    @Test
+    public void hostsAddressesAddedAfterDeployment() throws Exception {
+        IGuiceContext.instance().getConfig().setFieldScanning(true).setClasspathScanning(true).setAnnotationScanning(true).setIgnoreClassVisibility(true);
+        IGuiceContext.instance().inject();
+        Vertx vertx = VertXPreStartup.getVertx();
+
+        MultiplexConsumerVerticle verticle = new MultiplexConsumerVerticle(Map.of());
+        assertTrue(verticle.host(Map.of()).failed(), "Hosting needs a deployed verticle");
+        vertx.deployVerticle(verticle).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        String address = "test.multiplex.later";
+        verticle.host(Map.of(address, new MultiplexConsumerVerticle.Route(address,
+                        VertxEventRegistry.getEventConsumerDefinitions().get(address),
+                        VertxEventRegistry.getEventConsumerMethods().get(address),
+                        VertxEventRegistry.getEventConsumerMethodClasses().get(address))))
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        assertEquals(java.util.Set.of(address), verticle.getRoutes().keySet());
+        assertEquals("late!", vertx.eventBus().request(address, "late")
+                .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS).body());
+    }
+}
@@ -0,0 +1,66 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.vertx.index.EventIndex;
+import com.guicedee.vertx.spi.RegistrySnapshot;
+import com.guicedee.vertx.spi.Verticle;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reading {@link RegistrySnapshot} files and rejecting ones written for another class path.
+ */
+public class RegistrySnapshotTest {
+
+    private static final EventIndex.Entry ENTRY = new EventIndex.Entry(EventIndex.Kind.CONSUMER_METHOD,
+            LazyConsumerTest.class.getName(), "echo", "test.lazy.echo", "java.lang.String", null);
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    public void clear() {
+        System.clearProperty("VERTX_REGISTRY_SNAPSHOT");
+        RegistrySnapshot.reset();
+    }
+
+    private Path write(String fingerprint) throws Exception {
+        Path file = dir.resolve("registry.snapshot");
+        Files.write(file, List.of(
+                "# GuicedEE Vert.x registry snapshot",
+                "F\t" + fingerprint,
+                "E\t" + ENTRY.toLine(),
+                "L\tclass:" + Verticle.class.getName() + "\t" + RegistrySnapshotTest.class.getName(),
+                "L\tpackage:" + Verticle.class.getName() + "\t"));
+        System.setProperty("VERTX_REGISTRY_SNAPSHOT", file.toString());
+        RegistrySnapshot.reset();
+        return file;
+    }
+
+    @Test
+    public void answersLookupsFromAMatchingSnapshot() throws Exception {
+        write(RegistrySnapshot.fingerprint());
+
+        assertEquals(List.of(ENTRY), RegistrySnapshot.events().orElseThrow().getEntries());
+        assertEquals(List.of(RegistrySnapshotTest.class), RegistrySnapshot.classesWithAnnotation(Verticle.class),
+                "Recorded lookups are answered without scanning");
+        assertEquals(List.of(), RegistrySnapshot.packagesWithAnnotation(Verticle.class.getName()));
+    }
+
+    @Test
+    public void ignoresASnapshotForAnotherClassPath() throws Exception {
+        write("0".repeat(64));
+        assertTrue(RegistrySnapshot.events().isEmpty(), "A stale snapshot falls back to scanning");
+    }
+
+    @Test
+    public void fingerprintIsStable() {
+        assertEquals(RegistrySnapshot.fingerprint(), RegistrySnapshot.fingerprint());
+    }
+}
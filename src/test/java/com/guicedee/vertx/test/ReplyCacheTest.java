@@ -0,0 +1,158 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.vertx.cache.ReplyCache;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Eviction, expiry and counter tests for the consumer-side {@link ReplyCache}.
+ */
+public class ReplyCacheTest {
+
+    @Test
+    public void countsHitsAndMisses() {
+        ReplyCache cache = new ReplyCache("test.cache.counters", 60_000, 10, 0);
+
+        assertNull(cache.get("a"));
+        cache.put("a", "reply-a");
+        assertEquals("reply-a", cache.get("a"));
+        assertEquals("reply-a", cache.get("a"));
+
+        assertEquals(2L, cache.toJson().getLong("hits"));
+        assertEquals(1L, cache.toJson().getLong("misses"));
+    }
+
+    @Test
+    public void oneOffRequestsDoNotEvictReusedReplies() {
+        ReplyCache cache = new ReplyCache("test.cache.slru", 60_000, 5, 0);
+        cache.put("hot", "reply-hot");
+        cache.get("hot");
+
+        for (int i = 0; i < 20; i++) {
+            cache.put("cold-" + i, "reply-" + i);
+        }
+
+        assertEquals("reply-hot", cache.get("hot"), "Promoted entries must survive a scan of one-off keys");
+        assertEquals(5, cache.size());
+        assertEquals(16L, cache.toJson().getLong("evictions"));
+    }
+
+    @Test
+    public void expiredRepliesAreMisses() throws InterruptedException {
+        ReplyCache cache = new ReplyCache("test.cache.ttl", 1, 10, 0);
+        cache.put("a", "reply-a");
+        Thread.sleep(5);
+
+        assertNull(cache.get("a"));
+        assertEquals(1L, cache.toJson().getLong("expirations"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void byteBoundEvictsOldestReplies() {
+        ReplyCache cache = new ReplyCache("test.cache.bytes", 60_000, 100, 40);
+        cache.put("a", "0123456789");
+        cache.put("b", "0123456789");
+        cache.put("c", "0123456789");
+
+        assertNull(cache.get("a"));
+        assertEquals("0123456789", cache.get("c"));
+        assertTrue(cache.toJson().getLong("bytes") <= 40);
+    }
+
+    @Test
+    public void invalidateClearsAddress() {
+        ReplyCache cache = ReplyCache.forAddress("test.cache.invalidate", 60_000, 10, 0);
+        cache.put("a", "reply-a");
+
+        ReplyCache.invalidate("test.cache.invalidate");
+
+        assertNull(cache.get("a"));
+        ReplyCache.getCaches().remove("test.cache.invalidate");
+    }
+
+    @Test
+    public void equalBodiesWithoutEqualsShareAnEntry() {
+        ReplyCache cache = new ReplyCache("test.cache.pojo", 60_000, 10, 0);
+        cache.put(cache.keyFor(new Lookup("NZ")), "reply-nz");
+
+        assertEquals("reply-nz", cache.get(cache.keyFor(new Lookup("NZ"))));
+        assertNull(cache.get(cache.keyFor(new Lookup("AU"))));
+    }
+
+    @Test
+    public void mutatingABodyDoesNotChangeItsEntry() {
+        ReplyCache cache = new ReplyCache("test.cache.mutable", 60_000, 10, 0);
+        JsonObject body = new JsonObject().put("country", "NZ");
+        cache.put(cache.keyFor(body), "reply-nz");
+
+        body.put("country", "AU");
+
+        assertNull(cache.get(cache.keyFor(body)));
+        assertEquals("reply-nz", cache.get(cache.keyFor(new JsonObject().put("country", "NZ"))));
+    }
+
+    @Test
+    public void keyFunctionReplacesTheBodyKey() {
+        ReplyCache.keyBy("test.cache.keyfn", body -> ((Lookup) body).country);
+        try {
+            ReplyCache cache = ReplyCache.forAddress("test.cache.keyfn", 60_000, 10, 0);
+            cache.put(cache.keyFor(new Lookup("NZ")), "reply-nz");
+
+            assertEquals("NZ", cache.keyFor(new Lookup("NZ")));
+            assertEquals("reply-nz", cache.get("NZ"));
+        } finally {
+            ReplyCache.keyBy("test.cache.keyfn", null);
+            ReplyCache.getCaches().remove("test.cache.keyfn");
+        }
+    }
+
+    @Test
+    public void stripedCacheKeepsItsEntryBound() {
+        ReplyCache cache = new ReplyCache("test.cache.striped", 60_000, 4096, 0);
+        for (int i = 0; i < 10_000; i++) {
+            cache.put("key-" + i, "reply-" + i);
+        }
+
+        assertTrue(cache.size() <= 4096);
+        assertEquals("reply-9999", cache.get("key-9999"));
+    }
+
+    @Test
+    public void mutatingACachedPojoReplyDoesNotChangeLaterHits() {
+        ReplyCache cache = new ReplyCache("test.cache.reply.copy", 60_000, 10, 0);
+        cache.put("nz", new Lookup("NZ"));
+
+        Lookup first = (Lookup) cache.get("nz");
+        first.country = "AU";
+
+        Lookup second = (Lookup) cache.get("nz");
+        assertNotSame(first, second);
+        assertEquals("NZ", second.country);
+    }
+
+    @Test
+    public void pojoRepliesAreSizedByTheirEncodedLength() {
+        ReplyCache cache = new ReplyCache("test.cache.reply.size", 60_000, 10, 0);
+        Lookup reply = new Lookup("x".repeat(1000));
+        cache.put("big", reply);
+
+        assertTrue(cache.toJson().getLong("bytes") > 1000, "A 1000 character POJO reply must not be counted as a fixed estimate");
+    }
+
+    /**
+     * A request body without equals/hashCode
+     */
+    public static class Lookup {
+        public String country;
+
+        public Lookup() {
+        }
+
+        Lookup(String country) {
+            this.country = country;
+        }
+    }
+}
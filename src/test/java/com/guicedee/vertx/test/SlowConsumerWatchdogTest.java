@@ -0,0 +1,67 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.vertx.metrics.AddressMetrics;
+import com.guicedee.vertx.metrics.SlowConsumerWatchdog;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sampling and reporting tests for {@link SlowConsumerWatchdog}.
+ */
+public class SlowConsumerWatchdogTest {
+
+    @Test
+    public void untrackedWithoutThreshold() {
+        assertNull(SlowConsumerWatchdog.track(null, "test.slow.none", "Consumer.none", null, 100));
+        assertNull(SlowConsumerWatchdog.track(null, "test.slow.none", "Consumer.none", null, 0));
+    }
+
+    @Test
+    public void reportsSlowCallWithStackSamples() throws Exception {
+        Vertx vertx = Vertx.vertx();
+        AddressMetrics.setEnabled(true);
+        try {
+            CompletableFuture<JsonObject> report = new CompletableFuture<>();
+            vertx.eventBus().<JsonObject>consumer(SlowConsumerWatchdog.SLOW_CALL_ADDRESS, message -> {
+                if ("test.slow.report".equals(message.body().getString("address"))) {
+                    report.complete(message.body());
+                }
+            });
+
+            Thread worker = Thread.ofPlatform().name("test-slow-worker").start(() -> {
+                SlowConsumerWatchdog.InFlightCall call = SlowConsumerWatchdog.track(vertx, "test.slow.report", "SlowConsumer.handle",
+                        MultiMap.caseInsensitiveMultiMap().add("tenant", "a"), 40);
+                try {
+                    Thread.sleep(400);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    SlowConsumerWatchdog.end(call);
+                }
+            });
+
+            JsonObject event = report.get(5, TimeUnit.SECONDS);
+            worker.join();
+
+            assertEquals("SlowConsumer.handle", event.getString("consumer"));
+            assertEquals("test-slow-worker", event.getString("thread"));
+            assertEquals("a", event.getJsonObject("headers").getString("tenant"));
+            assertTrue(event.getLong("elapsedMs") >= 40);
+            assertFalse(event.getJsonArray("samples").isEmpty(), "A still-running slow call must carry stack samples");
+            assertTrue(event.getJsonArray("samples").getJsonObject(0).getJsonArray("stack").encode().contains("sleep"));
+            assertEquals(1L, AddressMetrics.forAddress("test.slow.report").toJson().getLong("slowCalls"));
+            assertTrue(SlowConsumerWatchdog.getInFlight().isEmpty());
+        } finally {
+            AddressMetrics.setEnabled(false);
+            SlowConsumerWatchdog.reset();
+            vertx.close().toCompletionStage().toCompletableFuture().join();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.vertx.metrics.StartupProfile;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Phase recording and report tests for {@link StartupProfile}.
+ */
+public class StartupProfileTest {
+
+    @AfterEach
+    public void resetProfile() {
+        StartupProfile.reset();
+    }
+
+    @Test
+    public void recordsPhasesWithOffsetsAndDetails() throws Exception {
+        StartupProfile.reset();
+        StartupProfile.markBootStart();
+        String built = StartupProfile.time("build", () -> {
+            sleep(20);
+            return "vertx";
+        });
+        assertEquals("vertx", built);
+        StartupProfile.start("scan").stop(new JsonObject().put("consumers", 3));
+
+        JsonObject report = StartupProfile.report();
+        JsonArray phases = report.getJsonArray("phases");
+        assertEquals(2, phases.size());
+        assertEquals("build", phases.getJsonObject(0).getString("name"));
+        assertTrue(phases.getJsonObject(0).getDouble("durationMs") >= 20);
+        assertEquals(3, phases.getJsonObject(1).getJsonObject("details").getInteger("consumers"));
+        assertTrue(phases.getJsonObject(1).getLong("startMs") >= 20, "Offsets are taken from the boot start");
+        assertTrue(report.getLong("totalMs") >= 20);
+    }
+
+    @Test
+    public void reportWaitsForTrackedDeployments() throws Exception {
+        StartupProfile.reset();
+        Promise<String> deployment = Promise.promise();
+        StartupProfile.track("consumerDeployments", new JsonObject().put("consumers", 500), deployment.future());
+
+        var settled = StartupProfile.whenSettled().toCompletionStage().toCompletableFuture();
+        assertFalse(settled.isDone(), "The report must wait for outstanding deployments");
+        deployment.complete("id");
+
+        JsonObject report = settled.get(5, TimeUnit.SECONDS);
+        JsonObject phase = report.getJsonArray("phases").getJsonObject(0);
+        assertEquals("consumerDeployments", phase.getString("name"));
+        assertEquals(500, phase.getJsonObject("details").getInteger("consumers"));
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
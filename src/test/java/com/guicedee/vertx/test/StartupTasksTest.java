@@ -0,0 +1,87 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.client.IGuiceContext;
+import com.guicedee.vertx.spi.StartupTasks;
+import com.guicedee.vertx.spi.VertXPreStartup;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ordering, overlap and timeouts of {@link StartupTasks}.
+ */
+public class StartupTasksTest {
+
+    @BeforeAll
+    public static void boot() {
+        IGuiceContext.instance().getConfig().setFieldScanning(true).setClasspathScanning(true).setAnnotationScanning(true).setIgnoreClassVisibility(true);
+        IGuiceContext.instance().inject();
+        assertNotNull(VertXPreStartup.getVertx(), "Vertx must be initialized for tests");
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        return future.toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void independentBlockingTasksOverlap() throws Exception {
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        Future<Boolean> first = StartupTasks.submitBlocking("test.overlap.a", () -> {
+            bothRunning.countDown();
+            return bothRunning.await(5, TimeUnit.SECONDS);
+        });
+        Future<Boolean> second = StartupTasks.submitBlocking("test.overlap.b", () -> {
+            bothRunning.countDown();
+            return bothRunning.await(5, TimeUnit.SECONDS);
+        });
+        assertTrue(await(first), "Both tasks must run at the same time");
+        assertTrue(await(second));
+    }
+
+    @Test
+    public void dependentsWaitAndFailWithTheirDependency() throws Exception {
+        Promise<String> keys = Promise.promise();
+        StartupTasks.submit("test.deps.keys", keys::future);
+        Future<String> client = StartupTasks.submit("test.deps.client",
+                () -> Future.succeededFuture("client with " + StartupTasks.get("test.deps.keys").result()), "test.deps.keys");
+        assertFalse(client.isComplete(), "The dependent must not start before its dependency");
+        keys.complete("keys");
+        assertEquals("client with keys", await(client));
+
+        StartupTasks.submit("test.deps.broken", () -> Future.failedFuture("no keys"));
+        Future<String> skipped = StartupTasks.submit("test.deps.skipped", () -> Future.succeededFuture("ran"), "test.deps.broken");
+        assertThrows(Exception.class, () -> await(skipped));
+        assertThrows(IllegalStateException.class, () -> StartupTasks.submit("test.deps.orphan", () -> Future.succeededFuture(1), "test.deps.missing"));
+        await(StartupTasks.awaitAll());
+    }
+
+    @Test
+    public void dependentsWaitForTheLatestTaskOfAName() throws Exception {
+        Promise<String> first = Promise.promise();
+        Promise<String> second = Promise.promise();
+        StartupTasks.submit("test.dup.keys", first::future);
+        StartupTasks.submit("test.dup.keys", second::future);
+        Future<String> client = StartupTasks.submit("test.dup.client",
+                () -> Future.succeededFuture("client"), "test.dup.keys");
+        first.complete("first");
+        assertFalse(client.isComplete(), "The dependent waits for the task submitted last under the name");
+        second.complete("second");
+        assertEquals("client", await(client));
+        assertEquals("second", StartupTasks.get("test.dup.keys").result());
+    }
+
+    @Test
+    public void timesOut() {
+        Future<Object> stuck = StartupTasks.submit("test.timeout", Duration.ofMillis(50), () -> Promise.promise().future());
+        var failure = assertThrows(Exception.class, () -> await(stuck));
+        assertInstanceOf(TimeoutException.class, failure.getCause());
+    }
+}
@@ -5,6 +5,8 @@ import com.guicedee.client.utils.LogUtils;
 import com.guicedee.vertx.VertxEventDefinition;
 import com.guicedee.vertx.VertxEventOptions;
 import com.guicedee.vertx.VertxEventPublisher;
+import com.guicedee.vertx.resilience.AdaptiveConcurrencyLimiter;
+import com.guicedee.vertx.resilience.AddressCircuitBreaker;
 import com.guicedee.vertx.spi.VertXPreStartup;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -13,10 +15,13 @@ import org.apache.logging.log4j.Level;
 import org.junit.jupiter.api.*;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,6 +35,7 @@ public class VertxEventRegistryIntegrationTest {
     public static final AtomicReference<String> lastPublishedMessage = new AtomicReference<>();
     public static final AtomicReference<String> lastHeaderValue = new AtomicReference<>();
     public static final AtomicBoolean lastWasWorker = new AtomicBoolean(false);
+    public static final AtomicInteger coalescedInvocations = new AtomicInteger();
 
     @BeforeAll
     public void beforeAll() {
@@ -75,6 +81,73 @@ public class VertxEventRegistryIntegrationTest {
         assertEquals("abc123", lastHeaderValue.get(), "Header should be visible to consumer");
     }
 
+    @Test
+    public void testIdempotentRequestsAreCoalesced() throws Exception {
+        // Arrange
+        coalescedInvocations.set(0);
+        VertxEventDefinition def = def("test.coalesce", new DefaultOptions() {
+            @Override public boolean idempotent() { return true; }
+        });
+        VertxEventPublisher<String> publisher = new VertxEventPublisher<>(vertx, def.value(), def);
+
+        // Act - identical concurrent requests while the first is still in flight
+        List<Future<String>> replies = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            replies.add(publisher.request("sku-1"));
+        }
+        Future.all(replies).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        // Assert
+        for (Future<String> reply : replies) {
+            assertEquals("LOOKUP:sku-1", reply.result());
+        }
+        assertEquals(1, coalescedInvocations.get(), "Identical in-flight requests should reach the consumer once");
+        assertEquals(9, publisher.getCoalescedRequests());
+    }
+
+    @Test
+    public void testCoalescingKeepsCallerOptionsAndPublisher() throws Exception {
+        coalescedInvocations.set(0);
+        VertxEventDefinition def = def("test.coalesce", new DefaultOptions() {
+            @Override public boolean idempotent() { return true; }
+        });
+        VertxEventPublisher<String> shared = new VertxEventPublisher<>(vertx, def.value(), def);
+        VertxEventPublisher<String> byPrefix = shared.coalesceBy(s -> s.substring(0, 3));
+        assertNotSame(shared, byPrefix, "coalesceBy must not mutate the shared publisher");
+
+        // Different timeouts never share a round trip
+        List<Future<String>> replies = new ArrayList<>();
+        replies.add(byPrefix.request("sku-1", 5_000));
+        replies.add(byPrefix.request("sku-2", 6_000));
+        replies.add(byPrefix.request("sku-3", 5_000));
+        Future.all(replies).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        assertEquals(2, coalescedInvocations.get(), "One round trip per distinct timeout");
+        assertEquals(1, byPrefix.getCoalescedRequests());
+        assertEquals(0, shared.getCoalescedRequests());
+    }
+
+    @Test
+    public void testRequestFailingBeforeSendReleasesCoalescingAndBreaker() throws Exception {
+        VertxEventDefinition def = def("test.coalesce.badcodec", new DefaultOptions() {
+            @Override public boolean idempotent() { return true; }
+            @Override public int circuitBreakerThreshold() { return 2; }
+        });
+        VertxEventPublisher<String> publisher = new VertxEventPublisher<>(vertx, def.value(), def);
+        io.vertx.core.eventbus.DeliveryOptions bogus = new io.vertx.core.eventbus.DeliveryOptions().setCodecName("no-such-codec");
+
+        for (int i = 0; i < 2; i++) {
+            Future<String> reply = publisher.request("sku-1", bogus);
+            var failure = assertThrows(java.util.concurrent.ExecutionException.class,
+                    () -> reply.toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS),
+                    "A request that cannot be sent fails instead of hanging");
+            assertInstanceOf(IllegalArgumentException.class, failure.getCause());
+        }
+        assertEquals(0, publisher.getCoalescedRequests(), "The failed request left no in-flight entry to join");
+        assertEquals(AddressCircuitBreaker.State.OPEN, AddressCircuitBreaker.getBreakers().get("test.coalesce.badcodec").getState(),
+                "Both failures reached the breaker");
+    }
+
     private static void awaitTrue(java.util.concurrent.Callable<Boolean> condition, Duration timeout) throws Exception {
         long deadline = System.nanoTime() + timeout.toNanos();
         while (System.nanoTime() < deadline) {
@@ -86,6 +159,20 @@ public class VertxEventRegistryIntegrationTest {
         fail("Condition not met within timeout: " + timeout);
     }
 
+    @Test
+    public void testConsumerFailuresReachTheConcurrencyLimiter() throws Exception {
+        VertxEventPublisher<String> publisher = new VertxEventPublisher<>(vertx, "test.adaptive.fail", def("test.adaptive.fail"));
+
+        Future<Object> reply = publisher.request("boom");
+        awaitTrue(() -> reply.isComplete(), Duration.ofSeconds(5));
+
+        assertTrue(reply.failed(), "The consumer failure is returned to the requester");
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.getLimiters().get("test.adaptive.fail");
+        assertNotNull(limiter);
+        awaitTrue(() -> limiter.toJson().getLong("drops") == 1L, Duration.ofSeconds(5));
+        assertEquals(0, limiter.getInFlight());
+    }
+
     // --- Test consumer definitions below ---
 
     @VertxEventDefinition(
@@ -109,11 +196,37 @@ public class VertxEventRegistryIntegrationTest {
         }
     }
 
+    @VertxEventDefinition(
+            value = "test.coalesce",
+            options = @VertxEventOptions(localOnly = true, worker = true)
+    )
+    public static class CoalescedLookupConsumer {
+        public String consume(Message<String> message) throws InterruptedException {
+            coalescedInvocations.incrementAndGet();
+            Thread.sleep(300);
+            return "LOOKUP:" + message.body();
+        }
+    }
+
+    @VertxEventDefinition(
+            value = "test.adaptive.fail",
+            options = @VertxEventOptions(localOnly = true, worker = true, adaptiveConcurrency = true)
+    )
+    public static class FailingAdaptiveConsumer {
+        public String consume(Message<String> message) {
+            throw new IllegalStateException("Downstream unavailable for " + message.body());
+        }
+    }
+
     // Minimal VertxEventDefinition factory for publishers used in tests
     private static VertxEventDefinition def(String address) {
+        return def(address, new DefaultOptions());
+    }
+
+    private static VertxEventDefinition def(String address, VertxEventOptions options) {
         return new VertxEventDefinition() {
             @Override public String value() { return address; }
-            @Override public VertxEventOptions options() { return new DefaultOptions(); }
+            @Override public VertxEventOptions options() { return options; }
             @Override public Class<? extends java.lang.annotation.Annotation> annotationType() { return VertxEventDefinition.class; }
         };
     }
@@ -133,6 +246,20 @@ public class VertxEventRegistryIntegrationTest {
         @Override public int batchWindowMs() { return 0; }
         @Override public int batchMax() { return 0; }
         @Override public long timeoutMs() { return 0; }
+        @Override public int circuitBreakerThreshold() { return 0; }
+        @Override public long circuitBreakerResetMs() { return 5000L; }
+        @Override public int circuitBreakerHalfOpenProbes() { return 1; }
+        @Override public boolean idempotent() { return false; }
+        @Override public long replyCacheTtlMs() { return 0L; }
+        @Override public int replyCacheMaxEntries() { return 1024; }
+        @Override public long replyCacheMaxBytes() { return 0L; }
+        @Override public int priority() { return 0; }
+        @Override public String priorityHeader() { return ""; }
+        @Override public int priorityQueueCapacity() { return 10000; }
+        @Override public boolean adaptiveConcurrency() { return false; }
+        @Override public int adaptiveMinConcurrency() { return 1; }
+        @Override public long slowCallThresholdMs() { return 0L; }
+        @Override public boolean lazy() { return false; }
         @Override public Class<? extends java.lang.annotation.Annotation> annotationType() { return VertxEventOptions.class; }
     }
 }
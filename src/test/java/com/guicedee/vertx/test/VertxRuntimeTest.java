@@ -0,0 +1,76 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.client.IGuiceContext;
+import com.guicedee.vertx.resilience.AddressCircuitBreaker;
+import com.guicedee.vertx.spi.VertXPreStartup;
+import com.guicedee.vertx.spi.VertxRuntime;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Additional runtimes take the application consumers on their own, isolated event bus.
+ */
+public class VertxRuntimeTest {
+
+    @Test
+    public void isolatesEventBuses() throws Exception {
+        IGuiceContext.instance().getConfig().setFieldScanning(true).setClasspathScanning(true).setAnnotationScanning(true).setIgnoreClassVisibility(true);
+        IGuiceContext.instance().inject();
+        Vertx primary = VertXPreStartup.getVertx();
+        assertNotNull(primary, "Vertx must be initialized for tests");
+        assertSame(VertXPreStartup.getRuntime(), IGuiceContext.get(VertxRuntime.class), "The primary runtime is bound in Guice");
+        assertEquals(VertxRuntime.PRIMARY, VertXPreStartup.getRuntime().getName());
+
+        VertxRuntime tenant = VertxRuntime.create("tenant-a", new VertxOptions().setEventLoopPoolSize(1).setWorkerPoolSize(2));
+        try {
+            assertSame(tenant, VertxRuntime.named("tenant-a"));
+            assertThrows(IllegalStateException.class, () -> VertxRuntime.create("tenant-a", new VertxOptions()));
+            assertEquals(VertXPreStartup.getRuntime().getRegisteredCodecs().keySet(), tenant.getRegisteredCodecs().keySet(),
+                    "Every runtime registers the application codecs");
+
+            tenant.registerConsumers();
+            assertTrue(tenant.getRegisteredAddresses().contains("test.string.method"));
+            Object reply = tenant.getVertx().eventBus().request("test.string.method", "tenant")
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS).body();
+            assertEquals("Processed: tenant", reply);
+
+            // A consumer registered on one runtime is not reachable from another
+            tenant.getVertx().eventBus().localConsumer("test.runtime.only", message -> message.reply("tenant-only"))
+                    .completion().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+            assertThrows(ExecutionException.class, () -> primary.eventBus().request("test.runtime.only", "x")
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS));
+
+            Promise<VertxRuntime> current = Promise.promise();
+            tenant.getVertx().runOnContext(_ -> current.complete(VertxRuntime.current()));
+            assertSame(tenant, current.future().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS));
+
+            // Per-address state follows the runtime owning the calling context
+            Promise<AddressCircuitBreaker> breaker = Promise.promise();
+            tenant.getVertx().runOnContext(_ -> breaker.complete(AddressCircuitBreaker.forAddress("test.runtime.breaker", 3, 1000, 1)));
+            assertSame(breaker.future().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS),
+                    tenant.registry(AddressCircuitBreaker.class).find("test.runtime.breaker"));
+            assertNull(VertXPreStartup.getRuntime().registry(AddressCircuitBreaker.class).find("test.runtime.breaker"),
+                    "Another runtime does not share the breaker");
+        } finally {
+            tenant.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+        assertNull(VertxRuntime.named("tenant-a"));
+    }
+
+    @Test
+    public void forgetsRuntimesOfClosedInstances() throws Exception {
+        Vertx other = Vertx.vertx();
+        VertxRuntime runtime = VertxRuntime.of(other);
+        assertSame(runtime, VertxRuntime.of(other));
+        assertTrue(VertxRuntime.all().contains(runtime));
+        other.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        assertFalse(VertxRuntime.all().contains(runtime), "A closed instance leaves no runtime behind");
+    }
+}
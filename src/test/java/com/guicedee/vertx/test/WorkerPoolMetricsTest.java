@@ -0,0 +1,68 @@
+package com.guicedee.vertx.test;
+
+import com.guicedee.vertx.metrics.WorkerPoolMetrics;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Queue depth, activity and blocked accounting tests for {@link WorkerPoolMetrics}.
+ */
+public class WorkerPoolMetricsTest {
+
+    @Test
+    public void tracksQueueDepthAndActiveThreads() {
+        WorkerPoolMetrics pool = WorkerPoolMetrics.forPool("test-pool-depth", 2);
+        long first = pool.submit();
+        long second = pool.submit();
+        pool.submit();
+
+        assertEquals(3, pool.getQueueDepth());
+
+        long running = pool.begin(first);
+        pool.begin(second);
+        assertEquals(1, pool.getQueueDepth());
+        assertEquals(2, pool.getActive());
+        assertEquals(1.0, pool.toJson().getDouble("utilisation"));
+
+        pool.end(running, false);
+        assertEquals(1, pool.getActive());
+        assertEquals(1L, pool.toJson().getLong("completed"));
+
+        WorkerPoolMetrics.getPools().remove("test-pool-depth");
+    }
+
+    @Test
+    public void countsTasksOverBlockedThreshold() throws InterruptedException {
+        WorkerPoolMetrics pool = WorkerPoolMetrics.forPool("test-pool-blocked", 1)
+                .configure(1, 5, TimeUnit.MILLISECONDS);
+
+        long started = pool.begin(pool.submit());
+        Thread.sleep(20);
+        pool.end(started, false);
+        pool.end(pool.begin(pool.submit()), true);
+
+        JsonObject json = pool.toJson();
+        assertEquals(1L, json.getLong("blocked"));
+        assertEquals(1L, json.getLong("failed"));
+        assertEquals(2L, json.getJsonObject("waitTime").getLong("count"));
+
+        WorkerPoolMetrics.getPools().remove("test-pool-blocked");
+    }
+
+    @Test
+    public void rejectedSubmissionsLeaveTheQueue() {
+        WorkerPoolMetrics pool = WorkerPoolMetrics.forPool("test-pool-rejected", 1);
+        pool.submit();
+        pool.submitFailed();
+        pool.rejected();
+
+        assertEquals(0, pool.getQueueDepth());
+        assertEquals(2L, pool.toJson().getLong("rejected"));
+
+        WorkerPoolMetrics.getPools().remove("test-pool-rejected");
+    }
+}
@@ -21,6 +21,7 @@ open module guiced.vertx.test {
     requires org.apache.logging.log4j;
     requires static lombok;
     requires org.junit.jupiter.api;
+    requires java.compiler;
 
     exports com.guicedee.vertx.test;
     exports com.guicedee.vertx.spi.test;